@@ -0,0 +1,140 @@
+package org.neo4j.graphalgo;
+
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.ProcedureConfiguration;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.impl.HugeAfforest;
+import org.neo4j.graphalgo.results.UnionFindResult;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.logging.Log;
+import org.neo4j.procedure.Context;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Mode;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Weakly connected components by sampling and skipping the giant component (Afforest).
+ */
+public class AfforestProc {
+
+    public static final String CONFIG_CLUSTER_PROPERTY = "partitionProperty";
+    public static final String DEFAULT_CLUSTER_PROPERTY = "partition";
+    public static final String CONFIG_NEIGHBOR_ROUNDS = "neighborRounds";
+    public static final String DEFAULT_GRAPH_IMPL = "huge";
+
+    @Context
+    public GraphDatabaseAPI api;
+
+    @Context
+    public Log log;
+
+    @Context
+    public KernelTransaction transaction;
+
+    @Procedure(value = "algo.unionFind.afforest", mode = Mode.WRITE)
+    @Description("CALL algo.unionFind.afforest(label:String, relationship:String, " +
+            "{neighborRounds:2, write: true, partitionProperty:'partition', concurrency:4}) " +
+            "YIELD nodes, setCount, loadMillis, computeMillis, writeMillis")
+    public Stream<UnionFindResult> afforest(
+            @Name(value = "label", defaultValue = "") String label,
+            @Name(value = "relationship", defaultValue = "") String relationship,
+            @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
+
+        final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final UnionFindResult.Builder builder = UnionFindResult.builder();
+        final AllocationTracker tracker = AllocationTracker.create();
+
+        final HugeGraph graph;
+        try (ProgressTimer timer = builder.timeLoad()) {
+            graph = load(label, relationship, tracker, configuration);
+        }
+
+        final TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
+        final HugeAfforest afforest = newAfforest(graph, tracker, configuration)
+                .withTerminationFlag(terminationFlag);
+
+        builder.timeEval(afforest::compute);
+        builder.withNodeCount(graph.nodeCount())
+                .withSetCount(afforest.setCount());
+        log.debug("Skipped the remaining relationships of " + afforest.skippedNodes() + " nodes");
+
+        graph.release();
+        if (configuration.isWriteFlag()) {
+            builder.timeWrite(() -> afforest.export(
+                    configuration.get(CONFIG_CLUSTER_PROPERTY, DEFAULT_CLUSTER_PROPERTY),
+                    Exporter.of(api, graph)
+                            .withLog(log)
+                            .parallel(Pools.DEFAULT, configuration.getConcurrency(), terminationFlag)
+                            .build()));
+        }
+        afforest.release();
+
+        return Stream.of(builder.build());
+    }
+
+    @Procedure(value = "algo.unionFind.afforest.stream")
+    @Description("CALL algo.unionFind.afforest.stream(label:String, relationship:String, " +
+            "{neighborRounds:2, concurrency:4}) " +
+            "YIELD nodeId, setId - yields a setId to each node id")
+    public Stream<HugeAfforest.Result> afforestStream(
+            @Name(value = "label", defaultValue = "") String label,
+            @Name(value = "relationship", defaultValue = "") String relationship,
+            @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
+
+        final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final AllocationTracker tracker = AllocationTracker.create();
+
+        final HugeGraph graph = load(label, relationship, tracker, configuration);
+        final HugeAfforest afforest = newAfforest(graph, tracker, configuration)
+                .withTerminationFlag(TerminationFlag.wrap(transaction))
+                .compute();
+        graph.release();
+        return afforest.resultStream();
+    }
+
+    private HugeAfforest newAfforest(
+            HugeGraph graph,
+            AllocationTracker tracker,
+            ProcedureConfiguration configuration) {
+        return new HugeAfforest(graph, tracker, Pools.DEFAULT, configuration.getConcurrency())
+                .withNeighborRounds(configuration.getInt(
+                        CONFIG_NEIGHBOR_ROUNDS,
+                        HugeAfforest.DEFAULT_NEIGHBOR_ROUNDS))
+                .withProgressLogger(ProgressLogger.wrap(log, "CC(Afforest)"));
+    }
+
+    private HugeGraph load(
+            String label,
+            String relationship,
+            AllocationTracker tracker,
+            ProcedureConfiguration configuration) {
+        final Class<? extends GraphFactory> graphImpl = configuration.getGraphImpl(DEFAULT_GRAPH_IMPL);
+        if (graphImpl != HugeGraphFactory.class && graphImpl != MappedHugeGraphFactory.class) {
+            throw new IllegalArgumentException("Afforest only runs on graph:'huge' or graph:'mapped'");
+        }
+        // nodes outside of the giant component link their incoming relationships as well
+        return (HugeGraph) new GraphLoader(api, Pools.DEFAULT)
+                .withLog(log)
+                .withAllocationTracker(tracker)
+                .withOptionalLabel(label)
+                .withOptionalRelationshipType(relationship)
+                .withoutNodeProperties()
+                .withDirection(Direction.BOTH)
+                .load(graphImpl);
+    }
+}
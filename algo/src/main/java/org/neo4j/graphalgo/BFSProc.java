@@ -0,0 +1,159 @@
+package org.neo4j.graphalgo;
+
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.ProcedureConfiguration;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.impl.bfs.HugeParallelBFS;
+import org.neo4j.graphalgo.results.BFSResult;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.logging.Log;
+import org.neo4j.procedure.Context;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Mode;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Parallel direction-optimizing breadth first search from a start node.
+ */
+public class BFSProc {
+
+    public static final String DEFAULT_TARGET_PROPERTY = "depth";
+    public static final String DEFAULT_GRAPH_IMPL = "huge";
+    public static final String CONFIG_MAX_DEPTH = "maxDepth";
+    public static final String CONFIG_DIRECTION_OPTIMIZATION = "directionOptimization";
+
+    @Context
+    public GraphDatabaseAPI api;
+
+    @Context
+    public Log log;
+
+    @Context
+    public KernelTransaction transaction;
+
+    @Procedure(value = "algo.bfs.stream")
+    @Description("CALL algo.bfs.stream(startNode:Node, label:String, relationship:String, " +
+            "{direction:'OUTGOING', maxDepth:-1, directionOptimization:true, concurrency:4}) " +
+            "YIELD nodeId, depth, parentId - yields the visited nodes with their depth and the node they have been reached from")
+    public Stream<HugeParallelBFS.Result> bfsStream(
+            @Name("startNode") Node startNode,
+            @Name(value = "label", defaultValue = "") String label,
+            @Name(value = "relationship", defaultValue = "") String relationship,
+            @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
+
+        final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final AllocationTracker tracker = AllocationTracker.create();
+
+        final HugeGraph graph = load(label, relationship, tracker, configuration);
+        final long start = graph.toHugeMappedNodeId(startNode.getId());
+        if (start == -1L) {
+            graph.release();
+            return Stream.empty();
+        }
+
+        final HugeParallelBFS bfs = newBFS(graph, tracker, configuration)
+                .withTerminationFlag(TerminationFlag.wrap(transaction))
+                .compute(start);
+        graph.release();
+        return bfs.resultStream();
+    }
+
+    @Procedure(value = "algo.bfs", mode = Mode.WRITE)
+    @Description("CALL algo.bfs(startNode:Node, label:String, relationship:String, " +
+            "{direction:'OUTGOING', maxDepth:-1, directionOptimization:true, write:true, writeProperty:'depth', concurrency:4}) " +
+            "YIELD nodes, depth, bottomUpLevels, loadMillis, computeMillis, writeMillis")
+    public Stream<BFSResult> bfs(
+            @Name("startNode") Node startNode,
+            @Name(value = "label", defaultValue = "") String label,
+            @Name(value = "relationship", defaultValue = "") String relationship,
+            @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
+
+        final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final BFSResult.Builder builder = BFSResult.builder();
+        final AllocationTracker tracker = AllocationTracker.create();
+
+        final HugeGraph graph;
+        try (ProgressTimer timer = builder.timeLoad()) {
+            graph = load(label, relationship, tracker, configuration);
+        }
+        final long start = graph.toHugeMappedNodeId(startNode.getId());
+        if (start == -1L) {
+            graph.release();
+            return Stream.of(builder.build());
+        }
+
+        final TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
+        final HugeParallelBFS bfs = newBFS(graph, tracker, configuration)
+                .withTerminationFlag(terminationFlag);
+
+        builder.timeEval(() -> bfs.compute(start));
+        builder.withNodeCount(bfs.visitedNodes())
+                .withDepth(bfs.depth())
+                .withBottomUpLevels(bfs.bottomUpLevels());
+
+        graph.release();
+        if (configuration.isWriteFlag()) {
+            final String writeProperty = configuration.getWriteProperty(DEFAULT_TARGET_PROPERTY);
+            builder.timeWrite(() -> bfs.export(
+                    writeProperty,
+                    Exporter.of(api, graph)
+                            .withLog(log)
+                            .parallel(Pools.DEFAULT, configuration.getConcurrency(), terminationFlag)
+                            .build()));
+        }
+        bfs.release();
+
+        return Stream.of(builder.build());
+    }
+
+    private HugeParallelBFS newBFS(
+            HugeGraph graph,
+            AllocationTracker tracker,
+            ProcedureConfiguration configuration) {
+        final int maxDepth = configuration.getInt(CONFIG_MAX_DEPTH, -1);
+        return new HugeParallelBFS(graph, tracker, Pools.DEFAULT, configuration.getConcurrency())
+                .withDirection(configuration.getDirection(Direction.OUTGOING))
+                .withDirectionOptimization(configuration.get(CONFIG_DIRECTION_OPTIMIZATION, true))
+                .withMaxDepth(maxDepth < 0 ? Integer.MAX_VALUE : maxDepth)
+                .withProgressLogger(ProgressLogger.wrap(log, "BFS"));
+    }
+
+    private HugeGraph load(
+            String label,
+            String relationship,
+            AllocationTracker tracker,
+            ProcedureConfiguration configuration) {
+        final Class<? extends GraphFactory> graphImpl = configuration.getGraphImpl(DEFAULT_GRAPH_IMPL);
+        if (graphImpl != HugeGraphFactory.class && graphImpl != MappedHugeGraphFactory.class) {
+            throw new IllegalArgumentException("BFS only runs on graph:'huge' or graph:'mapped'");
+        }
+        // bottom-up levels search the parents in the reverse direction
+        final Direction direction = configuration.get(CONFIG_DIRECTION_OPTIMIZATION, true)
+                ? Direction.BOTH
+                : configuration.getDirection(Direction.OUTGOING);
+        return (HugeGraph) new GraphLoader(api, Pools.DEFAULT)
+                .withLog(log)
+                .withAllocationTracker(tracker)
+                .withOptionalLabel(label)
+                .withOptionalRelationshipType(relationship)
+                .withoutNodeProperties()
+                .withDirection(direction)
+                .load(graphImpl);
+    }
+}
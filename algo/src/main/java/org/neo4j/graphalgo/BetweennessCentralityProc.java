@@ -1,9 +1,11 @@
 package org.neo4j.graphalgo;
 
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.HugeGraph;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.ProcedureConfiguration;
 import org.neo4j.graphalgo.core.utils.*;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.core.write.AtomicDoubleArrayTranslator;
 import org.neo4j.graphalgo.core.write.DoubleArrayTranslator;
 import org.neo4j.graphalgo.core.write.Exporter;
@@ -38,7 +40,7 @@ public class BetweennessCentralityProc {
     public KernelTransaction transaction;
 
     @Procedure(value = "algo.betweenness.exp1.stream")
-    @Description("CALL algo.betweenness.exp1.stream(label:String, relationship:String, {direction:'out', scaleFactor:100000}) YIELD nodeId, centrality - yields centrality for each node")
+    @Description("CALL algo.betweenness.exp1.stream(label:String, relationship:String, {direction:'out'}) YIELD nodeId, centrality - yields centrality for each node")
     public Stream<BetweennessCentrality.Result> betweennessSuccessorBrandesStream(
             @Name(value = "label", defaultValue = "") String label,
             @Name(value = "relationship", defaultValue = "") String relationship,
@@ -54,9 +56,7 @@ public class BetweennessCentralityProc {
                 .withDirection(Direction.OUTGOING)
                 .load(configuration.getGraphImpl());
 
-        final BetweennessCentralitySuccessorBrandes algo = new BetweennessCentralitySuccessorBrandes(graph,
-                configuration.getNumber("scaleFactor", 100_000).intValue(),
-                Pools.DEFAULT)
+        final BetweennessCentralitySuccessorBrandes algo = new BetweennessCentralitySuccessorBrandes(graph, Pools.DEFAULT)
                 .withTerminationFlag(TerminationFlag.wrap(transaction))
                 .withProgressLogger(ProgressLogger.wrap(log, "BetweennessCentrality"))
                 .withDirection(Direction.OUTGOING)
@@ -80,16 +80,31 @@ public class BetweennessCentralityProc {
 
         ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
 
+        final AllocationTracker tracker = AllocationTracker.create();
         final Graph graph = new GraphLoader(api, Pools.DEFAULT)
+                .withAllocationTracker(tracker)
                 .withOptionalLabel(label)
                 .withOptionalRelationshipType(relationship)
                 .withoutNodeProperties()
                 .withDirection(configuration.getDirection(DEFAULT_DIRECTION))
                 .load(configuration.getGraphImpl());
 
+        if (graph instanceof HugeGraph) {
+            final HugeParallelBetweennessCentrality algo = new HugeParallelBetweennessCentrality(
+                    (HugeGraph) graph,
+                    tracker,
+                    Pools.DEFAULT,
+                    configuration.getConcurrency())
+                    .withProgressLogger(ProgressLogger.wrap(log, "BetweennessCentrality"))
+                    .withTerminationFlag(TerminationFlag.wrap(transaction))
+                    .withDirection(configuration.getDirection(DEFAULT_DIRECTION))
+                    .compute();
+            graph.release();
+            return algo.resultStream();
+        }
+
         if (configuration.getConcurrency(-1) > 0) {
             final ParallelBetweennessCentrality algo = new ParallelBetweennessCentrality(graph,
-                    configuration.getNumber("scaleFactor", 100_000).intValue(),
                     Pools.DEFAULT,
                     configuration.getConcurrency())
                     .withProgressLogger(ProgressLogger.wrap(log, "BetweennessCentrality"))
@@ -109,7 +124,7 @@ public class BetweennessCentralityProc {
 
     @Procedure(value = "algo.betweenness.exp1", mode = Mode.WRITE)
     @Description("CALL algo.betweenness.exp1(label:String, relationship:String, " +
-            "{direction:'out', write:true, writeProperty:'centrality', stats:true, scaleFactor:100000}) YIELD " +
+            "{direction:'out', write:true, writeProperty:'centrality', stats:true}) YIELD " +
             "loadMillis, computeMillis, writeMillis, nodes, minCentrality, maxCentrality, sumCentrality] - yields status of evaluation")
     public Stream<BetweennessCentralityProcResult> betweennessSucessorBrandes(
             @Name(value = "label", defaultValue = "") String label,
@@ -136,7 +151,6 @@ public class BetweennessCentralityProc {
         final TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
         final BetweennessCentralitySuccessorBrandes bc = new BetweennessCentralitySuccessorBrandes(
                 graph,
-                configuration.getNumber("scaleFactor", 100_000).doubleValue(),
                 Pools.DEFAULT)
                 .withDirection(Direction.OUTGOING)
                 .withProgressLogger(ProgressLogger.wrap(log, "BetweennessCentrality"))
@@ -196,10 +210,12 @@ public class BetweennessCentralityProc {
         final BetweennessCentralityProcResult.Builder builder =
                 BetweennessCentralityProcResult.builder();
 
+        final AllocationTracker tracker = AllocationTracker.create();
         Graph graph;
         try (ProgressTimer timer = builder.timeLoad()) {
             graph = new GraphLoader(api, Pools.DEFAULT)
                     .withLog(log)
+                    .withAllocationTracker(tracker)
                     .withOptionalLabel(label)
                     .withOptionalRelationshipType(relationship)
                     .withoutNodeProperties()
@@ -209,6 +225,11 @@ public class BetweennessCentralityProc {
 
         builder.withNodeCount(graph.nodeCount());
         final TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
+
+        if (graph instanceof HugeGraph) {
+            return computeHuge((HugeGraph) graph, tracker, 1, configuration, builder, terminationFlag);
+        }
+
         final BetweennessCentrality bc = new BetweennessCentrality(graph)
                 .withTerminationFlag(terminationFlag)
                 .withProgressLogger(ProgressLogger.wrap(log, "BetweennessCentrality(sequential)"))
@@ -250,10 +271,12 @@ public class BetweennessCentralityProc {
         final BetweennessCentralityProcResult.Builder builder =
                 BetweennessCentralityProcResult.builder();
 
+        final AllocationTracker tracker = AllocationTracker.create();
         Graph graph;
         try (ProgressTimer timer = builder.timeLoad()) {
             graph = new GraphLoader(api, Pools.DEFAULT)
                     .withLog(log)
+                    .withAllocationTracker(tracker)
                     .withOptionalLabel(label)
                     .withOptionalRelationshipType(relationship)
                     .withoutNodeProperties()
@@ -264,9 +287,13 @@ public class BetweennessCentralityProc {
         builder.withNodeCount(graph.nodeCount());
 
         final TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
+
+        if (graph instanceof HugeGraph) {
+            return computeHuge((HugeGraph) graph, tracker, configuration.getConcurrency(), configuration, builder, terminationFlag);
+        }
+
         final ParallelBetweennessCentrality bc = new ParallelBetweennessCentrality(
                 graph,
-                configuration.getNumber("scaleFactor", 100_000).doubleValue(),
                 Pools.DEFAULT,
                 configuration.getConcurrency())
                 .withProgressLogger(ProgressLogger.wrap(log, "BetweennessCentrality(parallel)"))
@@ -297,6 +324,45 @@ public class BetweennessCentralityProc {
         return Stream.of(builder.build());
     }
 
+    private Stream<BetweennessCentralityProcResult> computeHuge(
+            HugeGraph graph,
+            AllocationTracker tracker,
+            int concurrency,
+            ProcedureConfiguration configuration,
+            BetweennessCentralityProcResult.Builder builder,
+            TerminationFlag terminationFlag) {
+
+        final HugeParallelBetweennessCentrality bc = new HugeParallelBetweennessCentrality(
+                graph,
+                tracker,
+                Pools.DEFAULT,
+                concurrency)
+                .withProgressLogger(ProgressLogger.wrap(log, "BetweennessCentrality(huge)"))
+                .withTerminationFlag(terminationFlag)
+                .withDirection(configuration.getDirection(Direction.OUTGOING));
+
+        builder.timeEval(() -> {
+            bc.compute();
+            if (configuration.isStatsFlag()) {
+                computeStats(builder, bc);
+            }
+        });
+
+        graph.release();
+        if (configuration.isWriteFlag()) {
+            final String writeProperty = configuration.getWriteProperty(DEFAULT_TARGET_PROPERTY);
+            builder.timeWrite(() -> bc.export(
+                    writeProperty,
+                    Exporter.of(api, graph)
+                            .withLog(log)
+                            .parallel(Pools.DEFAULT, configuration.getConcurrency(), terminationFlag)
+                            .build()));
+        }
+        bc.release();
+
+        return Stream.of(builder.build());
+    }
+
     private void computeStats(BetweennessCentralityProcResult.Builder builder, double[] centrality) {
         double min = Double.MAX_VALUE;
         double max = Double.MIN_VALUE;
@@ -334,4 +400,23 @@ public class BetweennessCentralityProc {
                 .withCentralityMin(min)
                 .withCentralitySum(sum);
     }
+
+    private void computeStats(BetweennessCentralityProcResult.Builder builder, HugeParallelBetweennessCentrality bc) {
+        double min = Double.MAX_VALUE;
+        double max = Double.MIN_VALUE;
+        double sum = 0.0;
+        for (long i = bc.getCentrality().size() - 1; i >= 0; i--) {
+            final double c = bc.centrality(i);
+            if (c < min) {
+                min = c;
+            }
+            if (c > max) {
+                max = c;
+            }
+            sum += c;
+        }
+        builder.withCentralityMax(max)
+                .withCentralityMin(min)
+                .withCentralitySum(sum);
+    }
 }
@@ -1,12 +1,14 @@
 package org.neo4j.graphalgo;
 
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.HugeGraph;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.ProcedureConfiguration;
 import org.neo4j.graphalgo.core.utils.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.core.write.DoubleArrayTranslator;
 import org.neo4j.graphalgo.core.write.Exporter;
 import org.neo4j.graphalgo.impl.*;
@@ -28,6 +30,8 @@ public class ClosenessCentralityProc {
 
     public static final String DEFAULT_TARGET_PROPERTY = "centrality";
 
+    public static final String CONFIG_HARMONIC = "harmonic";
+
 
     @Context
     public GraphDatabaseAPI api;
@@ -39,23 +43,41 @@ public class ClosenessCentralityProc {
     public KernelTransaction transaction;
 
     @Procedure(value = "algo.closeness.stream")
-    @Description("CALL algo.closeness.stream(label:String, relationship:String{concurrency:4}) YIELD nodeId, centrality - yields centrality for each node")
+    @Description("CALL algo.closeness.stream(label:String, relationship:String{concurrency:4, harmonic:false}) YIELD nodeId, centrality - yields centrality for each node")
     public Stream<MSClosenessCentrality.Result> closenessStream(
             @Name(value = "label", defaultValue = "") String label,
             @Name(value = "relationship", defaultValue = "") String relationship,
             @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
 
         final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final AllocationTracker tracker = AllocationTracker.create();
+        final boolean harmonic = configuration.get(CONFIG_HARMONIC, false);
 
         final Graph graph = new GraphLoader(api, Pools.DEFAULT)
                 .withLog(log)
+                .withAllocationTracker(tracker)
                 .withOptionalLabel(label)
                 .withOptionalRelationshipType(relationship)
                 .withoutNodeProperties()
                 .withDirection(Direction.OUTGOING)
+                .withNodeOrder(configuration.getNodeOrder())
                 .load(configuration.getGraphImpl());
 
-        final MSClosenessCentrality algo = new MSClosenessCentrality(graph, configuration.getConcurrency(), Pools.DEFAULT)
+        if (graph instanceof HugeGraph) {
+            final HugeMSClosenessCentrality algo = new HugeMSClosenessCentrality(
+                    (HugeGraph) graph,
+                    tracker,
+                    configuration.getConcurrency(),
+                    Pools.DEFAULT,
+                    harmonic)
+                    .withProgressLogger(ProgressLogger.wrap(log, "ClosenessCentrality(MultiSource)"))
+                    .withTerminationFlag(TerminationFlag.wrap(transaction))
+                    .compute();
+            graph.release();
+            return algo.resultStream();
+        }
+
+        final MSClosenessCentrality algo = new MSClosenessCentrality(graph, configuration.getConcurrency(), Pools.DEFAULT, harmonic)
                 .withProgressLogger(ProgressLogger.wrap(log, "ClosenessCentrality(MultiSource)"))
                 .withTerminationFlag(TerminationFlag.wrap(transaction))
                 .compute();
@@ -64,7 +86,7 @@ public class ClosenessCentralityProc {
     }
 
     @Procedure(value = "algo.closeness", mode = Mode.WRITE)
-    @Description("CALL algo.closeness(label:String, relationship:String, {write:true, writeProperty:'centrality, concurrency:4'}) YIELD " +
+    @Description("CALL algo.closeness(label:String, relationship:String, {write:true, writeProperty:'centrality', concurrency:4, harmonic:false}) YIELD " +
             "loadMillis, computeMillis, writeMillis, nodes] - yields evaluation details")
     public Stream<ClosenessCentralityProcResult> closeness(
             @Name(value = "label", defaultValue = "") String label,
@@ -74,22 +96,54 @@ public class ClosenessCentralityProc {
         final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
 
         final ClosenessCentralityProcResult.Builder builder = ClosenessCentralityProcResult.builder();
+        final AllocationTracker tracker = AllocationTracker.create();
+        final boolean harmonic = configuration.get(CONFIG_HARMONIC, false);
 
         Graph graph;
         try (ProgressTimer timer = builder.timeLoad()) {
             graph = new GraphLoader(api, Pools.DEFAULT)
                     .withLog(log)
+                    .withAllocationTracker(tracker)
                     .withOptionalLabel(label)
                     .withOptionalRelationshipType(relationship)
                     .withoutNodeProperties()
                     .withDirection(Direction.OUTGOING)
+                    .withNodeOrder(configuration.getNodeOrder())
                     .load(configuration.getGraphImpl());
         }
 
         builder.withNodeCount(graph.nodeCount());
 
         final TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
-        final MSClosenessCentrality centrality = new MSClosenessCentrality(graph, configuration.getConcurrency(), Pools.DEFAULT)
+
+        if (graph instanceof HugeGraph) {
+            final HugeMSClosenessCentrality centrality = new HugeMSClosenessCentrality(
+                    (HugeGraph) graph,
+                    tracker,
+                    configuration.getConcurrency(),
+                    Pools.DEFAULT,
+                    harmonic)
+                    .withProgressLogger(ProgressLogger.wrap(log, "ClosenessCentrality(MultiSource)"))
+                    .withTerminationFlag(terminationFlag);
+
+            builder.timeEval(centrality::compute);
+
+            if (configuration.isWriteFlag()) {
+                graph.release();
+                final String writeProperty = configuration.getWriteProperty(DEFAULT_TARGET_PROPERTY);
+                builder.timeWrite(() -> centrality.export(
+                        writeProperty,
+                        Exporter.of(api, graph)
+                                .withLog(log)
+                                .parallel(Pools.DEFAULT, configuration.getConcurrency(), terminationFlag)
+                                .build()));
+            }
+            centrality.release();
+
+            return Stream.of(builder.build());
+        }
+
+        final MSClosenessCentrality centrality = new MSClosenessCentrality(graph, configuration.getConcurrency(), Pools.DEFAULT, harmonic)
                 .withProgressLogger(ProgressLogger.wrap(log, "ClosenessCentrality(MultiSource)"))
                 .withTerminationFlag(terminationFlag);
 
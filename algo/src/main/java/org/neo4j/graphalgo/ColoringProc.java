@@ -0,0 +1,168 @@
+package org.neo4j.graphalgo;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.ProcedureConfiguration;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.write.AtomicIntArrayTranslator;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.impl.coloring.GraphColoring;
+import org.neo4j.graphalgo.impl.coloring.HugeGraphColoring;
+import org.neo4j.graphalgo.results.ColoringResult;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.logging.Log;
+import org.neo4j.procedure.Context;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Mode;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Parallel greedy graph coloring, adjacent nodes never get the same color.
+ */
+public class ColoringProc {
+
+    public static final String DEFAULT_TARGET_PROPERTY = "color";
+
+    @Context
+    public GraphDatabaseAPI api;
+
+    @Context
+    public Log log;
+
+    @Context
+    public KernelTransaction transaction;
+
+    @Procedure(value = "algo.coloring.stream")
+    @Description("CALL algo.coloring.stream(label:String, relationship:String, {concurrency:4}) " +
+            "YIELD nodeId, color - yields a color for each node, adjacent nodes have different colors")
+    public Stream<GraphColoring.Result> coloringStream(
+            @Name(value = "label", defaultValue = "") String label,
+            @Name(value = "relationship", defaultValue = "") String relationship,
+            @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
+
+        final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final AllocationTracker tracker = AllocationTracker.create();
+
+        final Graph graph = load(label, relationship, tracker, configuration);
+
+        if (graph instanceof HugeGraph) {
+            final HugeGraphColoring coloring = new HugeGraphColoring(
+                    (HugeGraph) graph,
+                    tracker,
+                    Pools.DEFAULT,
+                    configuration.getConcurrency())
+                    .withProgressLogger(ProgressLogger.wrap(log, "Coloring"))
+                    .withTerminationFlag(TerminationFlag.wrap(transaction))
+                    .compute();
+            graph.release();
+            return coloring.resultStream();
+        }
+
+        final GraphColoring coloring = new GraphColoring(graph, Pools.DEFAULT, configuration.getConcurrency())
+                .withProgressLogger(ProgressLogger.wrap(log, "Coloring"))
+                .withTerminationFlag(TerminationFlag.wrap(transaction))
+                .compute();
+        graph.release();
+        return coloring.resultStream();
+    }
+
+    @Procedure(value = "algo.coloring", mode = Mode.WRITE)
+    @Description("CALL algo.coloring(label:String, relationship:String, " +
+            "{write:true, writeProperty:'color', concurrency:4}) " +
+            "YIELD nodes, colorCount, rounds, loadMillis, computeMillis, writeMillis")
+    public Stream<ColoringResult> coloring(
+            @Name(value = "label", defaultValue = "") String label,
+            @Name(value = "relationship", defaultValue = "") String relationship,
+            @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
+
+        final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final ColoringResult.Builder builder = ColoringResult.builder();
+        final AllocationTracker tracker = AllocationTracker.create();
+
+        final Graph graph;
+        try (ProgressTimer timer = builder.timeLoad()) {
+            graph = load(label, relationship, tracker, configuration);
+        }
+
+        builder.withNodeCount(graph.nodeCount());
+        final TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
+        final String writeProperty = configuration.getWriteProperty(DEFAULT_TARGET_PROPERTY);
+
+        if (graph instanceof HugeGraph) {
+            final HugeGraphColoring coloring = new HugeGraphColoring(
+                    (HugeGraph) graph,
+                    tracker,
+                    Pools.DEFAULT,
+                    configuration.getConcurrency())
+                    .withProgressLogger(ProgressLogger.wrap(log, "Coloring"))
+                    .withTerminationFlag(terminationFlag);
+
+            builder.timeEval(coloring::compute);
+            builder.withColorCount(coloring.colorCount())
+                    .withRounds(coloring.rounds());
+
+            graph.release();
+            if (configuration.isWriteFlag()) {
+                builder.timeWrite(() -> coloring.export(
+                        writeProperty,
+                        Exporter.of(api, graph)
+                                .withLog(log)
+                                .parallel(Pools.DEFAULT, configuration.getConcurrency(), terminationFlag)
+                                .build()));
+            }
+            coloring.release();
+
+            return Stream.of(builder.build());
+        }
+
+        final GraphColoring coloring = new GraphColoring(graph, Pools.DEFAULT, configuration.getConcurrency())
+                .withProgressLogger(ProgressLogger.wrap(log, "Coloring"))
+                .withTerminationFlag(terminationFlag);
+
+        builder.timeEval(coloring::compute);
+        builder.withColorCount(coloring.colorCount())
+                .withRounds(coloring.rounds());
+
+        graph.release();
+        if (configuration.isWriteFlag()) {
+            builder.timeWrite(() -> Exporter.of(api, graph)
+                    .withLog(log)
+                    .parallel(Pools.DEFAULT, configuration.getConcurrency(), terminationFlag)
+                    .build()
+                    .write(
+                            writeProperty,
+                            coloring.getColors(),
+                            AtomicIntArrayTranslator.INSTANCE));
+        }
+
+        return Stream.of(builder.build());
+    }
+
+    private Graph load(
+            String label,
+            String relationship,
+            AllocationTracker tracker,
+            ProcedureConfiguration configuration) {
+        // adjacent nodes in any direction must get different colors
+        return new GraphLoader(api, Pools.DEFAULT)
+                .withLog(log)
+                .withAllocationTracker(tracker)
+                .withOptionalLabel(label)
+                .withOptionalRelationshipType(relationship)
+                .withoutNodeProperties()
+                .withDirection(Direction.BOTH)
+                .withNodeOrder(configuration.getNodeOrder())
+                .load(configuration.getGraphImpl());
+    }
+}
@@ -0,0 +1,168 @@
+package org.neo4j.graphalgo;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.ProcedureConfiguration;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.write.AtomicIntArrayTranslator;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.impl.kcore.HugeKCore;
+import org.neo4j.graphalgo.impl.kcore.KCore;
+import org.neo4j.graphalgo.results.KCoreResult;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.logging.Log;
+import org.neo4j.procedure.Context;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Mode;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * k-core decomposition, computes the core number of every node.
+ */
+public class KCoreProc {
+
+    public static final String DEFAULT_TARGET_PROPERTY = "core";
+
+    @Context
+    public GraphDatabaseAPI api;
+
+    @Context
+    public Log log;
+
+    @Context
+    public KernelTransaction transaction;
+
+    @Procedure(value = "algo.kcore.stream")
+    @Description("CALL algo.kcore.stream(label:String, relationship:String, {concurrency:4}) " +
+            "YIELD nodeId, core - yields the core number of each node")
+    public Stream<KCore.Result> kcoreStream(
+            @Name(value = "label", defaultValue = "") String label,
+            @Name(value = "relationship", defaultValue = "") String relationship,
+            @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
+
+        final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final AllocationTracker tracker = AllocationTracker.create();
+
+        final Graph graph = load(label, relationship, tracker, configuration);
+
+        if (graph instanceof HugeGraph) {
+            final HugeKCore kcore = new HugeKCore(
+                    (HugeGraph) graph,
+                    tracker,
+                    Pools.DEFAULT,
+                    configuration.getConcurrency())
+                    .withProgressLogger(ProgressLogger.wrap(log, "KCore"))
+                    .withTerminationFlag(TerminationFlag.wrap(transaction))
+                    .compute();
+            graph.release();
+            return kcore.resultStream();
+        }
+
+        final KCore kcore = new KCore(graph, Pools.DEFAULT, configuration.getConcurrency())
+                .withProgressLogger(ProgressLogger.wrap(log, "KCore"))
+                .withTerminationFlag(TerminationFlag.wrap(transaction))
+                .compute();
+        graph.release();
+        return kcore.resultStream();
+    }
+
+    @Procedure(value = "algo.kcore", mode = Mode.WRITE)
+    @Description("CALL algo.kcore(label:String, relationship:String, " +
+            "{write:true, writeProperty:'core', concurrency:4}) " +
+            "YIELD nodes, degeneracy, rounds, loadMillis, computeMillis, writeMillis")
+    public Stream<KCoreResult> kcore(
+            @Name(value = "label", defaultValue = "") String label,
+            @Name(value = "relationship", defaultValue = "") String relationship,
+            @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
+
+        final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final KCoreResult.Builder builder = KCoreResult.builder();
+        final AllocationTracker tracker = AllocationTracker.create();
+
+        final Graph graph;
+        try (ProgressTimer timer = builder.timeLoad()) {
+            graph = load(label, relationship, tracker, configuration);
+        }
+
+        builder.withNodeCount(graph.nodeCount());
+        final TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
+        final String writeProperty = configuration.getWriteProperty(DEFAULT_TARGET_PROPERTY);
+
+        if (graph instanceof HugeGraph) {
+            final HugeKCore kcore = new HugeKCore(
+                    (HugeGraph) graph,
+                    tracker,
+                    Pools.DEFAULT,
+                    configuration.getConcurrency())
+                    .withProgressLogger(ProgressLogger.wrap(log, "KCore"))
+                    .withTerminationFlag(terminationFlag);
+
+            builder.timeEval(kcore::compute);
+            builder.withDegeneracy(kcore.degeneracy())
+                    .withRounds(kcore.rounds());
+
+            graph.release();
+            if (configuration.isWriteFlag()) {
+                builder.timeWrite(() -> kcore.export(
+                        writeProperty,
+                        Exporter.of(api, graph)
+                                .withLog(log)
+                                .parallel(Pools.DEFAULT, configuration.getConcurrency(), terminationFlag)
+                                .build()));
+            }
+            kcore.release();
+
+            return Stream.of(builder.build());
+        }
+
+        final KCore kcore = new KCore(graph, Pools.DEFAULT, configuration.getConcurrency())
+                .withProgressLogger(ProgressLogger.wrap(log, "KCore"))
+                .withTerminationFlag(terminationFlag);
+
+        builder.timeEval(kcore::compute);
+        builder.withDegeneracy(kcore.degeneracy())
+                .withRounds(kcore.rounds());
+
+        graph.release();
+        if (configuration.isWriteFlag()) {
+            builder.timeWrite(() -> Exporter.of(api, graph)
+                    .withLog(log)
+                    .parallel(Pools.DEFAULT, configuration.getConcurrency(), terminationFlag)
+                    .build()
+                    .write(
+                            writeProperty,
+                            kcore.getCores(),
+                            AtomicIntArrayTranslator.INSTANCE));
+        }
+
+        return Stream.of(builder.build());
+    }
+
+    private Graph load(
+            String label,
+            String relationship,
+            AllocationTracker tracker,
+            ProcedureConfiguration configuration) {
+        // the core numbers are defined on the undirected graph
+        return new GraphLoader(api, Pools.DEFAULT)
+                .withLog(log)
+                .withAllocationTracker(tracker)
+                .withOptionalLabel(label)
+                .withOptionalRelationshipType(relationship)
+                .withoutNodeProperties()
+                .withDirection(Direction.BOTH)
+                .withNodeOrder(configuration.getNodeOrder())
+                .load(configuration.getGraphImpl());
+    }
+}
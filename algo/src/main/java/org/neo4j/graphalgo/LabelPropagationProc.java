@@ -9,6 +9,8 @@ import org.neo4j.graphalgo.core.utils.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.metrics.AlgorithmMetrics;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 import org.neo4j.graphalgo.core.write.Exporter;
 import org.neo4j.graphalgo.core.write.OptionalIntDoubleMapTranslator;
 import org.neo4j.graphalgo.impl.LabelPropagation;
@@ -26,6 +28,8 @@ import org.neo4j.procedure.Procedure;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -34,10 +38,12 @@ public final class LabelPropagationProc {
 
     public static final String CONFIG_WEIGHT_KEY = "weightProperty";
     public static final String CONFIG_PARTITION_KEY = "partitionProperty";
+    public static final String CONFIG_ACTIVE_SET_KEY = "activeSet";
     public static final Integer DEFAULT_ITERATIONS = 1;
     public static final Boolean DEFAULT_WRITE = Boolean.TRUE;
     public static final String DEFAULT_WEIGHT_KEY = "weight";
     public static final String DEFAULT_PARTITION_KEY = "partition";
+    public static final Boolean DEFAULT_ACTIVE_SET = Boolean.FALSE;
 
     @Context
     public GraphDatabaseAPI dbAPI;
@@ -51,8 +57,8 @@ public final class LabelPropagationProc {
     @Procedure(name = "algo.labelPropagation", mode = Mode.WRITE)
     @Description("CALL algo.labelPropagation(" +
             "label:String, relationship:String, direction:String, " +
-            "{iterations:1, weightProperty:'weight', partitionProperty:'partition', write:true, concurrency:4}) " +
-            "YIELD nodes, iterations, loadMillis, computeMillis, writeMillis, write, weightProperty, partitionProperty - " +
+            "{iterations:1, weightProperty:'weight', partitionProperty:'partition', write:true, concurrency:4, activeSet:false}) " +
+            "YIELD nodes, iterations, loadMillis, computeMillis, writeMillis, write, weightProperty, partitionProperty, activeNodes - " +
             "simple label propagation kernel")
     public Stream<LabelPropagationStats> labelPropagation(
             @Name(value = "label", defaultValue = "") String label,
@@ -70,28 +76,33 @@ public final class LabelPropagationProc {
         final int concurrency = configuration.getConcurrency();
         final String partitionProperty = configuration.getString(CONFIG_PARTITION_KEY, DEFAULT_PARTITION_KEY);
         final String weightProperty = configuration.getString(CONFIG_WEIGHT_KEY, DEFAULT_WEIGHT_KEY);
+        final boolean activeSet = configuration.get(CONFIG_ACTIVE_SET_KEY, DEFAULT_ACTIVE_SET);
 
         LabelPropagationStats.Builder stats = new LabelPropagationStats.Builder()
                 .iterations(iterations)
                 .partitionProperty(partitionProperty)
                 .weightProperty(weightProperty);
 
-        HeavyGraph graph = load(
-                configuration.getNodeLabelOrQuery(),
-                configuration.getRelationshipOrQuery(),
-                direction,
-                partitionProperty,
-                weightProperty,
-                batchSize,
-                concurrency,
-                stats);
-
-        IntDoubleMap labels = compute(direction, iterations, batchSize, concurrency, graph, stats);
-
-        stats.nodes(labels.size());
-
-        if (configuration.isWriteFlag(DEFAULT_WRITE) && partitionProperty != null) {
-            write(concurrency, partitionProperty, graph, labels, stats);
+        try (AlgorithmMetrics metrics = MetricsRegistry.start("LabelPropagation")) {
+            stats.withMetrics(metrics);
+            HeavyGraph graph = load(
+                    configuration.getNodeLabelOrQuery(),
+                    configuration.getRelationshipOrQuery(),
+                    // changed labels are pushed along the reverse direction in active set mode
+                    activeSet ? Direction.BOTH : direction,
+                    partitionProperty,
+                    weightProperty,
+                    batchSize,
+                    concurrency,
+                    stats);
+
+            IntDoubleMap labels = compute(direction, iterations, batchSize, concurrency, activeSet, graph, stats, metrics);
+
+            stats.nodes(labels.size());
+
+            if (configuration.isWriteFlag(DEFAULT_WRITE) && partitionProperty != null) {
+                write(concurrency, partitionProperty, graph, labels, stats);
+            }
         }
 
         return Stream.of(stats.build());
@@ -127,8 +138,10 @@ public final class LabelPropagationProc {
             int iterations,
             int batchSize,
             int concurrency,
+            boolean activeSet,
             HeavyGraph graph,
-            LabelPropagationStats.Builder stats) {
+            LabelPropagationStats.Builder stats,
+            AlgorithmMetrics metrics) {
         try (ProgressTimer timer = stats.timeEval()) {
             ExecutorService pool = batchSize > 0 ? Pools.DEFAULT : null;
             batchSize = Math.max(1, batchSize);
@@ -136,7 +149,10 @@ public final class LabelPropagationProc {
             final IntDoubleMap result = labelPropagation
                     .withProgressLogger(ProgressLogger.wrap(log, "LabelPropagation"))
                     .withTerminationFlag(TerminationFlag.wrap(transaction))
+                    .withMetrics(metrics)
+                    .withActiveSet(activeSet)
                     .compute(direction, iterations);
+            stats.activeNodes(LongStream.of(labelPropagation.activeNodes()).boxed().collect(Collectors.toList()));
             labelPropagation.release();
             graph.release();
             return result;
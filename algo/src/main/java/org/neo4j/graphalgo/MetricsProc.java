@@ -0,0 +1,23 @@
+package org.neo4j.graphalgo;
+
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
+import org.neo4j.graphalgo.results.MetricsResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Procedure;
+
+import java.util.stream.Stream;
+
+public final class MetricsProc {
+
+    @Procedure("algo.metrics")
+    @Description("CALL algo.metrics() " +
+            "YIELD id, algorithm, running, startTime, runMillis, loadMillis, computeMillis, writeMillis, " +
+            "iterations, iterationMillis, relationships, relationshipsPerSecond, threadBusyMillis, " +
+            "threadIdleMillis, peakMemoryBytes, gcMillis - " +
+            "runtime metrics of the running and the " + MetricsRegistry.HISTORY_SIZE + " most recent algorithm runs")
+    public Stream<MetricsResult> metrics() {
+        return MetricsRegistry.runs()
+                .stream()
+                .map(MetricsResult::new);
+    }
+}
@@ -1,13 +1,17 @@
 package org.neo4j.graphalgo;
 
 import org.neo4j.graphalgo.api.Graph;
-import org.neo4j.graphalgo.api.GraphFactory;
 import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.ProcedureConfiguration;
 import org.neo4j.graphalgo.core.utils.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.admission.AdmissionControl;
+import org.neo4j.graphalgo.core.utils.admission.Reservation;
+import org.neo4j.graphalgo.core.utils.metrics.AlgorithmMetrics;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.core.write.Exporter;
 import org.neo4j.graphalgo.impl.PageRankResult;
@@ -60,13 +64,18 @@ public final class PageRankProc {
 
         PageRankScore.Stats.Builder statsBuilder = new PageRankScore.Stats.Builder();
         AllocationTracker tracker = AllocationTracker.create();
-        final Graph graph = load(label, relationship, tracker, configuration.getGraphImpl(), statsBuilder);
         TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
-        PageRankResult scores = evaluate(graph, tracker, terminationFlag, configuration, statsBuilder);
+        GraphLoader graphLoader = graphLoader(label, relationship, tracker, configuration);
+        try (Reservation reservation = admit(graphLoader, terminationFlag, configuration);
+             AlgorithmMetrics metrics = MetricsRegistry.start("PageRank").withAllocationTracker(tracker)) {
+            statsBuilder.withMetrics(metrics);
+            final Graph graph = load(graphLoader, reservation, configuration, statsBuilder);
+            PageRankResult scores = evaluate(graph, tracker, terminationFlag, reservation, configuration, statsBuilder, metrics);
 
-        log.info("PageRank: overall memory usage: %s", tracker.getUsageString());
+            log.info("PageRank: overall memory usage: %s", tracker.getUsageString());
 
-        write(graph, terminationFlag, scores, configuration, statsBuilder);
+            write(graph, terminationFlag, reservation, scores, configuration, statsBuilder);
+        }
 
         return Stream.of(statsBuilder.build());
     }
@@ -84,10 +93,23 @@ public final class PageRankProc {
 
         PageRankScore.Stats.Builder statsBuilder = new PageRankScore.Stats.Builder();
         AllocationTracker tracker = AllocationTracker.create();
-        final Graph graph = load(label, relationship, tracker, configuration.getGraphImpl(), statsBuilder);
-
         TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
-        PageRankResult scores = evaluate(graph, tracker, terminationFlag, configuration, statsBuilder);
+        GraphLoader graphLoader = graphLoader(label, relationship, tracker, configuration);
+        final Graph graph;
+        final PageRankResult scores;
+        // the scores are held until the stream is closed, and so is the reservation.
+        // A result that is closed before it has been consumed doesn't close the
+        // stream, the end of the transaction releases the reservation then.
+        final Reservation reservation = admit(graphLoader, terminationFlag, configuration);
+        transaction.registerCloseListener(txId -> reservation.close());
+        try (AlgorithmMetrics metrics = MetricsRegistry.start("PageRank").withAllocationTracker(tracker)) {
+            statsBuilder.withMetrics(metrics);
+            graph = load(graphLoader, reservation, configuration, statsBuilder);
+            scores = evaluate(graph, tracker, terminationFlag, reservation, configuration, statsBuilder, metrics);
+        } catch (RuntimeException | Error e) {
+            reservation.close();
+            throw e;
+        }
 
         log.info("PageRank: overall memory usage: %s", tracker.getUsageString());
 
@@ -97,33 +119,56 @@ public final class PageRankProc {
                     .mapToObj(i -> new PageRankScore(
                             api.getNodeById(hugeGraph.toOriginalNodeId(i)),
                             scores.score(i)
-                    ));
+                    ))
+                    .onClose(reservation::close);
         }
 
         return IntStream.range(0, Math.toIntExact(graph.nodeCount()))
                 .mapToObj(i -> new PageRankScore(
                         api.getNodeById(graph.toOriginalNodeId(i)),
                         scores.score(i)
-                ));
+                ))
+                .onClose(reservation::close);
     }
 
-    private Graph load(
+    private GraphLoader graphLoader(
             String label,
             String relationship,
             AllocationTracker tracker,
-            Class<? extends GraphFactory> graphFactory,
-            PageRankScore.Stats.Builder statsBuilder) {
-
-        GraphLoader graphLoader = new GraphLoader(api, Pools.DEFAULT)
+            ProcedureConfiguration configuration) {
+        return new GraphLoader(api, Pools.DEFAULT)
                 .withLog(log)
                 .withAllocationTracker(tracker)
                 .withOptionalLabel(label)
                 .withOptionalRelationshipType(relationship)
                 .withDirection(Direction.OUTGOING)
+                .withNodeOrder(configuration.getNodeOrder())
                 .withoutRelationshipWeights();
+    }
 
+    private Reservation admit(
+            GraphLoader graphLoader,
+            TerminationFlag terminationFlag,
+            ProcedureConfiguration configuration) {
+        GraphDimensions dimensions = graphLoader.dimensions();
+        long graphBytes = dimensions.estimateMemoryUsage(configuration.getGraphImpl());
+        long nodeCount = dimensions.hugeNodeCount();
+        return AdmissionControl.GLOBAL.admit(
+                "PageRank",
+                configuration.getConcurrency(Pools.getNoThreadsInDefaultPool()),
+                concurrency -> graphBytes + PageRankAlgorithm.memoryEstimation(nodeCount, concurrency),
+                terminationFlag,
+                configuration.getQueueTimeout());
+    }
+
+    private Graph load(
+            GraphLoader graphLoader,
+            Reservation reservation,
+            ProcedureConfiguration configuration,
+            PageRankScore.Stats.Builder statsBuilder) {
+        graphLoader.withConcurrency(reservation.concurrency());
         try (ProgressTimer timer = statsBuilder.timeLoad()) {
-            Graph graph = graphLoader.load(graphFactory);
+            Graph graph = graphLoader.load(configuration.getGraphImpl());
             statsBuilder.withNodes(graph.nodeCount());
             return graph;
         }
@@ -133,13 +178,15 @@ public final class PageRankProc {
             Graph graph,
             AllocationTracker tracker,
             TerminationFlag terminationFlag,
+            Reservation reservation,
             ProcedureConfiguration configuration,
-            PageRankScore.Stats.Builder statsBuilder) {
+            PageRankScore.Stats.Builder statsBuilder,
+            AlgorithmMetrics metrics) {
 
         double dampingFactor = configuration.get(CONFIG_DAMPING, DEFAULT_DAMPING);
         int iterations = configuration.getIterations(DEFAULT_ITERATIONS);
         final int batchSize = configuration.getBatchSize();
-        final int concurrency = configuration.getConcurrency(Pools.getNoThreadsInDefaultPool());
+        final int concurrency = reservation.concurrency();
         log.debug("Computing page rank with damping of " + dampingFactor + " and " + iterations + " iterations.");
 
         PageRankAlgorithm prAlgo = PageRankAlgorithm.of(
@@ -152,7 +199,8 @@ public final class PageRankProc {
         Algorithm<?> algo = prAlgo
                 .algorithm()
                 .withLog(log)
-                .withTerminationFlag(terminationFlag);
+                .withTerminationFlag(terminationFlag)
+                .withMetrics(metrics);
 
         statsBuilder.timeEval(() -> prAlgo.compute(iterations));
 
@@ -169,6 +217,7 @@ public final class PageRankProc {
     private void write(
             Graph graph,
             TerminationFlag terminationFlag,
+            Reservation reservation,
             PageRankResult result,
             ProcedureConfiguration configuration,
             final PageRankScore.Stats.Builder statsBuilder) {
@@ -179,7 +228,7 @@ public final class PageRankProc {
                 Exporter exporter = Exporter
                         .of(api, graph)
                         .withLog(log)
-                        .parallel(Pools.DEFAULT, configuration.getConcurrency(), terminationFlag)
+                        .parallel(Pools.DEFAULT, reservation.concurrency(), terminationFlag)
                         .build();
                 result.export(propertyName, exporter);
             }
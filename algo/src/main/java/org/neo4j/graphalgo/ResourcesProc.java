@@ -0,0 +1,30 @@
+package org.neo4j.graphalgo;
+
+import org.neo4j.graphalgo.core.utils.admission.AdmissionControl;
+import org.neo4j.graphalgo.results.ReservationResult;
+import org.neo4j.graphalgo.results.ResourcesResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Procedure;
+
+import java.util.stream.Stream;
+
+public final class ResourcesProc {
+
+    @Procedure("algo.resources")
+    @Description("CALL algo.resources() " +
+            "YIELD maxMemoryBytes, reservedMemoryBytes, maxThreads, reservedThreads, running, queued - " +
+            "heap and threads that are reserved for algorithm runs")
+    public Stream<ResourcesResult> resources() {
+        return Stream.of(new ResourcesResult(AdmissionControl.GLOBAL));
+    }
+
+    @Procedure("algo.resources.queue")
+    @Description("CALL algo.resources.queue() " +
+            "YIELD id, algorithm, state, requestedConcurrency, concurrency, memoryBytes, queuedAt, waitMillis - " +
+            "the running algorithm runs followed by the queued ones in the order they will be admitted")
+    public Stream<ReservationResult> queue() {
+        return AdmissionControl.GLOBAL.reservations()
+                .stream()
+                .map(ReservationResult::new);
+    }
+}
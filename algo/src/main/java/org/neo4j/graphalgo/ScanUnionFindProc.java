@@ -0,0 +1,132 @@
+package org.neo4j.graphalgo;
+
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.ProcedureConfiguration;
+import org.neo4j.graphalgo.core.huge.HugeIdMap;
+import org.neo4j.graphalgo.core.huge.HugeRelationshipScanner;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.impl.HugeScanUnionFind;
+import org.neo4j.graphalgo.results.UnionFindResult;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.logging.Log;
+import org.neo4j.procedure.Context;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Mode;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Weakly connected components that are linked while the relationships are
+ * scanned from the store, without loading a graph.
+ */
+public class ScanUnionFindProc {
+
+    public static final String CONFIG_CLUSTER_PROPERTY = "partitionProperty";
+    public static final String DEFAULT_CLUSTER_PROPERTY = "partition";
+
+    @Context
+    public GraphDatabaseAPI api;
+
+    @Context
+    public Log log;
+
+    @Context
+    public KernelTransaction transaction;
+
+    @Procedure(value = "algo.unionFind.scan", mode = Mode.WRITE)
+    @Description("CALL algo.unionFind.scan(label:String, relationship:String, " +
+            "{write: true, partitionProperty:'partition', concurrency:4}) " +
+            "YIELD nodes, setCount, loadMillis, computeMillis, writeMillis")
+    public Stream<UnionFindResult> scan(
+            @Name(value = "label", defaultValue = "") String label,
+            @Name(value = "relationship", defaultValue = "") String relationship,
+            @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
+
+        final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final UnionFindResult.Builder builder = UnionFindResult.builder();
+        final AllocationTracker tracker = AllocationTracker.create();
+        final TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
+
+        final HugeRelationshipScanner scanner = scanner(label, relationship, tracker, configuration);
+        final HugeIdMap idMap;
+        try (ProgressTimer timer = builder.timeLoad()) {
+            idMap = scanner.loadIdMap();
+        }
+
+        final HugeScanUnionFind unionFind = newUnionFind(idMap, scanner, tracker, configuration)
+                .withTerminationFlag(terminationFlag);
+
+        builder.timeEval(unionFind::compute);
+        builder.withNodeCount(idMap.nodeCount())
+                .withSetCount(unionFind.setCount());
+
+        if (configuration.isWriteFlag()) {
+            builder.timeWrite(() -> unionFind.export(
+                    configuration.get(CONFIG_CLUSTER_PROPERTY, DEFAULT_CLUSTER_PROPERTY),
+                    Exporter.of(idMap, api)
+                            .withLog(log)
+                            .parallel(Pools.DEFAULT, configuration.getConcurrency(), terminationFlag)
+                            .build()));
+        }
+        unionFind.release();
+
+        return Stream.of(builder.build());
+    }
+
+    @Procedure(value = "algo.unionFind.scan.stream")
+    @Description("CALL algo.unionFind.scan.stream(label:String, relationship:String, " +
+            "{concurrency:4}) " +
+            "YIELD nodeId, setId - yields a setId to each node id")
+    public Stream<HugeScanUnionFind.Result> scanStream(
+            @Name(value = "label", defaultValue = "") String label,
+            @Name(value = "relationship", defaultValue = "") String relationship,
+            @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
+
+        final ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final AllocationTracker tracker = AllocationTracker.create();
+
+        final HugeRelationshipScanner scanner = scanner(label, relationship, tracker, configuration);
+        final HugeIdMap idMap = scanner.loadIdMap();
+        return newUnionFind(idMap, scanner, tracker, configuration)
+                .withTerminationFlag(TerminationFlag.wrap(transaction))
+                .compute()
+                .resultStream();
+    }
+
+    private HugeScanUnionFind newUnionFind(
+            HugeIdMap idMap,
+            HugeRelationshipScanner scanner,
+            AllocationTracker tracker,
+            ProcedureConfiguration configuration) {
+        return new HugeScanUnionFind(idMap, scanner, tracker, Pools.DEFAULT, configuration.getConcurrency())
+                .withProgressLogger(ProgressLogger.wrap(log, "CC(ScanUnionFind)"));
+    }
+
+    private HugeRelationshipScanner scanner(
+            String label,
+            String relationship,
+            AllocationTracker tracker,
+            ProcedureConfiguration configuration) {
+        // every relationship is linked once, from its start node
+        return new GraphLoader(api, Pools.DEFAULT)
+                .withLog(log)
+                .withAllocationTracker(tracker)
+                .withOptionalLabel(label)
+                .withOptionalRelationshipType(relationship)
+                .withoutNodeProperties()
+                .withDirection(Direction.OUTGOING)
+                .withConcurrency(configuration.getConcurrency())
+                .withTerminationFlag(TerminationFlag.wrap(transaction))
+                .scanner();
+    }
+}
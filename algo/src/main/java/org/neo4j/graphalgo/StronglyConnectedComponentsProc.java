@@ -4,16 +4,22 @@ import com.carrotsearch.hppc.IntSet;
 import com.carrotsearch.hppc.ObjectArrayList;
 import com.carrotsearch.hppc.cursors.IntCursor;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.api.HugeGraph;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.ProcedureConfiguration;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory;
 import org.neo4j.graphalgo.core.neo4jview.DirectIdMapping;
 import org.neo4j.graphalgo.core.utils.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.core.write.Exporter;
 import org.neo4j.graphalgo.core.write.OptionalIntArrayTranslator;
 import org.neo4j.graphalgo.impl.*;
+import org.neo4j.graphalgo.impl.multistepscc.HugeMultistepSCC;
 import org.neo4j.graphalgo.impl.multistepscc.MultistepSCC;
 import org.neo4j.graphalgo.results.SCCResult;
 import org.neo4j.graphalgo.results.SCCStreamResult;
@@ -34,6 +40,7 @@ public class StronglyConnectedComponentsProc {
 
     public static final String CONFIG_WRITE_PROPERTY = "partitionProperty";
     public static final String CONFIG_CLUSTER = "partition";
+    public static final String DEFAULT_GRAPH_IMPL = "huge";
 
     @Context
     public GraphDatabaseAPI api;
@@ -44,7 +51,7 @@ public class StronglyConnectedComponentsProc {
     @Context
     public KernelTransaction transaction;
 
-    // default algo.scc -> iterative tarjan
+    // default algo.scc -> parallel multistep on huge graphs, iterative tarjan otherwise
     @Procedure(value = "algo.scc", mode = Mode.WRITE)
     @Description("CALL algo.scc(label:String, relationship:String, config:Map<String, Object>) YIELD " +
             "loadMillis, computeMillis, writeMillis, setCount, maxSetSize, minSetSize")
@@ -53,19 +60,91 @@ public class StronglyConnectedComponentsProc {
             @Name(value = "relationship", defaultValue = "") String relationship,
             @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
 
-        return sccIterativeTarjan(label, relationship, config);
+        ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final Class<? extends GraphFactory> graphImpl = configuration.getGraphImpl(DEFAULT_GRAPH_IMPL);
+        if (graphImpl != HugeGraphFactory.class && graphImpl != MappedHugeGraphFactory.class) {
+            return sccIterativeTarjan(label, relationship, config);
+        }
+
+        SCCResult.Builder builder = SCCResult.builder();
+
+        final AllocationTracker tracker = AllocationTracker.create();
+        ProgressTimer loadTimer = builder.timeLoad();
+        HugeGraph graph = (HugeGraph) new GraphLoader(api, Pools.DEFAULT)
+                .withLog(log)
+                .withAllocationTracker(tracker)
+                .withOptionalLabel(label)
+                .withOptionalRelationshipType(relationship)
+                .withoutRelationshipWeights()
+                .withDirection(Direction.BOTH)
+                .load(graphImpl);
+        loadTimer.stop();
+
+        final TerminationFlag terminationFlag = TerminationFlag.wrap(transaction);
+        final HugeMultistepSCC multistep = new HugeMultistepSCC(
+                graph,
+                tracker,
+                Pools.DEFAULT,
+                configuration.getConcurrency())
+                .withProgressLogger(ProgressLogger.wrap(log, "SCC(HugeMultiStep)"))
+                .withTerminationFlag(terminationFlag);
+
+        builder.timeEval(multistep::compute);
+
+        builder.withMaxSetSize(multistep.getMaxSetSize())
+                .withMinSetSize(multistep.getMinSetSize())
+                .withSetCount(multistep.getSetCount());
+
+        if (configuration.isWriteFlag()) {
+            graph.release();
+            builder.timeWrite(() -> multistep.export(
+                    configuration.get(CONFIG_WRITE_PROPERTY, CONFIG_CLUSTER),
+                    Exporter.of(api, graph)
+                            .withLog(log)
+                            .parallel(Pools.DEFAULT, configuration.getConcurrency(), terminationFlag)
+                            .build()));
+        }
+
+        multistep.release();
+        return Stream.of(builder.build());
     }
 
-    // default algo.scc -> iter tarjan
+    // default algo.scc.stream -> parallel multistep on huge graphs, iterative tarjan otherwise
     @Procedure(value = "algo.scc.stream")
     @Description("CALL algo.scc.stream(label:String, relationship:String, config:Map<String, Object>) YIELD " +
-            "loadMillis, computeMillis, writeMillis, setCount, maxSetSize, minSetSize")
+            "nodeId, partition")
     public Stream<SCCStreamResult> sccDefaultMethodStream(
             @Name(value = "label", defaultValue = "") String label,
             @Name(value = "relationship", defaultValue = "") String relationship,
             @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
 
-        return sccIterativeTarjanStream(label, relationship, config);
+        ProcedureConfiguration configuration = ProcedureConfiguration.create(config);
+        final Class<? extends GraphFactory> graphImpl = configuration.getGraphImpl(DEFAULT_GRAPH_IMPL);
+        if (graphImpl != HugeGraphFactory.class && graphImpl != MappedHugeGraphFactory.class) {
+            return sccIterativeTarjanStream(label, relationship, config);
+        }
+
+        final AllocationTracker tracker = AllocationTracker.create();
+        HugeGraph graph = (HugeGraph) new GraphLoader(api, Pools.DEFAULT)
+                .withLog(log)
+                .withAllocationTracker(tracker)
+                .withOptionalLabel(label)
+                .withOptionalRelationshipType(relationship)
+                .withoutRelationshipWeights()
+                .withDirection(Direction.BOTH)
+                .load(graphImpl);
+
+        final HugeMultistepSCC multistep = new HugeMultistepSCC(
+                graph,
+                tracker,
+                Pools.DEFAULT,
+                configuration.getConcurrency())
+                .withProgressLogger(ProgressLogger.wrap(log, "SCC(HugeMultiStep)"))
+                .withTerminationFlag(TerminationFlag.wrap(transaction))
+                .compute();
+
+        graph.release();
+        return multistep.resultStream();
     }
 
     // algo.scc.tarjan
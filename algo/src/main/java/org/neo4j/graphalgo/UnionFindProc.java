@@ -1,6 +1,7 @@
 package org.neo4j.graphalgo;
 
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.ProcedureConfiguration;
 import org.neo4j.graphalgo.core.ProcedureConstants;
@@ -8,17 +9,27 @@ import org.neo4j.graphalgo.core.utils.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.admission.AdmissionControl;
+import org.neo4j.graphalgo.core.utils.admission.Reservation;
 import org.neo4j.graphalgo.core.utils.dss.DisjointSetStruct;
+import org.neo4j.graphalgo.core.utils.metrics.AlgorithmMetrics;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 import org.neo4j.graphalgo.core.write.DisjointSetStructTranslator;
 import org.neo4j.graphalgo.core.write.Exporter;
 import org.neo4j.graphalgo.impl.GraphUnionFind;
 import org.neo4j.graphalgo.results.UnionFindResult;
 import org.neo4j.graphdb.Direction;
 import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.Statement;
+import org.neo4j.kernel.api.StatementConstants;
+import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 import org.neo4j.logging.Log;
 import org.neo4j.procedure.*;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -30,6 +41,8 @@ public class UnionFindProc {
     public static final String CONFIG_THRESHOLD = "threshold";
     public static final String CONFIG_CLUSTER_PROPERTY = "partitionProperty";
     public static final String DEFAULT_CLUSTER_PROPERTY = "partition";
+    public static final String CONFIG_SEED_PROPERTY = "seedProperty";
+    public static final String CONFIG_RELATIONSHIP_WATERMARK = "relationshipWatermark";
 
     @Context
     public GraphDatabaseAPI api;
@@ -42,35 +55,44 @@ public class UnionFindProc {
 
     @Procedure(value = "algo.unionFind", mode = Mode.WRITE)
     @Description("CALL algo.unionFind(label:String, relationship:String, " +
-            "{weightProperty:'weight', threshold:0.42, defaultValue:1.0, write: true, partitionProperty:'partition'}) " +
+            "{weightProperty:'weight', threshold:0.42, defaultValue:1.0, write: true, partitionProperty:'partition', " +
+            "seedProperty:'partition', relationshipWatermark:42}) " +
             "YIELD nodes, setCount, loadMillis, computeMillis, writeMillis")
     public Stream<UnionFindResult> unionFind(
             @Name(value = "label", defaultValue = "") String label,
             @Name(value = "relationship", defaultValue = "") String relationship,
             @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
 
-        ProcedureConfiguration configuration = ProcedureConfiguration.create(config)
-                .overrideNodeLabelOrQuery(label)
-                .overrideRelationshipTypeOrQuery(relationship);
+        ProcedureConfiguration configuration = configure(label, relationship, config);
 
         UnionFindResult.Builder builder = UnionFindResult.builder();
 
-        // loading
+        final GraphLoader graphLoader = graphLoader(configuration);
         final Graph graph;
-        try (ProgressTimer timer = builder.timeLoad()) {
-            graph = load(configuration);
-        }
-
-        // evaluation
+        final int[] seeds;
         final DisjointSetStruct struct;
-        try (ProgressTimer timer = builder.timeEval()) {
-            struct = evaluate(graph, configuration);
-        }
+        try (Reservation reservation = admit(graphLoader, configuration);
+             AlgorithmMetrics metrics = MetricsRegistry.start("UnionFind")) {
+            builder.withMetrics(metrics);
 
-        if (configuration.isWriteFlag()) {
-            // write back
-            builder.timeWrite(() ->
-                    write(graph, struct, configuration));
+            // loading
+            try (ProgressTimer timer = builder.timeLoad()) {
+                graph = graphLoader
+                        .withConcurrency(reservation.concurrency())
+                        .load(configuration.getGraphImpl());
+                seeds = loadSeeds(graph, configuration);
+            }
+
+            // evaluation
+            try (ProgressTimer timer = builder.timeEval()) {
+                struct = evaluate(graph, seeds, configuration, metrics);
+            }
+
+            if (configuration.isWriteFlag()) {
+                // write back
+                builder.timeWrite(() ->
+                        write(graph, struct, seeds, reservation, configuration));
+            }
         }
 
         return Stream.of(builder
@@ -81,26 +103,117 @@ public class UnionFindProc {
 
     @Procedure(value = "algo.unionFind.stream")
     @Description("CALL algo.unionFind.stream(label:String, relationship:String, " +
-            "{weightProperty:'propertyName', threshold:0.42, defaultValue:1.0) " +
+            "{weightProperty:'propertyName', threshold:0.42, defaultValue:1.0, seedProperty:'partition', relationshipWatermark:42) " +
             "YIELD nodeId, setId - yields a setId to each node id")
     public Stream<DisjointSetStruct.Result> unionFindStream(
             @Name(value = "label", defaultValue = "") String label,
             @Name(value = "relationship", defaultValue = "") String relationship,
             @Name(value = "config", defaultValue = "{}") Map<String, Object> config) {
 
-        ProcedureConfiguration configuration = ProcedureConfiguration.create(config)
-                .overrideNodeLabelOrQuery(label)
-                .overrideRelationshipTypeOrQuery(relationship);
+        ProcedureConfiguration configuration = configure(label, relationship, config);
 
-        // loading
-        final Graph graph = load(configuration);
+        final GraphLoader graphLoader = graphLoader(configuration);
+        final Graph graph;
+        final DisjointSetStruct struct;
+        // the struct is held until the stream is closed, and so is the reservation.
+        // A result that is closed before it has been consumed doesn't close the
+        // stream, the end of the transaction releases the reservation then.
+        final Reservation reservation = admit(graphLoader, configuration);
+        transaction.registerCloseListener(txId -> reservation.close());
+        try (AlgorithmMetrics metrics = MetricsRegistry.start("UnionFind")) {
+            // loading
+            final int[] seeds;
+            try (ProgressTimer timer = ProgressTimer.start(metrics::withLoadMillis)) {
+                graph = graphLoader
+                        .withConcurrency(reservation.concurrency())
+                        .load(configuration.getGraphImpl());
+                seeds = loadSeeds(graph, configuration);
+            }
+
+            // evaluation
+            try (ProgressTimer timer = ProgressTimer.start(metrics::withComputeMillis)) {
+                struct = evaluate(graph, seeds, configuration, metrics);
+            }
+        } catch (RuntimeException | Error e) {
+            reservation.close();
+            throw e;
+        }
 
-        // evaluation
-        return evaluate(graph, configuration)
-                .resultStream(graph);
+        return struct.resultStream(graph).onClose(reservation::close);
     }
 
-    private Graph load(ProcedureConfiguration config) {
+    /**
+     * With a relationship watermark, all nodes but only the relationships
+     * whose id is above the watermark are loaded with cypher statements.
+     */
+    private static ProcedureConfiguration configure(
+            String label,
+            String relationship,
+            Map<String, Object> config) {
+        final Object watermark = config.get(CONFIG_RELATIONSHIP_WATERMARK);
+        if (watermark == null) {
+            return ProcedureConfiguration.create(config)
+                    .overrideNodeLabelOrQuery(label)
+                    .overrideRelationshipTypeOrQuery(relationship);
+        }
+        if (!(watermark instanceof Number)
+                || !Double.isFinite(((Number) watermark).doubleValue())
+                || ((Number) watermark).doubleValue() < 0.0) {
+            throw new IllegalArgumentException("The value of " + CONFIG_RELATIONSHIP_WATERMARK + " must be a relationship id");
+        }
+        final Map<String, Object> deltaConfig = new HashMap<>(config);
+        deltaConfig.put(ProcedureConstants.GRAPH_IMPL_PARAM, "cypher");
+        final String weightProperty = (String) config.get(ProcedureConstants.PROPERTY_PARAM);
+        final String labelFilter = label != null && !label.isEmpty() ? ":" + quote(label) : "";
+        final String typeFilter = relationship != null && !relationship.isEmpty() ? ":" + quote(relationship) : "";
+        return ProcedureConfiguration.create(deltaConfig)
+                .overrideNodeLabelOrQuery(
+                        "MATCH (n" + labelFilter + ") RETURN id(n) AS id")
+                .overrideRelationshipTypeOrQuery(
+                        "MATCH (a" + labelFilter + ")" +
+                        "-[r" + typeFilter + "]->" +
+                        "(b" + labelFilter + ") " +
+                        "WHERE id(r) > " + ((Number) watermark).longValue() + " " +
+                        "RETURN id(a) AS source, id(b) AS target" +
+                        (weightProperty != null ? ", r." + quote(weightProperty) + " AS weight" : ""));
+    }
+
+    /**
+     * quotes a label, relationship type or property name for a cypher statement
+     */
+    private static String quote(String name) {
+        return "`" + name.replace("`", "``") + "`";
+    }
+
+    /**
+     * reads the previous set id of every node from the seed property, -1 if it has none
+     */
+    private int[] loadSeeds(Graph graph, ProcedureConfiguration config) {
+        final String seedProperty = config.getString(CONFIG_SEED_PROPERTY, null);
+        if (seedProperty == null) {
+            return null;
+        }
+        final int[] seeds = new int[Math.toIntExact(graph.nodeCount())];
+        Arrays.fill(seeds, -1);
+        try (Statement statement = transaction.acquireStatement()) {
+            final ReadOperations readOp = statement.readOperations();
+            final int propertyKey = readOp.propertyKeyGetForName(seedProperty);
+            if (propertyKey == StatementConstants.NO_SUCH_PROPERTY_KEY) {
+                return seeds;
+            }
+            for (int node = 0; node < seeds.length; node++) {
+                final Object value = readOp.nodeGetProperty(graph.toOriginalNodeId(node), propertyKey);
+                if (value instanceof Number) {
+                    seeds[node] = ((Number) value).intValue();
+                }
+            }
+        } catch (EntityNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+        return seeds;
+    }
+
+    private GraphLoader graphLoader(ProcedureConfiguration config) {
         return new GraphLoader(api, Pools.DEFAULT)
                 .withLog(log)
                 .withOptionalLabel(config.getNodeLabelOrQuery())
@@ -109,25 +222,45 @@ public class UnionFindProc {
                         config.getProperty(),
                         config.getPropertyDefaultValue(1.0))
                 .withDirection(Direction.OUTGOING)
-                .load(config.getGraphImpl());
+                .withNodeOrder(config.getNodeOrder());
+    }
+
+    private Reservation admit(GraphLoader graphLoader, ProcedureConfiguration config) {
+        final GraphDimensions dimensions = graphLoader.dimensions();
+        final long bytes = dimensions.estimateMemoryUsage(config.getGraphImpl())
+                + DisjointSetStruct.memoryEstimation(dimensions.nodeCount());
+        final long bytesPerThread = dimensions.estimateMemoryUsagePerThread(config.getBatchSize());
+        // the union find itself runs on a single thread, the loader and the exporter use the others
+        return AdmissionControl.GLOBAL.admit(
+                "UnionFind",
+                config.getConcurrency(),
+                concurrency -> bytes + concurrency * bytesPerThread,
+                TerminationFlag.wrap(transaction),
+                config.getQueueTimeout());
     }
 
-    private DisjointSetStruct evaluate(Graph graph, ProcedureConfiguration config) {
+    private DisjointSetStruct evaluate(
+            Graph graph,
+            int[] seeds,
+            ProcedureConfiguration config,
+            AlgorithmMetrics metrics) {
 
         final DisjointSetStruct struct;
-        final GraphUnionFind graphUnionFind = new GraphUnionFind(graph);
+        final GraphUnionFind graphUnionFind = new GraphUnionFind(graph).withSeeds(seeds);
         if (config.containsKeys(ProcedureConstants.PROPERTY_PARAM, CONFIG_THRESHOLD)) {
             final Double threshold = config.get(CONFIG_THRESHOLD, 0.0);
             log.debug("Computing union find with threshold " + threshold);
             struct = graphUnionFind
                     .withProgressLogger(ProgressLogger.wrap(log, "CC(SequentialUnionFind)"))
                     .withTerminationFlag(TerminationFlag.wrap(transaction))
+                    .withMetrics(metrics)
                     .compute(threshold);
         } else {
             log.debug("Computing union find without threshold");
             struct = graphUnionFind
                     .withProgressLogger(ProgressLogger.wrap(log, "CC(SequentialUnionFind)"))
                     .withTerminationFlag(TerminationFlag.wrap(transaction))
+                    .withMetrics(metrics)
                     .compute();
         }
         graphUnionFind.release();
@@ -135,16 +268,24 @@ public class UnionFindProc {
         return struct;
     }
 
-    private void write(Graph graph, DisjointSetStruct struct, ProcedureConfiguration configuration) {
+    private void write(
+            Graph graph,
+            DisjointSetStruct struct,
+            int[] seeds,
+            Reservation reservation,
+            ProcedureConfiguration configuration) {
         log.debug("Writing results");
         Exporter.of(api, graph)
                 .withLog(log)
-                .parallel(Pools.DEFAULT, configuration.getConcurrency(), TerminationFlag.wrap(transaction))
+                .parallel(Pools.DEFAULT, reservation.concurrency(), TerminationFlag.wrap(transaction))
                 .build()
                 .write(
                         configuration.get(CONFIG_CLUSTER_PROPERTY, DEFAULT_CLUSTER_PROPERTY),
                         struct,
-                        DisjointSetStructTranslator.INSTANCE
+                        // a seeded run only writes the nodes whose set has changed
+                        seeds == null
+                                ? DisjointSetStructTranslator.INSTANCE
+                                : DisjointSetStructTranslator.changedOnly(seeds)
                 );
     }
 }
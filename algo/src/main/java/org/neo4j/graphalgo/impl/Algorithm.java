@@ -2,6 +2,7 @@ package org.neo4j.graphalgo.impl;
 
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.metrics.AlgorithmMetrics;
 import org.neo4j.logging.Log;
 
 /**
@@ -13,6 +14,8 @@ public abstract class Algorithm<ME extends Algorithm<ME>> implements Termination
 
     private TerminationFlag terminationFlag = TerminationFlag.RUNNING_TRUE;
 
+    private AlgorithmMetrics metrics = AlgorithmMetrics.EMPTY;
+
     public abstract ME me();
 
     public abstract ME release();
@@ -31,6 +34,11 @@ public abstract class Algorithm<ME extends Algorithm<ME>> implements Termination
         return me();
     }
 
+    public ME withMetrics(AlgorithmMetrics metrics) {
+        this.metrics = metrics;
+        return me();
+    }
+
     public TerminationFlag getTerminationFlag() {
         return terminationFlag;
     }
@@ -39,8 +47,17 @@ public abstract class Algorithm<ME extends Algorithm<ME>> implements Termination
         return progressLogger;
     }
 
+    public AlgorithmMetrics getMetrics() {
+        return metrics;
+    }
+
     @Override
     public boolean running() {
         return terminationFlag.running();
     }
+
+    @Override
+    public void assertRunning() {
+        terminationFlag.assertRunning();
+    }
 }
@@ -2,6 +2,7 @@ package org.neo4j.graphalgo.impl;
 
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.queue.IntMinPriorityQueue;
 import org.neo4j.graphdb.Direction;
 
@@ -32,6 +33,8 @@ import java.util.stream.Stream;
  */
 public class AllShortestPaths extends Algorithm<AllShortestPaths> {
 
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+
     private Graph graph;
     private final int nodeCount;
 
@@ -82,7 +85,12 @@ public class AllShortestPaths extends Algorithm<AllShortestPaths> {
                 .onClose(() -> outputStreamOpen = false)
                 .mapToObj(i -> {
                     try {
-                        return resultQueue.take();
+                        Result result;
+                        // the tasks stop on termination, do not wait for results that never come
+                        while ((result = resultQueue.poll(100, TimeUnit.MILLISECONDS)) == null) {
+                            assertRunning();
+                        }
+                        return result;
                     } catch (InterruptedException e) {
                         throw new RuntimeException(e);
                     }
@@ -124,6 +132,9 @@ public class AllShortestPaths extends Algorithm<AllShortestPaths> {
             while (outputStreamOpen && running() && (startNode = counter.getAndIncrement()) < nodeCount) {
                 compute(startNode);
                 for (int i = 0; i < nodeCount; i++) {
+                    if ((i & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                        return;
+                    }
                     final Result result = new Result(
                             graph.toOriginalNodeId(startNode),
                             graph.toOriginalNodeId(i),
@@ -143,7 +154,14 @@ public class AllShortestPaths extends Algorithm<AllShortestPaths> {
             Arrays.fill(distance, Double.POSITIVE_INFINITY);
             distance[startNode] = 0d;
             queue.add(startNode, 0d);
+            int visited = 0;
             while (outputStreamOpen && !queue.isEmpty()) {
+                if (++visited == TerminationFlag.RUN_CHECK_INTERVAL) {
+                    visited = 0;
+                    if (!running()) {
+                        return;
+                    }
+                }
                 final int node = queue.pop();
                 final double sourceDistance = distance[node];
                 // scan relationships
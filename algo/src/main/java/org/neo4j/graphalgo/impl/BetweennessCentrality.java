@@ -57,6 +57,8 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality> {
     public BetweennessCentrality compute() {
         Arrays.fill(centrality, 0);
         graph.forEachNode(this::compute);
+        // a terminated run leaves the centrality of the last start node half accumulated
+        assertRunning();
         return this;
     }
 
@@ -125,7 +127,7 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality> {
             }
         }
         getProgressLogger().logProgress((double) startNode / (nodeCount - 1));
-        return true;
+        return running();
     }
 
     /**
@@ -30,7 +30,7 @@ public class BetweennessCentralitySuccessorBrandes extends Algorithm<Betweenness
 
     // the graph
     private Graph graph;
-    // atomic double array which supports only atomic-add
+    // exact atomic double array
     private AtomicDoubleArray centrality;
     // the node count
     private int nodeCount;
@@ -51,14 +51,13 @@ public class BetweennessCentralitySuccessorBrandes extends Algorithm<Betweenness
      * constructs a parallel centrality solver
      *
      * @param graph           the graph iface
-     * @param scaleFactor     factor used to scale up doubles to integers in AtomicDoubleArray
      * @param executorService the executor service
      */
-    public BetweennessCentralitySuccessorBrandes(Graph graph, double scaleFactor, ExecutorService executorService) {
+    public BetweennessCentralitySuccessorBrandes(Graph graph, ExecutorService executorService) {
         this.graph = graph;
         this.nodeCount = Math.toIntExact(graph.nodeCount());
         this.executorService = executorService;
-        this.centrality = new AtomicDoubleArray(nodeCount, scaleFactor);
+        this.centrality = new AtomicDoubleArray(nodeCount);
         sigma = new AtomicIntegerArray(nodeCount);
         delta = new double[nodeCount];
         d = new AtomicIntegerArray(nodeCount);
@@ -67,6 +66,14 @@ public class BetweennessCentralitySuccessorBrandes extends Algorithm<Betweenness
         count = new AtomicInteger();
     }
 
+    /**
+     * @deprecated the centrality is stored exactly, the scale factor is ignored
+     */
+    @Deprecated
+    public BetweennessCentralitySuccessorBrandes(Graph graph, double scaleFactor, ExecutorService executorService) {
+        this(graph, executorService);
+    }
+
     /**
      * compute centrality
      *
@@ -74,6 +81,8 @@ public class BetweennessCentralitySuccessorBrandes extends Algorithm<Betweenness
      */
     public BetweennessCentralitySuccessorBrandes compute() {
         graph.forEachNode(this::compute);
+        // a terminated run leaves the centrality of the last start node half accumulated
+        assertRunning();
         if (direction == Direction.BOTH) {
             ParallelUtil.iterateParallel(executorService, nodeCount, Pools.DEFAULT_CONCURRENCY, i -> {
                 centrality.set(i, centrality.get(i) / 2.0);
@@ -149,7 +158,7 @@ public class BetweennessCentralitySuccessorBrandes extends Algorithm<Betweenness
             ParallelUtil.awaitTermination(futures);
         }
 
-        return true;
+        return running();
     }
 
     /**
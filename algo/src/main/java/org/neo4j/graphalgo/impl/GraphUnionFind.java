@@ -1,5 +1,6 @@
 package org.neo4j.graphalgo.impl;
 
+import com.carrotsearch.hppc.IntIntHashMap;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.dss.DisjointSetStruct;
@@ -17,6 +18,9 @@ import org.neo4j.graphdb.Direction;
  * There are 2 different methods for computing the component-sets. compute() calculates all weakly
  * components regardless of the actual weight of the relationship while compute(threshold:double)
  * on the other hand only takes the transition into account if the weight exceeds the threshold value.
+ * <p>
+ * The struct can be seeded with the set ids of a previous run, see {@link #withSeeds(int[])}.
+ * Then only the relationships that have been added since need to be in the graph.
  *
  * @author mknblch
  */
@@ -26,6 +30,7 @@ public class GraphUnionFind extends Algorithm<GraphUnionFind> {
 
     private DisjointSetStruct dss;
     private final int nodeCount;
+    private int[] seeds;
 
     public GraphUnionFind(Graph graph) {
         this.graph = graph;
@@ -33,6 +38,45 @@ public class GraphUnionFind extends Algorithm<GraphUnionFind> {
         this.dss = new DisjointSetStruct(nodeCount);
     }
 
+    /**
+     * Seeds the struct with a previous partition: nodes with the same seed
+     * are in the same set before any relationship is added. The root of a
+     * seeded set is the node whose mapped id is the seed, if that node has
+     * the seed as well, so that a set that does not change keeps its id as
+     * long as the ids are mapped like in the previous run.
+     *
+     * @param seeds the previous set id by mapped node id, negative for nodes without one
+     */
+    public GraphUnionFind withSeeds(int[] seeds) {
+        this.seeds = seeds;
+        return this;
+    }
+
+    private void seed() {
+        if (seeds == null) {
+            return;
+        }
+        final IntIntHashMap roots = new IntIntHashMap();
+        for (int node = 0; node < nodeCount; node++) {
+            final int seed = seeds[node];
+            if (seed == node) {
+                roots.put(seed, node);
+            } else if (seed >= 0) {
+                roots.putIfAbsent(seed, node);
+            }
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            final int seed = seeds[node];
+            if (seed >= 0) {
+                final int root = roots.get(seed);
+                if (root != node) {
+                    // the root gets deeper with the first union and stays the root
+                    dss.union(root, node);
+                }
+            }
+        }
+    }
+
     /**
      * compute unions of connected nodes
      *
@@ -40,6 +84,7 @@ public class GraphUnionFind extends Algorithm<GraphUnionFind> {
      */
     public DisjointSetStruct compute() {
         dss.reset();
+        seed();
         final ProgressLogger progressLogger = getProgressLogger();
         graph.forEachNode(node -> {
             if (!running()) {
@@ -63,6 +108,7 @@ public class GraphUnionFind extends Algorithm<GraphUnionFind> {
      */
     public DisjointSetStruct compute(final double threshold) {
         dss.reset();
+        seed();
         final ProgressLogger progressLogger = getProgressLogger();
         graph.forEachNode(node -> {
             if (!running()) {
@@ -89,6 +135,7 @@ public class GraphUnionFind extends Algorithm<GraphUnionFind> {
     public GraphUnionFind release() {
         graph = null;
         dss = null;
+        seeds = null;
         return this;
     }
 }
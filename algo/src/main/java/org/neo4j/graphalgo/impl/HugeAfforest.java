@@ -0,0 +1,327 @@
+package org.neo4j.graphalgo.impl;
+
+import com.carrotsearch.hppc.LongIntHashMap;
+import com.carrotsearch.hppc.cursors.LongIntCursor;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.api.HugeRelationshipConsumer;
+import org.neo4j.graphalgo.api.HugeRelationshipIterator;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.core.write.PropertyTranslator;
+import org.neo4j.graphdb.Direction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Weakly connected components on a {@link HugeGraph} after Sutton et al.,
+ * "Optimizing Parallel Graph Connectivity Computation via Subgraph Sampling" (Afforest).
+ * <p>
+ * Every node points to a parent in a shared array, a tree of parents is a
+ * component and its root is the smallest node id. Nodes are linked by hooking
+ * the larger root below the smaller one with a CAS, so no per-batch
+ * {@link org.neo4j.graphalgo.core.utils.dss.DisjointSetStruct} has to be merged.
+ * <p>
+ * First, only the first {@link #withNeighborRounds(int) few} outgoing
+ * relationships of every node are linked, one round at a time, and the trees
+ * are compressed. This already connects most of a giant component. The most
+ * frequent root of a random sample of nodes is taken as the giant component.
+ * Finally, the remaining outgoing and all incoming relationships are linked,
+ * but only for nodes outside of the giant component: a relationship between
+ * two nodes of the giant component cannot change anything, and a relationship
+ * from the giant component to another node is seen from the other side.
+ * <p>
+ * The graph has to be loaded with {@link Direction#BOTH}.
+ */
+public final class HugeAfforest extends Algorithm<HugeAfforest> {
+
+    public static final int DEFAULT_NEIGHBOR_ROUNDS = 2;
+
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+    private static final long BATCH_SIZE = 4096L;
+    private static final int SAMPLE_SIZE = 1024;
+    private static final long SAMPLE_SEED = 42L;
+
+    private HugeGraph graph;
+    private final AllocationTracker tracker;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final long nodeCount;
+
+    private int neighborRounds = DEFAULT_NEIGHBOR_ROUNDS;
+
+    // the parent of every node, roots are their own parent
+    private HugeParentForest parents;
+
+    // next batch of nodes that is taken by a task
+    private final AtomicLong batchOffset = new AtomicLong();
+
+    private long setCount;
+    private long skippedNodes;
+
+    public HugeAfforest(
+            HugeGraph graph,
+            AllocationTracker tracker,
+            ExecutorService executorService,
+            int concurrency) {
+        this.graph = graph;
+        this.tracker = tracker;
+        this.executorService = executorService;
+        this.concurrency = Math.max(1, concurrency);
+        this.nodeCount = graph.nodeCount();
+        this.parents = new HugeParentForest(nodeCount, tracker);
+    }
+
+    /**
+     * number of outgoing relationships per node that are linked before the giant component is sampled
+     */
+    public HugeAfforest withNeighborRounds(int neighborRounds) {
+        this.neighborRounds = Math.max(0, neighborRounds);
+        return this;
+    }
+
+    public HugeAfforest compute() {
+        final List<Task> tasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new Task());
+        }
+
+        run(tasks, Phase.INIT, 0);
+        for (int round = 0; round < neighborRounds; round++) {
+            run(tasks, Phase.LINK_NEIGHBOR, round);
+            run(tasks, Phase.COMPRESS, 0);
+            getProgressLogger().logProgress(round + 1, neighborRounds + 1);
+        }
+
+        final long giantComponent = sampleGiantComponent();
+        run(tasks, Phase.LINK_REMAINING, 0, giantComponent);
+        run(tasks, Phase.COMPRESS, 0);
+        getProgressLogger().logDone();
+
+        setCount = 0L;
+        skippedNodes = 0L;
+        for (Task task : tasks) {
+            setCount += task.roots;
+            skippedNodes += task.skipped;
+        }
+        return this;
+    }
+
+    private void run(List<Task> tasks, Phase phase, int round) {
+        run(tasks, phase, round, -1L);
+    }
+
+    private void run(List<Task> tasks, Phase phase, int round, long giantComponent) {
+        assertRunning();
+        batchOffset.set(0L);
+        for (Task task : tasks) {
+            task.phase = phase;
+            task.round = round;
+            task.giantComponent = giantComponent;
+        }
+        ParallelUtil.run(tasks, executorService);
+    }
+
+    /**
+     * the most frequent root of a random sample of nodes
+     */
+    private long sampleGiantComponent() {
+        if (nodeCount == 0L) {
+            return -1L;
+        }
+        final Random random = new Random(SAMPLE_SEED);
+        final LongIntHashMap counts = new LongIntHashMap();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            final long node = (long) (random.nextDouble() * nodeCount);
+            counts.addTo(parents.parent(node), 1);
+        }
+        long giantComponent = -1L;
+        int maxCount = 0;
+        for (LongIntCursor cursor : counts) {
+            if (cursor.value > maxCount) {
+                maxCount = cursor.value;
+                giantComponent = cursor.key;
+            }
+        }
+        return giantComponent;
+    }
+
+    /**
+     * the component of a node, which is the smallest mapped node id of the component
+     */
+    public long setId(long nodeId) {
+        return parents.parent(nodeId);
+    }
+
+    /**
+     * number of components found by the last computation
+     */
+    public long setCount() {
+        return setCount;
+    }
+
+    /**
+     * number of nodes whose remaining relationships have been skipped
+     * because they belong to the giant component
+     */
+    public long skippedNodes() {
+        return skippedNodes;
+    }
+
+    public void export(final String propertyName, final Exporter exporter) {
+        exporter.write(
+                propertyName,
+                this,
+                (PropertyTranslator.OfLong<HugeAfforest>) HugeAfforest::setId);
+    }
+
+    public Stream<Result> resultStream() {
+        return LongStream.range(0L, nodeCount)
+                .mapToObj(node -> new Result(graph.toOriginalNodeId(node), parents.parent(node)));
+    }
+
+    @Override
+    public HugeAfforest me() {
+        return this;
+    }
+
+    @Override
+    public HugeAfforest release() {
+        if (parents != null) {
+            parents.release(tracker);
+        }
+        parents = null;
+        graph = null;
+        return this;
+    }
+
+    private enum Phase {
+        INIT, LINK_NEIGHBOR, COMPRESS, LINK_REMAINING
+    }
+
+    /**
+     * runs one phase for batches of nodes
+     */
+    private final class Task implements Runnable, HugeRelationshipConsumer {
+
+        private final HugeRelationshipIterator relationships;
+        private final HugeRelationshipConsumer neighborLinker;
+        private final HugeRelationshipConsumer incomingLinker;
+
+        private Phase phase;
+        private int round;
+        private long giantComponent;
+
+        // the index of the relationship of the current node
+        private int index;
+
+        private long roots;
+        private long skipped;
+
+        private Task() {
+            this.relationships = graph.concurrentCopy();
+            this.neighborLinker = this::linkNeighbor;
+            this.incomingLinker = this::linkAll;
+        }
+
+        @Override
+        public void run() {
+            if (phase == Phase.COMPRESS) {
+                roots = 0L;
+            } else if (phase == Phase.LINK_REMAINING) {
+                skipped = 0L;
+            }
+            long start;
+            while ((start = batchOffset.getAndAdd(BATCH_SIZE)) < nodeCount) {
+                final long end = Math.min(nodeCount, start + BATCH_SIZE);
+                for (long node = start; node < end; node++) {
+                    if (((node - start) & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                        return;
+                    }
+                    run(node);
+                }
+            }
+        }
+
+        private void run(long node) {
+            switch (phase) {
+                case INIT:
+                    parents.init(node);
+                    break;
+                case LINK_NEIGHBOR:
+                    index = 0;
+                    relationships.forEachRelationship(node, Direction.OUTGOING, neighborLinker);
+                    break;
+                case COMPRESS:
+                    parents.compress(node);
+                    if (parents.parent(node) == node) {
+                        roots++;
+                    }
+                    break;
+                case LINK_REMAINING:
+                    if (parents.parent(node) == giantComponent) {
+                        skipped++;
+                        break;
+                    }
+                    index = 0;
+                    relationships.forEachRelationship(node, Direction.OUTGOING, this);
+                    relationships.forEachRelationship(node, Direction.INCOMING, incomingLinker);
+                    break;
+                default:
+                    throw new IllegalStateException("unknown phase " + phase);
+            }
+        }
+
+        /**
+         * links the relationship with the index of the current round
+         */
+        private boolean linkNeighbor(long sourceNodeId, long targetNodeId) {
+            if (index++ == round) {
+                parents.link(sourceNodeId, targetNodeId);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * links the outgoing relationships that have not been linked by the neighbor rounds
+         */
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (index++ >= neighborRounds) {
+                parents.link(sourceNodeId, targetNodeId);
+            }
+            return true;
+        }
+
+        private boolean linkAll(long sourceNodeId, long targetNodeId) {
+            parents.link(sourceNodeId, targetNodeId);
+            return true;
+        }
+    }
+
+    public static class Result {
+
+        /**
+         * the original node id
+         */
+        public final long nodeId;
+
+        /**
+         * the smallest mapped node id of the component
+         */
+        public final long setId;
+
+        public Result(long nodeId, long setId) {
+            this.nodeId = nodeId;
+            this.setId = setId;
+        }
+    }
+}
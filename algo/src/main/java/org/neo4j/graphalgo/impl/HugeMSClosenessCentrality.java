@@ -0,0 +1,128 @@
+package org.neo4j.graphalgo.impl;
+
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.PagedAtomicDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.PagedAtomicLongArray;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.core.write.PropertyTranslator;
+import org.neo4j.graphalgo.impl.msbfs.HugeBfsConsumer;
+import org.neo4j.graphalgo.impl.msbfs.HugeMultiSourceBFS;
+import org.neo4j.graphdb.Direction;
+
+import java.util.concurrent.ExecutorService;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Normalized Closeness Centrality on a {@link HugeGraph}.
+ * <p>
+ * Farness is accumulated in {@code long}s so that it does not overflow
+ * on large graphs. Optionally, the harmonic centrality
+ * ({@code sum(1 / distance) / (n - 1)}) is computed instead, which is
+ * well defined on disconnected graphs as unreachable nodes contribute {@code 0}.
+ */
+public class HugeMSClosenessCentrality extends Algorithm<HugeMSClosenessCentrality> {
+
+    private HugeGraph graph;
+    private PagedAtomicLongArray farness;
+    private PagedAtomicDoubleArray inverseFarness;
+
+    private final AllocationTracker tracker;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final long nodeCount;
+    private final boolean harmonic;
+
+    public HugeMSClosenessCentrality(
+            HugeGraph graph,
+            AllocationTracker tracker,
+            int concurrency,
+            ExecutorService executorService,
+            boolean harmonic) {
+        this.graph = graph;
+        this.tracker = tracker;
+        nodeCount = graph.nodeCount();
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.harmonic = harmonic;
+        if (harmonic) {
+            inverseFarness = PagedAtomicDoubleArray.newArray(nodeCount, tracker);
+        } else {
+            farness = PagedAtomicLongArray.newArray(nodeCount, tracker);
+        }
+    }
+
+    public HugeMSClosenessCentrality compute() {
+
+        final ProgressLogger progressLogger = getProgressLogger();
+
+        final HugeBfsConsumer consumer;
+        if (harmonic) {
+            consumer = (nodeId, depth, sourceNodeIds) -> {
+                int len = sourceNodeIds.size();
+                inverseFarness.add(nodeId, len / (double) depth);
+                progressLogger.logProgress((double) nodeId / (nodeCount - 1));
+            };
+        } else {
+            consumer = (nodeId, depth, sourceNodeIds) -> {
+                int len = sourceNodeIds.size();
+                farness.add(nodeId, (long) len * depth);
+                progressLogger.logProgress((double) nodeId / (nodeCount - 1));
+            };
+        }
+
+        new HugeMultiSourceBFS(graph, graph, Direction.OUTGOING, consumer, tracker, this)
+                .run(concurrency, executorService);
+
+        return this;
+    }
+
+    public PagedAtomicLongArray getFarness() {
+        return farness;
+    }
+
+    public double centrality(long nodeId) {
+        final double k = nodeCount - 1;
+        if (harmonic) {
+            return k > 0 ? inverseFarness.get(nodeId) / k : 0D;
+        }
+        final long far = farness.get(nodeId);
+        return far > 0 ? k / (double) far : 0D;
+    }
+
+    public void export(final String propertyName, final Exporter exporter) {
+        exporter.write(
+                propertyName,
+                this,
+                (PropertyTranslator.OfDouble<HugeMSClosenessCentrality>) HugeMSClosenessCentrality::centrality);
+    }
+
+    public Stream<MSClosenessCentrality.Result> resultStream() {
+        return LongStream.range(0L, nodeCount)
+                .mapToObj(nodeId ->
+                        new MSClosenessCentrality.Result(
+                                graph.toOriginalNodeId(nodeId),
+                                centrality(nodeId)));
+    }
+
+    @Override
+    public HugeMSClosenessCentrality me() {
+        return this;
+    }
+
+    @Override
+    public HugeMSClosenessCentrality release() {
+        if (farness != null) {
+            tracker.remove(farness.release());
+        }
+        if (inverseFarness != null) {
+            tracker.remove(inverseFarness.release());
+        }
+        graph = null;
+        farness = null;
+        inverseFarness = null;
+        return this;
+    }
+}
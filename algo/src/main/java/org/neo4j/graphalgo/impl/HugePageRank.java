@@ -9,6 +9,9 @@ import org.neo4j.graphalgo.api.HugeNodeIterator;
 import org.neo4j.graphalgo.api.HugeRelationshipConsumer;
 import org.neo4j.graphalgo.api.HugeRelationshipIterator;
 import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.metrics.AlgorithmMetrics;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.core.write.DoubleArrayTranslator;
 import org.neo4j.graphalgo.core.write.Exporter;
@@ -18,6 +21,7 @@ import org.neo4j.logging.Log;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -154,6 +158,8 @@ public class HugePageRank extends Algorithm<HugePageRank> implements PageRankAlg
         assert iterations >= 1;
         initializeSteps();
         computeSteps.run(iterations);
+        // a terminated run leaves partially synchronized ranks behind
+        assertRunning();
         return this;
     }
 
@@ -266,6 +272,7 @@ public class HugePageRank extends Algorithm<HugePageRank> implements PageRankAlg
                     relationshipIterator,
                     degrees,
                     tracker,
+                    this,
                     partitionCount,
                     start
             ));
@@ -472,26 +479,38 @@ public class HugePageRank extends Algorithm<HugePageRank> implements PageRankAlg
         private void run(int iterations) {
             final int operations = (iterations << 1) + 1;
             int op = 0;
-            ParallelUtil.runWithConcurrency(concurrency, steps, pool);
+            AlgorithmMetrics metrics = getMetrics();
+            Collection<? extends Runnable> tasks = metrics.timed(steps);
+            ParallelUtil.runWithConcurrency(concurrency, tasks, pool);
             getProgressLogger().logProgress(++op, operations, tracker);
             for (int i = 0; i < iterations && running(); i++) {
-                // calculate scores
-                ParallelUtil.runWithConcurrency(concurrency, steps, pool);
-                getProgressLogger().logProgress(++op, operations, tracker);
-                synchronizeScores();
-                // sync scores
-                ParallelUtil.runWithConcurrency(concurrency, steps, pool);
-                getProgressLogger().logProgress(++op, operations, tracker);
+                try (ProgressTimer timer = metrics.timeIteration()) {
+                    // calculate scores
+                    ParallelUtil.runWithConcurrency(concurrency, tasks, pool);
+                    getProgressLogger().logProgress(++op, operations, tracker);
+                    metrics.addRelationships(synchronizeScores());
+                    // sync scores
+                    ParallelUtil.runWithConcurrency(concurrency, tasks, pool);
+                    getProgressLogger().logProgress(++op, operations, tracker);
+                }
             }
         }
 
-        private void synchronizeScores() {
+        /**
+         * @return the number of relationships scanned in the last iteration
+         */
+        private long synchronizeScores() {
             int stepSize = steps.size();
             int[][][] scores = this.scores;
+            long relationships = 0L;
             int i;
             for (i = 0; i < stepSize; i++) {
-                synchronizeScores(steps.get(i), i, scores);
+                ComputeStep step = steps.get(i);
+                synchronizeScores(step, i, scores);
+                relationships += step.relationships;
+                step.relationships = 0L;
             }
+            return relationships;
         }
 
         private void synchronizeScores(
@@ -527,6 +546,7 @@ public class HugePageRank extends Algorithm<HugePageRank> implements PageRankAlg
         private final HugeRelationshipIterator relationshipIterator;
         private final HugeDegrees degrees;
         private final AllocationTracker tracker;
+        private final TerminationFlag terminationFlag;
 
         private final double alpha;
         private final double dampingFactor;
@@ -541,12 +561,14 @@ public class HugePageRank extends Algorithm<HugePageRank> implements PageRankAlg
         private final int partitionSize;
 
         private int srcRankDelta = 0;
+        private long relationships = 0L;
 
         ComputeStep(
                 double dampingFactor,
                 HugeRelationshipIterator relationshipIterator,
                 HugeDegrees degrees,
                 AllocationTracker tracker,
+                TerminationFlag terminationFlag,
                 int partitionSize,
                 long startNode) {
             this.dampingFactor = dampingFactor;
@@ -554,6 +576,7 @@ public class HugePageRank extends Algorithm<HugePageRank> implements PageRankAlg
             this.relationshipIterator = relationshipIterator.concurrentCopy();
             this.degrees = degrees;
             this.tracker = tracker;
+            this.terminationFlag = terminationFlag;
             this.partitionSize = partitionSize;
             this.startNode = startNode;
             this.endNode = startNode + (long) partitionSize;
@@ -599,6 +622,7 @@ public class HugePageRank extends Algorithm<HugePageRank> implements PageRankAlg
             long startNode = this.startNode;
             long endNode = this.endNode;
             HugeRelationshipIterator rels = this.relationshipIterator;
+            int scanned = 0;
             for (long nodeId = startNode; nodeId < endNode; ++nodeId) {
                 double delta = deltas[(int) (nodeId - startNode)];
                 if (delta > 0) {
@@ -606,6 +630,14 @@ public class HugePageRank extends Algorithm<HugePageRank> implements PageRankAlg
                     if (degree > 0) {
                         srcRankDelta = (int) (100_000 * (delta / degree));
                         rels.forEachRelationship(nodeId, Direction.OUTGOING, this);
+                        relationships += degree;
+                        scanned += degree;
+                        if (scanned >= TerminationFlag.RUN_CHECK_INTERVAL) {
+                            scanned = 0;
+                            if (!terminationFlag.running()) {
+                                return;
+                            }
+                        }
                     }
                 }
             }
@@ -0,0 +1,413 @@
+package org.neo4j.graphalgo.impl;
+
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.api.HugeRelationshipConsumer;
+import org.neo4j.graphalgo.api.HugeRelationshipIterator;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.DoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.LongArray;
+import org.neo4j.graphalgo.core.utils.queue.LongDoubleMinHeap;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.core.write.PropertyTranslator;
+import org.neo4j.graphdb.Direction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Betweenness Centrality on a {@link HugeGraph} as specified in
+ * <a href="http://www.algo.uni-konstanz.de/publications/b-fabc-01.pdf">this paper</a>,
+ * using source-partitioning.
+ * <p>
+ * Every thread takes the next source node and runs a BFS, or a Dijkstra if the
+ * graph is weighted, followed by the back-propagation of the dependencies.
+ * The buffers of a thread are paged arrays that are allocated once and only
+ * the visited nodes are reset after each source. Instead of predecessor
+ * lists the back-propagation revisits the relationships of every node and
+ * pulls the dependencies of its successors on the shortest paths.
+ * <p>
+ * Every thread sums the dependencies into its own centrality array,
+ * those arrays are added up on disjoint node ranges once all sources are done.
+ * Path counts are doubles, so they do not overflow on large graphs.
+ */
+public class HugeParallelBetweennessCentrality extends Algorithm<HugeParallelBetweennessCentrality> {
+
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+    // distance of nodes that have not been visited from the current source
+    private static final double UNVISITED = -1.0;
+
+    private HugeGraph graph;
+    private DoubleArray centrality;
+
+    private final AllocationTracker tracker;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final long nodeCount;
+    // index of the next source
+    private final AtomicLong sourceQueue = new AtomicLong();
+
+    private Direction direction = Direction.OUTGOING;
+    private double divisor = 1.0;
+    private boolean weighted = false;
+    // mapped ids of the source nodes, all nodes if null
+    private long[] sources = null;
+
+    public HugeParallelBetweennessCentrality(
+            HugeGraph graph,
+            AllocationTracker tracker,
+            ExecutorService executorService,
+            int concurrency) {
+        this.graph = graph;
+        this.tracker = tracker;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.nodeCount = graph.nodeCount();
+    }
+
+    public HugeParallelBetweennessCentrality withDirection(Direction direction) {
+        this.direction = direction;
+        this.divisor = direction == Direction.BOTH ? 2.0 : 1.0;
+        return this;
+    }
+
+    /**
+     * Use the relationship weights of the graph as distances.
+     * The shortest paths are then found with Dijkstra instead of BFS,
+     * weights must be positive.
+     */
+    public HugeParallelBetweennessCentrality withWeights(boolean weighted) {
+        this.weighted = weighted;
+        return this;
+    }
+
+    /**
+     * Only sum up the dependencies of shortest paths that start at the given nodes.
+     *
+     * @param sources mapped ids of the source nodes
+     */
+    public HugeParallelBetweennessCentrality withSources(long... sources) {
+        this.sources = sources;
+        return this;
+    }
+
+    /**
+     * compute centrality
+     *
+     * @return itself for method chaining
+     */
+    public HugeParallelBetweennessCentrality compute() {
+        sourceQueue.set(0L);
+        final long sourceCount = sources == null ? nodeCount : sources.length;
+        final int taskCount = (int) Math.max(1L, Math.min(concurrency, sourceCount));
+        final List<BCTask> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new BCTask(sourceCount));
+        }
+        ParallelUtil.run(tasks, executorService);
+        for (BCTask task : tasks) {
+            task.releaseBuffers();
+        }
+        // a terminated run leaves the centrality of some start nodes half accumulated
+        if (!running()) {
+            for (BCTask task : tasks) {
+                task.releaseCentrality();
+            }
+            assertRunning();
+        }
+        centrality = reduce(tasks);
+        return this;
+    }
+
+    /**
+     * Adds the centrality of all tasks to the array of the first task.
+     * Every reducer owns a disjoint node range, so no atomics are needed.
+     */
+    private DoubleArray reduce(List<BCTask> tasks) {
+        final DoubleArray result = tasks.get(0).localCentrality;
+        if (tasks.size() > 1) {
+            final long batchSize = ParallelUtil.adjustBatchSize(
+                    nodeCount,
+                    concurrency,
+                    ParallelUtil.DEFAULT_BATCH_SIZE);
+            final List<Runnable> reducers = new ArrayList<>();
+            for (long start = 0L; start < nodeCount; start += batchSize) {
+                final long begin = start;
+                final long end = Math.min(nodeCount, start + batchSize);
+                reducers.add(() -> {
+                    for (long node = begin; node < end; node++) {
+                        double sum = result.get(node);
+                        for (int i = 1; i < tasks.size(); i++) {
+                            sum += tasks.get(i).localCentrality.get(node);
+                        }
+                        result.set(node, sum);
+                    }
+                });
+            }
+            ParallelUtil.run(reducers, executorService);
+            for (int i = 1; i < tasks.size(); i++) {
+                tasks.get(i).releaseCentrality();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * get the centrality array
+     *
+     * @return array with centrality
+     */
+    public DoubleArray getCentrality() {
+        return centrality;
+    }
+
+    public double centrality(long nodeId) {
+        return centrality.get(nodeId);
+    }
+
+    public void export(final String propertyName, final Exporter exporter) {
+        exporter.write(
+                propertyName,
+                this,
+                (PropertyTranslator.OfDouble<HugeParallelBetweennessCentrality>) HugeParallelBetweennessCentrality::centrality);
+    }
+
+    /**
+     * emit the result stream
+     *
+     * @return stream if Results
+     */
+    public Stream<BetweennessCentrality.Result> resultStream() {
+        return LongStream.range(0L, nodeCount)
+                .mapToObj(nodeId ->
+                        new BetweennessCentrality.Result(
+                                graph.toOriginalNodeId(nodeId),
+                                centrality.get(nodeId)));
+    }
+
+    @Override
+    public HugeParallelBetweennessCentrality me() {
+        return this;
+    }
+
+    @Override
+    public HugeParallelBetweennessCentrality release() {
+        if (centrality != null) {
+            tracker.remove(centrality.release());
+        }
+        graph = null;
+        centrality = null;
+        return this;
+    }
+
+    /**
+     * a BCTask takes the next source as long as there are sources
+     * left and adds the dependencies of its shortest paths to its centrality
+     */
+    private final class BCTask implements Runnable {
+
+        private final long sourceCount;
+        private final HugeRelationshipIterator relationships;
+        private final ProgressLogger progressLogger;
+
+        private DoubleArray sigma;
+        private DoubleArray delta;
+        private DoubleArray distance;
+        // the visited nodes in order of their distance, doubles as BFS queue
+        private LongArray visited;
+        private LongDoubleMinHeap heap;
+        private DoubleArray localCentrality;
+
+        private final HugeRelationshipConsumer visitBfs = this::visitBfs;
+        private final HugeRelationshipConsumer visitDijkstra = this::visitDijkstra;
+        private final HugeRelationshipConsumer accumulate = this::accumulate;
+
+        private long visitedCount;
+        // whether the current relationships are incoming ones
+        private boolean incoming;
+        // distance and number of shortest paths of the node that is currently expanded
+        private double currentDistance;
+        private double currentSigma;
+        // dependency of the node that is currently accumulated
+        private double currentDelta;
+
+        private BCTask(long sourceCount) {
+            this.sourceCount = sourceCount;
+            this.relationships = graph.concurrentCopy();
+            this.progressLogger = getProgressLogger();
+            this.sigma = DoubleArray.newArray(nodeCount, tracker);
+            this.delta = DoubleArray.newArray(nodeCount, tracker);
+            this.distance = DoubleArray.newArray(nodeCount, tracker);
+            this.visited = LongArray.newArray(nodeCount, tracker);
+            this.localCentrality = DoubleArray.newArray(nodeCount, tracker);
+            this.heap = weighted ? new LongDoubleMinHeap() : null;
+            distance.fill(UNVISITED);
+        }
+
+        @Override
+        public void run() {
+            for (;;) {
+                final long index = sourceQueue.getAndIncrement();
+                if (index >= sourceCount || !running()) {
+                    return;
+                }
+                final long source = sources == null ? index : sources[(int) index];
+                sigma.set(source, 1.0);
+                distance.set(source, 0.0);
+                final boolean completed = weighted ? dijkstra(source) : bfs(source);
+                if (!completed || !backPropagate(source)) {
+                    return;
+                }
+                reset();
+                progressLogger.logProgress(index + 1, sourceCount);
+            }
+        }
+
+        private boolean bfs(long source) {
+            visited.set(0L, source);
+            visitedCount = 1L;
+            for (long i = 0L; i < visitedCount; i++) {
+                if ((i & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                    return false;
+                }
+                final long node = visited.get(i);
+                currentDistance = distance.get(node);
+                currentSigma = sigma.get(node);
+                forEachRelationship(node, visitBfs);
+            }
+            return true;
+        }
+
+        private boolean visitBfs(long node, long target) {
+            final double targetDistance = currentDistance + 1.0;
+            final double distance = this.distance.get(target);
+            if (distance == UNVISITED) {
+                this.distance.set(target, targetDistance);
+                visited.set(visitedCount++, target);
+            } else if (distance != targetDistance) {
+                return true;
+            }
+            sigma.set(target, sigma.get(target) + currentSigma);
+            return true;
+        }
+
+        private boolean dijkstra(long source) {
+            visitedCount = 0L;
+            heap.add(source, 0.0);
+            while (!heap.isEmpty()) {
+                final double cost = heap.topCost();
+                final long node = heap.pop();
+                if (cost > distance.get(node)) {
+                    // the node has been reached on a shorter path since this entry was added
+                    continue;
+                }
+                if ((visitedCount & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                    return false;
+                }
+                visited.set(visitedCount++, node);
+                currentDistance = cost;
+                currentSigma = sigma.get(node);
+                forEachRelationship(node, visitDijkstra);
+            }
+            return true;
+        }
+
+        private boolean visitDijkstra(long node, long target) {
+            final double targetDistance = currentDistance + weightOf(node, target);
+            final double distance = this.distance.get(target);
+            if (distance == UNVISITED || targetDistance < distance) {
+                this.distance.set(target, targetDistance);
+                sigma.set(target, currentSigma);
+                heap.add(target, targetDistance);
+            } else if (targetDistance == distance) {
+                sigma.set(target, sigma.get(target) + currentSigma);
+            }
+            return true;
+        }
+
+        /**
+         * visits the nodes in reverse order of their distance and sums up
+         * the dependencies of their successors on the shortest paths
+         */
+        private boolean backPropagate(long source) {
+            for (long i = visitedCount - 1L; i >= 0L; i--) {
+                if ((i & RUN_CHECK_MASK) == 0L && !running()) {
+                    return false;
+                }
+                final long node = visited.get(i);
+                currentDistance = distance.get(node);
+                currentDelta = 0.0;
+                forEachRelationship(node, accumulate);
+                final double dependency = sigma.get(node) * currentDelta;
+                delta.set(node, dependency);
+                if (node != source) {
+                    localCentrality.set(node, localCentrality.get(node) + dependency / divisor);
+                }
+            }
+            return true;
+        }
+
+        private boolean accumulate(long node, long target) {
+            final double length = weighted ? weightOf(node, target) : 1.0;
+            if (distance.get(target) == currentDistance + length) {
+                currentDelta += (1.0 + delta.get(target)) / sigma.get(target);
+            }
+            return true;
+        }
+
+        private void forEachRelationship(long node, HugeRelationshipConsumer consumer) {
+            if (direction == Direction.BOTH) {
+                incoming = true;
+                relationships.forEachRelationship(node, Direction.INCOMING, consumer);
+                incoming = false;
+                relationships.forEachRelationship(node, Direction.OUTGOING, consumer);
+            } else {
+                incoming = direction == Direction.INCOMING;
+                relationships.forEachRelationship(node, direction, consumer);
+            }
+        }
+
+        private double weightOf(long node, long target) {
+            return incoming ? graph.weightOf(target, node) : graph.weightOf(node, target);
+        }
+
+        /**
+         * reset the state of all visited nodes
+         */
+        private void reset() {
+            for (long i = 0L; i < visitedCount; i++) {
+                final long node = visited.get(i);
+                sigma.set(node, 0.0);
+                delta.set(node, 0.0);
+                distance.set(node, UNVISITED);
+            }
+            visitedCount = 0L;
+            if (heap != null) {
+                heap.clear();
+            }
+        }
+
+        private void releaseBuffers() {
+            tracker.remove(sigma.release());
+            tracker.remove(delta.release());
+            tracker.remove(distance.release());
+            tracker.remove(visited.release());
+            sigma = null;
+            delta = null;
+            distance = null;
+            visited = null;
+            heap = null;
+        }
+
+        private void releaseCentrality() {
+            tracker.remove(localCentrality.release());
+            localCentrality = null;
+        }
+    }
+}
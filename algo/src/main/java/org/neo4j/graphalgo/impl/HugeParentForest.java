@@ -0,0 +1,72 @@
+package org.neo4j.graphalgo.impl;
+
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.PagedAtomicLongArray;
+
+/**
+ * A concurrent union find on huge node ids. Every node points to a parent,
+ * a tree of parents is a set and its root is the smallest node id of the set.
+ * Nodes are linked by hooking the larger root below the smaller one with a CAS,
+ * so any number of threads can link nodes at the same time.
+ */
+final class HugeParentForest {
+
+    private PagedAtomicLongArray parents;
+
+    HugeParentForest(long nodeCount, AllocationTracker tracker) {
+        this.parents = PagedAtomicLongArray.newArray(nodeCount, tracker);
+    }
+
+    /**
+     * makes the node the root of its own set
+     */
+    void init(long node) {
+        parents.set(node, node);
+    }
+
+    long parent(long node) {
+        return parents.get(node);
+    }
+
+    /**
+     * Hooks the larger root of the two nodes below the smaller root. A failed
+     * CAS means that the root has been hooked by another thread, the search
+     * continues from the new parents.
+     */
+    void link(long u, long v) {
+        long p1 = parents.get(u);
+        long p2 = parents.get(v);
+        while (p1 != p2) {
+            final long high = Math.max(p1, p2);
+            final long low = Math.min(p1, p2);
+            final long parentOfHigh = parents.get(high);
+            if (parentOfHigh == low) {
+                return;
+            }
+            if (parentOfHigh == high && parents.compareAndSet(high, high, low)) {
+                return;
+            }
+            p1 = parents.get(parents.get(high));
+            p2 = parents.get(low);
+        }
+    }
+
+    /**
+     * points the node directly to its root, must not run concurrently with {@link #link(long, long)}
+     */
+    void compress(long node) {
+        long parent = parents.get(node);
+        long grandParent;
+        while (parent != (grandParent = parents.get(parent))) {
+            parents.set(node, grandParent);
+            parent = grandParent;
+        }
+    }
+
+    void release(AllocationTracker tracker) {
+        if (parents != null) {
+            tracker.remove(parents.release());
+        }
+        parents = null;
+    }
+}
@@ -0,0 +1,176 @@
+package org.neo4j.graphalgo.impl;
+
+import org.neo4j.graphalgo.api.HugeRelationshipConsumer;
+import org.neo4j.graphalgo.core.huge.HugeIdMap;
+import org.neo4j.graphalgo.core.huge.HugeRelationshipScanner;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.core.write.PropertyTranslator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Weakly connected components that are computed while the relationships are
+ * read from the store, without loading a graph.
+ * <p>
+ * Only the nodes are loaded into an id map. The {@link HugeRelationshipScanner}
+ * reads the relationships of batches of nodes in parallel and every relationship
+ * is linked into a {@link HugeParentForest} right away, so neither the adjacency
+ * nor a {@link org.neo4j.graphalgo.core.utils.dss.DisjointSetStruct} per batch
+ * is kept in memory. The scanner should load a single direction, since every
+ * relationship has to be seen only once.
+ */
+public final class HugeScanUnionFind extends Algorithm<HugeScanUnionFind> {
+
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+    private static final long MIN_BATCH_SIZE = 10_000L;
+
+    private HugeIdMap idMap;
+    private HugeRelationshipScanner scanner;
+    private final AllocationTracker tracker;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final long nodeCount;
+
+    private HugeParentForest parents;
+
+    private long setCount;
+
+    public HugeScanUnionFind(
+            HugeIdMap idMap,
+            HugeRelationshipScanner scanner,
+            AllocationTracker tracker,
+            ExecutorService executorService,
+            int concurrency) {
+        this.idMap = idMap;
+        this.scanner = scanner;
+        this.tracker = tracker;
+        this.executorService = executorService;
+        this.concurrency = Math.max(1, concurrency);
+        this.nodeCount = idMap.nodeCount();
+        this.parents = new HugeParentForest(nodeCount, tracker);
+    }
+
+    public HugeScanUnionFind compute() {
+        final long batchSize = ParallelUtil.adjustBatchSize(nodeCount, concurrency, MIN_BATCH_SIZE);
+        final List<CompressTask> tasks = new ArrayList<>();
+        for (long start = 0L; start < nodeCount; start += batchSize) {
+            tasks.add(new CompressTask(start, Math.min(nodeCount, start + batchSize)));
+        }
+        for (long node = 0L; node < nodeCount; node++) {
+            parents.init(node);
+        }
+
+        final HugeRelationshipConsumer linker = (sourceNodeId, targetNodeId) -> {
+            parents.link(sourceNodeId, targetNodeId);
+            return true;
+        };
+        scanner.scan(idMap, () -> linker);
+        assertRunning();
+        getProgressLogger().logProgress(1, 2);
+
+        ParallelUtil.run(tasks, executorService);
+        setCount = 0L;
+        for (CompressTask task : tasks) {
+            setCount += task.roots;
+        }
+        getProgressLogger().logDone();
+        return this;
+    }
+
+    /**
+     * the component of a node, which is the smallest mapped node id of the component
+     */
+    public long setId(long nodeId) {
+        return parents.parent(nodeId);
+    }
+
+    /**
+     * number of components found by the last computation
+     */
+    public long setCount() {
+        return setCount;
+    }
+
+    public void export(final String propertyName, final Exporter exporter) {
+        exporter.write(
+                propertyName,
+                this,
+                (PropertyTranslator.OfLong<HugeScanUnionFind>) HugeScanUnionFind::setId);
+    }
+
+    public Stream<Result> resultStream() {
+        return LongStream.range(0L, nodeCount)
+                .mapToObj(node -> new Result(idMap.toOriginalNodeId(node), parents.parent(node)));
+    }
+
+    @Override
+    public HugeScanUnionFind me() {
+        return this;
+    }
+
+    @Override
+    public HugeScanUnionFind release() {
+        if (parents != null) {
+            parents.release(tracker);
+        }
+        parents = null;
+        idMap = null;
+        scanner = null;
+        return this;
+    }
+
+    /**
+     * points the nodes of a range to their roots and counts the roots
+     */
+    private final class CompressTask implements Runnable {
+
+        private final long start;
+        private final long end;
+
+        private long roots;
+
+        private CompressTask(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            roots = 0L;
+            for (long node = start; node < end; node++) {
+                if (((node - start) & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                    return;
+                }
+                parents.compress(node);
+                if (parents.parent(node) == node) {
+                    roots++;
+                }
+            }
+        }
+    }
+
+    public static class Result {
+
+        /**
+         * the original node id
+         */
+        public final long nodeId;
+
+        /**
+         * the smallest mapped node id of the component
+         */
+        public final long setId;
+
+        public Result(long nodeId, long setId) {
+            this.nodeId = nodeId;
+            this.setId = setId;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.neo4j.graphalgo.impl;
 import com.carrotsearch.hppc.DoubleDoubleHashMap;
 import com.carrotsearch.hppc.IntDoubleHashMap;
 import com.carrotsearch.hppc.IntDoubleMap;
+import com.carrotsearch.hppc.LongArrayList;
 import com.carrotsearch.hppc.cursors.DoubleDoubleCursor;
 import org.neo4j.collection.primitive.PrimitiveIntIterable;
 import org.neo4j.collection.primitive.PrimitiveIntIterator;
@@ -10,8 +11,13 @@ import org.neo4j.graphalgo.api.RelationshipConsumer;
 import org.neo4j.graphalgo.core.heavyweight.HeavyGraph;
 import org.neo4j.graphalgo.core.utils.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.container.AtomicBitSet;
+import org.neo4j.graphalgo.core.utils.metrics.AlgorithmMetrics;
 import org.neo4j.graphdb.Direction;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.ExecutorService;
 
@@ -26,6 +32,15 @@ public final class LabelPropagation extends Algorithm<LabelPropagation> {
     private final ExecutorService executor;
     private final int nodeCount;
     private Direction direction;
+    private Direction reverseDirection;
+
+    private boolean activeSet = false;
+    // nodes to evaluate in the current iteration, all nodes if null
+    private AtomicBitSet active;
+    // nodes to evaluate in the next iteration
+    private AtomicBitSet nextActive;
+    // number of evaluated nodes per iteration
+    private final LongArrayList activeNodes = new LongArrayList();
 
     public LabelPropagation(
             HeavyGraph graph,
@@ -39,6 +54,27 @@ public final class LabelPropagation extends Algorithm<LabelPropagation> {
         this.executor = executor;
     }
 
+    /**
+     * Only evaluate the nodes again that have a neighbor whose label changed
+     * in the previous iteration, instead of all nodes in every iteration.
+     * The iterations stop early once no label changes anymore.
+     * <p>
+     * Changed nodes activate the nodes that read their label through the
+     * relationships in the opposite direction, so the graph must have been
+     * loaded with {@link Direction#BOTH}.
+     */
+    public LabelPropagation withActiveSet(boolean activeSet) {
+        this.activeSet = activeSet;
+        return this;
+    }
+
+    /**
+     * the number of nodes that have been evaluated in each iteration of the last computation
+     */
+    public long[] activeNodes() {
+        return activeNodes.toArray();
+    }
+
     public IntDoubleMap compute(
             Direction direction,
             long times) {
@@ -46,17 +82,39 @@ public final class LabelPropagation extends Algorithm<LabelPropagation> {
             throw new IllegalArgumentException("Must iterate at least 1 time");
         }
         this.direction = direction;
+        this.reverseDirection = direction.reverse();
+        activeNodes.clear();
+        active = null;
+        nextActive = activeSet ? new AtomicBitSet(nodeCount) : null;
 
-        final Collection<ComputeStep> computeSteps = ParallelUtil.readParallel(
-                concurrency,
-                batchSize,
-                graph,
-                (offset, nodes) -> new ComputeStep(batchSize, nodes),
-                executor);
+        final Collection<ComputeStep> computeSteps = new ArrayList<>();
+        for (PrimitiveIntIterable nodes : graph.batchIterables(batchSize)) {
+            computeSteps.add(new ComputeStep(batchSize, nodes));
+        }
 
-        for (long i = 1; i < times; i++) {
-            ParallelUtil.runWithConcurrency(concurrency, computeSteps, executor);
+        final AlgorithmMetrics metrics = getMetrics();
+        final Collection<? extends Runnable> tasks = metrics.timed(computeSteps);
+        for (long i = 0; i < times && running(); i++) {
+            if (activeSet && i > 0) {
+                if (activatedNodes(computeSteps) == 0L) {
+                    break;
+                }
+                final AtomicBitSet current = active != null ? active : new AtomicBitSet(nodeCount);
+                current.clear();
+                active = nextActive;
+                nextActive = current;
+            }
+            try (ProgressTimer timer = metrics.timeIteration()) {
+                ParallelUtil.runWithConcurrency(concurrency, tasks, executor);
+                metrics.addRelationships(scannedRelationships(computeSteps));
+            }
         }
+        // a terminated run leaves labels of an unfinished iteration behind
+        assertRunning();
+        // the counts of the last iteration
+        activatedNodes(computeSteps);
+        active = null;
+        nextActive = null;
         final IntDoubleMap labels = new IntDoubleHashMap(nodeCount);
         for (ComputeStep computeStep : computeSteps) {
             labels.putAll(computeStep.labels);
@@ -66,6 +124,31 @@ public final class LabelPropagation extends Algorithm<LabelPropagation> {
         return labels;
     }
 
+    private long scannedRelationships(Collection<ComputeStep> computeSteps) {
+        long relationships = 0L;
+        long evaluated = 0L;
+        for (ComputeStep computeStep : computeSteps) {
+            relationships += computeStep.relationships;
+            evaluated += computeStep.evaluated;
+            computeStep.relationships = 0L;
+            computeStep.evaluated = 0L;
+        }
+        activeNodes.add(evaluated);
+        return relationships;
+    }
+
+    /**
+     * number of nodes that have been activated for the next iteration
+     */
+    private static long activatedNodes(Collection<ComputeStep> computeSteps) {
+        long activated = 0L;
+        for (ComputeStep computeStep : computeSteps) {
+            activated += computeStep.activated;
+            computeStep.activated = 0L;
+        }
+        return activated;
+    }
+
     @Override
     public LabelPropagation me() {
         return this;
@@ -81,20 +164,41 @@ public final class LabelPropagation extends Algorithm<LabelPropagation> {
         private final PrimitiveIntIterable nodes;
         private final DoubleDoubleHashMap votes;
         private final IntDoubleHashMap labels;
+        private final RelationshipConsumer activate;
         private ProgressLogger progressLogger;
+        private long relationships;
+        private long evaluated;
+        private long activated;
 
         private ComputeStep(int nodeSize, PrimitiveIntIterable nodes) {
             this.nodes = nodes;
             votes = new DoubleDoubleHashMap();
             labels = new IntDoubleHashMap(nodeSize);
             progressLogger = getProgressLogger();
+            activate = (sourceNodeId, targetNodeId, relationId) -> {
+                if (nextActive.trySet(targetNodeId)) {
+                    activated++;
+                }
+                return true;
+            };
         }
 
         @Override
         public void run() {
             PrimitiveIntIterator iterator = nodes.iterator();
+            int computed = 0;
             while (iterator.hasNext()) {
-                compute(iterator.next());
+                if (++computed == TerminationFlag.RUN_CHECK_INTERVAL) {
+                    computed = 0;
+                    if (!running()) {
+                        return;
+                    }
+                }
+                final int nodeId = iterator.next();
+                if (active == null || active.get(nodeId)) {
+                    compute(nodeId);
+                    evaluated++;
+                }
             }
         }
 
@@ -112,6 +216,9 @@ public final class LabelPropagation extends Algorithm<LabelPropagation> {
             }
             if (partition != originalPartition) {
                 labels.put(nodeId, partition);
+                if (nextActive != null) {
+                    graph.forEachRelationship(nodeId, reverseDirection, activate);
+                }
             }
             progressLogger.logProgress((double) nodeId / (nodeCount - 1));
         }
@@ -121,6 +228,7 @@ public final class LabelPropagation extends Algorithm<LabelPropagation> {
                 final int sourceNodeId,
                 final int targetNodeId,
                 final long relationId) {
+            relationships++;
             double partition = partition(targetNodeId);
             double weight = graph.weightOf(sourceNodeId, targetNodeId) * graph.weightOf(targetNodeId);
             votes.addTo(partition, weight);
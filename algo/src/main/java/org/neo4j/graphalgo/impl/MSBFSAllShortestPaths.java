@@ -54,6 +54,8 @@ public class MSBFSAllShortestPaths extends Algorithm<MSBFSAllShortestPaths> {
                 try {
                     Result result = resultQueue.take();
                     if (result.sourceNodeId == -1) {
+                        // the traversal stops early on termination, do not end with a partial result
+                        assertRunning();
                         return done();
                     }
                     return result;
@@ -101,29 +103,32 @@ public class MSBFSAllShortestPaths extends Algorithm<MSBFSAllShortestPaths> {
 
             final ProgressLogger progressLogger = getProgressLogger();
 
-            new MultiSourceBFS(
-                    graph,
-                    graph,
-                    Direction.OUTGOING,
-                    (target, distance, sources) -> {
-                        while (sources.hasNext()) {
-                            int source = sources.next();
-                            final Result result = new Result(
-                                    graph.toOriginalNodeId(source),
-                                    graph.toOriginalNodeId(target),
-                                    distance);
-
-                            try {
-                                resultQueue.put(result);
-                            } catch (InterruptedException e) {
-                                throw new RuntimeException(e);
+            try {
+                new MultiSourceBFS(
+                        graph,
+                        graph,
+                        Direction.OUTGOING,
+                        (target, distance, sources) -> {
+                            while (sources.hasNext()) {
+                                int source = sources.next();
+                                final Result result = new Result(
+                                        graph.toOriginalNodeId(source),
+                                        graph.toOriginalNodeId(target),
+                                        distance);
+
+                                try {
+                                    resultQueue.put(result);
+                                } catch (InterruptedException e) {
+                                    throw new RuntimeException(e);
+                                }
                             }
-                        }
-                        progressLogger.logProgress((double) target / (nodeCount - 1));
-                    }
-            ).run(concurrency, executorService);
-
-            resultQueue.add(new Result(-1, -1, -1));
+                            progressLogger.logProgress((double) target / (nodeCount - 1));
+                        },
+                        MSBFSAllShortestPaths.this
+                ).run(concurrency, executorService);
+            } finally {
+                resultQueue.add(new Result(-1, -1, -1));
+            }
         }
     }
 
@@ -2,6 +2,8 @@ package org.neo4j.graphalgo.impl;
 
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.PagedAtomicDoubleArray;
 import org.neo4j.graphalgo.impl.msbfs.BfsConsumer;
 import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFS;
 import org.neo4j.graphdb.Direction;
@@ -13,6 +15,9 @@ import java.util.stream.Stream;
 
 /**
  * Normalized Closeness Centrality
+ * <p>
+ * If {@code harmonic} is set, the harmonic centrality
+ * ({@code sum(1 / distance) / (n - 1)}) is computed instead.
  *
  * @author mknblch
  */
@@ -20,30 +25,50 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality> {
 
     private Graph graph;
     private AtomicIntegerArray farness;
+    private PagedAtomicDoubleArray inverseFarness;
 
     private final int concurrency;
     private final ExecutorService executorService;
     private final int nodeCount;
+    private final boolean harmonic;
 
     public MSClosenessCentrality(Graph graph, int concurrency, ExecutorService executorService) {
+        this(graph, concurrency, executorService, false);
+    }
+
+    public MSClosenessCentrality(Graph graph, int concurrency, ExecutorService executorService, boolean harmonic) {
         this.graph = graph;
         nodeCount = Math.toIntExact(graph.nodeCount());
         this.concurrency = concurrency;
         this.executorService = executorService;
-        farness = new AtomicIntegerArray(nodeCount);
+        this.harmonic = harmonic;
+        if (harmonic) {
+            inverseFarness = PagedAtomicDoubleArray.newArray(nodeCount, AllocationTracker.EMPTY);
+        } else {
+            farness = new AtomicIntegerArray(nodeCount);
+        }
     }
 
     public MSClosenessCentrality compute() {
 
         final ProgressLogger progressLogger = getProgressLogger();
 
-        final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
-            int len = sourceNodeIds.size();
-            farness.addAndGet(nodeId, len * depth);
-            progressLogger.logProgress((double) nodeId / (nodeCount - 1));
-        };
+        final BfsConsumer consumer;
+        if (harmonic) {
+            consumer = (nodeId, depth, sourceNodeIds) -> {
+                int len = sourceNodeIds.size();
+                inverseFarness.add(nodeId, len / (double) depth);
+                progressLogger.logProgress((double) nodeId / (nodeCount - 1));
+            };
+        } else {
+            consumer = (nodeId, depth, sourceNodeIds) -> {
+                int len = sourceNodeIds.size();
+                farness.addAndGet(nodeId, len * depth);
+                progressLogger.logProgress((double) nodeId / (nodeCount - 1));
+            };
+        }
 
-        new MultiSourceBFS(graph, graph, Direction.OUTGOING, consumer)
+        new MultiSourceBFS(graph, graph, Direction.OUTGOING, consumer, this)
                 .run(concurrency, executorService);
 
         return this;
@@ -54,25 +79,28 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality> {
     }
 
     public double[] getCentrality() {
-        final int k = nodeCount - 1;
         final double[] centrality = new double[nodeCount];
         for (int i = 0; i < nodeCount; i++) {
-            final int far = farness.get(i);
-            if (far == 0) {
-                continue;
-            }
-            centrality[i] = k / (double) far;
+            centrality[i] = centrality(i);
         }
         return centrality;
     }
 
     public Stream<Result> resultStream() {
-        final double k = nodeCount - 1;
         return IntStream.range(0, nodeCount)
                 .mapToObj(nodeId ->
                         new Result(
                                 graph.toOriginalNodeId(nodeId),
-                                farness.get(nodeId) > 0 ? k / (double) farness.get(nodeId) : 0));
+                                centrality(nodeId)));
+    }
+
+    private double centrality(int nodeId) {
+        final double k = nodeCount - 1;
+        if (harmonic) {
+            return k > 0 ? inverseFarness.get(nodeId) / k : 0D;
+        }
+        final int far = farness.get(nodeId);
+        return far > 0 ? k / (double) far : 0D;
     }
 
     @Override
@@ -84,6 +112,7 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality> {
     public MSClosenessCentrality release() {
         graph = null;
         farness = null;
+        inverseFarness = null;
         return this;
     }
 
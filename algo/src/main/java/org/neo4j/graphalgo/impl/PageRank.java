@@ -1,7 +1,5 @@
 package org.neo4j.graphalgo.impl;
 
-import com.carrotsearch.hppc.IntArrayList;
-import org.neo4j.collection.primitive.PrimitiveIntIterator;
 import org.neo4j.graphalgo.api.Degrees;
 import org.neo4j.graphalgo.api.IdMapping;
 import org.neo4j.graphalgo.api.NodeIterator;
@@ -9,6 +7,9 @@ import org.neo4j.graphalgo.api.RelationshipConsumer;
 import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.core.utils.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.metrics.AlgorithmMetrics;
 import org.neo4j.graphalgo.core.write.DoubleArrayTranslator;
 import org.neo4j.graphalgo.core.write.Exporter;
 import org.neo4j.graphalgo.core.write.PropertyTranslator;
@@ -16,7 +17,7 @@ import org.neo4j.graphdb.Direction;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -69,8 +70,8 @@ import static org.neo4j.graphalgo.core.utils.ArrayUtil.binaryLookup;
  * Every partition should have about the same number of relationships to operate on.
  * This is done to avoid having one partition with super nodes and instead have
  * all partitions run in approximately equal time.
- * Smaller partitions are merged down until we have at most {@code concurrency} partitions,
- * in order to batch partitions and keep the number of threads in use predictable/configurable.
+ * There are at most {@code concurrency} partitions, in order to keep the number
+ * of threads in use predictable/configurable, see {@link ParallelUtil#degreePartitions(int, Degrees, Direction, int, int)}.
  * <p>
  * [1]: <a href="http://delab.csd.auth.gr/~dimitris/courses/ir_spring06/page_rank_computing/01531136.pdf">An Efficient Partition-Based Parallel PageRank Algorithm</a><br>
  * [2]: <a href="https://www.cs.purdue.edu/homes/dgleich/publications/gleich2004-parallel.pdf">Fast Parallel PageRank: A Linear System Approach</a>
@@ -114,16 +115,21 @@ public class PageRank extends Algorithm<PageRank> implements PageRankAlgorithm {
             RelationshipIterator relationshipIterator,
             Degrees degrees,
             double dampingFactor) {
-        List<Partition> partitions;
+        if (concurrency <= 0) {
+            concurrency = Pools.DEFAULT_CONCURRENCY;
+        }
+        int nodeCount = Math.toIntExact(idMapping.nodeCount());
+        int[] partitions;
         if (ParallelUtil.canRunInParallel(executor)) {
-            partitions = partitionGraph(
-                    adjustBatchSize(batchSize),
-                    idMapping,
-                    nodeIterator,
-                    degrees);
+            partitions = ParallelUtil.degreePartitions(
+                    nodeCount,
+                    degrees,
+                    Direction.OUTGOING,
+                    concurrency,
+                    adjustBatchSize(batchSize));
         } else {
             executor = null;
-            partitions = createSinglePartition(idMapping, degrees);
+            partitions = new int[]{0, nodeCount};
         }
 
         computeSteps = createComputeSteps(
@@ -142,6 +148,8 @@ public class PageRank extends Algorithm<PageRank> implements PageRankAlgorithm {
     public PageRank compute(int iterations) {
         assert iterations >= 1;
         computeSteps.run(iterations);
+        // a terminated run leaves partially synchronized ranks behind
+        assertRunning();
         return this;
     }
 
@@ -163,86 +171,33 @@ public class PageRank extends Algorithm<PageRank> implements PageRankAlgorithm {
         return batchSize > 0 ? batchSize : Integer.MAX_VALUE;
     }
 
-    private List<Partition> partitionGraph(
-            int batchSize,
-            IdMapping idMapping,
-            NodeIterator nodeIterator,
-            Degrees degrees) {
-        int nodeCount = Math.toIntExact(idMapping.nodeCount());
-        PrimitiveIntIterator nodes = nodeIterator.nodeIterator();
-        List<Partition> partitions = new ArrayList<>();
-        int start = 0;
-        while (nodes.hasNext()) {
-            Partition partition = new Partition(
-                    nodeCount,
-                    nodes,
-                    degrees,
-                    start,
-                    batchSize);
-            partitions.add(partition);
-            start += partition.nodeCount;
-        }
-        return partitions;
-    }
-
-    private List<Partition> createSinglePartition(
-            IdMapping idMapping,
-            Degrees degrees) {
-        return Collections.singletonList(
-                new Partition(
-                        Math.toIntExact(idMapping.nodeCount()),
-                        null,
-                        degrees,
-                        0,
-                        -1
-                )
-        );
-    }
-
     private ComputeSteps createComputeSteps(
             int concurrency,
             double dampingFactor,
             RelationshipIterator relationshipIterator,
             Degrees degrees,
-            List<Partition> partitions,
+            int[] partitions,
             ExecutorService pool) {
-        if (concurrency <= 0) {
-            concurrency = Pools.DEFAULT_QUEUE_SIZE;
-        }
-        final int expectedParallelism = Math.min(
-                concurrency,
-                partitions.size());
-        List<ComputeStep> computeSteps = new ArrayList<>(expectedParallelism);
-        IntArrayList starts = new IntArrayList(expectedParallelism);
-        IntArrayList lengths = new IntArrayList(expectedParallelism);
-        int partitionsPerThread = ParallelUtil.threadSize(
-                concurrency + 1,
-                partitions.size());
-        Iterator<Partition> parts = partitions.iterator();
-
-        while (parts.hasNext()) {
-            Partition partition = parts.next();
-            int partitionCount = partition.nodeCount;
-            int start = partition.startNode;
-            for (int i = 1; i < partitionsPerThread && parts.hasNext(); i++) {
-                partition = parts.next();
-                partitionCount += partition.nodeCount;
-            }
-
-            starts.add(start);
-            lengths.add(partitionCount);
+        int stepCount = partitions.length - 1;
+        List<ComputeStep> computeSteps = new ArrayList<>(stepCount);
+        int[] startArray = new int[stepCount];
+        int[] lengthArray = new int[stepCount];
+        for (int i = 0; i < stepCount; i++) {
+            int start = partitions[i];
+            int partitionCount = partitions[i + 1] - start;
+            startArray[i] = start;
+            lengthArray[i] = partitionCount;
 
             computeSteps.add(new ComputeStep(
                     dampingFactor,
                     relationshipIterator,
                     degrees,
+                    this,
                     partitionCount,
                     start
             ));
         }
 
-        int[] startArray = starts.toArray();
-        int[] lengthArray = lengths.toArray();
         for (ComputeStep computeStep : computeSteps) {
             computeStep.setStarts(startArray, lengthArray);
         }
@@ -260,36 +215,6 @@ public class PageRank extends Algorithm<PageRank> implements PageRankAlgorithm {
         return this;
     }
 
-    private static final class Partition {
-
-        private final int startNode;
-        private final int nodeCount;
-
-        Partition(
-                int allNodeCount,
-                PrimitiveIntIterator nodes,
-                Degrees degrees,
-                int startNode,
-                int batchSize) {
-
-            int nodeCount;
-            int partitionSize = 0;
-            if (batchSize > 0) {
-                nodeCount = 0;
-                while (partitionSize < batchSize && nodes.hasNext()) {
-                    int nodeId = nodes.next();
-                    ++nodeCount;
-                    partitionSize += degrees.degree(nodeId, Direction.OUTGOING);
-                }
-            } else {
-                nodeCount = allNodeCount;
-            }
-
-            this.startNode = startNode;
-            this.nodeCount = nodeCount;
-        }
-    }
-
     private final class ComputeSteps {
         private final int concurrency;
         private List<ComputeStep> steps;
@@ -324,24 +249,36 @@ public class PageRank extends Algorithm<PageRank> implements PageRankAlgorithm {
         }
 
         private void run(int iterations) {
+            AlgorithmMetrics metrics = getMetrics();
+            Collection<? extends Runnable> tasks = metrics.timed(steps);
             // initialize data structures
-            ParallelUtil.runWithConcurrency(concurrency, steps, pool);
+            ParallelUtil.runWithConcurrency(concurrency, tasks, pool);
             for (int i = 0; i < iterations && running(); i++) {
-                // calculate scores
-                ParallelUtil.runWithConcurrency(concurrency, steps, pool);
-                synchronizeScores();
-                // sync scores
-                ParallelUtil.runWithConcurrency(concurrency, steps, pool);
+                try (ProgressTimer timer = metrics.timeIteration()) {
+                    // calculate scores
+                    ParallelUtil.runWithConcurrency(concurrency, tasks, pool);
+                    metrics.addRelationships(synchronizeScores());
+                    // sync scores
+                    ParallelUtil.runWithConcurrency(concurrency, tasks, pool);
+                }
             }
         }
 
-        private void synchronizeScores() {
+        /**
+         * @return the number of relationships scanned in the last iteration
+         */
+        private long synchronizeScores() {
             int stepSize = steps.size();
             int[][][] scores = this.scores;
+            long relationships = 0L;
             int i;
             for (i = 0; i < stepSize; i++) {
-                synchronizeScores(steps.get(i), i, scores);
+                ComputeStep step = steps.get(i);
+                synchronizeScores(step, i, scores);
+                relationships += step.relationships;
+                step.relationships = 0L;
             }
+            return relationships;
         }
 
         private void synchronizeScores(
@@ -373,6 +310,7 @@ public class PageRank extends Algorithm<PageRank> implements PageRankAlgorithm {
         private int[] lengths;
         private final RelationshipIterator relationshipIterator;
         private final Degrees degrees;
+        private final TerminationFlag terminationFlag;
 
         private final double alpha;
         private final double dampingFactor;
@@ -387,17 +325,20 @@ public class PageRank extends Algorithm<PageRank> implements PageRankAlgorithm {
         private final int endNode;
 
         private int srcRankDelta = 0;
+        private long relationships = 0L;
 
         ComputeStep(
                 double dampingFactor,
                 RelationshipIterator relationshipIterator,
                 Degrees degrees,
+                TerminationFlag terminationFlag,
                 int partitionSize,
                 int startNode) {
             this.dampingFactor = dampingFactor;
             this.alpha = 1.0 - dampingFactor;
             this.relationshipIterator = relationshipIterator;
             this.degrees = degrees;
+            this.terminationFlag = terminationFlag;
             this.partitionSize = partitionSize;
             this.startNode = startNode;
             this.endNode = startNode + partitionSize;
@@ -438,6 +379,7 @@ public class PageRank extends Algorithm<PageRank> implements PageRankAlgorithm {
             int startNode = this.startNode;
             int endNode = this.endNode;
             RelationshipIterator rels = this.relationshipIterator;
+            int scanned = 0;
             for (int nodeId = startNode; nodeId < endNode; ++nodeId) {
                 double delta = deltas[nodeId - startNode];
                 if (delta > 0) {
@@ -445,6 +387,14 @@ public class PageRank extends Algorithm<PageRank> implements PageRankAlgorithm {
                     if (degree > 0) {
                         srcRankDelta = (int) (100_000 * (delta / degree));
                         rels.forEachRelationship(nodeId, Direction.OUTGOING, this);
+                        relationships += degree;
+                        scanned += degree;
+                        if (scanned >= TerminationFlag.RUN_CHECK_INTERVAL) {
+                            scanned = 0;
+                            if (!terminationFlag.running()) {
+                                return;
+                            }
+                        }
                     }
                 }
             }
@@ -14,6 +14,14 @@ public interface PageRankAlgorithm {
 
     Algorithm<?> algorithm();
 
+    /**
+     * a rough estimate of the heap the computation takes, without the graph
+     */
+    static long memoryEstimation(long nodeCount, int concurrency) {
+        // ranks and deltas, and the scores every partition sends to all nodes
+        return nodeCount * (2L * Double.BYTES + (long) concurrency * Integer.BYTES);
+    }
+
     static PageRankAlgorithm of(
         Graph graph,
         double dampingFactor) {
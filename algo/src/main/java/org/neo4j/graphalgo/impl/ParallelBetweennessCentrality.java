@@ -5,6 +5,7 @@ import com.carrotsearch.hppc.IntStack;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.AtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.container.Paths;
 import org.neo4j.graphdb.Direction;
 
@@ -25,11 +26,13 @@ import java.util.stream.Stream;
  */
 public class ParallelBetweennessCentrality extends Algorithm<ParallelBetweennessCentrality> {
 
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+
     // the graph
     private Graph graph;
     // AI counts up for every node until nodeCount is reached
     private volatile AtomicInteger nodeQueue = new AtomicInteger();
-    // atomic double array which supports only atomic-add
+    // exact atomic double array, the shared result
     private AtomicDoubleArray centrality;
     // the node count
     private final int nodeCount;
@@ -39,21 +42,40 @@ public class ParallelBetweennessCentrality extends Algorithm<ParallelBetweenness
     private final int concurrency;
     private Direction direction = Direction.OUTGOING;
     private double divisor = 1.0;
+    // sum into a local array per task and reduce them at the end
+    private boolean localAccumulation = false;
 
     /**
      * constructs a parallel centrality solver
      *
      * @param graph the graph iface
-     * @param scaleFactor factor used to scale up doubles to integers in AtomicDoubleArray
      * @param executorService the executor service
      * @param concurrency desired number of threads to spawn
      */
-    public ParallelBetweennessCentrality(Graph graph, double scaleFactor, ExecutorService executorService, int concurrency) {
+    public ParallelBetweennessCentrality(Graph graph, ExecutorService executorService, int concurrency) {
         this.graph = graph;
         this.nodeCount = Math.toIntExact(graph.nodeCount());
         this.executorService = executorService;
         this.concurrency = concurrency;
-        this.centrality = new AtomicDoubleArray(nodeCount, scaleFactor);
+        this.centrality = new AtomicDoubleArray(nodeCount);
+    }
+
+    /**
+     * @deprecated the centrality is stored exactly, the scale factor is ignored
+     */
+    @Deprecated
+    public ParallelBetweennessCentrality(Graph graph, double scaleFactor, ExecutorService executorService, int concurrency) {
+        this(graph, executorService, concurrency);
+    }
+
+    /**
+     * Let every task sum the centrality in its own array and add those arrays
+     * to the result once all tasks are done, instead of a CAS on the shared
+     * array for every dependency. This takes one double per node and task.
+     */
+    public ParallelBetweennessCentrality withLocalAccumulation(boolean localAccumulation) {
+        this.localAccumulation = localAccumulation;
+        return this;
     }
 
     public ParallelBetweennessCentrality withDirection(Direction direction) {
@@ -70,13 +92,33 @@ public class ParallelBetweennessCentrality extends Algorithm<ParallelBetweenness
     public ParallelBetweennessCentrality compute() {
         nodeQueue.set(0);
         final ArrayList<Future<?>> futures = new ArrayList<>();
+        final ArrayList<BCTask> tasks = new ArrayList<>();
         for (int i = 0; i < concurrency; i++) {
-            futures.add(executorService.submit(new BCTask()));
+            final BCTask task = new BCTask();
+            tasks.add(task);
+            futures.add(executorService.submit(task));
         }
         ParallelUtil.awaitTermination(futures);
+        // a terminated run leaves the centrality of some start nodes half accumulated
+        assertRunning();
+        if (localAccumulation) {
+            reduce(tasks);
+        }
         return this;
     }
 
+    private void reduce(ArrayList<BCTask> tasks) {
+        ParallelUtil.iterateParallel(executorService, nodeCount, concurrency, node -> {
+            double sum = 0.0;
+            for (BCTask task : tasks) {
+                sum += task.localCentrality[node];
+            }
+            if (sum != 0.0) {
+                centrality.add(node, sum);
+            }
+        });
+    }
+
     /**
      * get the centrality array
      *
@@ -123,6 +165,7 @@ public class ParallelBetweennessCentrality extends Algorithm<ParallelBetweenness
         private final double[] delta;
         private final int[] sigma;
         private final int[] distance;
+        private final double[] localCentrality;
 
         private BCTask() {
             this.paths = new Paths();
@@ -131,6 +174,7 @@ public class ParallelBetweennessCentrality extends Algorithm<ParallelBetweenness
             this.sigma = new int[nodeCount];
             this.distance = new int[nodeCount];
             this.delta = new double[nodeCount];
+            this.localCentrality = localAccumulation ? new double[nodeCount] : null;
         }
 
         @Override
@@ -145,7 +189,11 @@ public class ParallelBetweennessCentrality extends Algorithm<ParallelBetweenness
                 sigma[startNodeId] = 1;
                 distance[startNodeId] = 0;
                 queue.addLast(startNodeId);
+                int visited = 0;
                 while (!queue.isEmpty()) {
+                    if ((++visited & RUN_CHECK_MASK) == 0 && !running()) {
+                        return;
+                    }
                     int node = queue.removeFirst();
                     stack.push(node);
                     graph.forEachRelationship(node, direction, (source, target, relationId) -> {
@@ -162,13 +210,20 @@ public class ParallelBetweennessCentrality extends Algorithm<ParallelBetweenness
                 }
 
                 while (!stack.isEmpty()) {
+                    if ((--visited & RUN_CHECK_MASK) == 0 && !running()) {
+                        return;
+                    }
                     int node = stack.pop();
                     paths.forEach(node, v -> {
                         delta[v] += (double) sigma[v] / (double) sigma[node] * (delta[node] + 1.0);
                         return true;
                     });
                     if (node != startNodeId) {
-                        centrality.addCapped(node, delta[node] / divisor);
+                        if (localCentrality != null) {
+                            localCentrality[node] += delta[node] / divisor;
+                        } else {
+                            centrality.add(node, delta[node] / divisor);
+                        }
                     }
                 }
             }
@@ -7,11 +7,10 @@ import org.neo4j.graphdb.Direction;
 
 import java.util.*;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveTask;
 
 /**
- * parallel UnionFind using ExecutorService and common ForkJoin-Pool.
+ * parallel UnionFind using ExecutorService and ForkJoin-Pool.
  * <p>
  * Implementation based on the idea that DisjointSetStruct can be built using
  * just a partition of the nodes which then can be merged pairwise.
@@ -71,7 +70,7 @@ public class ParallelUnionFindFJMerge extends Algorithm<ParallelUnionFindFJMerge
         }
         final Stack<DisjointSetStruct> temp = new Stack<>();
         ufProcesses.forEach(uf -> temp.add(uf.struct));
-        struct = ForkJoinPool.commonPool().invoke(new Merge(temp));
+        struct = ParallelUtil.forkJoinPool(executor).invoke(new Merge(temp));
     }
 
     public DisjointSetStruct getStruct() {
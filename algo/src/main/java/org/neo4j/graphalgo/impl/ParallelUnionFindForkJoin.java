@@ -6,11 +6,11 @@ import org.neo4j.graphalgo.core.utils.dss.DisjointSetStruct;
 import org.neo4j.graphdb.Direction;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveTask;
 
 /**
- * parallel UnionFind using common ForkJoin-Pool only.
+ * parallel UnionFind using ForkJoin-Pool only, either the given executor
+ * if it is a ForkJoin-Pool or the common pool.
  * <p>
  * Implementation based on the idea that DisjointSetStruct can be built using
  * just a partition of the nodes which then can be merged pairwise.
@@ -48,13 +48,13 @@ public class ParallelUnionFindForkJoin extends Algorithm<ParallelUnionFindForkJo
 
     public ParallelUnionFindForkJoin compute() {
 
-        struct = ForkJoinPool.commonPool().invoke(new UnionFindTask(0));
+        struct = ParallelUtil.forkJoinPool(executor).invoke(new UnionFindTask(0));
         return this;
     }
 
 
     public ParallelUnionFindForkJoin compute(double threshold) {
-        struct = ForkJoinPool.commonPool().invoke(new ThresholdUFTask(0, threshold));
+        struct = ParallelUtil.forkJoinPool(executor).invoke(new ThresholdUFTask(0, threshold));
         return this;
     }
 
@@ -2,6 +2,7 @@ package org.neo4j.graphalgo.impl;
 
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.dss.DisjointSetStruct;
 import org.neo4j.graphdb.Direction;
 
@@ -23,6 +24,8 @@ import java.util.concurrent.*;
  */
 public class ParallelUnionFindQueue extends Algorithm<ParallelUnionFindQueue> {
 
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+
     private Graph graph;
     private final ExecutorService executor;
     private final int nodeCount;
@@ -110,6 +113,10 @@ public class ParallelUnionFindQueue extends Algorithm<ParallelUnionFindQueue> {
         public void run() {
             final DisjointSetStruct struct = new DisjointSetStruct(nodeCount).reset();
             for (int node = offset; node < end; node++) {
+                // the struct is queued anyway, otherwise the merging tasks wait forever
+                if (((node - offset) & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                    break;
+                }
                 graph.forEachRelationship(node, Direction.OUTGOING, (sourceNodeId, targetNodeId, relationId) -> {
                     if (!struct.connected(sourceNodeId, targetNodeId)) {
                         struct.union(sourceNodeId, targetNodeId);
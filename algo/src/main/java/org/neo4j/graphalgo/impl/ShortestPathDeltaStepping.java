@@ -1,7 +1,9 @@
 package org.neo4j.graphalgo.impl;
 
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipCursor;
 import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.container.Buckets;
 import org.neo4j.graphdb.Direction;
 
@@ -31,6 +33,8 @@ import java.util.stream.Stream;
  */
 public class ShortestPathDeltaStepping extends Algorithm<ShortestPathDeltaStepping> {
 
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+
     // distance array
     private AtomicIntegerArray distance;
     // bucket impl
@@ -46,6 +50,8 @@ public class ShortestPathDeltaStepping extends Algorithm<ShortestPathDeltaSteppi
     private final int nodeCount;
     // scaled delta
     private int iDelta;
+    // nodes taken from the buckets, to check for termination every now and then
+    private int scanned;
 
     private ExecutorService executorService;
 
@@ -103,6 +109,7 @@ public class ShortestPathDeltaStepping extends Algorithm<ShortestPathDeltaSteppi
             distance.set(i, Integer.MAX_VALUE);
         }
         buckets.reset();
+        final RelationshipCursor cursor = graph.newRelationshipCursor();
 
         // basically assign start node to bucket 0
         relax(graph.toMappedNodeId(startNode), 0);
@@ -119,20 +126,27 @@ public class ShortestPathDeltaStepping extends Algorithm<ShortestPathDeltaSteppi
             // for each node in bucket
             buckets.forEachInBucket(phase, node -> {
                 // relax each outgoing light edge
-                graph.forEachRelationship(node, Direction.OUTGOING, (sourceNodeId, targetNodeId, relationId, cost) -> {
-                    final int iCost = (int) (cost * multiplier + distance.get(sourceNodeId));
+                cursor.reset(node, Direction.OUTGOING);
+                while (cursor.next()) {
+                    final int targetNodeId = cursor.targetNodeId;
+                    final double cost = cursor.weight();
+                    final int iCost = (int) (cost * multiplier + distance.get(node));
                     if (cost <= delta) { // determine if light or heavy edge
                         light.add(() -> relax(targetNodeId, iCost));
                     } else {
                         heavy.add(() -> relax(targetNodeId, iCost));
                     }
-                    return true;
-                });
-                return true;
+                }
+                return (++scanned & RUN_CHECK_MASK) != 0 || running();
             });
+            if (!running()) {
+                break;
+            }
             ParallelUtil.run(light, executorService, futures);
             ParallelUtil.run(heavy, executorService, futures);
         }
+        // a terminated run leaves distances that are not the shortest ones
+        assertRunning();
         return this;
     }
 
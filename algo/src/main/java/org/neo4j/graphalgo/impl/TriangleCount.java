@@ -1,6 +1,7 @@
 package org.neo4j.graphalgo.impl;
 
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipCursor;
 import org.neo4j.graphalgo.core.utils.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
@@ -8,6 +9,7 @@ import org.neo4j.graphdb.Direction;
 
 import java.util.ArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.stream.IntStream;
@@ -77,13 +79,21 @@ public class TriangleCount extends Algorithm<TriangleCount> {
         triangleCount.set(0);
         averageClusteringCoefficient = 0.0;
         final ArrayList<Task> tasks = new ArrayList<>();
-        final int batchSize = ParallelUtil.adjustBatchSize(nodeCount, concurrency, 1);
-        for (int i = 0; i < nodeCount; i += batchSize) {
-            // partition
-            tasks.add(new Task(i, Math.min(i + batchSize, nodeCount)));
+        // partition by degree, the work per node grows with its degree
+        final int[] starts = ParallelUtil.degreePartitions(nodeCount, graph, D, concurrency);
+        for (int i = 0; i < starts.length - 1; i++) {
+            tasks.add(new Task(starts[i], starts[i + 1]));
         }
-        // run
-        ParallelUtil.run(tasks, executorService);
+        // run, retrying while the pool is busy so that no partition is dropped
+        ParallelUtil.runWithConcurrency(
+                concurrency,
+                tasks,
+                1,
+                TimeUnit.MILLISECONDS,
+                getTerminationFlag(),
+                executorService);
+        // a terminated run leaves the triangles of some partitions uncounted
+        assertRunning();
         return this;
     }
 
@@ -132,33 +142,46 @@ public class TriangleCount extends Algorithm<TriangleCount> {
         public void run() {
             final TerminationFlag flag = getTerminationFlag();
             final ProgressLogger progressLogger = getProgressLogger();
+            final RelationshipCursor uCursor = graph.newRelationshipCursor();
+            final RelationshipCursor vCursor = graph.newRelationshipCursor();
+            final RelationshipCursor wCursor = graph.newRelationshipCursor();
             for (int i = startIndex; i < endIndex; i++) {
+                if (!flag.running()) {
+                    return;
+                }
                 // (u, v, w)
-                graph.forEachRelationship(i, D, (u, v, relationId) -> {
+                uCursor.reset(i, D);
+                nextV:
+                while (uCursor.next()) {
+                    final int u = uCursor.sourceNodeId;
+                    final int v = uCursor.targetNodeId;
                     if (u >= v) {
-                        return true;
+                        continue;
                     }
                     if (!flag.running()) {
-                        return false;
+                        break;
                     }
-                    graph.forEachRelationship(v, D, (v2, w, relationId2) -> {
-                        if (v2 >= w) {
-                            return true;
+                    vCursor.reset(v, D);
+                    while (vCursor.next()) {
+                        final int w = vCursor.targetNodeId;
+                        if (v >= w) {
+                            continue;
                         }
                         if (!flag.running()) {
-                            return false;
+                            continue nextV;
                         }
-                        graph.forEachRelationship(w, D, (sourceNodeId3, t, relationId3) -> {
-                            if (t == u) {
+                        wCursor.reset(w, D);
+                        while (wCursor.next()) {
+                            if (wCursor.targetNodeId == u) {
                                 exportTriangle(u, v, w);
-                                return false;
+                                break;
                             }
-                            return flag.running();
-                        });
-                        return true;
-                    });
-                    return true;
-                });
+                            if (!flag.running()) {
+                                break;
+                            }
+                        }
+                    }
+                }
                 progressLogger.logProgress(visitedNodes.incrementAndGet(), nodeCount);
             }
         }
@@ -0,0 +1,440 @@
+package org.neo4j.graphalgo.impl.bfs;
+
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.api.HugeRelationshipConsumer;
+import org.neo4j.graphalgo.api.HugeRelationshipIterator;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.IntArray;
+import org.neo4j.graphalgo.core.utils.paged.LongArray;
+import org.neo4j.graphalgo.core.utils.paged.PagedAtomicLongArray;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.core.write.PropertyTranslator;
+import org.neo4j.graphalgo.impl.Algorithm;
+import org.neo4j.graphdb.Direction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Level synchronous parallel breadth first search on a {@link HugeGraph}
+ * after Beamer et al., "Direction-Optimizing Breadth-First Search".
+ * <p>
+ * A level is expanded top-down by default: the threads take chunks of the
+ * frontier and claim the unvisited neighbors of its nodes by setting their
+ * parent with a CAS. Every thread reserves chunks of the next frontier and
+ * writes the nodes it claimed right into them. The unused rest of the last
+ * chunk of a thread is marked as {@link #UNVISITED} and skipped when the
+ * frontier is read.
+ * <p>
+ * Once the relationships of the frontier make up a large part of the
+ * relationships of the unvisited nodes, levels are expanded bottom-up instead:
+ * every unvisited node searches its relationships in the reverse direction for
+ * a node of the frontier and stops at the first one it finds. Frontier nodes
+ * are recognized by their depth, so no frontier bitmap is needed. When the
+ * frontier gets small again, the search switches back to top-down.
+ * <p>
+ * The bottom-up step reads the relationships in the reverse direction, it is
+ * only used if the graph has been loaded with them and
+ * {@link #withDirectionOptimization(boolean)} is enabled.
+ */
+public final class HugeParallelBFS extends Algorithm<HugeParallelBFS> {
+
+    public static final int UNVISITED = -1;
+
+    // go bottom-up once the frontier has more than 1/ALPHA of the unexplored relationships
+    private static final long ALPHA = 15L;
+    // go top-down again once a shrinking frontier has less than 1/BETA of all nodes
+    private static final long BETA = 18L;
+    private static final long TOP_DOWN_BATCH_SIZE = 64L;
+    private static final long BOTTOM_UP_BATCH_SIZE = 4096L;
+    private static final long FRONTIER_CHUNK_SIZE = 64L;
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+
+    private HugeGraph graph;
+    private final AllocationTracker tracker;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final long nodeCount;
+
+    private Direction direction = Direction.OUTGOING;
+    private boolean directionOptimization = false;
+    private int maxDepth = Integer.MAX_VALUE;
+
+    // the node a node has been discovered from, the start node is its own parent
+    private PagedAtomicLongArray parents;
+    private IntArray depths;
+    private LongArray frontier;
+    private LongArray nextFrontier;
+    // the number of nodes in the frontier
+    private long frontierSize;
+    // the end of the written chunks of the frontier, including unused slots
+    private long frontierEnd;
+    private int level;
+
+    // next batch of the frontier or the nodes that is taken by a task
+    private final AtomicLong batchOffset = new AtomicLong();
+    // next chunk of the next frontier that is reserved by a task
+    private final AtomicLong nextFrontierEnd = new AtomicLong();
+
+    private long visitedNodes;
+    private int depth;
+    private int bottomUpLevels;
+
+    public HugeParallelBFS(
+            HugeGraph graph,
+            AllocationTracker tracker,
+            ExecutorService executorService,
+            int concurrency) {
+        this.graph = graph;
+        this.tracker = tracker;
+        this.executorService = executorService;
+        this.concurrency = Math.max(1, concurrency);
+        this.nodeCount = graph.nodeCount();
+        this.parents = PagedAtomicLongArray.newArray(nodeCount, tracker);
+        this.depths = IntArray.newArray(nodeCount, tracker);
+    }
+
+    /**
+     * the direction of the relationships that are followed, defaults to {@link Direction#OUTGOING}
+     */
+    public HugeParallelBFS withDirection(Direction direction) {
+        this.direction = direction;
+        return this;
+    }
+
+    /**
+     * Switch between top-down and bottom-up levels.
+     * The graph must contain the relationships in the reverse direction.
+     */
+    public HugeParallelBFS withDirectionOptimization(boolean directionOptimization) {
+        this.directionOptimization = directionOptimization;
+        return this;
+    }
+
+    /**
+     * stop after the nodes with the given depth have been visited
+     */
+    public HugeParallelBFS withMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * traverses the graph from the given mapped node id
+     */
+    public HugeParallelBFS compute(long startNode) {
+        final long totalRelationships = initialize();
+        // every task leaves at most one chunk partly unused
+        final long frontierCapacity = nodeCount + concurrency * FRONTIER_CHUNK_SIZE;
+        frontier = LongArray.newArray(frontierCapacity, tracker);
+        nextFrontier = LongArray.newArray(frontierCapacity, tracker);
+
+        final List<TraverseTask> tasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new TraverseTask());
+        }
+
+        parents.set(startNode, startNode);
+        depths.set(startNode, 0);
+        frontier.set(0L, startNode);
+        frontierSize = 1L;
+        frontierEnd = 1L;
+        visitedNodes = 1L;
+        depth = 0;
+        bottomUpLevels = 0;
+        long frontierRelationships = graph.degree(startNode, direction);
+        long unexploredRelationships = totalRelationships - frontierRelationships;
+        long previousFrontierSize = 0L;
+        boolean bottomUp = false;
+
+        for (level = 0; level < maxDepth && frontierSize > 0L; level++) {
+            if (!running()) {
+                break;
+            }
+            if (directionOptimization) {
+                if (!bottomUp) {
+                    bottomUp = frontierRelationships > unexploredRelationships / ALPHA;
+                } else {
+                    bottomUp = frontierSize >= previousFrontierSize || frontierSize >= nodeCount / BETA;
+                }
+            }
+            if (bottomUp) {
+                bottomUpLevels++;
+            }
+
+            batchOffset.set(0L);
+            nextFrontierEnd.set(0L);
+            for (TraverseTask task : tasks) {
+                task.bottomUp = bottomUp;
+            }
+            ParallelUtil.run(tasks, executorService);
+
+            long size = 0L;
+            frontierRelationships = 0L;
+            for (TraverseTask task : tasks) {
+                size += task.discoveredNodes;
+                frontierRelationships += task.discoveredRelationships;
+            }
+
+            final LongArray current = frontier;
+            frontier = nextFrontier;
+            nextFrontier = current;
+            previousFrontierSize = frontierSize;
+            frontierSize = size;
+            frontierEnd = nextFrontierEnd.get();
+            unexploredRelationships -= frontierRelationships;
+            visitedNodes += size;
+            if (size > 0L) {
+                depth = level + 1;
+            }
+            getProgressLogger().logProgress(visitedNodes, nodeCount);
+        }
+
+        tracker.remove(frontier.release());
+        tracker.remove(nextFrontier.release());
+        frontier = null;
+        nextFrontier = null;
+        // tasks of a terminated level leave part of its frontier unexpanded
+        assertRunning();
+        return this;
+    }
+
+    /**
+     * resets all nodes to unvisited
+     *
+     * @return the number of relationships in the traversal direction
+     */
+    private long initialize() {
+        final long batchSize = ParallelUtil.adjustBatchSize(nodeCount, concurrency, BOTTOM_UP_BATCH_SIZE);
+        final List<InitTask> tasks = new ArrayList<>();
+        for (long start = 0L; start < nodeCount; start += batchSize) {
+            tasks.add(new InitTask(start, Math.min(nodeCount, start + batchSize)));
+        }
+        ParallelUtil.run(tasks, executorService);
+        long relationships = 0L;
+        for (InitTask task : tasks) {
+            relationships += task.relationships;
+        }
+        return relationships;
+    }
+
+    /**
+     * the depth of the node or {@link #UNVISITED}
+     */
+    public int depth(long nodeId) {
+        return depths.get(nodeId);
+    }
+
+    /**
+     * the mapped id of the node the given node has been discovered from,
+     * the start node is its own parent
+     */
+    public long parent(long nodeId) {
+        return parents.get(nodeId);
+    }
+
+    /**
+     * number of visited nodes in the last traversal
+     */
+    public long visitedNodes() {
+        return visitedNodes;
+    }
+
+    /**
+     * the largest depth of a visited node in the last traversal
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * number of levels of the last traversal that have been expanded bottom-up
+     */
+    public int bottomUpLevels() {
+        return bottomUpLevels;
+    }
+
+    public void export(final String propertyName, final Exporter exporter) {
+        exporter.write(
+                propertyName,
+                this,
+                (PropertyTranslator.OfOptionalInt<HugeParallelBFS>) HugeParallelBFS::depth);
+    }
+
+    /**
+     * the visited nodes with their depth and parent
+     */
+    public Stream<Result> resultStream() {
+        return LongStream.range(0L, nodeCount)
+                .filter(node -> depths.get(node) != UNVISITED)
+                .mapToObj(node -> new Result(
+                        graph.toOriginalNodeId(node),
+                        depths.get(node),
+                        graph.toOriginalNodeId(parents.get(node))));
+    }
+
+    @Override
+    public HugeParallelBFS me() {
+        return this;
+    }
+
+    @Override
+    public HugeParallelBFS release() {
+        if (parents != null) {
+            tracker.remove(parents.release());
+            tracker.remove(depths.release());
+        }
+        parents = null;
+        depths = null;
+        graph = null;
+        return this;
+    }
+
+    private final class InitTask implements Runnable {
+        private final long start;
+        private final long end;
+        private long relationships;
+
+        private InitTask(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            long relationships = 0L;
+            for (long node = start; node < end; node++) {
+                parents.set(node, UNVISITED);
+                depths.set(node, UNVISITED);
+                relationships += graph.degree(node, direction);
+            }
+            this.relationships = relationships;
+        }
+    }
+
+    /**
+     * expands one level of the search, either top-down or bottom-up
+     */
+    private final class TraverseTask implements Runnable, HugeRelationshipConsumer {
+        private final HugeRelationshipIterator relationships;
+        private final Direction reverseDirection;
+        private final HugeRelationshipConsumer parentSearch;
+
+        private boolean bottomUp;
+        private long discoveredNodes;
+        // the relationships of the discovered nodes
+        private long discoveredRelationships;
+        // the reserved chunk of the next frontier
+        private long chunkOffset;
+        private long chunkEnd;
+
+        private TraverseTask() {
+            this.relationships = graph.concurrentCopy();
+            this.reverseDirection = direction.reverse();
+            this.parentSearch = this::visitParent;
+        }
+
+        @Override
+        public void run() {
+            discoveredNodes = 0L;
+            discoveredRelationships = 0L;
+            chunkOffset = chunkEnd = 0L;
+            try {
+                if (bottomUp) {
+                    bottomUp();
+                } else {
+                    topDown();
+                }
+            } finally {
+                for (long i = chunkOffset; i < chunkEnd; i++) {
+                    nextFrontier.set(i, UNVISITED);
+                }
+            }
+        }
+
+        private void topDown() {
+            final long size = frontierEnd;
+            long start;
+            while ((start = batchOffset.getAndAdd(TOP_DOWN_BATCH_SIZE)) < size) {
+                if (!running()) {
+                    return;
+                }
+                final long end = Math.min(size, start + TOP_DOWN_BATCH_SIZE);
+                for (long i = start; i < end; i++) {
+                    final long node = frontier.get(i);
+                    if (node != UNVISITED) {
+                        relationships.forEachRelationship(node, direction, this);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (parents.get(targetNodeId) == UNVISITED &&
+                    parents.compareAndSet(targetNodeId, UNVISITED, sourceNodeId)) {
+                discover(targetNodeId);
+            }
+            return true;
+        }
+
+        private void bottomUp() {
+            long start;
+            while ((start = batchOffset.getAndAdd(BOTTOM_UP_BATCH_SIZE)) < nodeCount) {
+                final long end = Math.min(nodeCount, start + BOTTOM_UP_BATCH_SIZE);
+                for (long node = start; node < end; node++) {
+                    if (((node - start) & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                        return;
+                    }
+                    if (parents.get(node) == UNVISITED) {
+                        relationships.forEachRelationship(node, reverseDirection, parentSearch);
+                    }
+                }
+            }
+        }
+
+        /**
+         * only the task that owns the batch of the source node writes its parent
+         */
+        private boolean visitParent(long sourceNodeId, long targetNodeId) {
+            if (depths.get(targetNodeId) != level) {
+                return true;
+            }
+            parents.set(sourceNodeId, targetNodeId);
+            discover(sourceNodeId);
+            return false;
+        }
+
+        private void discover(long node) {
+            depths.set(node, level + 1);
+            if (chunkOffset == chunkEnd) {
+                chunkOffset = nextFrontierEnd.getAndAdd(FRONTIER_CHUNK_SIZE);
+                chunkEnd = chunkOffset + FRONTIER_CHUNK_SIZE;
+            }
+            nextFrontier.set(chunkOffset++, node);
+            discoveredNodes++;
+            discoveredRelationships += graph.degree(node, direction);
+        }
+    }
+
+    public static final class Result {
+
+        public final long nodeId;
+
+        public final long depth;
+
+        public final long parentId;
+
+        public Result(long nodeId, int depth, long parentId) {
+            this.nodeId = nodeId;
+            this.depth = depth;
+            this.parentId = parentId;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.neo4j.graphalgo.impl.coloring;
+
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+
+/**
+ * The nodes of a graph grouped by the colors of a distance-1 coloring.
+ * <p>
+ * Nodes of the same color are never adjacent, so an update of a node that
+ * only reads its neighbors can run in parallel with the updates of all other
+ * nodes of its color. Running the colors one after the other gives parallel
+ * Gauss-Seidel style updates whose result does not depend on the concurrency.
+ */
+public final class ColorSchedule {
+
+    private static final int MIN_BATCH_SIZE = 1_000;
+
+    // the nodes ordered by color
+    private final int[] nodes;
+    // the nodes of color c are nodes[offsets[c]] until nodes[offsets[c + 1]]
+    private final int[] offsets;
+
+    private ColorSchedule(int[] nodes, int[] offsets) {
+        this.nodes = nodes;
+        this.offsets = offsets;
+    }
+
+    /**
+     * groups the nodes by color
+     *
+     * @param colors     the color of every node, from {@code 0} to {@code colorCount - 1}
+     * @param colorCount the number of colors
+     */
+    public static ColorSchedule of(AtomicIntegerArray colors, int colorCount) {
+        final int nodeCount = colors.length();
+        final int[] offsets = new int[colorCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            offsets[colors.get(node) + 1]++;
+        }
+        for (int color = 0; color < colorCount; color++) {
+            offsets[color + 1] += offsets[color];
+        }
+        final int[] next = new int[colorCount];
+        System.arraycopy(offsets, 0, next, 0, colorCount);
+        final int[] nodes = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            nodes[next[colors.get(node)]++] = node;
+        }
+        return new ColorSchedule(nodes, offsets);
+    }
+
+    public int colorCount() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * number of nodes with the given color
+     */
+    public int size(int color) {
+        return offsets[color + 1] - offsets[color];
+    }
+
+    public void forEachNode(int color, IntConsumer consumer) {
+        for (int i = offsets[color]; i < offsets[color + 1]; i++) {
+            consumer.accept(nodes[i]);
+        }
+    }
+
+    /**
+     * Runs the action for every node, color by color. The nodes of a color
+     * are split into batches that run in parallel, the next color starts once
+     * all nodes of the previous one are done.
+     */
+    public void run(ExecutorService executorService, int concurrency, IntConsumer action) {
+        for (int color = 0; color < colorCount(); color++) {
+            final int size = size(color);
+            final int batchSize = ParallelUtil.adjustBatchSize(size, concurrency, MIN_BATCH_SIZE);
+            final List<Runnable> tasks = new ArrayList<>();
+            for (int start = offsets[color]; start < offsets[color + 1]; start += batchSize) {
+                final int from = start;
+                final int to = Math.min(offsets[color + 1], start + batchSize);
+                tasks.add(() -> {
+                    for (int i = from; i < to; i++) {
+                        action.accept(nodes[i]);
+                    }
+                });
+            }
+            ParallelUtil.run(tasks, executorService);
+        }
+    }
+}
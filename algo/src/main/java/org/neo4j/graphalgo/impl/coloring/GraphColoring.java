@@ -0,0 +1,233 @@
+package org.neo4j.graphalgo.impl.coloring;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.impl.Algorithm;
+import org.neo4j.graphdb.Direction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Parallel greedy distance-1 graph coloring after Jones and Plassmann.
+ * <p>
+ * Every node gets a pseudo random priority that only depends on its id.
+ * In every round, all uncolored nodes whose uncolored neighbors have lower
+ * priorities take the smallest color that none of their neighbors has.
+ * Since a node is only colored after all its neighbors with higher priority,
+ * the coloring does not depend on the concurrency or the order of execution.
+ * <p>
+ * Relationships are treated as undirected, the graph has to be loaded
+ * with {@link Direction#BOTH}. Colors start at {@code 0}, at most
+ * {@code maxDegree + 1} colors are used.
+ */
+public class GraphColoring extends Algorithm<GraphColoring> {
+
+    public static final int UNCOLORED = -1;
+
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+    private static final int MIN_BATCH_SIZE = 1_000;
+
+    private Graph graph;
+    private AtomicIntegerArray colors;
+
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final int nodeCount;
+
+    private int colorCount;
+    private int rounds;
+
+    public GraphColoring(Graph graph, ExecutorService executorService, int concurrency) {
+        this.graph = graph;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.nodeCount = Math.toIntExact(graph.nodeCount());
+        this.colors = new AtomicIntegerArray(nodeCount);
+    }
+
+    public GraphColoring compute() {
+        for (int i = 0; i < nodeCount; i++) {
+            colors.set(i, UNCOLORED);
+        }
+        final int batchSize = ParallelUtil.adjustBatchSize(nodeCount, concurrency, MIN_BATCH_SIZE);
+        final List<ColoringTask> tasks = new ArrayList<>();
+        for (int start = 0; start < nodeCount; start += batchSize) {
+            tasks.add(new ColoringTask(start, Math.min(nodeCount, start + batchSize)));
+        }
+
+        long colored = 0L;
+        rounds = 0;
+        while (colored < nodeCount) {
+            assertRunning();
+            ParallelUtil.run(tasks, executorService);
+            for (ColoringTask task : tasks) {
+                colored += task.colored;
+            }
+            rounds++;
+            getProgressLogger().logProgress(colored, nodeCount);
+        }
+
+        colorCount = 0;
+        for (ColoringTask task : tasks) {
+            colorCount = Math.max(colorCount, task.maxColor + 1);
+        }
+        return this;
+    }
+
+    /**
+     * the colors by mapped node id
+     */
+    public AtomicIntegerArray getColors() {
+        return colors;
+    }
+
+    public int colorCount() {
+        return colorCount;
+    }
+
+    /**
+     * number of parallel rounds the last computation took
+     */
+    public int rounds() {
+        return rounds;
+    }
+
+    /**
+     * the nodes grouped by their color, to run conflict-free parallel updates
+     */
+    public ColorSchedule schedule() {
+        return ColorSchedule.of(colors, colorCount);
+    }
+
+    public Stream<Result> resultStream() {
+        return IntStream.range(0, nodeCount)
+                .mapToObj(node -> new Result(graph.toOriginalNodeId(node), colors.get(node)));
+    }
+
+    @Override
+    public GraphColoring me() {
+        return this;
+    }
+
+    @Override
+    public GraphColoring release() {
+        graph = null;
+        colors = null;
+        return this;
+    }
+
+    /**
+     * whether the first node has a higher priority than the second one,
+     * ties of the priority are broken by the node id
+     */
+    static boolean hasHigherPriority(long node, long other) {
+        final long priority = priority(node);
+        final long otherPriority = priority(other);
+        return priority > otherPriority || (priority == otherPriority && node > other);
+    }
+
+    // the finalizer of MurmurHash3
+    private static long priority(long node) {
+        long h = node;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * colors the ready nodes of a node range, one round at a time
+     */
+    private final class ColoringTask implements Runnable, RelationshipConsumer {
+
+        private final int start;
+        private final int end;
+
+        // forbidden[color] == mark if a neighbor of the current node has that color
+        private int[] forbidden = new int[16];
+        private int mark = 0;
+        private boolean ready;
+
+        private int colored;
+        private int maxColor = UNCOLORED;
+
+        private ColoringTask(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            colored = 0;
+            for (int node = start; node < end; node++) {
+                if (((node - start) & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                    return;
+                }
+                if (colors.get(node) == UNCOLORED && tryColor(node)) {
+                    colored++;
+                }
+            }
+        }
+
+        private boolean tryColor(int node) {
+            if (++mark == 0) {
+                Arrays.fill(forbidden, 0);
+                mark = 1;
+            }
+            ready = true;
+            graph.forEachRelationship(node, Direction.BOTH, this);
+            if (!ready) {
+                return false;
+            }
+            int color = 0;
+            while (color < forbidden.length && forbidden[color] == mark) {
+                color++;
+            }
+            colors.set(node, color);
+            maxColor = Math.max(maxColor, color);
+            return true;
+        }
+
+        @Override
+        public boolean accept(int sourceNodeId, int targetNodeId, long relationId) {
+            if (sourceNodeId == targetNodeId) {
+                return true;
+            }
+            final int color = colors.get(targetNodeId);
+            if (color == UNCOLORED) {
+                if (hasHigherPriority(targetNodeId, sourceNodeId)) {
+                    ready = false;
+                    return false;
+                }
+            } else {
+                if (color >= forbidden.length) {
+                    forbidden = Arrays.copyOf(forbidden, Math.max(color + 1, forbidden.length * 2));
+                }
+                forbidden[color] = mark;
+            }
+            return true;
+        }
+    }
+
+    public static class Result {
+
+        public final long nodeId;
+
+        public final long color;
+
+        public Result(long nodeId, int color) {
+            this.nodeId = nodeId;
+            this.color = color;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package org.neo4j.graphalgo.impl.coloring;
+
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.api.HugeRelationshipConsumer;
+import org.neo4j.graphalgo.api.HugeRelationshipIterator;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.IntArray;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.core.write.PropertyTranslator;
+import org.neo4j.graphalgo.impl.Algorithm;
+import org.neo4j.graphdb.Direction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.impl.coloring.GraphColoring.UNCOLORED;
+
+/**
+ * {@link GraphColoring} on a {@link HugeGraph}.
+ * <p>
+ * The colors are kept in a paged array without atomics. A node only reads
+ * the color of a neighbor that is colored in the same round in order to
+ * find out whether it may be colored as well; it sees either no color, and
+ * waits for the next round, or the final color of that neighbor.
+ */
+public class HugeGraphColoring extends Algorithm<HugeGraphColoring> {
+
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+    private static final long MIN_BATCH_SIZE = 1_000L;
+
+    private HugeGraph graph;
+    private IntArray colors;
+
+    private final AllocationTracker tracker;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final long nodeCount;
+
+    private int colorCount;
+    private int rounds;
+
+    public HugeGraphColoring(
+            HugeGraph graph,
+            AllocationTracker tracker,
+            ExecutorService executorService,
+            int concurrency) {
+        this.graph = graph;
+        this.tracker = tracker;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.nodeCount = graph.nodeCount();
+        this.colors = IntArray.newArray(nodeCount, tracker);
+    }
+
+    public HugeGraphColoring compute() {
+        for (long node = 0L; node < nodeCount; node++) {
+            colors.set(node, UNCOLORED);
+        }
+        final long batchSize = ParallelUtil.adjustBatchSize(nodeCount, concurrency, MIN_BATCH_SIZE);
+        final List<ColoringTask> tasks = new ArrayList<>();
+        for (long start = 0L; start < nodeCount; start += batchSize) {
+            tasks.add(new ColoringTask(start, Math.min(nodeCount, start + batchSize)));
+        }
+
+        long colored = 0L;
+        rounds = 0;
+        while (colored < nodeCount) {
+            assertRunning();
+            ParallelUtil.run(tasks, executorService);
+            for (ColoringTask task : tasks) {
+                colored += task.colored;
+            }
+            rounds++;
+            getProgressLogger().logProgress(colored, nodeCount);
+        }
+
+        colorCount = 0;
+        for (ColoringTask task : tasks) {
+            colorCount = Math.max(colorCount, task.maxColor + 1);
+        }
+        return this;
+    }
+
+    public int color(long nodeId) {
+        return colors.get(nodeId);
+    }
+
+    public int colorCount() {
+        return colorCount;
+    }
+
+    /**
+     * number of parallel rounds the last computation took
+     */
+    public int rounds() {
+        return rounds;
+    }
+
+    public void export(final String propertyName, final Exporter exporter) {
+        exporter.write(
+                propertyName,
+                this,
+                (PropertyTranslator.OfInt<HugeGraphColoring>) HugeGraphColoring::color);
+    }
+
+    public Stream<GraphColoring.Result> resultStream() {
+        return LongStream.range(0L, nodeCount)
+                .mapToObj(node -> new GraphColoring.Result(graph.toOriginalNodeId(node), colors.get(node)));
+    }
+
+    @Override
+    public HugeGraphColoring me() {
+        return this;
+    }
+
+    @Override
+    public HugeGraphColoring release() {
+        if (colors != null) {
+            tracker.remove(colors.release());
+        }
+        graph = null;
+        colors = null;
+        return this;
+    }
+
+    /**
+     * colors the ready nodes of a node range, one round at a time
+     */
+    private final class ColoringTask implements Runnable, HugeRelationshipConsumer {
+
+        private final long start;
+        private final long end;
+        private final HugeRelationshipIterator relationships;
+
+        // forbidden[color] == mark if a neighbor of the current node has that color
+        private int[] forbidden = new int[16];
+        private int mark = 0;
+        private boolean ready;
+
+        private long colored;
+        private int maxColor = UNCOLORED;
+
+        private ColoringTask(long start, long end) {
+            this.start = start;
+            this.end = end;
+            this.relationships = graph.concurrentCopy();
+        }
+
+        @Override
+        public void run() {
+            colored = 0L;
+            for (long node = start; node < end; node++) {
+                if (((node - start) & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                    return;
+                }
+                if (colors.get(node) == UNCOLORED && tryColor(node)) {
+                    colored++;
+                }
+            }
+        }
+
+        private boolean tryColor(long node) {
+            if (++mark == 0) {
+                Arrays.fill(forbidden, 0);
+                mark = 1;
+            }
+            ready = true;
+            relationships.forEachRelationship(node, Direction.BOTH, this);
+            if (!ready) {
+                return false;
+            }
+            int color = 0;
+            while (color < forbidden.length && forbidden[color] == mark) {
+                color++;
+            }
+            colors.set(node, color);
+            maxColor = Math.max(maxColor, color);
+            return true;
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (sourceNodeId == targetNodeId) {
+                return true;
+            }
+            final int color = colors.get(targetNodeId);
+            if (color == UNCOLORED) {
+                if (GraphColoring.hasHigherPriority(targetNodeId, sourceNodeId)) {
+                    ready = false;
+                    return false;
+                }
+            } else {
+                if (color >= forbidden.length) {
+                    forbidden = Arrays.copyOf(forbidden, Math.max(color + 1, forbidden.length * 2));
+                }
+                forbidden[color] = mark;
+            }
+            return true;
+        }
+    }
+}
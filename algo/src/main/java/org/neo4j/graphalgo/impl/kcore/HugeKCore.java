@@ -0,0 +1,294 @@
+package org.neo4j.graphalgo.impl.kcore;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.api.HugeRelationshipConsumer;
+import org.neo4j.graphalgo.api.HugeRelationshipIterator;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.LongArray;
+import org.neo4j.graphalgo.core.utils.paged.PagedAtomicLongArray;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.core.write.PropertyTranslator;
+import org.neo4j.graphalgo.impl.Algorithm;
+import org.neo4j.graphdb.Direction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * {@link KCore} on a {@link HugeGraph}.
+ * <p>
+ * The degrees, the remaining nodes and the buckets are kept in paged arrays.
+ */
+public class HugeKCore extends Algorithm<HugeKCore> {
+
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+    private static final long MIN_BATCH_SIZE = 1_000L;
+    private static final long PEEL_BATCH_SIZE = 64L;
+
+    private HugeGraph graph;
+    // the remaining degree of a node, its core number once it has been peeled
+    private PagedAtomicLongArray degrees;
+
+    private final AllocationTracker tracker;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final long nodeCount;
+
+    // the nodes that have not been peeled yet, every scan task owns a range
+    private LongArray remaining;
+    private LongArray bucket;
+    private LongArray nextBucket;
+    private long bucketSize;
+    private int level;
+
+    // next batch of the bucket that is taken by a task
+    private final AtomicLong batchOffset = new AtomicLong();
+
+    private int degeneracy;
+    private int rounds;
+
+    public HugeKCore(
+            HugeGraph graph,
+            AllocationTracker tracker,
+            ExecutorService executorService,
+            int concurrency) {
+        this.graph = graph;
+        this.tracker = tracker;
+        this.executorService = executorService;
+        this.concurrency = Math.max(1, concurrency);
+        this.nodeCount = graph.nodeCount();
+        this.degrees = PagedAtomicLongArray.newArray(nodeCount, tracker);
+    }
+
+    public HugeKCore compute() {
+        remaining = LongArray.newArray(nodeCount, tracker);
+        bucket = LongArray.newArray(nodeCount, tracker);
+        nextBucket = LongArray.newArray(nodeCount, tracker);
+
+        final long batchSize = ParallelUtil.adjustBatchSize(nodeCount, concurrency, MIN_BATCH_SIZE);
+        final List<ScanTask> scanTasks = new ArrayList<>();
+        for (long start = 0L; start < nodeCount; start += batchSize) {
+            scanTasks.add(new ScanTask(start, Math.min(nodeCount, start + batchSize)));
+        }
+        final List<PeelTask> peelTasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            peelTasks.add(new PeelTask());
+        }
+
+        long peeled = 0L;
+        level = -1;
+        degeneracy = 0;
+        rounds = 0;
+        while (true) {
+            assertRunning();
+            ParallelUtil.run(scanTasks, executorService);
+            int minDegree = Integer.MAX_VALUE;
+            for (ScanTask task : scanTasks) {
+                minDegree = Math.min(minDegree, task.minDegree);
+            }
+            if (minDegree == Integer.MAX_VALUE) {
+                break;
+            }
+            level = minDegree;
+            degeneracy = level;
+
+            final List<Runnable> copies = new ArrayList<>();
+            long size = 0L;
+            for (ScanTask task : scanTasks) {
+                if (task.minDegree == level) {
+                    final long offset = size;
+                    copies.add(() -> copy(task.bucket, bucket, offset));
+                    size += task.bucket.size();
+                }
+            }
+            ParallelUtil.run(copies, executorService);
+            bucketSize = size;
+
+            while (bucketSize > 0L) {
+                assertRunning();
+                batchOffset.set(0L);
+                ParallelUtil.run(peelTasks, executorService);
+                peeled += bucketSize;
+                rounds++;
+
+                copies.clear();
+                size = 0L;
+                for (PeelTask task : peelTasks) {
+                    final long offset = size;
+                    copies.add(() -> copy(task.discovered, nextBucket, offset));
+                    size += task.discovered.size();
+                }
+                ParallelUtil.run(copies, executorService);
+
+                final LongArray current = bucket;
+                bucket = nextBucket;
+                nextBucket = current;
+                bucketSize = size;
+                getProgressLogger().logProgress(peeled, nodeCount);
+            }
+        }
+
+        tracker.remove(remaining.release());
+        tracker.remove(bucket.release());
+        tracker.remove(nextBucket.release());
+        remaining = null;
+        bucket = null;
+        nextBucket = null;
+        return this;
+    }
+
+    private static void copy(LongArrayList nodes, LongArray target, long offset) {
+        final long[] buffer = nodes.buffer;
+        final int size = nodes.size();
+        for (int i = 0; i < size; i++) {
+            target.set(offset + i, buffer[i]);
+        }
+    }
+
+    public int core(long nodeId) {
+        return (int) degrees.get(nodeId);
+    }
+
+    /**
+     * the largest core number of all nodes
+     */
+    public int degeneracy() {
+        return degeneracy;
+    }
+
+    /**
+     * number of parallel peeling rounds the last computation took
+     */
+    public int rounds() {
+        return rounds;
+    }
+
+    public void export(final String propertyName, final Exporter exporter) {
+        exporter.write(
+                propertyName,
+                this,
+                (PropertyTranslator.OfInt<HugeKCore>) HugeKCore::core);
+    }
+
+    public Stream<KCore.Result> resultStream() {
+        return LongStream.range(0L, nodeCount)
+                .mapToObj(node -> new KCore.Result(graph.toOriginalNodeId(node), core(node)));
+    }
+
+    @Override
+    public HugeKCore me() {
+        return this;
+    }
+
+    @Override
+    public HugeKCore release() {
+        if (degrees != null) {
+            tracker.remove(degrees.release());
+        }
+        graph = null;
+        degrees = null;
+        return this;
+    }
+
+    /**
+     * Drops the peeled nodes from a range of the remaining nodes and collects
+     * the nodes with the smallest degree of the range. The first scan
+     * initializes the degrees.
+     */
+    private final class ScanTask implements Runnable {
+
+        private final long start;
+        private final long end;
+        private final LongArrayList bucket = new LongArrayList();
+
+        private long size = -1L;
+        private int minDegree;
+
+        private ScanTask(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            if (size == -1L) {
+                for (long node = start; node < end; node++) {
+                    remaining.set(node, node);
+                    degrees.set(node, graph.degree(node, Direction.BOTH));
+                }
+                size = end - start;
+            }
+            bucket.clear();
+            minDegree = Integer.MAX_VALUE;
+            long kept = start;
+            for (long i = start; i < start + size; i++) {
+                if (((i - start) & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                    return;
+                }
+                final long node = remaining.get(i);
+                final int degree = (int) degrees.get(node);
+                if (degree <= level) {
+                    continue;
+                }
+                remaining.set(kept++, node);
+                if (degree < minDegree) {
+                    minDegree = degree;
+                    bucket.clear();
+                }
+                if (degree == minDegree) {
+                    bucket.add(node);
+                }
+            }
+            size = kept - start;
+        }
+    }
+
+    /**
+     * removes batches of the bucket and collects the neighbors that drop to the current level
+     */
+    private final class PeelTask implements Runnable, HugeRelationshipConsumer {
+
+        private final HugeRelationshipIterator relationships;
+        private final LongArrayList discovered = new LongArrayList();
+
+        private PeelTask() {
+            this.relationships = graph.concurrentCopy();
+        }
+
+        @Override
+        public void run() {
+            discovered.clear();
+            final long size = bucketSize;
+            long start;
+            while ((start = batchOffset.getAndAdd(PEEL_BATCH_SIZE)) < size) {
+                if (!running()) {
+                    return;
+                }
+                final long end = Math.min(size, start + PEEL_BATCH_SIZE);
+                for (long i = start; i < end; i++) {
+                    relationships.forEachRelationship(bucket.get(i), Direction.BOTH, this);
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (degrees.get(targetNodeId) > level) {
+                final long degree = degrees.add(targetNodeId, -1L);
+                if (degree == level) {
+                    discovered.add(targetNodeId);
+                } else if (degree < level) {
+                    degrees.add(targetNodeId, 1L);
+                }
+            }
+            return true;
+        }
+    }
+}
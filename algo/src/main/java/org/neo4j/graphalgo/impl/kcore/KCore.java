@@ -0,0 +1,297 @@
+package org.neo4j.graphalgo.impl.kcore;
+
+import com.carrotsearch.hppc.IntArrayList;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.impl.Algorithm;
+import org.neo4j.graphdb.Direction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Parallel k-core decomposition by bucket peeling after Dasari et al.,
+ * "ParK: An efficient algorithm for k-core decomposition on multicore processors".
+ * <p>
+ * The core number of a node is the largest k so that the node belongs to a
+ * subgraph in which every node has at least k neighbors. The nodes are peeled
+ * level by level: all remaining nodes with the smallest degree k form the
+ * bucket of the level, they are removed in parallel and decrement the degrees
+ * of their neighbors. Neighbors whose degree drops to k join the bucket of the
+ * same level in the next round. Once the bucket is empty, the remaining nodes
+ * are scanned for the next smallest degree, so empty levels are skipped.
+ * <p>
+ * Relationships are treated as undirected, the graph has to be loaded
+ * with {@link Direction#BOTH}. The initial degree of a node is taken from
+ * {@link org.neo4j.graphalgo.api.Degrees}, so parallel relationships and loops
+ * count towards it. At the end, the degree array holds the core numbers.
+ */
+public class KCore extends Algorithm<KCore> {
+
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+    private static final int MIN_BATCH_SIZE = 1_000;
+    private static final int PEEL_BATCH_SIZE = 64;
+
+    private Graph graph;
+    // the remaining degree of a node, its core number once it has been peeled
+    private AtomicIntegerArray degrees;
+
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final int nodeCount;
+
+    // the nodes that have not been peeled yet, every scan task owns a range
+    private int[] remaining;
+    private int[] bucket;
+    private int[] nextBucket;
+    private int bucketSize;
+    private int level;
+
+    // next batch of the bucket that is taken by a task
+    private final AtomicInteger batchOffset = new AtomicInteger();
+
+    private int degeneracy;
+    private int rounds;
+
+    public KCore(Graph graph, ExecutorService executorService, int concurrency) {
+        this.graph = graph;
+        this.executorService = executorService;
+        this.concurrency = Math.max(1, concurrency);
+        this.nodeCount = Math.toIntExact(graph.nodeCount());
+        this.degrees = new AtomicIntegerArray(nodeCount);
+    }
+
+    public KCore compute() {
+        remaining = new int[nodeCount];
+        bucket = new int[nodeCount];
+        nextBucket = new int[nodeCount];
+
+        final int batchSize = ParallelUtil.adjustBatchSize(nodeCount, concurrency, MIN_BATCH_SIZE);
+        final List<ScanTask> scanTasks = new ArrayList<>();
+        for (int start = 0; start < nodeCount; start += batchSize) {
+            scanTasks.add(new ScanTask(start, Math.min(nodeCount, start + batchSize)));
+        }
+        final List<PeelTask> peelTasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            peelTasks.add(new PeelTask());
+        }
+
+        long peeled = 0L;
+        level = -1;
+        degeneracy = 0;
+        rounds = 0;
+        while (true) {
+            assertRunning();
+            ParallelUtil.run(scanTasks, executorService);
+            int minDegree = Integer.MAX_VALUE;
+            for (ScanTask task : scanTasks) {
+                minDegree = Math.min(minDegree, task.minDegree);
+            }
+            if (minDegree == Integer.MAX_VALUE) {
+                break;
+            }
+            level = minDegree;
+            degeneracy = level;
+
+            final List<Runnable> copies = new ArrayList<>();
+            int size = 0;
+            for (ScanTask task : scanTasks) {
+                if (task.minDegree == level) {
+                    final int offset = size;
+                    copies.add(() -> copy(task.bucket, bucket, offset));
+                    size += task.bucket.size();
+                }
+            }
+            ParallelUtil.run(copies, executorService);
+            bucketSize = size;
+
+            while (bucketSize > 0) {
+                assertRunning();
+                batchOffset.set(0);
+                ParallelUtil.run(peelTasks, executorService);
+                peeled += bucketSize;
+                rounds++;
+
+                copies.clear();
+                size = 0;
+                for (PeelTask task : peelTasks) {
+                    final int offset = size;
+                    copies.add(() -> copy(task.discovered, nextBucket, offset));
+                    size += task.discovered.size();
+                }
+                ParallelUtil.run(copies, executorService);
+
+                final int[] current = bucket;
+                bucket = nextBucket;
+                nextBucket = current;
+                bucketSize = size;
+                getProgressLogger().logProgress(peeled, nodeCount);
+            }
+        }
+
+        remaining = null;
+        bucket = null;
+        nextBucket = null;
+        return this;
+    }
+
+    private static void copy(IntArrayList nodes, int[] target, int offset) {
+        System.arraycopy(nodes.buffer, 0, target, offset, nodes.size());
+    }
+
+    /**
+     * the core numbers by mapped node id
+     */
+    public AtomicIntegerArray getCores() {
+        return degrees;
+    }
+
+    public int core(int nodeId) {
+        return degrees.get(nodeId);
+    }
+
+    /**
+     * the largest core number of all nodes
+     */
+    public int degeneracy() {
+        return degeneracy;
+    }
+
+    /**
+     * number of parallel peeling rounds the last computation took
+     */
+    public int rounds() {
+        return rounds;
+    }
+
+    public Stream<Result> resultStream() {
+        return IntStream.range(0, nodeCount)
+                .mapToObj(node -> new Result(graph.toOriginalNodeId(node), degrees.get(node)));
+    }
+
+    @Override
+    public KCore me() {
+        return this;
+    }
+
+    @Override
+    public KCore release() {
+        graph = null;
+        degrees = null;
+        return this;
+    }
+
+    /**
+     * Drops the peeled nodes from a range of the remaining nodes and collects
+     * the nodes with the smallest degree of the range. The first scan
+     * initializes the degrees.
+     */
+    private final class ScanTask implements Runnable {
+
+        private final int start;
+        private final int end;
+        private final IntArrayList bucket = new IntArrayList();
+
+        private int size = -1;
+        private int minDegree;
+
+        private ScanTask(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            if (size == -1) {
+                for (int node = start; node < end; node++) {
+                    remaining[node] = node;
+                    degrees.set(node, graph.degree(node, Direction.BOTH));
+                }
+                size = end - start;
+            }
+            bucket.clear();
+            minDegree = Integer.MAX_VALUE;
+            int kept = start;
+            for (int i = start; i < start + size; i++) {
+                if (((i - start) & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                    return;
+                }
+                final int node = remaining[i];
+                final int degree = degrees.get(node);
+                if (degree <= level) {
+                    continue;
+                }
+                remaining[kept++] = node;
+                if (degree < minDegree) {
+                    minDegree = degree;
+                    bucket.clear();
+                }
+                if (degree == minDegree) {
+                    bucket.add(node);
+                }
+            }
+            size = kept - start;
+        }
+    }
+
+    /**
+     * removes batches of the bucket and collects the neighbors that drop to the current level
+     */
+    private final class PeelTask implements Runnable, RelationshipConsumer {
+
+        private final IntArrayList discovered = new IntArrayList();
+
+        @Override
+        public void run() {
+            discovered.clear();
+            final int size = bucketSize;
+            int start;
+            while ((start = batchOffset.getAndAdd(PEEL_BATCH_SIZE)) < size) {
+                if (!running()) {
+                    return;
+                }
+                final int end = Math.min(size, start + PEEL_BATCH_SIZE);
+                for (int i = start; i < end; i++) {
+                    graph.forEachRelationship(bucket[i], Direction.BOTH, this);
+                }
+            }
+        }
+
+        /**
+         * A neighbor above the level loses one degree. If concurrent removals
+         * push it below the level, the degree is restored, so that exactly
+         * one task sees it reach the level and adds it to the next round.
+         */
+        @Override
+        public boolean accept(int sourceNodeId, int targetNodeId, long relationId) {
+            if (degrees.get(targetNodeId) > level) {
+                final int degree = degrees.decrementAndGet(targetNodeId);
+                if (degree == level) {
+                    discovered.add(targetNodeId);
+                } else if (degree < level) {
+                    degrees.incrementAndGet(targetNodeId);
+                }
+            }
+            return true;
+        }
+    }
+
+    public static class Result {
+
+        public final long nodeId;
+
+        public final long core;
+
+        public Result(long nodeId, int core) {
+            this.nodeId = nodeId;
+            this.core = core;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.carrotsearch.hppc.cursors.IntObjectCursor;
 import com.carrotsearch.hppc.procedures.IntProcedure;
 import org.neo4j.graphalgo.api.*;
 import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.impl.Algorithm;
 import org.neo4j.graphdb.Direction;
 
@@ -22,8 +23,12 @@ public class Louvain extends Algorithm<Louvain> {
 
     public static final IntScatterSet EMPTY = new IntScatterSet();
 
+    private static final int RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+
     private RelationshipIterator relationshipIterator;
     private RelationshipWeights relationshipWeights;
+    private RelationshipCursor arrangeCursor;
+    private RelationshipCursor cursor;
     private ExecutorService executorService;
     private final int concurrency;
     private final int nodeCount;
@@ -67,6 +72,8 @@ public class Louvain extends Algorithm<Louvain> {
         nodeCount = Math.toIntExact(idMapping.nodeCount());
         this.relationshipIterator = relationshipIterator;
         this.relationshipWeights = relationshipWeights;
+        this.arrangeCursor = relationshipIterator.newRelationshipCursor();
+        this.cursor = relationshipIterator.newRelationshipCursor();
         this.executorService = executorService;
         this.concurrency = concurrency;
         communityIds = new int[nodeCount];
@@ -75,11 +82,13 @@ public class Louvain extends Algorithm<Louvain> {
 
     public Louvain compute(int iterations) {
         reset();
-        for (int i = 0; i < iterations; i++) {
+        for (int i = 0; i < iterations && running(); i++) {
             if (!arrange()) {
-                return this; // convergence
+                break; // convergence
             }
         }
+        // a terminated run leaves partially arranged communities behind
+        assertRunning();
         return this;
     }
 
@@ -128,6 +137,8 @@ public class Louvain extends Algorithm<Louvain> {
     public Louvain release() {
         relationshipIterator = null;
         relationshipWeights = null;
+        arrangeCursor = null;
+        cursor = null;
         executorService = null;
         communities = null;
         return this;
@@ -145,11 +156,13 @@ public class Louvain extends Algorithm<Louvain> {
             communityIds[i] = i;
         }
         final DoubleAdder adder = new DoubleAdder();
+        final ThreadLocal<RelationshipCursor> cursors =
+                ThreadLocal.withInitial(relationshipIterator::newRelationshipCursor);
         ParallelUtil.iterateParallel(executorService, nodeCount, 2 /* TODO */, node -> {
-            relationshipIterator.forEachRelationship(node, Direction.OUTGOING, (sourceNodeId, targetNodeId, relationId) -> {
-                adder.add(relationshipWeights.weightOf(sourceNodeId, targetNodeId));
-                return true;
-            });
+            final RelationshipCursor cursor = cursors.get().reset(node, Direction.OUTGOING);
+            while (cursor.next()) {
+                adder.add(relationshipWeights.weightOf(cursor.sourceNodeId, cursor.targetNodeId));
+            }
         });
         m2 = adder.doubleValue() * 2d;
     }
@@ -180,7 +193,10 @@ public class Louvain extends Algorithm<Louvain> {
         double[] sum = {0.0, 0.0}; // {sIn, sTot}
         set.forEach((IntProcedure) node -> {
             int nodeCommunity = communityIds[node];
-            relationshipIterator.forEachRelationship(node, Direction.BOTH, (sourceNodeId, targetNodeId, relationId) -> {
+            cursor.reset(node, Direction.BOTH);
+            while (cursor.next()) {
+                final int sourceNodeId = cursor.sourceNodeId;
+                final int targetNodeId = cursor.targetNodeId;
                 final double weight = relationshipWeights.weightOf(sourceNodeId, targetNodeId);
                 // BOTH counts relationships twice therefore count only if id(s) < id(t)
                 if (sourceNodeId < targetNodeId && communityIds[targetNodeId] == nodeCommunity) {
@@ -191,8 +207,7 @@ public class Louvain extends Algorithm<Louvain> {
 //                    sum[0] += weight;
 //                }
                 sum[1] += weight;
-                return true;
-            });
+            }
         });
 //        System.out.printf("c%d : (%2.3f, %2.3f)%n", community, sum[0], sum[1]);
         return sum;
@@ -206,14 +221,14 @@ public class Louvain extends Algorithm<Louvain> {
      */
     private double[] kIAndkIIn(int node, int targetCommunity) {
         double[] sum = {0.0, 0.0}; // {ki, ki_in}
-        relationshipIterator.forEachRelationship(node, Direction.BOTH, (sourceNodeId, targetNodeId, relationId) -> {
-            final double weight = relationshipWeights.weightOf(sourceNodeId, targetNodeId);
+        cursor.reset(node, Direction.BOTH);
+        while (cursor.next()) {
+            final double weight = relationshipWeights.weightOf(cursor.sourceNodeId, cursor.targetNodeId);
             sum[0] += weight;
-            if (targetCommunity == communityIds[targetNodeId]) {
+            if (targetCommunity == communityIds[cursor.targetNodeId]) {
                 sum[1] += weight;
             }
-            return true;
-        });
+        }
         return sum;
     }
 
@@ -238,30 +253,33 @@ public class Louvain extends Algorithm<Louvain> {
      * @return
      */
     private boolean arrange() {
-        final boolean[] changes = {false};
-        final double[] bestGain = {0};
-        final int[] bestCommunity = {0};
+        // modGain moves the inner cursor, the outer loop needs its own
+        final RelationshipCursor arrangeCursor = this.arrangeCursor;
+        boolean changes = false;
         for (int node = 0; node < nodeCount; node++) {
-            bestGain[0] = Double.MIN_VALUE;
+            if ((node & RUN_CHECK_MASK) == RUN_CHECK_MASK && !running()) {
+                return false;
+            }
+            double bestGain = Double.MIN_VALUE;
             final int currentCommunity = communityIds[node];
-            bestCommunity[0] = currentCommunity;
-            relationshipIterator.forEachRelationship(node, Direction.BOTH, (sourceNodeId, targetNodeId, relationId) -> {
-                final int targetCommunity = communityIds[targetNodeId];
-                final double gain = modGain(sourceNodeId, targetCommunity);
+            int bestCommunity = currentCommunity;
+            arrangeCursor.reset(node, Direction.BOTH);
+            while (arrangeCursor.next()) {
+                final int targetCommunity = communityIds[arrangeCursor.targetNodeId];
+                final double gain = modGain(arrangeCursor.sourceNodeId, targetCommunity);
 //                System.out.printf("%d: c%d -> c%d : %2.3f (%2.3f)%n", sourceNodeId, currentCommunity, targetCommunity, gain, communityModularity());
-                if (gain > bestGain[0]) {
-                    bestCommunity[0] = targetCommunity;
-                    bestGain[0] = gain;
+                if (gain > bestGain) {
+                    bestCommunity = targetCommunity;
+                    bestGain = gain;
                 }
-                return true;
-            });
-            if (bestCommunity[0] != currentCommunity && bestCommunity[0] > 0.0) {
-                assign(node, currentCommunity, bestCommunity[0]);
+            }
+            if (bestCommunity != currentCommunity && bestCommunity > 0.0) {
+                assign(node, currentCommunity, bestCommunity);
 
-                changes[0] = true;
+                changes = true;
             }
         }
-        return changes[0];
+        return changes;
     }
 
     public static class Result {
@@ -0,0 +1,138 @@
+package org.neo4j.graphalgo.impl.msbfs;
+
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.LongArray;
+
+import java.util.Arrays;
+
+/**
+ * Two 32-bit wide BitSets per node, the paged counterpart of {@link BiMultiBitSet32}.
+ * The bits are stored in a {@link LongArray} and can thus hold more than 2B nodes.
+ * <p>
+ * Bits are composed of a primary or default bit ({@code "visit"}) and an
+ * auxiliary bit ({@code "seen"}).
+ * <p>
+ * [1]: <a href="http://www.vldb.org/pvldb/vol8/p449-then.pdf">The More the Merrier: Efficient Multi-Source Graph Traversal</a>
+ */
+final class HugeBiMultiBitSet32 {
+
+    private static final long AUX_MASK = 0xFFFFFFFF00000000L;
+    private static final long DEF_MASK = 0x00000000FFFFFFFFL;
+
+    private final LongArray bits;
+    private final long nodeCount;
+
+    HugeBiMultiBitSet32(long nodeCount, AllocationTracker tracker) {
+        this.nodeCount = nodeCount;
+        bits = LongArray.newArray(nodeCount, tracker);
+    }
+
+    /**
+     * Returns to combined bits for the node.
+     */
+    long get(long nodeId) {
+        return bits.get(nodeId);
+    }
+
+    /**
+     * Resets all bits while setting the aux bits according to the given
+     * node range.
+     */
+    void setAuxBits(long fromId, int len) {
+        assert len <= 32;
+        assert len >= 1;
+
+        bits.fill(0L);
+        for (int i = 0; i < len; i++) {
+            bits.set(fromId + i, (1L << (i + 32)));
+        }
+    }
+
+    /**
+     * Resets all bits while setting the aux bits according to the given
+     * start source node array.
+     */
+    void setAuxBits(long[] nodes) {
+        int len = nodes.length;
+        assert len <= 32;
+        assert len >= 1;
+        assert isSorted(nodes) : "aux bits must be sorted";
+
+        bits.fill(0L);
+        for (int i = 0; i < len; i++) {
+            bits.set(nodes[i], (1L << (i + 32)));
+        }
+    }
+
+    /**
+     * Returns the next node that has some bits at default position  set and
+     * is at least {@code fromNodeId}. May return {@code fromNodeId} itself,
+     * if it has bits set.
+     * If there are no such nodes, return -1.
+     * If there aren't any nodes that have any bit set (all sets are empty), return -2.
+     */
+    long nextSetNodeId(long fromNodeId) {
+        for (long i = fromNodeId; i < nodeCount; i++) {
+            if (((int) bits.get(i)) != 0) {
+                return i;
+            }
+        }
+        return -2L + Long.signum(fromNodeId);
+    }
+
+    /**
+     * Builds the set union on the default bit for the given node as per
+     * {@code this.bits[nodeId][def] ∪ bits}.
+     */
+    void union(long nodeId, int bits) {
+        this.bits.set(nodeId, this.bits.get(nodeId) | (((long) bits) & DEF_MASK));
+    }
+
+    /**
+     * First builds the set difference between the default and the auxiliary bit
+     * as per {@code this.bits[nodeId][def] \ this.bits[nodeId][aux]}
+     * Then builds the set union between the auxiliary bit and the previously
+     * calculated default bit as per {@code this.bits[nodeId][aux] ∪ def}.
+     * <p>
+     * See {@link BiMultiBitSet32#unionDifference(int)} for details.
+     * <p>
+     * Returns the new default bit.
+     */
+    int unionDifference(long nodeId) {
+        long bit = this.bits.get(nodeId);
+
+        int aux = (int) (bit >>> 32);
+        int def = (int) bit;
+        def &= ~aux;
+        aux |= def;
+
+        bit = ((long) aux << 32) | (((long) def) & DEF_MASK);
+        this.bits.set(nodeId, bit);
+
+        return def;
+    }
+
+    /**
+     * Copies the default bit into the given {@code target} {@link HugeMultiBitSet32}.
+     * The default bit is reset to 0 after the copying, the auxiliary bit remains.
+     *
+     * @return true iff some data was copied, false otherwise.
+     */
+    boolean copyInto(final HugeMultiBitSet32 target) {
+        boolean didCopy = false;
+        for (long i = 0L; i < nodeCount; i++) {
+            long bits = this.bits.get(i);
+            int bit = (int) bits;
+            didCopy = didCopy || bit != 0;
+            target.set(i, bit);
+            this.bits.set(i, bits & AUX_MASK);
+        }
+        return didCopy;
+    }
+
+    /* assert-only */ private boolean isSorted(long[] nodes) {
+        long[] copy = Arrays.copyOf(nodes, nodes.length);
+        Arrays.sort(copy);
+        return Arrays.equals(copy, nodes);
+    }
+}
@@ -0,0 +1,58 @@
+package org.neo4j.graphalgo.impl.msbfs;
+
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.IntArray;
+
+/**
+ * 32-bit wide BitSets per node, the paged counterpart of {@link MultiBitSet32}.
+ * The bits are stored in an {@link IntArray} and can thus hold more than 2B nodes.
+ * <p>
+ * [1]: <a href="http://www.vldb.org/pvldb/vol8/p449-then.pdf">The More the Merrier: Efficient Multi-Source Graph Traversal</a>
+ */
+final class HugeMultiBitSet32 {
+
+    private final IntArray bits;
+    private final long nodeCount;
+
+    HugeMultiBitSet32(long nodeCount, AllocationTracker tracker) {
+        this.nodeCount = nodeCount;
+        bits = IntArray.newArray(nodeCount, tracker);
+    }
+
+    /**
+     * Sets a particular bit (in [0, 32)) for a node.
+     */
+    void setBit(long nodeId, int bit) {
+        assert bit < 32;
+        bits.set(nodeId, bits.get(nodeId) | (1 << bit));
+    }
+
+    /**
+     * Sets all bits for a node.
+     */
+    void set(long nodeId, int bit) {
+        bits.set(nodeId, bit);
+    }
+
+    /**
+     * Returns the BitSet for {@code nodeId} as an {@code int}.
+     */
+    int get(long nodeId) {
+        return bits.get(nodeId);
+    }
+
+    /**
+     * Returns the next node that has some bits set and is at least {@code fromNodeId}.
+     * May return {@code fromNodeId} itself, if it has bits set.
+     * If there are no such nodes, return -1.
+     * If there aren't any nodes that have any bit set (all sets are empty), return -2.
+     */
+    long nextSetNodeId(long fromNodeId) {
+        for (long i = fromNodeId; i < nodeCount; i++) {
+            if (bits.get(i) != 0) {
+                return i;
+            }
+        }
+        return -2L + Long.signum(fromNodeId);
+    }
+}
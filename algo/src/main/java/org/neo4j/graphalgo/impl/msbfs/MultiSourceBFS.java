@@ -3,6 +3,7 @@ package org.neo4j.graphalgo.impl.msbfs;
 import org.neo4j.graphalgo.api.IdMapping;
 import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphdb.Direction;
 
 import java.util.AbstractCollection;
@@ -40,6 +41,8 @@ import java.util.concurrent.TimeUnit;
  * If the MS-BFS runs in parallel, the callback may be executed from multiple threads
  * at the same time. The implementation should therefore be thread-safe.
  * <p>
+ * A traversal stops early, once the given {@link TerminationFlag} is not running anymore.
+ * <p>
  * The algorithm provides two invariants:
  * <ul>
  * <li>
@@ -67,6 +70,7 @@ public final class MultiSourceBFS implements Runnable {
     private final RelationshipIterator relationships;
     private final Direction direction;
     private final BfsConsumer perNodeAction;
+    private final TerminationFlag terminationFlag;
     private final int[] startNodes;
     private int nodeOffset, sourceNodeCount;
     private int nodeCount;
@@ -77,10 +81,21 @@ public final class MultiSourceBFS implements Runnable {
             Direction direction,
             BfsConsumer perNodeAction,
             int... startNodes) {
+        this(nodeIds, relationships, direction, perNodeAction, TerminationFlag.RUNNING_TRUE, startNodes);
+    }
+
+    public MultiSourceBFS(
+            IdMapping nodeIds,
+            RelationshipIterator relationships,
+            Direction direction,
+            BfsConsumer perNodeAction,
+            TerminationFlag terminationFlag,
+            int... startNodes) {
         this.nodeIds = nodeIds;
         this.relationships = relationships;
         this.direction = direction;
         this.perNodeAction = perNodeAction;
+        this.terminationFlag = terminationFlag;
         this.startNodes = (startNodes != null && startNodes.length > 0) ? startNodes : null;
         if (this.startNodes != null) {
             Arrays.sort(this.startNodes);
@@ -95,6 +110,7 @@ public final class MultiSourceBFS implements Runnable {
             RelationshipIterator relationships,
             Direction direction,
             BfsConsumer perNodeAction,
+            TerminationFlag terminationFlag,
             ThreadLocal<MultiBitSet32> visits,
             ThreadLocal<BiMultiBitSet32> nextAndSeens,
             int... startNodes) {
@@ -103,6 +119,7 @@ public final class MultiSourceBFS implements Runnable {
         this.relationships = relationships;
         this.direction = direction;
         this.perNodeAction = perNodeAction;
+        this.terminationFlag = terminationFlag;
         this.startNodes = startNodes;
         this.visits = visits;
         this.nextAndSeens = nextAndSeens;
@@ -113,6 +130,7 @@ public final class MultiSourceBFS implements Runnable {
             RelationshipIterator relationships,
             Direction direction,
             BfsConsumer perNodeAction,
+            TerminationFlag terminationFlag,
             int nodeOffset,
             int sourceNodeCount,
             ThreadLocal<MultiBitSet32> visits,
@@ -121,6 +139,7 @@ public final class MultiSourceBFS implements Runnable {
         this.relationships = relationships;
         this.direction = direction;
         this.perNodeAction = perNodeAction;
+        this.terminationFlag = terminationFlag;
         this.startNodes = null;
         this.nodeOffset = nodeOffset;
         this.sourceNodeCount = sourceNodeCount;
@@ -145,6 +164,7 @@ public final class MultiSourceBFS implements Runnable {
                 threads << 2,
                 100L,
                 TimeUnit.MICROSECONDS,
+                terminationFlag,
                 executor);
     }
 
@@ -176,10 +196,17 @@ public final class MultiSourceBFS implements Runnable {
         }
 
         int depth = 0;
+        int visited = 0;
 
         while (true) {
             int nodeId = -1;
             while ((nodeId = visit.nextSetNodeId(nodeId + 1)) >= 0) {
+                if (++visited == TerminationFlag.RUN_CHECK_INTERVAL) {
+                    visited = 0;
+                    if (!terminationFlag.running()) {
+                        return;
+                    }
+                }
                 int nodeVisit = visit.get(nodeId);
                 assert nodeVisit != 0;
                 relationships.forEachRelationship(
@@ -231,6 +258,7 @@ public final class MultiSourceBFS implements Runnable {
                             relationships,
                             direction,
                             perNodeAction,
+                            terminationFlag,
                             from,
                             length,
                             visits,
@@ -249,6 +277,7 @@ public final class MultiSourceBFS implements Runnable {
                         relationships,
                         direction,
                         perNodeAction,
+                        terminationFlag,
                         visits,
                         nextAndSeens,
                         Arrays.copyOfRange(startNodes, from, from + length)
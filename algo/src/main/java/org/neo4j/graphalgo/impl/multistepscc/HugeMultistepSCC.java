@@ -0,0 +1,565 @@
+package org.neo4j.graphalgo.impl.multistepscc;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.api.HugeRelationshipConsumer;
+import org.neo4j.graphalgo.api.HugeRelationshipIterator;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.PagedAtomicLongArray;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.core.write.PropertyTranslator;
+import org.neo4j.graphalgo.impl.Algorithm;
+import org.neo4j.graphalgo.results.SCCStreamResult;
+import org.neo4j.graphdb.Direction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Multistep: parallel strongly connected component algorithm on a {@link HugeGraph}.
+ * <p>
+ * This is the {@link HugeGraph} counterpart of {@link MultistepSCC}, see there
+ * for an overview. All state is kept in paged atomic arrays and every step
+ * is a level-synchronous parallel traversal, there is no recursion and no
+ * per-node collection involved.
+ * <ol>
+ * <li>Trim: every node without an incoming or outgoing relationship to an
+ * unassigned node is its own component. Trimming a node re-checks its
+ * neighbours until no more nodes can be trimmed.</li>
+ * <li>Forward-Backward: the node with the highest product of in- and out-degree
+ * is chosen as pivot. The intersection of its descendants and its predecessors
+ * is a SCC – with high probability the biggest one.</li>
+ * <li>Coloring: the highest node id is propagated along outgoing relationships
+ * until no color changes. Every node which kept its own color is the root of
+ * a SCC which consists of all nodes with the same color that reach the root.
+ * This repeats until all nodes are assigned to a component.</li>
+ * </ol>
+ * Contrary to {@link MultistepSCC} every node is part of exactly one component,
+ * trimmed nodes build a component on their own. The component id is the
+ * mapped id of one of its nodes.
+ * <p>
+ * The graph must be loaded with both, incoming and outgoing relationships.
+ * Requires {@code 16 * nodeCount} bytes plus the frontiers of the traversals.
+ * <p>
+ * [1]: <a href="http://www.sandia.gov/~srajama/publications/BFS_and_Coloring.pdf">BFS and Coloring-based Parallel Algorithms for Strongly Connected Components and Related Problems</a>
+ */
+public class HugeMultistepSCC extends Algorithm<HugeMultistepSCC> {
+
+    private static final long UNASSIGNED = -1L;
+    private static final long MIN_NODE_BATCH_SIZE = 10_000L;
+    private static final long MIN_FRONTIER_BATCH_SIZE = 1_000L;
+
+    private HugeGraph graph;
+    private final AllocationTracker tracker;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final long nodeCount;
+
+    // map nodeId -> component id
+    private PagedAtomicLongArray components;
+    // fw marker, colors and finally component sizes
+    private PagedAtomicLongArray colors;
+
+    private long assigned;
+    private long setCount;
+    private long minSetSize;
+    private long maxSetSize;
+
+    public HugeMultistepSCC(
+            HugeGraph graph,
+            AllocationTracker tracker,
+            ExecutorService executorService,
+            int concurrency) {
+        this.graph = graph;
+        this.tracker = tracker;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        nodeCount = graph.nodeCount();
+        components = PagedAtomicLongArray.newArray(nodeCount, tracker);
+        colors = PagedAtomicLongArray.newArray(nodeCount, tracker);
+    }
+
+    public HugeMultistepSCC compute() {
+        assigned = 0L;
+        setCount = 0L;
+        minSetSize = Long.MAX_VALUE;
+        maxSetSize = 0L;
+
+        scan(Reset::new);
+        // V <- trim(V)
+        trim(scan(Trim::new));
+        // SCC <- FWBW(V)
+        forwardBackward();
+        // SCCc <- PREDECESSOR(V(cv), c) for every color c
+        while (running()) {
+            final List<Step> active = scan(InitColor::new);
+            if (isEmpty(active)) {
+                break;
+            }
+            traverse(active, PropagateColor::new);
+            traverse(scan(ColorRoot::new), Backward::new);
+        }
+        computeSetSizes();
+        return this;
+    }
+
+    /**
+     * return the component id for the given node
+     */
+    public long getComponent(long nodeId) {
+        return components.get(nodeId);
+    }
+
+    public long getSetCount() {
+        return setCount;
+    }
+
+    public long getMinSetSize() {
+        return minSetSize;
+    }
+
+    public long getMaxSetSize() {
+        return maxSetSize;
+    }
+
+    /**
+     * return the result stream
+     *
+     * @return stream of result DTOs
+     */
+    public Stream<SCCStreamResult> resultStream() {
+        return LongStream.range(0L, nodeCount)
+                .filter(node -> components.get(node) != UNASSIGNED)
+                .mapToObj(node -> new SCCStreamResult(
+                        graph.toOriginalNodeId(node),
+                        components.get(node)));
+    }
+
+    public void export(final String propertyName, final Exporter exporter) {
+        exporter.write(
+                propertyName,
+                components,
+                (PropertyTranslator.OfOptionalLong<PagedAtomicLongArray>) PagedAtomicLongArray::get);
+    }
+
+    @Override
+    public HugeMultistepSCC me() {
+        return this;
+    }
+
+    @Override
+    public HugeMultistepSCC release() {
+        tracker.remove(components.release());
+        tracker.remove(colors.release());
+        components = null;
+        colors = null;
+        graph = null;
+        return this;
+    }
+
+    /**
+     * trim until no more nodes can be removed, starting from the neighbours
+     * of the initially trimmed nodes
+     */
+    private void trim(List<Step> trimmed) {
+        traverse(trimmed, Trim::new);
+    }
+
+    /**
+     * find the SCC of the node with the highest in- * out-degree product
+     */
+    private void forwardBackward() {
+        long pivot = UNASSIGNED;
+        long max = -1L;
+        for (Step step : scan(Pivot::new)) {
+            final Pivot p = (Pivot) step;
+            if (p.max > max) {
+                max = p.max;
+                pivot = p.pivot;
+            }
+        }
+        if (pivot == UNASSIGNED || !running()) {
+            return;
+        }
+        // D <- BFS( G(V,E(V)), v)
+        colors.set(pivot, pivot);
+        traverse(singleton(pivot), Forward::new);
+        // SCC <- BFS( G(D, E'(D)), v)
+        components.set(pivot, pivot);
+        assigned++;
+        traverse(singleton(pivot), Backward::new);
+    }
+
+    /**
+     * sum up the size of every component, reusing the colors array
+     */
+    private void computeSetSizes() {
+        scan(ResetColor::new);
+        scan(CountSize::new);
+        for (Step step : scan(SetSizes::new)) {
+            final SetSizes sizes = (SetSizes) step;
+            setCount += sizes.count;
+            minSetSize = Math.min(minSetSize, sizes.min);
+            maxSetSize = Math.max(maxSetSize, sizes.max);
+        }
+        if (setCount == 0L) {
+            minSetSize = 0L;
+        }
+    }
+
+    /**
+     * run the step for every node, in parallel batches
+     */
+    private List<Step> scan(Supplier<Step> newStep) {
+        final long batchSize = ParallelUtil.adjustBatchSize(
+                nodeCount,
+                concurrency,
+                MIN_NODE_BATCH_SIZE);
+        final List<Task> tasks = new ArrayList<>();
+        for (long start = 0L; start < nodeCount; start += batchSize) {
+            final long end = Math.min(nodeCount, start + batchSize);
+            tasks.add(new NodeRangeTask(newStep.get(), start, end));
+        }
+        return run(tasks);
+    }
+
+    /**
+     * level synchronous traversal: run the step for every node in the
+     * frontier, which is built from the nodes pushed by the previous level,
+     * until no more nodes are pushed
+     */
+    private void traverse(List<Step> frontier, Supplier<Step> newStep) {
+        while (!isEmpty(frontier) && running()) {
+            long frontierSize = 0L;
+            for (Step step : frontier) {
+                frontierSize += step.next.size();
+            }
+            final int batchSize = (int) Math.min(
+                    Integer.MAX_VALUE,
+                    ParallelUtil.adjustBatchSize(frontierSize, concurrency, MIN_FRONTIER_BATCH_SIZE));
+            final List<Task> tasks = new ArrayList<>();
+            for (Step step : frontier) {
+                final LongArrayList nodes = step.next;
+                for (int start = 0; start < nodes.size(); start += batchSize) {
+                    final int end = Math.min(nodes.size(), start + batchSize);
+                    tasks.add(new FrontierTask(newStep.get(), nodes, start, end));
+                }
+            }
+            frontier = run(tasks);
+            getProgressLogger().logProgress(assigned, nodeCount);
+        }
+    }
+
+    private List<Step> run(List<Task> tasks) {
+        ParallelUtil.runWithConcurrency(
+                concurrency,
+                tasks,
+                Integer.MAX_VALUE,
+                10L,
+                TimeUnit.MICROSECONDS,
+                this,
+                executorService);
+        final List<Step> steps = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            assigned += task.step.assignedNodes;
+            steps.add(task.step);
+        }
+        return steps;
+    }
+
+    private List<Step> singleton(long nodeId) {
+        final Step step = new Reset();
+        step.next.add(nodeId);
+        final List<Step> steps = new ArrayList<>(1);
+        steps.add(step);
+        return steps;
+    }
+
+    private static boolean isEmpty(Collection<Step> frontier) {
+        for (Step step : frontier) {
+            if (!step.next.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private abstract static class Task implements Runnable {
+        final Step step;
+
+        Task(Step step) {
+            this.step = step;
+        }
+    }
+
+    private final class NodeRangeTask extends Task {
+        private final long start;
+        private final long end;
+
+        private NodeRangeTask(Step step, long start, long end) {
+            super(step);
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            step.init(graph.concurrentCopy());
+            for (long node = start; node < end; node++) {
+                step.visit(node);
+            }
+        }
+    }
+
+    private final class FrontierTask extends Task {
+        private final LongArrayList nodes;
+        private final int start;
+        private final int end;
+
+        private FrontierTask(Step step, LongArrayList nodes, int start, int end) {
+            super(step);
+            this.nodes = nodes;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            step.init(graph.concurrentCopy());
+            final long[] buffer = nodes.buffer;
+            for (int i = start; i < end; i++) {
+                step.visit(buffer[i]);
+            }
+        }
+    }
+
+    /**
+     * Work for a single node. Nodes that should be visited in the next
+     * level are pushed into {@link #next}.
+     * A step is only used by a single thread.
+     */
+    private abstract class Step implements HugeRelationshipConsumer {
+        final LongArrayList next = new LongArrayList();
+        HugeRelationshipIterator relationships;
+        long assignedNodes;
+
+        void init(HugeRelationshipIterator relationships) {
+            this.relationships = relationships;
+        }
+
+        abstract void visit(long nodeId);
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            return true;
+        }
+
+        final boolean isUnassigned(long nodeId) {
+            return components.get(nodeId) == UNASSIGNED;
+        }
+
+        final boolean assign(long nodeId, long component) {
+            if (components.compareAndSet(nodeId, UNASSIGNED, component)) {
+                assignedNodes++;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private final class Reset extends Step {
+        @Override
+        void visit(long nodeId) {
+            components.set(nodeId, UNASSIGNED);
+            colors.set(nodeId, UNASSIGNED);
+        }
+    }
+
+    /**
+     * a node is its own component if it has either no incoming or no
+     * outgoing relationship to another unassigned node. Its unassigned
+     * neighbours are checked again in the next level.
+     */
+    private final class Trim extends Step {
+        private boolean findMode;
+        private boolean found;
+
+        @Override
+        void visit(long nodeId) {
+            if (isUnassigned(nodeId)
+                    && !(hasUnassigned(nodeId, Direction.OUTGOING) && hasUnassigned(nodeId, Direction.INCOMING))
+                    && assign(nodeId, nodeId)) {
+                findMode = false;
+                relationships.forEachRelationship(nodeId, Direction.BOTH, this);
+            }
+        }
+
+        private boolean hasUnassigned(long nodeId, Direction direction) {
+            findMode = true;
+            found = false;
+            relationships.forEachRelationship(nodeId, direction, this);
+            return found;
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (sourceNodeId == targetNodeId || !isUnassigned(targetNodeId)) {
+                return true;
+            }
+            if (findMode) {
+                found = true;
+                return false;
+            }
+            next.add(targetNodeId);
+            return true;
+        }
+    }
+
+    private final class Pivot extends Step {
+        private long pivot = UNASSIGNED;
+        private long max = -1L;
+
+        @Override
+        void visit(long nodeId) {
+            if (isUnassigned(nodeId)) {
+                final long product = (long) graph.degree(nodeId, Direction.OUTGOING)
+                        * (long) graph.degree(nodeId, Direction.INCOMING);
+                if (product > max) {
+                    max = product;
+                    pivot = nodeId;
+                }
+            }
+        }
+    }
+
+    /**
+     * mark all unassigned descendants with the color of the pivot
+     */
+    private final class Forward extends Step {
+        private long color;
+
+        @Override
+        void visit(long nodeId) {
+            color = colors.get(nodeId);
+            relationships.forEachRelationship(nodeId, Direction.OUTGOING, this);
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (isUnassigned(targetNodeId) && colors.compareAndSet(targetNodeId, UNASSIGNED, color)) {
+                next.add(targetNodeId);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * assign all predecessors with the same color to the component of the node
+     */
+    private final class Backward extends Step {
+        private long component;
+
+        @Override
+        void visit(long nodeId) {
+            component = components.get(nodeId);
+            relationships.forEachRelationship(nodeId, Direction.INCOMING, this);
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (colors.get(targetNodeId) == component && assign(targetNodeId, component)) {
+                next.add(targetNodeId);
+            }
+            return true;
+        }
+    }
+
+    private final class InitColor extends Step {
+        @Override
+        void visit(long nodeId) {
+            if (isUnassigned(nodeId)) {
+                colors.set(nodeId, nodeId);
+                next.add(nodeId);
+            }
+        }
+    }
+
+    /**
+     * push the color to all unassigned descendants with a lower color
+     */
+    private final class PropagateColor extends Step {
+        private long color;
+
+        @Override
+        void visit(long nodeId) {
+            color = colors.get(nodeId);
+            relationships.forEachRelationship(nodeId, Direction.OUTGOING, this);
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (isUnassigned(targetNodeId)) {
+                long current;
+                while ((current = colors.get(targetNodeId)) < color) {
+                    if (colors.compareAndSet(targetNodeId, current, color)) {
+                        next.add(targetNodeId);
+                        break;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * every node which kept its own color is the root of a component
+     */
+    private final class ColorRoot extends Step {
+        @Override
+        void visit(long nodeId) {
+            if (isUnassigned(nodeId) && colors.get(nodeId) == nodeId && assign(nodeId, nodeId)) {
+                next.add(nodeId);
+            }
+        }
+    }
+
+    private final class ResetColor extends Step {
+        @Override
+        void visit(long nodeId) {
+            colors.set(nodeId, 0L);
+        }
+    }
+
+    private final class CountSize extends Step {
+        @Override
+        void visit(long nodeId) {
+            final long component = components.get(nodeId);
+            if (component != UNASSIGNED) {
+                colors.add(component, 1L);
+            }
+        }
+    }
+
+    private final class SetSizes extends Step {
+        private long count;
+        private long min = Long.MAX_VALUE;
+        private long max;
+
+        @Override
+        void visit(long nodeId) {
+            if (components.get(nodeId) == nodeId) {
+                final long size = colors.get(nodeId);
+                count++;
+                min = Math.min(min, size);
+                max = Math.max(max, size);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.neo4j.graphalgo.results;
 
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.metrics.AlgorithmMetrics;
 
 /**
  * @author mknblch
@@ -10,19 +11,31 @@ public abstract class AbstractResultBuilder<R> {
     protected long loadDuration = -1;
     protected long evalDuration = -1;
     protected long writeDuration = -1;
+    protected AlgorithmMetrics metrics = AlgorithmMetrics.EMPTY;
+
+    /**
+     * the durations of all phases are also recorded in the given metrics
+     */
+    public AbstractResultBuilder withMetrics(AlgorithmMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
 
     public AbstractResultBuilder withLoadDuration(long loadDuration) {
         this.loadDuration = loadDuration;
+        metrics.withLoadMillis(loadDuration);
         return this;
     }
 
     public AbstractResultBuilder withEvalDuration(long evalDuration) {
         this.evalDuration = evalDuration;
+        metrics.withComputeMillis(evalDuration);
         return this;
     }
 
     public AbstractResultBuilder withWriteDuration(long writeDuration) {
         this.writeDuration = writeDuration;
+        metrics.withWriteMillis(writeDuration);
         return this;
     }
 
@@ -0,0 +1,50 @@
+package org.neo4j.graphalgo.results;
+
+public class BFSResult {
+
+    public final Long loadMillis;
+    public final Long computeMillis;
+    public final Long writeMillis;
+    public final Long nodes;
+    public final Long depth;
+    public final Long bottomUpLevels;
+
+    private BFSResult(Long loadMillis, Long computeMillis, Long writeMillis, Long nodes, Long depth, Long bottomUpLevels) {
+        this.loadMillis = loadMillis;
+        this.computeMillis = computeMillis;
+        this.writeMillis = writeMillis;
+        this.nodes = nodes;
+        this.depth = depth;
+        this.bottomUpLevels = bottomUpLevels;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends AbstractResultBuilder<BFSResult> {
+
+        private long nodes = 0;
+        private long depth = 0;
+        private long bottomUpLevels = 0;
+
+        public Builder withNodeCount(long nodes) {
+            this.nodes = nodes;
+            return this;
+        }
+
+        public Builder withDepth(long depth) {
+            this.depth = depth;
+            return this;
+        }
+
+        public Builder withBottomUpLevels(long bottomUpLevels) {
+            this.bottomUpLevels = bottomUpLevels;
+            return this;
+        }
+
+        public BFSResult build() {
+            return new BFSResult(loadDuration, evalDuration, writeDuration, nodes, depth, bottomUpLevels);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.neo4j.graphalgo.results;
+
+public class ColoringResult {
+
+    public final Long loadMillis;
+    public final Long computeMillis;
+    public final Long writeMillis;
+    public final Long nodes;
+    public final Long colorCount;
+    public final Long rounds;
+
+    private ColoringResult(Long loadMillis, Long computeMillis, Long writeMillis, Long nodes, Long colorCount, Long rounds) {
+        this.loadMillis = loadMillis;
+        this.computeMillis = computeMillis;
+        this.writeMillis = writeMillis;
+        this.nodes = nodes;
+        this.colorCount = colorCount;
+        this.rounds = rounds;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends AbstractResultBuilder<ColoringResult> {
+
+        private long nodes = 0;
+        private long colorCount = 0;
+        private long rounds = 0;
+
+        public Builder withNodeCount(long nodes) {
+            this.nodes = nodes;
+            return this;
+        }
+
+        public Builder withColorCount(long colorCount) {
+            this.colorCount = colorCount;
+            return this;
+        }
+
+        public Builder withRounds(long rounds) {
+            this.rounds = rounds;
+            return this;
+        }
+
+        public ColoringResult build() {
+            return new ColoringResult(loadDuration, evalDuration, writeDuration, nodes, colorCount, rounds);
+        }
+    }
+}
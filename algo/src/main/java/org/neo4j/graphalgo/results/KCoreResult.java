@@ -0,0 +1,50 @@
+package org.neo4j.graphalgo.results;
+
+public class KCoreResult {
+
+    public final Long loadMillis;
+    public final Long computeMillis;
+    public final Long writeMillis;
+    public final Long nodes;
+    public final Long degeneracy;
+    public final Long rounds;
+
+    private KCoreResult(Long loadMillis, Long computeMillis, Long writeMillis, Long nodes, Long degeneracy, Long rounds) {
+        this.loadMillis = loadMillis;
+        this.computeMillis = computeMillis;
+        this.writeMillis = writeMillis;
+        this.nodes = nodes;
+        this.degeneracy = degeneracy;
+        this.rounds = rounds;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends AbstractResultBuilder<KCoreResult> {
+
+        private long nodes = 0;
+        private long degeneracy = 0;
+        private long rounds = 0;
+
+        public Builder withNodeCount(long nodes) {
+            this.nodes = nodes;
+            return this;
+        }
+
+        public Builder withDegeneracy(long degeneracy) {
+            this.degeneracy = degeneracy;
+            return this;
+        }
+
+        public Builder withRounds(long rounds) {
+            this.rounds = rounds;
+            return this;
+        }
+
+        public KCoreResult build() {
+            return new KCoreResult(loadDuration, evalDuration, writeDuration, nodes, degeneracy, rounds);
+        }
+    }
+}
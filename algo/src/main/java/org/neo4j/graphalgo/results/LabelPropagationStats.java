@@ -1,10 +1,14 @@
 package org.neo4j.graphalgo.results;
 
+import java.util.Collections;
+import java.util.List;
+
 public class LabelPropagationStats {
 
     public final long nodes, iterations, loadMillis, computeMillis, writeMillis;
     public final boolean write;
     public final String weightProperty, partitionProperty;
+    public final List<Long> activeNodes;
 
     public LabelPropagationStats(
             final long nodes,
@@ -14,7 +18,8 @@ public class LabelPropagationStats {
             final long writeMillis,
             final boolean write,
             final String weightProperty,
-            final String partitionProperty) {
+            final String partitionProperty,
+            final List<Long> activeNodes) {
         this.nodes = nodes;
         this.iterations = iterations;
         this.loadMillis = loadMillis;
@@ -23,6 +28,7 @@ public class LabelPropagationStats {
         this.write = write;
         this.weightProperty = weightProperty;
         this.partitionProperty = partitionProperty;
+        this.activeNodes = activeNodes;
     }
 
     public static class Builder extends AbstractResultBuilder<LabelPropagationStats> {
@@ -32,6 +38,7 @@ public class LabelPropagationStats {
         private boolean write;
         private String weightProperty;
         private String partitionProperty;
+        private List<Long> activeNodes = Collections.emptyList();
 
         public Builder nodes(final long nodes) {
             this.nodes = nodes;
@@ -58,6 +65,11 @@ public class LabelPropagationStats {
             return this;
         }
 
+        public Builder activeNodes(final List<Long> activeNodes) {
+            this.activeNodes = activeNodes;
+            return this;
+        }
+
         public LabelPropagationStats build() {
             return new LabelPropagationStats(
                     nodes,
@@ -67,7 +79,8 @@ public class LabelPropagationStats {
                     writeDuration,
                     write,
                     weightProperty,
-                    partitionProperty);
+                    partitionProperty,
+                    activeNodes);
         }
     }
 }
@@ -0,0 +1,58 @@
+package org.neo4j.graphalgo.results;
+
+import org.neo4j.graphalgo.core.utils.metrics.AlgorithmMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * runtime metrics of a single algorithm run
+ */
+public class MetricsResult {
+
+    public final long id;
+    public final String algorithm;
+    public final boolean running;
+
+    /**
+     * start of the run in milliseconds since the epoch
+     */
+    public final long startTime;
+
+    public final long runMillis;
+    public final long loadMillis;
+    public final long computeMillis;
+    public final long writeMillis;
+
+    public final long iterations;
+    public final List<Double> iterationMillis;
+
+    public final long relationships;
+    public final double relationshipsPerSecond;
+
+    public final Map<String, Object> threadBusyMillis;
+    public final Map<String, Object> threadIdleMillis;
+
+    public final long peakMemoryBytes;
+    public final long gcMillis;
+
+    public MetricsResult(AlgorithmMetrics metrics) {
+        this.id = metrics.id();
+        this.algorithm = metrics.algorithm();
+        this.running = metrics.running();
+        this.startTime = metrics.startTime();
+        this.runMillis = metrics.runMillis();
+        this.loadMillis = metrics.loadMillis();
+        this.computeMillis = metrics.computeMillis();
+        this.writeMillis = metrics.writeMillis();
+        this.iterationMillis = metrics.iterationMillis();
+        this.iterations = iterationMillis.size();
+        this.relationships = metrics.relationships();
+        this.relationshipsPerSecond = metrics.relationshipsPerSecond();
+        this.threadBusyMillis = new LinkedHashMap<>(metrics.threadBusyMillis());
+        this.threadIdleMillis = new LinkedHashMap<>(metrics.threadIdleMillis());
+        this.peakMemoryBytes = metrics.peakBytes();
+        this.gcMillis = metrics.gcMillis();
+    }
+}
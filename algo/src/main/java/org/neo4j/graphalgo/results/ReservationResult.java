@@ -0,0 +1,33 @@
+package org.neo4j.graphalgo.results;
+
+import org.neo4j.graphalgo.core.utils.admission.Reservation;
+
+/**
+ * a single running or queued algorithm run
+ */
+public class ReservationResult {
+
+    public final long id;
+    public final String algorithm;
+    public final String state;
+    public final long requestedConcurrency;
+    public final long concurrency;
+    public final long memoryBytes;
+
+    /**
+     * arrival of the run in milliseconds since the epoch
+     */
+    public final long queuedAt;
+    public final long waitMillis;
+
+    public ReservationResult(Reservation reservation) {
+        this.id = reservation.id();
+        this.algorithm = reservation.algorithm();
+        this.state = reservation.state().name();
+        this.requestedConcurrency = reservation.requestedConcurrency();
+        this.concurrency = reservation.concurrency();
+        this.memoryBytes = reservation.bytes();
+        this.queuedAt = reservation.queuedAt();
+        this.waitMillis = reservation.waitMillis();
+    }
+}
@@ -0,0 +1,27 @@
+package org.neo4j.graphalgo.results;
+
+import org.neo4j.graphalgo.core.utils.admission.AdmissionControl;
+
+/**
+ * budget and reservations of the {@link AdmissionControl}
+ */
+public class ResourcesResult {
+
+    public final long maxMemoryBytes;
+    public final long reservedMemoryBytes;
+    public final long maxThreads;
+    public final long reservedThreads;
+    public final long running;
+    public final long queued;
+
+    public ResourcesResult(AdmissionControl admissionControl) {
+        synchronized (admissionControl) {
+            this.maxMemoryBytes = admissionControl.maxBytes();
+            this.reservedMemoryBytes = admissionControl.reservedBytes();
+            this.maxThreads = admissionControl.maxThreads();
+            this.reservedThreads = admissionControl.reservedThreads();
+            this.running = admissionControl.runningCount();
+            this.queued = admissionControl.queuedCount();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.neo4j.graphalgo.bench;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write phase: exports the result of every algorithm, which is
+ * computed once per trial, back into the database.
+ *
+ * @see PhaseBenchmarks
+ */
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AlgorithmWritePhaseBenchmark {
+
+    @Param({
+            "PAGE_RANK",
+            "UNION_FIND",
+            "LABEL_PROPAGATION",
+            "LOUVAIN",
+            "STRONGLY_CONNECTED_COMPONENTS",
+            "TRIANGLE_COUNT",
+            "DELTA_STEPPING",
+            "BETWEENNESS_CENTRALITY",
+            "CLOSENESS_CENTRALITY",
+            "MINIMUM_SPANNING_TREE"
+    })
+    ProcedureAlgorithm algorithm;
+
+    private GraphDatabaseAPI db;
+    private Graph graph;
+    private Object result;
+
+    @Setup(Level.Trial)
+    public void setup(GeneratedDatabase database) {
+        db = database.db;
+        graph = algorithm.load(db);
+        result = algorithm.compute(graph);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph.release();
+        result = null;
+    }
+
+    @Benchmark
+    public void write() {
+        algorithm.write(db, graph, result);
+    }
+}
@@ -0,0 +1,55 @@
+package org.neo4j.graphalgo.bench;
+
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.helper.generator.GeneratedGraph;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A database filled with a generated graph once per trial,
+ * shared by the load, compute, and write phase benchmarks.
+ */
+@State(Scope.Benchmark)
+public class GeneratedDatabase {
+
+    static final String LABEL = "Node";
+    static final String TYPE = "TYPE";
+    static final String WEIGHT = "weight";
+
+    @Param({"ERDOS_RENYI", "RMAT", "BARABASI_ALBERT", "GRID"})
+    GeneratedDataset dataset;
+
+    @Param({"10000"})
+    int nodeCount;
+
+    @Param({"42"})
+    long seed;
+
+    GraphDatabaseAPI db;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        db = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+        final GeneratedGraph graph = dataset.generator(nodeCount)
+                .withSeed(seed)
+                .withWeights(1.0, 10.0)
+                .generate(Pools.DEFAULT, Pools.DEFAULT_CONCURRENCY, AllocationTracker.EMPTY);
+        graph.writeTo(db, LABEL, TYPE, WEIGHT).release();
+        graph.release();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        db.shutdown();
+    }
+}
@@ -0,0 +1,41 @@
+package org.neo4j.graphalgo.bench;
+
+import org.neo4j.graphalgo.helper.generator.GraphGenerator;
+
+/**
+ * Synthetic graphs for benchmarks that do not depend on downloaded datasets.
+ * All datasets have an average out degree of about 8 and weights in {@code [1, 10)}.
+ */
+public enum GeneratedDataset {
+    ERDOS_RENYI {
+        @Override
+        GraphGenerator<?> generator(int nodeCount) {
+            return GraphGenerator.erdosRenyi(nodeCount, nodeCount * 8L);
+        }
+    },
+    RMAT {
+        @Override
+        GraphGenerator<?> generator(int nodeCount) {
+            final int scale = Math.max(1, 31 - Integer.numberOfLeadingZeros(nodeCount));
+            return GraphGenerator.rmat(scale, 8);
+        }
+    },
+    BARABASI_ALBERT {
+        @Override
+        GraphGenerator<?> generator(int nodeCount) {
+            return GraphGenerator.barabasiAlbert(nodeCount, 8);
+        }
+    },
+    GRID {
+        @Override
+        GraphGenerator<?> generator(int nodeCount) {
+            final int width = (int) Math.ceil(Math.sqrt(nodeCount));
+            return GraphGenerator.grid(width, Math.max(1, nodeCount / width));
+        }
+    };
+
+    /**
+     * @return the generator for about {@code nodeCount} nodes, R-MAT rounds down to a power of two
+     */
+    abstract GraphGenerator<?> generator(int nodeCount);
+}
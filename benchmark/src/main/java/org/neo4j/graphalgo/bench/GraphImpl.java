@@ -3,6 +3,7 @@ package org.neo4j.graphalgo.bench;
 import org.neo4j.graphalgo.api.GraphFactory;
 import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
 import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.CompressedLightGraphFactory;
 import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
 import org.neo4j.graphalgo.core.neo4jview.GraphViewFactory;
 
@@ -10,7 +11,8 @@ public enum GraphImpl {
     LIGHT(LightGraphFactory.class),
     HEAVY(HeavyGraphFactory.class),
     VIEW(GraphViewFactory.class),
-    HUGE(HugeGraphFactory.class);
+    HUGE(HugeGraphFactory.class),
+    COMPRESSED(CompressedLightGraphFactory.class);
 
     final Class<? extends GraphFactory> impl;
 
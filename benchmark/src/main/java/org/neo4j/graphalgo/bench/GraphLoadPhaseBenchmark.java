@@ -0,0 +1,52 @@
+package org.neo4j.graphalgo.bench;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphdb.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load phase: imports the generated graph with every graph implementation.
+ *
+ * @see PhaseBenchmarks
+ */
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GraphLoadPhaseBenchmark {
+
+    @Param({"LIGHT", "HEAVY", "VIEW", "HUGE"})
+    GraphImpl impl;
+
+    @Param({"OUT", "BOTH"})
+    DirectionParam direction;
+
+    @Benchmark
+    public Graph load(GeneratedDatabase database) {
+        final Graph graph = new GraphLoader(database.db, Pools.DEFAULT)
+                .withLabel(GeneratedDatabase.LABEL)
+                .withRelationshipType(GeneratedDatabase.TYPE)
+                .withRelationshipWeightsFromProperty(GeneratedDatabase.WEIGHT, 1.0)
+                .withDirection(direction.direction)
+                .load(impl.impl);
+        graph.release();
+        return graph;
+    }
+}
@@ -0,0 +1,51 @@
+package org.neo4j.graphalgo.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the load, compute, and write phase benchmarks with allocation profiling
+ * and writes the results as JSON, so that runs of different commits can be compared.
+ * <p>
+ * All JMH command line options are supported and take precedence, e.g.
+ * <pre>
+ * java -cp benchmark.jar org.neo4j.graphalgo.bench.PhaseBenchmarks \
+ *     -p nodeCount=1000000 -p dataset=RMAT -rff results/$(git rev-parse --short HEAD).json
+ * </pre>
+ */
+public final class PhaseBenchmarks {
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-phases.json";
+
+    private PhaseBenchmarks() {
+        throw new UnsupportedOperationException("No instances");
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(GraphLoadPhaseBenchmark.class.getSimpleName())
+                    .include(AlgorithmComputePhaseBenchmark.class.getSimpleName())
+                    .include(AlgorithmWritePhaseBenchmark.class.getSimpleName());
+        }
+        if (commandLine.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        final Options options = builder.build();
+        new Runner(options).run();
+    }
+}
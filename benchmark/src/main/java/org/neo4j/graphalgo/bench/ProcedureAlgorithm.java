@@ -0,0 +1,364 @@
+package org.neo4j.graphalgo.bench;
+
+import com.carrotsearch.hppc.IntDoubleMap;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraph;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.neo4jview.DirectIdMapping;
+import org.neo4j.graphalgo.core.utils.AtomicDoubleArray;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.dss.DisjointSetStruct;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.write.AtomicDoubleArrayTranslator;
+import org.neo4j.graphalgo.core.write.AtomicIntArrayTranslator;
+import org.neo4j.graphalgo.core.write.DisjointSetStructTranslator;
+import org.neo4j.graphalgo.core.write.DoubleArrayTranslator;
+import org.neo4j.graphalgo.core.write.Exporter;
+import org.neo4j.graphalgo.core.write.IntArrayTranslator;
+import org.neo4j.graphalgo.core.write.OptionalIntDoubleMapTranslator;
+import org.neo4j.graphalgo.impl.BetweennessCentralitySuccessorBrandes;
+import org.neo4j.graphalgo.impl.GraphUnionFind;
+import org.neo4j.graphalgo.impl.LabelPropagation;
+import org.neo4j.graphalgo.impl.MSClosenessCentrality;
+import org.neo4j.graphalgo.impl.MSTPrim;
+import org.neo4j.graphalgo.impl.PageRankAlgorithm;
+import org.neo4j.graphalgo.impl.PageRankResult;
+import org.neo4j.graphalgo.impl.ShortestPathDeltaStepping;
+import org.neo4j.graphalgo.impl.TriangleCount;
+import org.neo4j.graphalgo.impl.louvain.Louvain;
+import org.neo4j.graphalgo.impl.multistepscc.HugeMultistepSCC;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.helpers.Exceptions;
+import org.neo4j.kernel.api.exceptions.KernelException;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import static org.neo4j.graphalgo.bench.GeneratedDatabase.LABEL;
+import static org.neo4j.graphalgo.bench.GeneratedDatabase.TYPE;
+import static org.neo4j.graphalgo.bench.GeneratedDatabase.WEIGHT;
+
+/**
+ * The load, compute, and write phase of every write procedure,
+ * configured like the procedure does with its default configuration.
+ */
+public enum ProcedureAlgorithm {
+
+    PAGE_RANK {
+        @Override
+        Graph load(GraphDatabaseAPI db) {
+            return loader(db)
+                    .withDirection(Direction.OUTGOING)
+                    .load(HeavyGraphFactory.class);
+        }
+
+        @Override
+        Object compute(Graph graph) {
+            final PageRankAlgorithm pageRank = PageRankAlgorithm.of(
+                    AllocationTracker.EMPTY,
+                    graph,
+                    0.85,
+                    Pools.DEFAULT,
+                    CONCURRENCY,
+                    BATCH_SIZE);
+            pageRank.compute(20);
+            return pageRank.result();
+        }
+
+        @Override
+        void write(GraphDatabaseAPI db, Graph graph, Object result) {
+            ((PageRankResult) result).export("pagerank", exporter(db, graph));
+        }
+    },
+
+    UNION_FIND {
+        @Override
+        Graph load(GraphDatabaseAPI db) {
+            return loader(db)
+                    .withRelationshipWeightsFromProperty(WEIGHT, 1.0)
+                    .withDirection(Direction.OUTGOING)
+                    .load(HeavyGraphFactory.class);
+        }
+
+        @Override
+        Object compute(Graph graph) {
+            final GraphUnionFind unionFind = new GraphUnionFind(graph);
+            final DisjointSetStruct struct = unionFind.compute();
+            unionFind.release();
+            return struct;
+        }
+
+        @Override
+        void write(GraphDatabaseAPI db, Graph graph, Object result) {
+            exporter(db, graph).write(
+                    "partition",
+                    (DisjointSetStruct) result,
+                    DisjointSetStructTranslator.INSTANCE);
+        }
+    },
+
+    LABEL_PROPAGATION {
+        @Override
+        Graph load(GraphDatabaseAPI db) {
+            return loader(db)
+                    .withOptionalRelationshipWeightsFromProperty(WEIGHT, 1.0)
+                    .withOptionalNodeWeightsFromProperty(WEIGHT, 1.0)
+                    .withOptionalNodeProperty("partition", 0.0)
+                    .withDirection(Direction.OUTGOING)
+                    .withBatchSize(BATCH_SIZE)
+                    .withConcurrency(CONCURRENCY)
+                    .load(HeavyGraphFactory.class);
+        }
+
+        @Override
+        Object compute(Graph graph) {
+            final LabelPropagation labelPropagation = new LabelPropagation(
+                    (HeavyGraph) graph,
+                    BATCH_SIZE,
+                    CONCURRENCY,
+                    Pools.DEFAULT);
+            final IntDoubleMap labels = labelPropagation.compute(Direction.OUTGOING, 1);
+            labelPropagation.release();
+            return labels;
+        }
+
+        @Override
+        void write(GraphDatabaseAPI db, Graph graph, Object result) {
+            exporter(db, graph).write(
+                    "partition",
+                    (IntDoubleMap) result,
+                    OptionalIntDoubleMapTranslator.INSTANCE);
+        }
+    },
+
+    LOUVAIN {
+        @Override
+        Graph load(GraphDatabaseAPI db) {
+            return loader(db)
+                    .withOptionalRelationshipWeightsFromProperty(WEIGHT, 1.0)
+                    .withDirection(Direction.BOTH)
+                    .load(HeavyGraphFactory.class);
+        }
+
+        @Override
+        Object compute(Graph graph) {
+            final HeavyGraph heavy = (HeavyGraph) graph;
+            final Louvain louvain = new Louvain(heavy, heavy, heavy, Pools.DEFAULT, CONCURRENCY)
+                    .compute(10);
+            final int[] communities = louvain.getCommunityIds();
+            louvain.release();
+            return communities;
+        }
+
+        @Override
+        void write(GraphDatabaseAPI db, Graph graph, Object result) {
+            exporter(db, graph).write(
+                    "partition",
+                    (int[]) result,
+                    IntArrayTranslator.INSTANCE);
+        }
+    },
+
+    STRONGLY_CONNECTED_COMPONENTS {
+        @Override
+        Graph load(GraphDatabaseAPI db) {
+            return loader(db)
+                    .withoutRelationshipWeights()
+                    .withDirection(Direction.BOTH)
+                    .load(HugeGraphFactory.class);
+        }
+
+        @Override
+        Object compute(Graph graph) {
+            return new HugeMultistepSCC(
+                    (HugeGraph) graph,
+                    AllocationTracker.EMPTY,
+                    Pools.DEFAULT,
+                    CONCURRENCY).compute();
+        }
+
+        @Override
+        void write(GraphDatabaseAPI db, Graph graph, Object result) {
+            ((HugeMultistepSCC) result).export("partition", exporter(db, graph));
+        }
+    },
+
+    TRIANGLE_COUNT {
+        @Override
+        Graph load(GraphDatabaseAPI db) {
+            return loader(db)
+                    .withoutRelationshipWeights()
+                    .withoutNodeWeights()
+                    .withDirection(TriangleCount.D)
+                    .load(HeavyGraphFactory.class);
+        }
+
+        @Override
+        Object compute(Graph graph) {
+            final TriangleCount triangleCount = new TriangleCount(graph, Pools.DEFAULT, CONCURRENCY).compute();
+            triangleCount.getClusteringCoefficients();
+            return triangleCount;
+        }
+
+        @Override
+        void write(GraphDatabaseAPI db, Graph graph, Object result) {
+            final TriangleCount triangleCount = (TriangleCount) result;
+            exporter(db, graph).write(
+                    "triangles",
+                    triangleCount.getTriangles(),
+                    AtomicIntArrayTranslator.INSTANCE,
+                    "coefficient",
+                    triangleCount.getClusteringCoefficients(),
+                    DoubleArrayTranslator.INSTANCE);
+        }
+    },
+
+    DELTA_STEPPING {
+        @Override
+        Graph load(GraphDatabaseAPI db) {
+            return loader(db)
+                    .withRelationshipWeightsFromProperty(WEIGHT, Double.MAX_VALUE)
+                    .withDirection(Direction.OUTGOING)
+                    .load(HeavyGraphFactory.class);
+        }
+
+        @Override
+        Object compute(Graph graph) {
+            final ShortestPathDeltaStepping deltaStepping = new ShortestPathDeltaStepping(graph, 3.0)
+                    .withExecutorService(Pools.DEFAULT)
+                    .compute(graph.toOriginalNodeId(0));
+            final double[] shortestPaths = deltaStepping.getShortestPaths();
+            deltaStepping.release();
+            return shortestPaths;
+        }
+
+        @Override
+        void write(GraphDatabaseAPI db, Graph graph, Object result) {
+            exporter(db, graph).write(
+                    "sssp",
+                    (double[]) result,
+                    DoubleArrayTranslator.INSTANCE);
+        }
+    },
+
+    BETWEENNESS_CENTRALITY {
+        @Override
+        Graph load(GraphDatabaseAPI db) {
+            return loader(db)
+                    .withoutNodeProperties()
+                    .withDirection(Direction.OUTGOING)
+                    .load(HeavyGraphFactory.class);
+        }
+
+        @Override
+        Object compute(Graph graph) {
+            return new BetweennessCentralitySuccessorBrandes(graph, 100_000, Pools.DEFAULT)
+                    .withDirection(Direction.OUTGOING)
+                    .compute()
+                    .getCentrality();
+        }
+
+        @Override
+        void write(GraphDatabaseAPI db, Graph graph, Object result) {
+            exporter(db, graph).write(
+                    "centrality",
+                    (AtomicDoubleArray) result,
+                    AtomicDoubleArrayTranslator.INSTANCE);
+        }
+    },
+
+    CLOSENESS_CENTRALITY {
+        @Override
+        Graph load(GraphDatabaseAPI db) {
+            return loader(db)
+                    .withoutNodeProperties()
+                    .withDirection(Direction.OUTGOING)
+                    .load(HeavyGraphFactory.class);
+        }
+
+        @Override
+        Object compute(Graph graph) {
+            return new MSClosenessCentrality(graph, CONCURRENCY, Pools.DEFAULT)
+                    .compute()
+                    .getCentrality();
+        }
+
+        @Override
+        void write(GraphDatabaseAPI db, Graph graph, Object result) {
+            exporter(db, graph).write(
+                    "centrality",
+                    (double[]) result,
+                    DoubleArrayTranslator.INSTANCE);
+        }
+    },
+
+    MINIMUM_SPANNING_TREE {
+        @Override
+        Graph load(GraphDatabaseAPI db) {
+            return loader(db)
+                    .withRelationshipWeightsFromProperty(WEIGHT, 1.0)
+                    .withDirection(Direction.BOTH)
+                    .load(HeavyGraphFactory.class);
+        }
+
+        @Override
+        Object compute(Graph graph) {
+            final HeavyGraph heavy = (HeavyGraph) graph;
+            final MSTPrim prim = new MSTPrim(
+                    heavy,
+                    (nodeId, consumer) -> heavy.forEachRelationship(nodeId, Direction.BOTH, consumer),
+                    heavy).compute(0);
+            return prim.getMinimumSpanningTree();
+        }
+
+        @Override
+        void write(GraphDatabaseAPI db, Graph graph, Object result) {
+            final MSTPrim.MinimumSpanningTree tree = (MSTPrim.MinimumSpanningTree) result;
+            Exporter.of(new DirectIdMapping(1), db)
+                    .build()
+                    .writeRelationships("MST", (ops, typeId) -> tree.forEachBFS((source, target, rid) -> {
+                        try {
+                            ops.relationshipCreate(
+                                    (int) typeId,
+                                    graph.toOriginalNodeId(source),
+                                    graph.toOriginalNodeId(target));
+                        } catch (KernelException e) {
+                            throw Exceptions.launderedException(e);
+                        }
+                        return true;
+                    }));
+        }
+    };
+
+    static final int CONCURRENCY = Pools.DEFAULT_CONCURRENCY;
+    static final int BATCH_SIZE = 10_000;
+
+    /**
+     * loads the graph that the procedure runs on
+     */
+    abstract Graph load(GraphDatabaseAPI db);
+
+    /**
+     * runs the algorithm and returns what the procedure would write back
+     */
+    abstract Object compute(Graph graph);
+
+    /**
+     * writes the result of {@link #compute(Graph)} back into the database
+     */
+    abstract void write(GraphDatabaseAPI db, Graph graph, Object result);
+
+    static GraphLoader loader(GraphDatabaseAPI db) {
+        return new GraphLoader(db, Pools.DEFAULT)
+                .withLabel(LABEL)
+                .withRelationshipType(TYPE);
+    }
+
+    static Exporter exporter(GraphDatabaseAPI db, Graph graph) {
+        return Exporter.of(db, graph)
+                .parallel(Pools.DEFAULT, CONCURRENCY, TerminationFlag.RUNNING_TRUE)
+                .build();
+    }
+}
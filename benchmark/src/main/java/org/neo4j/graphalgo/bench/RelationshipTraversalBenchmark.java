@@ -0,0 +1,125 @@
+package org.neo4j.graphalgo.bench;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipCursor;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphdb.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a full traversal of all relationships with
+ * {@link Graph#forEachRelationship(int, Direction, org.neo4j.graphalgo.api.WeightedRelationshipConsumer)}
+ * against a traversal with a {@link RelationshipCursor}, with and without reading weights.
+ */
+@Threads(1)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RelationshipTraversalBenchmark {
+
+    @Param({"LIGHT", "COMPRESSED", "HEAVY", "HUGE"})
+    GraphImpl impl;
+
+    @Param({"OUTGOING", "BOTH"})
+    Direction direction;
+
+    private Graph graph;
+    private RelationshipCursor cursor;
+
+    @Setup(Level.Trial)
+    public void setup(GeneratedDatabase database) {
+        graph = new GraphLoader(database.db, Pools.DEFAULT)
+                .withLabel(GeneratedDatabase.LABEL)
+                .withRelationshipType(GeneratedDatabase.TYPE)
+                .withRelationshipWeightsFromProperty(GeneratedDatabase.WEIGHT, 1.0)
+                .withDirection(direction)
+                .load(impl.impl);
+        cursor = graph.newRelationshipCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph.release();
+        graph = null;
+        cursor = null;
+    }
+
+    @Benchmark
+    public long consumer() {
+        final Graph graph = this.graph;
+        final Direction direction = this.direction;
+        final long[] sum = {0L};
+        final int nodeCount = Math.toIntExact(graph.nodeCount());
+        for (int node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, direction, (s, t, r) -> {
+                sum[0] += t;
+                return true;
+            });
+        }
+        return sum[0];
+    }
+
+    @Benchmark
+    public long cursor() {
+        final RelationshipCursor cursor = this.cursor;
+        final Direction direction = this.direction;
+        long sum = 0L;
+        final int nodeCount = Math.toIntExact(graph.nodeCount());
+        for (int node = 0; node < nodeCount; node++) {
+            cursor.reset(node, direction);
+            while (cursor.next()) {
+                sum += cursor.targetNodeId;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double weightedConsumer() {
+        final Graph graph = this.graph;
+        final Direction direction = this.direction;
+        final double[] sum = {0.0};
+        final int nodeCount = Math.toIntExact(graph.nodeCount());
+        for (int node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, direction, (s, t, r, w) -> {
+                sum[0] += w;
+                return true;
+            });
+        }
+        return sum[0];
+    }
+
+    @Benchmark
+    public double weightedCursor() {
+        final RelationshipCursor cursor = this.cursor;
+        final Direction direction = this.direction;
+        double sum = 0.0;
+        final int nodeCount = Math.toIntExact(graph.nodeCount());
+        for (int node = 0; node < nodeCount; node++) {
+            cursor.reset(node, direction);
+            while (cursor.next()) {
+                sum += cursor.weight();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,80 @@
+package org.neo4j.graphalgo.api;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.neo4j.graphdb.Direction;
+
+/**
+ * Cursor for graphs that can only push their relationships into a consumer,
+ * the relationships of a node are copied into a buffer on {@link #reset(int, Direction)}.
+ */
+final class BufferedRelationshipCursor extends RelationshipCursor
+        implements RelationshipConsumer, WeightedRelationshipConsumer {
+
+    private final RelationshipIterator graph;
+    private final WeightedRelationshipIterator weightedGraph;
+    private int[] targets = new int[0];
+    private double[] weights = new double[0];
+    private int length;
+    private int index;
+
+    BufferedRelationshipCursor(RelationshipIterator graph) {
+        this.graph = graph;
+        this.weightedGraph = graph instanceof WeightedRelationshipIterator
+                ? (WeightedRelationshipIterator) graph
+                : null;
+    }
+
+    @Override
+    public RelationshipCursor reset(int nodeId, Direction direction) {
+        sourceNodeId = nodeId;
+        length = 0;
+        index = 0;
+        if (weightedGraph != null) {
+            weightedGraph.forEachRelationship(nodeId, direction, (WeightedRelationshipConsumer) this);
+        } else {
+            graph.forEachRelationship(nodeId, direction, (RelationshipConsumer) this);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean next() {
+        if (index < length) {
+            targetNodeId = targets[index++];
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public double weight() {
+        if (weightedGraph == null) {
+            throw new UnsupportedOperationException("weight");
+        }
+        return weights[index - 1];
+    }
+
+    @Override
+    public boolean accept(int sourceNodeId, int targetNodeId, long relationId) {
+        ensureCapacity();
+        targets[length++] = targetNodeId;
+        return true;
+    }
+
+    @Override
+    public boolean accept(int sourceNodeId, int targetNodeId, long relationId, double weight) {
+        ensureCapacity();
+        weights[length] = weight;
+        targets[length++] = targetNodeId;
+        return true;
+    }
+
+    private void ensureCapacity() {
+        if (length == targets.length) {
+            targets = ArrayUtil.grow(targets, length + 1);
+            if (weightedGraph != null) {
+                weights = ArrayUtil.grow(weights, targets.length);
+            }
+        }
+    }
+}
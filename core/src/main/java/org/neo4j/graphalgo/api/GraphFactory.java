@@ -1,15 +1,20 @@
 package org.neo4j.graphalgo.api;
 
+import org.neo4j.collection.primitive.PrimitiveIntIterable;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.HugeNullWeightMap;
 import org.neo4j.graphalgo.core.HugeWeightMap;
 import org.neo4j.graphalgo.core.IdMap;
 import org.neo4j.graphalgo.core.NodeImporter;
+import org.neo4j.graphalgo.core.NodeOrder;
+import org.neo4j.graphalgo.core.NodeReordering;
 import org.neo4j.graphalgo.core.NullWeightMap;
 import org.neo4j.graphalgo.core.WeightMap;
 import org.neo4j.graphalgo.core.huge.HugeIdMap;
 import org.neo4j.graphalgo.core.huge.HugeNodeImporter;
 import org.neo4j.graphalgo.core.utils.ImportProgress;
+import org.neo4j.graphalgo.core.utils.ParallelGraphImporter;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.ProgressLoggerAdapter;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
@@ -19,6 +24,9 @@ import org.neo4j.kernel.internal.GraphDatabaseAPI;
 import org.neo4j.logging.Log;
 import org.neo4j.logging.NullLog;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -53,7 +61,8 @@ public abstract class GraphFactory {
                 dimensions.hugeNodeCount(),
                 dimensions.maxRelCount(),
                 setup.loadIncoming,
-                setup.loadOutgoing);
+                setup.loadOutgoing,
+                setup.terminationFlag);
     }
 
     public abstract Graph build();
@@ -62,9 +71,24 @@ public abstract class GraphFactory {
         final NodeImporter nodeImporter = new NodeImporter(
                 api,
                 progress,
+                setup.tracker,
+                threadPool,
+                setup.concurrency(),
                 dimensions.nodeCount(),
+                dimensions.allNodesCount(),
                 dimensions.labelId());
-        return nodeImporter.call();
+        final IdMap idMap = nodeImporter.call();
+        if (setup.nodeOrder == NodeOrder.NONE) {
+            return idMap;
+        }
+        return new NodeReordering(
+                api,
+                idMap,
+                setup.nodeOrder,
+                dimensions.relationId(),
+                threadPool,
+                setup.concurrency(),
+                setup.batchSize).call();
     }
 
     protected HugeIdMap loadHugeIdMap(AllocationTracker tracker) throws EntityNotFoundException {
@@ -72,7 +96,8 @@ public abstract class GraphFactory {
                 api,
                 tracker,
                 progress,
-                dimensions.hugeNodeCount(),
+                threadPool,
+                setup.concurrency(),
                 dimensions.allNodesCount(),
                 dimensions.labelId());
         return nodeImporter.call();
@@ -93,6 +118,28 @@ public abstract class GraphFactory {
                     : new HugeWeightMap(dimensions.hugeNodeCount(), defaultValue, tracker);
     }
 
+    /**
+     * Runs one importer for every batch of nodes and waits for all of them.
+     * A batch is never skipped, not even on a busy pool, and the errors of
+     * all importers are rethrown, chained.
+     *
+     * @return the importers in the order of their batches
+     */
+    protected <T extends Runnable> List<T> runBatches(
+            int batchSize,
+            IdMap idMap,
+            ParallelGraphImporter<T> importer) {
+        final Collection<PrimitiveIntIterable> batches = idMap.batchIterables(batchSize);
+        final List<T> tasks = new ArrayList<>(batches.size());
+        int nodeOffset = 0;
+        for (PrimitiveIntIterable batch : batches) {
+            tasks.add(importer.newImporter(nodeOffset, batch));
+            nodeOffset += batchSize;
+        }
+        ParallelUtil.run(tasks, threadPool);
+        return tasks;
+    }
+
     private static ProgressLogger progressLogger(Log log, long time, TimeUnit unit) {
         if (log == NullLog.getInstance()) {
             return ProgressLogger.NULL_LOGGER;
@@ -1,11 +1,15 @@
 package org.neo4j.graphalgo.api;
 
+import org.neo4j.graphalgo.core.NodeOrder;
 import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphdb.Direction;
 import org.neo4j.logging.Log;
 import org.neo4j.logging.NullLog;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -16,6 +20,12 @@ import java.util.concurrent.ExecutorService;
  */
 public class GraphSetup {
 
+    /**
+     * the system property that sets the default directory for the temporary
+     * files of the import, {@code java.io.tmpdir} is used if it is not set
+     */
+    public static final String TEMPORARY_DIRECTORY_PROPERTY = "graph.algo.tmpdir";
+
     // start label type. null means any label.
     public final String startLabel;
     // end label type (not yet implemented).
@@ -53,6 +63,12 @@ public class GraphSetup {
     public final int batchSize;
     // TODO
     public final boolean accumulateWeights;
+    // the order of the mapped node ids
+    public final NodeOrder nodeOrder;
+    // loading stops with an exception once this flag is not running anymore
+    public final TerminationFlag terminationFlag;
+    // the directory of the temporary files of the import
+    public final Path temporaryDirectory;
 
     /**
      * main ctor
@@ -71,6 +87,9 @@ public class GraphSetup {
      * @param executor the executor. null means single threaded evaluation
      * @param batchSize batch size for parallel loading
      * @param accumulateWeights true if relationship-weights should be summed within the loader
+     * @param nodeOrder the order in which the nodes get their mapped ids
+     * @param terminationFlag the flag that is checked while loading
+     * @param temporaryDirectory the directory of the temporary files of the import
      */
     public GraphSetup(
             String startLabel,
@@ -87,6 +106,9 @@ public class GraphSetup {
             int concurrency,
             int batchSize,
             boolean accumulateWeights,
+            NodeOrder nodeOrder,
+            TerminationFlag terminationFlag,
+            Path temporaryDirectory,
             Log log,
             long logMillis,
             AllocationTracker tracker) {
@@ -106,6 +128,9 @@ public class GraphSetup {
         this.concurrency = concurrency;
         this.batchSize = batchSize;
         this.accumulateWeights = accumulateWeights;
+        this.nodeOrder = nodeOrder;
+        this.terminationFlag = terminationFlag;
+        this.temporaryDirectory = temporaryDirectory;
         this.log = log;
         this.logMillis = logMillis;
         this.tracker = tracker;
@@ -129,6 +154,9 @@ public class GraphSetup {
         this.concurrency = Pools.DEFAULT_CONCURRENCY;
         this.batchSize = -1;
         this.accumulateWeights = false;
+        this.nodeOrder = NodeOrder.NONE;
+        this.terminationFlag = TerminationFlag.RUNNING_TRUE;
+        this.temporaryDirectory = defaultTemporaryDirectory();
         this.log = NullLog.getInstance();
         this.logMillis = -1;
         this.tracker = AllocationTracker.EMPTY;
@@ -155,6 +183,9 @@ public class GraphSetup {
         this.concurrency = Pools.DEFAULT_CONCURRENCY;
         this.batchSize = -1;
         this.accumulateWeights = false;
+        this.nodeOrder = NodeOrder.NONE;
+        this.terminationFlag = TerminationFlag.RUNNING_TRUE;
+        this.temporaryDirectory = defaultTemporaryDirectory();
         this.log = NullLog.getInstance();
         this.logMillis = -1;
         this.tracker = AllocationTracker.EMPTY;
@@ -190,4 +221,10 @@ public class GraphSetup {
     public boolean loadAnyRelationshipType() {
         return relationshipType == null;
     }
+
+    public static Path defaultTemporaryDirectory() {
+        return Paths.get(System.getProperty(
+                TEMPORARY_DIRECTORY_PROPERTY,
+                System.getProperty("java.io.tmpdir")));
+    }
 }
@@ -1,9 +1,27 @@
 package org.neo4j.graphalgo.api;
 
+import org.neo4j.graphdb.Direction;
+
 /**
+ * Pull based iteration over the relationships of a node.
+ * <p>
+ * Other than {@link RelationshipIterator#forEachRelationship(int, Direction, RelationshipConsumer)}
+ * the loop body is not passed as consumer, so there is no megamorphic call site
+ * and no lambda has to be allocated per node.
+ * <pre>
+ * RelationshipCursor cursor = graph.newRelationshipCursor();
+ * cursor.reset(node, Direction.OUTGOING);
+ * while (cursor.next()) {
+ *     int target = cursor.target();
+ * }
+ * </pre>
+ * A cursor is not thread-safe, every thread needs its own cursor.
+ * It can be reused for any number of nodes, but reading a node
+ * invalidates all other nodes that have been read by it.
+ *
  * @author mknobloch
  */
-public class RelationshipCursor {
+public abstract class RelationshipCursor {
 
     /**
      * the mapped source node id
@@ -11,13 +29,36 @@ public class RelationshipCursor {
     public int sourceNodeId;
 
     /**
-     * the mapped target node id
+     * the mapped target node id, only valid after {@link #next()} returned {@code true}
      */
     public int targetNodeId;
 
     /**
-     * deprecated
+     * positions the cursor before the first relationship of the node.
+     * {@link Direction#BOTH} returns the incoming before the outgoing relationships.
+     *
+     * @return itself for method chaining
      */
-    @Deprecated
-    public long relationshipId;
+    public abstract RelationshipCursor reset(int nodeId, Direction direction);
+
+    /**
+     * advances to the next relationship
+     *
+     * @return false if all relationships have been read
+     */
+    public abstract boolean next();
+
+    /**
+     * @return the weight of the current relationship
+     * @throws UnsupportedOperationException if the graph has no weights
+     */
+    public abstract double weight();
+
+    public final int source() {
+        return sourceNodeId;
+    }
+
+    public final int target() {
+        return targetNodeId;
+    }
 }
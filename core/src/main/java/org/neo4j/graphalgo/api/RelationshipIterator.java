@@ -9,6 +9,14 @@ public interface RelationshipIterator extends IncomingRelationshipIterator, Outg
 
     void forEachRelationship(int nodeId, Direction direction, RelationshipConsumer consumer);
 
+    /**
+     * @return a new cursor to pull the relationships of a node
+     * @see RelationshipCursor
+     */
+    default RelationshipCursor newRelationshipCursor() {
+        return new BufferedRelationshipCursor(this);
+    }
+
     @Override
     default void forEachIncoming(int nodeId, RelationshipConsumer consumer) {
         forEachRelationship(nodeId, Direction.INCOMING, consumer);
@@ -1,14 +1,23 @@
 package org.neo4j.graphalgo.core;
 
+import org.neo4j.graphalgo.api.GraphFactory;
 import org.neo4j.graphalgo.api.GraphSetup;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.CompressedLightGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
+import org.neo4j.graphalgo.core.neo4jview.GraphViewFactory;
 import org.neo4j.graphalgo.core.utils.StatementTask;
 import org.neo4j.kernel.api.ReadOperations;
 import org.neo4j.kernel.api.Statement;
 import org.neo4j.kernel.api.StatementConstants;
+import org.neo4j.kernel.impl.store.id.IdGeneratorFactory;
+import org.neo4j.kernel.impl.store.id.IdType;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
 public final class GraphDimensions extends StatementTask<GraphDimensions, RuntimeException> {
     private final GraphSetup setup;
+    private final IdGeneratorFactory idGeneratorFactory;
 
     private long nodeCount;
     private long allNodesCount;
@@ -25,12 +34,18 @@ public final class GraphDimensions extends StatementTask<GraphDimensions, Runtim
             GraphSetup setup) {
         super(api);
         this.setup = setup;
+        this.idGeneratorFactory = api
+                .getDependencyResolver()
+                .resolveDependency(IdGeneratorFactory.class);
     }
 
     public long hugeNodeCount() {
         return nodeCount;
     }
 
+    /**
+     * @return an upper bound for all neo node ids
+     */
     public long allNodesCount() {
         return allNodesCount;
     }
@@ -67,6 +82,70 @@ public final class GraphDimensions extends StatementTask<GraphDimensions, Runtim
         return nodePropId;
     }
 
+    /**
+     * A rough estimate of the heap that loading the graph with the given implementation
+     * takes. The counts are upper bounds and the sizes per node and relationship are
+     * taken at the upper end, so the estimate rather overshoots.
+     */
+    public long estimateMemoryUsage(Class<? extends GraphFactory> factoryType) {
+        final long directions = (setup.loadIncoming ? 1 : 0) + (setup.loadOutgoing ? 1 : 0);
+        final long bytesPerNode;
+        final long bytesPerNodeAndDirection;
+        final long bytesPerRelationship;
+        if (factoryType == GraphViewFactory.class) {
+            // reads the store, nothing is loaded
+            return 0L;
+        } else if (factoryType == HugeGraphFactory.class) {
+            // id map and degree-sized vlong compressed adjacency pages
+            bytesPerNode = 16L;
+            bytesPerNodeAndDirection = Long.BYTES;
+            bytesPerRelationship = 4L;
+        } else if (factoryType == MappedHugeGraphFactory.class) {
+            // the adjacency is written to a memory mapped file
+            bytesPerNode = 16L;
+            bytesPerNodeAndDirection = Long.BYTES;
+            bytesPerRelationship = 0L;
+        } else if (factoryType == CompressedLightGraphFactory.class) {
+            bytesPerNode = 24L;
+            bytesPerNodeAndDirection = Long.BYTES;
+            bytesPerRelationship = 4L;
+        } else if (factoryType == LightGraphFactory.class) {
+            bytesPerNode = 24L;
+            bytesPerNodeAndDirection = Long.BYTES;
+            bytesPerRelationship = Integer.BYTES;
+        } else {
+            // heavy graphs keep a growing int array per node and direction
+            bytesPerNode = 24L;
+            bytesPerNodeAndDirection = 24L;
+            bytesPerRelationship = 2L * Integer.BYTES;
+        }
+        long bytes = nodeCount * (bytesPerNode + directions * bytesPerNodeAndDirection);
+        bytes += maxRelCount * directions * bytesPerRelationship;
+        if (relWeightId != StatementConstants.NO_SUCH_PROPERTY_KEY) {
+            // weights are kept in a hash map per relationship
+            bytes += maxRelCount * 24L;
+        }
+        if (nodeWeightId != StatementConstants.NO_SUCH_PROPERTY_KEY) {
+            bytes += nodeCount * 24L;
+        }
+        if (nodePropId != StatementConstants.NO_SUCH_PROPERTY_KEY) {
+            bytes += nodeCount * 24L;
+        }
+        return bytes;
+    }
+
+    /**
+     * A rough estimate of the heap that every loading thread takes in addition to
+     * {@link #estimateMemoryUsage(Class)}, for the ids and the relationships of the
+     * batch of nodes it reads at a time.
+     */
+    public long estimateMemoryUsagePerThread(int batchSize) {
+        final long directions = (setup.loadIncoming ? 1 : 0) + (setup.loadOutgoing ? 1 : 0);
+        final long batchNodes = Math.min(nodeCount, Math.max(0L, batchSize));
+        final long averageDegree = nodeCount > 0L ? (maxRelCount + nodeCount - 1L) / nodeCount : 0L;
+        return batchNodes * (Long.BYTES + directions * averageDegree * Long.BYTES);
+    }
+
     @Override
     public GraphDimensions apply(final Statement statement) throws RuntimeException {
         final ReadOperations readOp = statement.readOperations();
@@ -92,7 +171,9 @@ public final class GraphDimensions extends StatementTask<GraphDimensions, Runtim
                 ? StatementConstants.NO_SUCH_PROPERTY_KEY
                 : readOp.propertyKeyGetForName(setup.nodePropertyName);
         nodeCount = readOp.countsForNode(labelId);
-        allNodesCount = readOp.nodesGetCount();
+        allNodesCount = Math.max(
+                readOp.nodesGetCount(),
+                idGeneratorFactory.get(IdType.NODE).getHighId());
         maxRelCount = Math.max(
                 readOp.countsForRelationshipWithoutTxState(labelId, relationId == null ? ReadOperations.ANY_RELATIONSHIP_TYPE : relationId[0], ReadOperations.ANY_LABEL),
                 readOp.countsForRelationshipWithoutTxState(ReadOperations.ANY_LABEL, relationId == null ? ReadOperations.ANY_RELATIONSHIP_TYPE : relationId[0], labelId)
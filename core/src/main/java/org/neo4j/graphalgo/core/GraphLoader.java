@@ -3,14 +3,18 @@ package org.neo4j.graphalgo.core;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphFactory;
 import org.neo4j.graphalgo.api.GraphSetup;
+import org.neo4j.graphalgo.core.huge.HugeRelationshipScanner;
 import org.neo4j.graphalgo.core.utils.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressLoggerAdapter;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphdb.Direction;
 import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.RelationshipType;
 import org.neo4j.helpers.Exceptions;
+import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.impl.core.ThreadToStatementContextBridge;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 import org.neo4j.logging.Log;
 import org.neo4j.logging.NullLog;
@@ -18,6 +22,7 @@ import org.neo4j.logging.NullLog;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -55,6 +60,9 @@ public class GraphLoader {
     private int batchSize = ParallelUtil.DEFAULT_BATCH_SIZE;
     private int concurrency = Pools.DEFAULT_CONCURRENCY;
     private boolean accumulateWeights;
+    private NodeOrder nodeOrder = NodeOrder.NONE;
+    private TerminationFlag terminationFlag = null;
+    private Path temporaryDirectory = null;
     private Log log = NullLog.getInstance();
     private long logMillis = -1;
     private AllocationTracker tracker = AllocationTracker.EMPTY;
@@ -441,9 +449,40 @@ public class GraphLoader {
         }
     }
 
+    /**
+     * Reads the counts of the graph that {@link #load(Class)} would load
+     * with the current configuration, without loading it.
+     *
+     * @return the dimensions of the graph
+     */
+    public GraphDimensions dimensions() {
+        return new GraphDimensions(api, setup()).call();
+    }
+
+    /**
+     * Creates a scanner over the nodes and relationships that {@link #load(Class)}
+     * would load, for algorithms that only need to see every relationship once
+     * and don't need a graph in memory.
+     *
+     * @return the scanner
+     */
+    public HugeRelationshipScanner scanner() {
+        return new HugeRelationshipScanner(api, setup());
+    }
+
     private GraphFactory invokeConstructor(MethodHandle constructor) {
+        final GraphSetup setup = setup();
+        try {
+            return (GraphFactory) constructor.invoke(api, setup);
+        } catch (Throwable throwable) {
+            throw Exceptions.launderedException(
+                    throwable.getMessage(),
+                    throwable);
+        }
+    }
 
-        final GraphSetup setup = new GraphSetup(
+    private GraphSetup setup() {
+        return new GraphSetup(
                 label,
                 null,
                 relation,
@@ -458,17 +497,12 @@ public class GraphLoader {
                 concurrency,
                 batchSize,
                 accumulateWeights,
+                nodeOrder,
+                terminationFlag != null ? terminationFlag : boundTerminationFlag(),
+                temporaryDirectory != null ? temporaryDirectory : GraphSetup.defaultTemporaryDirectory(),
                 log,
                 logMillis,
                 tracker);
-
-        try {
-            return (GraphFactory) constructor.invoke(api, setup);
-        } catch (Throwable throwable) {
-            throw Exceptions.launderedException(
-                    throwable.getMessage(),
-                    throwable);
-        }
     }
 
     /**
@@ -512,4 +546,54 @@ public class GraphLoader {
         this.accumulateWeights = accumulateWeights;
         return this;
     }
+
+    /**
+     * Assign the mapped node ids in the given order to improve the locality of
+     * the graph. Only graphs with int ids that are loaded from the store
+     * support this, all others ignore it.
+     *
+     * @param nodeOrder the order of the mapped node ids
+     * @return itself to enable fluent interface
+     */
+    public GraphLoader withNodeOrder(NodeOrder nodeOrder) {
+        this.nodeOrder = Objects.requireNonNull(nodeOrder);
+        return this;
+    }
+
+    /**
+     * Stop loading with a {@link org.neo4j.graphdb.TransactionTerminatedException}
+     * once the flag is not running anymore. If no flag is given, the loader
+     * checks the transaction that is bound to the thread calling {@link #load(Class)}.
+     *
+     * @param terminationFlag the flag to check while loading
+     * @return itself to enable fluent interface
+     */
+    public GraphLoader withTerminationFlag(TerminationFlag terminationFlag) {
+        this.terminationFlag = Objects.requireNonNull(terminationFlag);
+        return this;
+    }
+
+    /**
+     * The directory for the temporary files of the import, like the adjacency
+     * of a {@link org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory mapped graph}.
+     * If no directory is given, the system property
+     * {@value GraphSetup#TEMPORARY_DIRECTORY_PROPERTY} or {@code java.io.tmpdir} is used.
+     *
+     * @param temporaryDirectory an existing directory
+     * @return itself to enable fluent interface
+     */
+    public GraphLoader withTemporaryDirectory(Path temporaryDirectory) {
+        this.temporaryDirectory = Objects.requireNonNull(temporaryDirectory);
+        return this;
+    }
+
+    private TerminationFlag boundTerminationFlag() {
+        final KernelTransaction transaction = api
+                .getDependencyResolver()
+                .resolveDependency(ThreadToStatementContextBridge.class)
+                .getKernelTransactionBoundToThisThread(false);
+        return transaction != null
+                ? TerminationFlag.wrap(transaction)
+                : TerminationFlag.RUNNING_TRUE;
+    }
 }
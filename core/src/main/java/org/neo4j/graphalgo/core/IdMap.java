@@ -9,15 +9,24 @@ import org.neo4j.graphalgo.api.BatchNodeIterable;
 import org.neo4j.graphalgo.api.IdMapping;
 import org.neo4j.graphalgo.api.NodeIterator;
 import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.RankedBitSet;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
 import java.util.function.IntPredicate;
 
 /**
  * This is basically a long to int mapper. It sorts the id's in ascending order so its
  * guaranteed that there is no ID greater then nextGraphId / capacity
+ * <p>
+ * The mapping is either backed by a hash map, in which case the ids are mapped
+ * in the order they are added, or by a {@link RankedBitSet} over all neo ids,
+ * in which case the ids are mapped in ascending order of their neo ids. The latter
+ * is a lot smaller if the loaded nodes cover a good part of the neo id space.
+ * <p>
+ * Both can be {@link #reorder(int[]) reordered} after all ids have been added.
  */
 public final class IdMap implements IdMapping, NodeIterator, BatchNodeIterable {
 
@@ -25,6 +34,9 @@ public final class IdMap implements IdMapping, NodeIterator, BatchNodeIterable {
     private int nextGraphId;
     private long[] graphIds;
     private LongIntMap nodeToGraphIds;
+    private RankedBitSet nodeIds;
+    // mapped id by rank in nodeIds, null if the ids have not been reordered
+    private int[] reorderedIds;
 
     /**
      * initialize the map with maximum node capacity
@@ -46,11 +58,33 @@ public final class IdMap implements IdMapping, NodeIterator, BatchNodeIterable {
         iter = new IdIterator();
     }
 
+    /**
+     * CTor for a sorted mapping of all set bits, the ranks of the
+     * bitset must have been built already.
+     */
+    public IdMap(
+            RankedBitSet nodeIds,
+            ExecutorService executor,
+            int concurrency) {
+        this.nodeIds = nodeIds;
+        this.nextGraphId = Math.toIntExact(nodeIds.cardinality());
+        final long[] graphIds = new long[nextGraphId];
+        nodeIds.forEachSetBit(
+                executor,
+                concurrency,
+                (graphId, nodeId) -> graphIds[(int) graphId] = nodeId);
+        this.graphIds = graphIds;
+        iter = new IdIterator();
+    }
+
     public PrimitiveIntIterator iterator() {
         return iter.reset(nextGraphId);
     }
 
     public int mapOrGet(long longValue) {
+        if (nodeIds != null) {
+            return get(longValue);
+        }
         int intValue = nodeToGraphIds.getOrDefault(longValue, -1);
         if (intValue == -1) {
             intValue = nextGraphId++;
@@ -60,21 +94,56 @@ public final class IdMap implements IdMapping, NodeIterator, BatchNodeIterable {
     }
 
     public void add(long longValue) {
+        assert nodeIds == null : "sorted mappings cannot be extended";
         int intValue = nextGraphId++;
         nodeToGraphIds.put(longValue, intValue);
     }
 
     public int get(long longValue) {
+        if (nodeIds != null) {
+            final int rank = (int) nodeIds.indexOf(longValue);
+            return reorderedIds == null || rank == -1 ? rank : reorderedIds[rank];
+        }
         return nodeToGraphIds.getOrDefault(longValue, -1);
     }
 
     public void buildMappedIds() {
+        if (nodeIds != null) {
+            return;
+        }
         graphIds = new long[size()];
         for (final LongIntCursor cursor : nodeToGraphIds) {
             graphIds[cursor.value] = cursor.key;
         }
     }
 
+    /**
+     * Assigns new mapped ids, the node with the mapped id {@code order[i]} gets the mapped id {@code i}.
+     *
+     * @param order a permutation of all mapped ids
+     */
+    public void reorder(int[] order) {
+        final int nodeCount = size();
+        assert order.length == nodeCount;
+        final long[] graphIds = new long[nodeCount];
+        for (int graphId = 0; graphId < nodeCount; graphId++) {
+            graphIds[graphId] = this.graphIds[order[graphId]];
+        }
+        if (nodeIds != null) {
+            final int[] reorderedIds = new int[nodeCount];
+            for (int graphId = 0; graphId < nodeCount; graphId++) {
+                final int rank = (int) nodeIds.rank(graphIds[graphId]);
+                reorderedIds[rank] = graphId;
+            }
+            this.reorderedIds = reorderedIds;
+        } else {
+            for (int graphId = 0; graphId < nodeCount; graphId++) {
+                nodeToGraphIds.put(graphIds[graphId], graphId);
+            }
+        }
+        this.graphIds = graphIds;
+    }
+
     public int size() {
         return nextGraphId;
     }
@@ -83,7 +152,19 @@ public final class IdMap implements IdMapping, NodeIterator, BatchNodeIterable {
         return graphIds;
     }
 
+    /**
+     * The mapping from neo ids to mapped ids. Sorted mappings have no hash map,
+     * it is built from the mapped ids on every call.
+     */
     public LongIntMap nodeToGraphIds() {
+        if (nodeIds != null) {
+            final int nodeCount = size();
+            final LongIntMap nodeToGraphIds = new LongIntHashMap((int) Math.ceil(nodeCount / 0.99), 0.99);
+            for (int graphId = 0; graphId < nodeCount; graphId++) {
+                nodeToGraphIds.put(graphIds[graphId], graphId);
+            }
+            return nodeToGraphIds;
+        }
         return nodeToGraphIds;
     }
 
@@ -108,6 +189,9 @@ public final class IdMap implements IdMapping, NodeIterator, BatchNodeIterable {
 
     @Override
     public boolean contains(final long nodeId) {
+        if (nodeIds != null) {
+            return nodeIds.get(nodeId);
+        }
         return nodeToGraphIds.containsKey(nodeId);
     }
 
@@ -1,44 +1,188 @@
 package org.neo4j.graphalgo.core;
 
 import org.neo4j.collection.primitive.PrimitiveLongIterator;
-import org.neo4j.graphalgo.core.IdMap;
 import org.neo4j.graphalgo.core.utils.ImportProgress;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.StatementTask;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.RankedBitSet;
 import org.neo4j.kernel.api.ReadOperations;
 import org.neo4j.kernel.api.Statement;
 import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
+import org.neo4j.kernel.impl.store.format.standard.NodeRecordFormat;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 public final class NodeImporter extends StatementTask<IdMap, EntityNotFoundException> {
+
+    // approximate size in bits of one entry in the hash map of an IdMap,
+    // one bit of the RankedBitSet costs about 1.125 bits
+    private static final int BITS_PER_HASHED_ID = 100;
+
+    // node records in one page of the node store
+    private static final long RECORDS_PER_PAGE = 8192 / NodeRecordFormat.RECORD_SIZE;
+
+    // parallel scan ranges start on a store page and on a word of the bitset,
+    // so that no two scanners read the same page or write the same word
+    static final long SCAN_ALIGNMENT = lcm(RECORDS_PER_PAGE, Long.SIZE);
+
+    private final GraphDatabaseAPI api;
     private final ImportProgress progress;
+    private final AllocationTracker tracker;
+    private final ExecutorService executor;
+    private final int concurrency;
     private final int nodeCount;
+    private final long allNodesCount;
     private final int labelId;
 
     public NodeImporter(
             GraphDatabaseAPI api,
             ImportProgress progress,
+            AllocationTracker tracker,
+            ExecutorService executor,
+            int concurrency,
             int nodeCount,
+            long allNodesCount,
             int labelId) {
         super(api);
+        this.api = api;
         this.progress = progress;
+        this.tracker = tracker;
+        this.executor = executor;
+        this.concurrency = concurrency;
         this.nodeCount = nodeCount;
+        this.allNodesCount = allNodesCount;
         this.labelId = labelId;
     }
 
     @Override
     public IdMap apply(final Statement statement) throws
             EntityNotFoundException {
+        final IdMap mapping;
+        if (useParallelScan()) {
+            mapping = loadScanned();
+        } else {
+            final ReadOperations readOp = statement.readOperations();
+            final PrimitiveLongIterator nodeIds = labelId == ReadOperations.ANY_LABEL
+                    ? readOp.nodesGetAll()
+                    : readOp.nodesGetForLabel(labelId);
+            mapping = useBitSet()
+                    ? loadSorted(nodeIds)
+                    : loadHashed(nodeIds);
+        }
+        progress.resetForRelationships();
+        return mapping;
+    }
+
+    private boolean useBitSet() {
+        return (long) nodeCount * BITS_PER_HASHED_ID >= allNodesCount;
+    }
+
+    /**
+     * Scanning the node store only pays off when all nodes are loaded,
+     * a label is cheaper read from the label scan store.
+     */
+    private boolean useParallelScan() {
+        return labelId == ReadOperations.ANY_LABEL &&
+                concurrency > 1 &&
+                allNodesCount > SCAN_ALIGNMENT &&
+                ParallelUtil.canRunInParallel(executor);
+    }
+
+    private IdMap loadScanned() {
+        final RankedBitSet bits = RankedBitSet.newBitSet(allNodesCount, tracker);
+        final long rangeSize = scanRangeSize(allNodesCount, concurrency);
+        final List<ScanTask> tasks = new ArrayList<>();
+        for (long start = 0; start < allNodesCount; start += rangeSize) {
+            tasks.add(new ScanTask(
+                    api,
+                    bits,
+                    progress,
+                    start,
+                    Math.min(allNodesCount, start + rangeSize)));
+        }
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executor);
+        bits.buildRanks(executor, concurrency);
+        return new IdMap(bits, executor, concurrency);
+    }
+
+    private IdMap loadSorted(PrimitiveLongIterator nodeIds) {
+        final RankedBitSet bits = RankedBitSet.newBitSet(allNodesCount, tracker);
+        while (nodeIds.hasNext()) {
+            bits.set(nodeIds.next());
+            progress.nodeProgress();
+        }
+        bits.buildRanks(executor, concurrency);
+        return new IdMap(bits, executor, concurrency);
+    }
+
+    private IdMap loadHashed(PrimitiveLongIterator nodeIds) {
         final IdMap mapping = new IdMap(nodeCount);
-        final ReadOperations readOp = statement.readOperations();
-        final PrimitiveLongIterator nodeIds = labelId == ReadOperations.ANY_LABEL
-                ? readOp.nodesGetAll()
-                : readOp.nodesGetForLabel(labelId);
         while (nodeIds.hasNext()) {
             mapping.add(nodeIds.next());
             progress.nodeProgress();
         }
         mapping.buildMappedIds();
-        progress.resetForRelationships();
         return mapping;
     }
+
+    /**
+     * splits the id space into about four ranges per thread for load balancing,
+     * every range is a multiple of {@link #SCAN_ALIGNMENT}
+     */
+    static long scanRangeSize(long allNodesCount, int concurrency) {
+        final long ranges = Math.max(1L, concurrency * 4L);
+        final long rangeSize = ParallelUtil.threadSize(ranges, allNodesCount);
+        return ParallelUtil.threadSize(SCAN_ALIGNMENT, rangeSize) * SCAN_ALIGNMENT;
+    }
+
+    private static long lcm(long a, long b) {
+        long x = a, y = b;
+        while (y != 0) {
+            long t = x % y;
+            x = y;
+            y = t;
+        }
+        return a / x * b;
+    }
+
+    private static final class ScanTask extends StatementTask<Void, RuntimeException> {
+        private final RankedBitSet bits;
+        private final ImportProgress progress;
+        private final long start;
+        private final long end;
+
+        private ScanTask(
+                GraphDatabaseAPI api,
+                RankedBitSet bits,
+                ImportProgress progress,
+                long start,
+                long end) {
+            super(api);
+            this.bits = bits;
+            this.progress = progress;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String threadName() {
+            return String.format("NodeScan (%d..%d)", start, end);
+        }
+
+        @Override
+        public Void apply(final Statement statement) {
+            final ReadOperations readOp = statement.readOperations();
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                if (readOp.nodeExists(nodeId)) {
+                    bits.set(nodeId);
+                    progress.nodeProgress();
+                }
+            }
+            return null;
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package org.neo4j.graphalgo.core;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The order in which the loaded nodes get their mapped ids.
+ * <p>
+ * The mapped id of a node is its index into the adjacency of the graph and into
+ * the score arrays of most algorithms. Nodes that are visited together should have
+ * close ids, so that their data shares cache lines and pages.
+ *
+ * @see NodeReordering
+ */
+public enum NodeOrder {
+
+    /**
+     * mapped ids follow the order of the neo ids
+     */
+    NONE,
+
+    /**
+     * nodes with more relationships get smaller ids, so that the
+     * frequently accessed hubs are packed at the start of every array
+     */
+    DEGREE,
+
+    /**
+     * ids are assigned in breadth first order, starting from every unvisited
+     * node in turn, so that the neighbours of a node get consecutive ids
+     */
+    BFS;
+
+    public static NodeOrder parse(String name) {
+        if (name == null || name.isEmpty()) {
+            return NONE;
+        }
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Unknown node order: " + name + ", expected one of " + Arrays.toString(values()),
+                    e);
+        }
+    }
+}
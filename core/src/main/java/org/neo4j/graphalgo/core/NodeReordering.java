@@ -0,0 +1,183 @@
+package org.neo4j.graphalgo.core;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.collection.primitive.PrimitiveIntIterable;
+import org.neo4j.collection.primitive.PrimitiveIntIterator;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.StatementTask;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.Statement;
+import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
+import org.neo4j.kernel.impl.api.RelationshipVisitor;
+import org.neo4j.kernel.impl.api.store.RelationshipIterator;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Assigns new mapped ids to the nodes of an {@link IdMap} in the given {@link NodeOrder}.
+ * This happens after the nodes are loaded and before the relationships are imported,
+ * so the adjacency is built with the new ids right away.
+ * <p>
+ * Both orders read the store once more: {@link NodeOrder#DEGREE} reads
+ * the degree of every node in parallel, {@link NodeOrder#BFS} traverses
+ * all relationships on a single thread.
+ */
+public final class NodeReordering extends StatementTask<IdMap, EntityNotFoundException>
+        implements RelationshipVisitor<RuntimeException> {
+
+    private final GraphDatabaseAPI api;
+    private final IdMap mapping;
+    private final NodeOrder nodeOrder;
+    private final int[] relationId;
+    private final ExecutorService executor;
+    private final int concurrency;
+    private final int batchSize;
+
+    private BitSet visited;
+    private int[] order;
+    private int tail;
+    private long sourceNodeId;
+
+    public NodeReordering(
+            GraphDatabaseAPI api,
+            IdMap mapping,
+            NodeOrder nodeOrder,
+            int[] relationId,
+            ExecutorService executor,
+            int concurrency,
+            int batchSize) {
+        super(api);
+        this.api = api;
+        this.mapping = mapping;
+        this.nodeOrder = nodeOrder;
+        this.relationId = relationId;
+        this.executor = executor;
+        this.concurrency = concurrency;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public IdMap apply(final Statement statement) throws EntityNotFoundException {
+        switch (nodeOrder) {
+            case DEGREE:
+                mapping.reorder(degreeOrder());
+                break;
+            case BFS:
+                mapping.reorder(bfsOrder(statement.readOperations()));
+                break;
+            default:
+                break;
+        }
+        return mapping;
+    }
+
+    private int[] degreeOrder() {
+        final int nodeCount = mapping.size();
+        final int[] degrees = new int[nodeCount];
+        ParallelUtil.readParallel(
+                concurrency,
+                ParallelUtil.adjustBatchSize(nodeCount, concurrency, batchSize),
+                mapping,
+                (offset, nodes) -> new DegreeTask(api, mapping, nodes, offset, relationId, degrees),
+                executor);
+
+        // descending by degree, ties keep their current order
+        final long[] keys = new long[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            keys[node] = ((long) (Integer.MAX_VALUE - degrees[node]) << Integer.SIZE) | node;
+        }
+        Arrays.parallelSort(keys);
+        final int[] order = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    private int[] bfsOrder(ReadOperations readOp) throws EntityNotFoundException {
+        final int nodeCount = mapping.size();
+        visited = new BitSet(nodeCount);
+        order = new int[nodeCount];
+        tail = 0;
+        // the order is the queue of the bfs
+        for (int start = 0; start < nodeCount; start++) {
+            if (visited.get(start)) {
+                continue;
+            }
+            visited.set(start);
+            order[tail++] = start;
+            for (int head = tail - 1; head < tail; head++) {
+                sourceNodeId = mapping.toOriginalNodeId(order[head]);
+                final RelationshipIterator rels = relationId == null
+                        ? readOp.nodeGetRelationships(sourceNodeId, Direction.BOTH)
+                        : readOp.nodeGetRelationships(sourceNodeId, Direction.BOTH, relationId);
+                while (rels.hasNext()) {
+                    rels.relationshipVisit(rels.next(), this);
+                }
+            }
+        }
+        final int[] order = this.order;
+        this.order = null;
+        visited = null;
+        return order;
+    }
+
+    @Override
+    public void visit(
+            final long relationshipId,
+            final int typeId,
+            final long startNodeId,
+            final long endNodeId) {
+        final long otherNodeId = startNodeId == sourceNodeId ? endNodeId : startNodeId;
+        final int graphId = mapping.get(otherNodeId);
+        if (graphId != -1 && !visited.get(graphId)) {
+            visited.set(graphId);
+            order[tail++] = graphId;
+        }
+    }
+
+    private static final class DegreeTask extends StatementTask<Void, EntityNotFoundException> {
+        private final IdMap mapping;
+        private final PrimitiveIntIterable nodes;
+        private final int nodeOffset;
+        private final int[] relationId;
+        private final int[] degrees;
+
+        private DegreeTask(
+                GraphDatabaseAPI api,
+                IdMap mapping,
+                PrimitiveIntIterable nodes,
+                int nodeOffset,
+                int[] relationId,
+                int[] degrees) {
+            super(api);
+            this.mapping = mapping;
+            this.nodes = nodes;
+            this.nodeOffset = nodeOffset;
+            this.relationId = relationId;
+            this.degrees = degrees;
+        }
+
+        @Override
+        public String threadName() {
+            return "NodeReordering-" + nodeOffset;
+        }
+
+        @Override
+        public Void apply(final Statement statement) throws EntityNotFoundException {
+            final ReadOperations readOp = statement.readOperations();
+            final PrimitiveIntIterator iterator = nodes.iterator();
+            while (iterator.hasNext()) {
+                final int graphId = iterator.next();
+                final long nodeId = mapping.toOriginalNodeId(graphId);
+                degrees[graphId] = relationId == null
+                        ? readOp.nodeGetDegree(nodeId, Direction.BOTH)
+                        : readOp.nodeGetDegree(nodeId, Direction.BOTH, relationId[0]);
+            }
+            return null;
+        }
+    }
+}
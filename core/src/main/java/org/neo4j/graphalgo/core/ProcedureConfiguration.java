@@ -4,6 +4,8 @@ import org.neo4j.graphalgo.api.GraphFactory;
 import org.neo4j.graphalgo.core.heavyweight.HeavyCypherGraphFactory;
 import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
 import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.CompressedLightGraphFactory;
 import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
 import org.neo4j.graphalgo.core.neo4jview.GraphViewFactory;
 import org.neo4j.graphalgo.core.utils.Directions;
@@ -249,15 +251,44 @@ public class ProcedureConfiguration {
         return Directions.fromString(getDirectionName(defaultDirection.name()));
     }
 
+    /**
+     * return the order of the mapped node ids, one of {@code none}, {@code degree} or {@code bfs}
+     */
+    public NodeOrder getNodeOrder() {
+        return NodeOrder.parse(getString(
+                ProcedureConstants.NODE_ORDER,
+                ProcedureConstants.NODE_ORDER_DEFAULT));
+    }
+
+    /**
+     * return the max time in milliseconds to wait for the admission of the run,
+     * a negative value waits until the run is admitted or terminated
+     */
+    public long getQueueTimeout() {
+        return getNumber(
+                ProcedureConstants.QUEUE_TIMEOUT,
+                ProcedureConstants.QUEUE_TIMEOUT_DEFAULT).longValue();
+    }
+
     /**
      * return the Graph-Implementation Factory class
      *
      * @return
      */
     public Class<? extends GraphFactory> getGraphImpl() {
+        return getGraphImpl(ProcedureConstants.DEFAULT_GRAPH_IMPL);
+    }
+
+    /**
+     * return the Graph-Implementation Factory class
+     *
+     * @param defaultGraphImpl the graph impl name to use if none is configured
+     * @return
+     */
+    public Class<? extends GraphFactory> getGraphImpl(String defaultGraphImpl) {
         final String graphImpl = getString(
                 ProcedureConstants.GRAPH_IMPL_PARAM,
-                ProcedureConstants.DEFAULT_GRAPH_IMPL);
+                defaultGraphImpl);
         switch (graphImpl.toLowerCase(Locale.ROOT)) {
             case "heavy":
                 return HeavyGraphFactory.class;
@@ -265,10 +296,14 @@ public class ProcedureConfiguration {
                 return HeavyCypherGraphFactory.class;
             case "light":
                 return LightGraphFactory.class;
+            case "compressed":
+                return CompressedLightGraphFactory.class;
             case "kernel":
                 return GraphViewFactory.class;
             case "huge":
                 return HugeGraphFactory.class;
+            case "mapped":
+                return MappedHugeGraphFactory.class;
             default:
                 throw new IllegalArgumentException("Unknown impl: " + graphImpl);
         }
@@ -43,4 +43,12 @@ public class ProcedureConstants {
 
     public static final String CONCURRENCY = "concurrency";
 
+    public static final String NODE_ORDER = "reorder";
+
+    public static final String NODE_ORDER_DEFAULT = "none";
+
+    public static final String QUEUE_TIMEOUT = "queueTimeout";
+
+    public static final long QUEUE_TIMEOUT_DEFAULT = -1L;
+
 }
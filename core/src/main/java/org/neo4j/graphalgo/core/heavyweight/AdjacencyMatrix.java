@@ -13,6 +13,7 @@ import java.util.function.IntPredicate;
  * Relation Container built of multiple arrays. The node capacity must be constant and the node IDs have to be
  * smaller then the capacity. The number of relations per node is limited only to the maximum array size of the VM
  * and connections can be added dynamically.
+ * Different threads may add the connections of different nodes concurrently.
  *
  * @author mknblch
  */
@@ -214,17 +215,6 @@ class AdjacencyMatrix {
                 : 0;
     }
 
-    public void addMatrix(AdjacencyMatrix other, int offset, int length) {
-        if (other.outgoing != null) {
-            System.arraycopy(other.outgoing, 0, outgoing, offset, length);
-            System.arraycopy(other.outOffsets, 0, outOffsets, offset, length);
-        }
-        if (other.incoming != null) {
-            System.arraycopy(other.incoming, 0, incoming, offset, length);
-            System.arraycopy(other.inOffsets, 0, inOffsets, offset, length);
-        }
-    }
-
     private void forEachOutgoing(int nodeId, RelationshipConsumer consumer) {
         final int degree = outOffsets[nodeId];
         final int[] outs = outgoing[nodeId];
@@ -4,6 +4,7 @@ import org.neo4j.collection.primitive.PrimitiveIntIterable;
 import org.neo4j.collection.primitive.PrimitiveIntIterator;
 import org.neo4j.graphalgo.api.*;
 import org.neo4j.graphalgo.core.IdMap;
+import org.neo4j.graphalgo.core.utils.RawValues;
 import org.neo4j.graphdb.Direction;
 
 import java.util.Collection;
@@ -73,6 +74,11 @@ public class HeavyGraph implements Graph, RelationshipWeights, NodeWeights, Node
         container.forEach(nodeId, direction, relationshipWeights, consumer);
     }
 
+    @Override
+    public RelationshipCursor newRelationshipCursor() {
+        return new Cursor();
+    }
+
     @Override
     public int toMappedNodeId(long originalNodeId) {
         return nodeIdMap.get(originalNodeId);
@@ -110,4 +116,58 @@ public class HeavyGraph implements Graph, RelationshipWeights, NodeWeights, Node
         nodeWeights = null;
         nodeProperties = null;
     }
+
+    private final class Cursor extends RelationshipCursor {
+        private int[] targets;
+        private int offset;
+        private int degree;
+        private boolean outgoing;
+        private boolean outgoingNext;
+
+        @Override
+        public RelationshipCursor reset(int nodeId, Direction direction) {
+            sourceNodeId = nodeId;
+            outgoingNext = direction == Direction.BOTH;
+            if (direction == Direction.OUTGOING) {
+                startOutgoing(nodeId);
+            } else {
+                startIncoming(nodeId);
+            }
+            return this;
+        }
+
+        @Override
+        public boolean next() {
+            while (offset >= degree) {
+                if (!outgoingNext) {
+                    return false;
+                }
+                outgoingNext = false;
+                startOutgoing(sourceNodeId);
+            }
+            targetNodeId = targets[offset++];
+            return true;
+        }
+
+        @Override
+        public double weight() {
+            return relationshipWeights.get(outgoing
+                    ? RawValues.combineIntInt(sourceNodeId, targetNodeId)
+                    : RawValues.combineIntInt(targetNodeId, sourceNodeId));
+        }
+
+        private void startIncoming(int node) {
+            outgoing = false;
+            targets = container.incoming[node];
+            degree = container.inOffsets[node];
+            offset = 0;
+        }
+
+        private void startOutgoing(int node) {
+            outgoing = true;
+            targets = container.outgoing[node];
+            degree = container.outOffsets[node];
+            offset = 0;
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package org.neo4j.graphalgo.core.heavyweight;
+
+import org.neo4j.graphalgo.api.WeightMapping;
+import org.neo4j.graphalgo.core.IdMap;
+import org.neo4j.graphalgo.core.NullWeightMap;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.LongArray;
+import org.neo4j.graphalgo.core.utils.paged.RankedBitSet;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Builds a {@link HeavyGraph} from adjacency lists that are already in memory,
+ * e.g. from generated graphs, instead of importing them from the database.
+ * <p>
+ * The adjacency of a direction is given in compressed sparse row format:
+ * the targets of node {@code n} are stored in {@code targets[offsets[n], offsets[n + 1])}.
+ * Node ids are used as they are, the original id of a node is equal to its mapped id.
+ *
+ * @see org.neo4j.graphalgo.core.huge.HugeGraphBuilder
+ */
+public final class HeavyGraphBuilder {
+
+    private HeavyGraphBuilder() {
+        throw new UnsupportedOperationException("No instances");
+    }
+
+    /**
+     * @param nodeCount           the number of nodes
+     * @param outOffsets          {@code nodeCount + 1} offsets into {@code outTargets}, or null to not load outgoing relationships
+     * @param outTargets          the outgoing targets of all nodes
+     * @param inOffsets           {@code nodeCount + 1} offsets into {@code inTargets}, or null to not load incoming relationships
+     * @param inTargets           the incoming targets of all nodes
+     * @param relationshipWeights the relationship weights, keyed by {@link org.neo4j.graphalgo.core.utils.RawValues#combineIntInt(int, int)}
+     * @param executor            the executor to build the adjacency matrix in, may be null
+     * @param concurrency         the number of tasks that build the adjacency matrix concurrently
+     */
+    public static HeavyGraph build(
+            int nodeCount,
+            LongArray outOffsets,
+            LongArray outTargets,
+            LongArray inOffsets,
+            LongArray inTargets,
+            WeightMapping relationshipWeights,
+            ExecutorService executor,
+            int concurrency) {
+        final RankedBitSet nodeIds = RankedBitSet.newBitSet(nodeCount, AllocationTracker.EMPTY);
+        for (int node = 0; node < nodeCount; node++) {
+            nodeIds.set(node);
+        }
+        nodeIds.buildRanks(executor, concurrency);
+        final IdMap idMap = new IdMap(nodeIds, executor, concurrency);
+
+        final int[] outDegrees = outOffsets != null ? new int[nodeCount] : null;
+        final int[][] outgoing = outOffsets != null ? new int[nodeCount][] : null;
+        final int[] inDegrees = inOffsets != null ? new int[nodeCount] : null;
+        final int[][] incoming = inOffsets != null ? new int[nodeCount][] : null;
+        final boolean parallel = concurrency > 1 && ParallelUtil.canRunInParallel(executor);
+        if (outOffsets != null) {
+            copy(nodeCount, outOffsets, outTargets, outDegrees, outgoing, parallel, executor, concurrency);
+        }
+        if (inOffsets != null) {
+            copy(nodeCount, inOffsets, inTargets, inDegrees, incoming, parallel, executor, concurrency);
+        }
+
+        return new HeavyGraph(
+                idMap,
+                new AdjacencyMatrix(outDegrees, inDegrees, outgoing, incoming),
+                relationshipWeights,
+                new NullWeightMap(1.0),
+                new NullWeightMap(1.0));
+    }
+
+    private static void copy(
+            int nodeCount,
+            LongArray offsets,
+            LongArray targets,
+            int[] degrees,
+            int[][] adjacency,
+            boolean parallel,
+            ExecutorService executor,
+            int concurrency) {
+        if (!parallel) {
+            for (int node = 0; node < nodeCount; node++) {
+                copy(node, offsets, targets, degrees, adjacency);
+            }
+            return;
+        }
+        ParallelUtil.iterateParallel(
+                executor,
+                nodeCount,
+                concurrency,
+                node -> copy(node, offsets, targets, degrees, adjacency));
+    }
+
+    private static void copy(
+            int node,
+            LongArray offsets,
+            LongArray targets,
+            int[] degrees,
+            int[][] adjacency) {
+        final long start = offsets.get(node);
+        final int degree = Math.toIntExact(offsets.get(node + 1L) - start);
+        final int[] nodeTargets = new int[degree];
+        for (int i = 0; i < degree; i++) {
+            nodeTargets[i] = (int) targets.get(start + i);
+        }
+        degrees[node] = degree;
+        adjacency[node] = nodeTargets;
+    }
+}
@@ -52,13 +52,16 @@ public class HeavyGraphFactory extends GraphFactory {
                 setup.nodeDefaultPropertyValue);
 
         int concurrency = setup.concurrency();
-        final int nodeCount = dimensions.nodeCount();
+        final int nodeCount = idMap.size();
+        final AdjacencyMatrix matrix = new AdjacencyMatrix(
+                nodeCount,
+                setup.loadIncoming,
+                setup.loadOutgoing);
         int actualBatchSize = ParallelUtil.adjustBatchSize(
                 nodeCount,
                 concurrency,
                 batchSize);
-        Collection<RelationshipImporter> tasks = ParallelUtil.readParallel(
-                concurrency,
+        Collection<RelationshipImporter> tasks = runBatches(
                 actualBatchSize,
                 idMap,
                 (offset, nodeIds) -> new RelationshipImporter(
@@ -69,16 +72,16 @@ public class HeavyGraphFactory extends GraphFactory {
                         actualBatchSize,
                         offset,
                         idMap,
+                        matrix,
                         nodeIds,
                         relWeights,
                         nodeWeights,
                         nodeProps
-                ),
-                threadPool);
+                ));
 
         final Graph graph = buildCompleteGraph(
-                nodeCount,
                 idMap,
+                matrix,
                 relWeights,
                 nodeWeights,
                 nodeProps,
@@ -89,23 +92,27 @@ public class HeavyGraphFactory extends GraphFactory {
     }
 
     private Graph buildCompleteGraph(
-            int nodeCount,
             final IdMap idMap,
+            final AdjacencyMatrix matrix,
             final Supplier<WeightMapping> relWeightsSupplier,
             final Supplier<WeightMapping> nodeWeightsSupplier,
             final Supplier<WeightMapping> nodePropsSupplier,
             Collection<RelationshipImporter> tasks) {
         if (tasks.size() == 1) {
             RelationshipImporter importer = tasks.iterator().next();
-            return importer.toGraph(idMap);
+            return new HeavyGraph(
+                    idMap,
+                    matrix,
+                    importer.relWeights(),
+                    importer.nodeWeights(),
+                    importer.nodeProps());
         }
 
-        final AdjacencyMatrix matrix = new AdjacencyMatrix(nodeCount);
         final WeightMapping relWeights = relWeightsSupplier.get();
         final WeightMapping nodeWeights = nodeWeightsSupplier.get();
         final WeightMapping nodeProps = nodePropsSupplier.get();
         for (RelationshipImporter task : tasks) {
-            task.writeInto(matrix, relWeights, nodeWeights, nodeProps);
+            task.writeInto(relWeights, nodeWeights, nodeProps);
             task.release();
         }
 
@@ -1,10 +1,8 @@
 package org.neo4j.graphalgo.core.heavyweight;
 
 import com.carrotsearch.hppc.LongDoubleMap;
-import com.carrotsearch.hppc.cursors.LongDoubleCursor;
 import org.neo4j.collection.primitive.PrimitiveIntIterable;
 import org.neo4j.collection.primitive.PrimitiveIntIterator;
-import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphSetup;
 import org.neo4j.graphalgo.api.WeightMapping;
 import org.neo4j.graphalgo.core.GraphDimensions;
@@ -38,7 +36,7 @@ final class RelationshipImporter extends StatementTask<Void, EntityNotFoundExcep
 
     private AdjacencyMatrix matrix;
     private final int nodeOffset;
-    private int currentNodeCount;
+    private final int nodeSize;
 
     private int sourceGraphId;
 
@@ -50,15 +48,17 @@ final class RelationshipImporter extends StatementTask<Void, EntityNotFoundExcep
             int batchSize,
             int nodeOffset,
             IdMap idMap,
+            AdjacencyMatrix matrix,
             PrimitiveIntIterable nodes,
             Supplier<WeightMapping> relWeights,
             Supplier<WeightMapping> nodeWeights,
             Supplier<WeightMapping> nodeProps) {
         super(api);
-        int nodeSize = Math.min(batchSize, idMap.size() - nodeOffset);
+        this.nodeSize = Math.min(batchSize, idMap.size() - nodeOffset);
         this.progress = progress;
         this.nodeOffset = nodeOffset;
         this.idMap = idMap;
+        this.matrix = matrix;
         this.nodes = nodes;
         this.relWeights = relWeights.get();
         this.nodeWeights = nodeWeights.get();
@@ -66,8 +66,6 @@ final class RelationshipImporter extends StatementTask<Void, EntityNotFoundExcep
         this.relationId = dimensions.relationId();
         loadIncoming = setup.loadIncoming;
         loadOutgoing = setup.loadOutgoing;
-        this.matrix = new AdjacencyMatrix(nodeSize, loadIncoming, loadOutgoing);
-        this.currentNodeCount = 0;
     }
 
     @Override
@@ -75,7 +73,7 @@ final class RelationshipImporter extends StatementTask<Void, EntityNotFoundExcep
         return String.format(
                 "[Heavy] RelationshipImport (%d..%d)",
                 nodeOffset,
-                nodeOffset + matrix.capacity());
+                nodeOffset + nodeSize);
     }
 
     @Override
@@ -118,13 +116,10 @@ final class RelationshipImporter extends StatementTask<Void, EntityNotFoundExcep
         }
 
         PrimitiveIntIterator iterator = nodes.iterator();
-        int nodeOffset = this.nodeOffset;
-        int nodeCount = 0;
         while (iterator.hasNext()) {
             final int nodeId = iterator.next();
             final long sourceNodeId = idMap.toOriginalNodeId(nodeId);
-            this.sourceGraphId = nodeId - nodeOffset;
-            nodeCount++;
+            this.sourceGraphId = nodeId;
             readNode(
                     readOp,
                     sourceNodeId,
@@ -140,7 +135,6 @@ final class RelationshipImporter extends StatementTask<Void, EntityNotFoundExcep
             );
             progress.relProgress();
         }
-        this.currentNodeCount = nodeCount;
         return null;
     }
 
@@ -293,24 +287,29 @@ final class RelationshipImporter extends StatementTask<Void, EntityNotFoundExcep
         }
     }
 
-    Graph toGraph(final IdMap idMap) {
-        return new HeavyGraph(
-                idMap,
-                matrix,
-                relWeights,
-                nodeWeights,
-                nodeProps);
-    }
-
+    /**
+     * The adjacency of every node is written directly into the shared matrix,
+     * only the weights have to be merged as weight maps cannot be written concurrently.
+     */
     void writeInto(
-            AdjacencyMatrix matrix,
             WeightMapping relWeights,
             WeightMapping nodeWeights,
             WeightMapping nodeProps) {
-        matrix.addMatrix(this.matrix, nodeOffset, currentNodeCount);
-        combineMaps(relWeights, this.relWeights, nodeOffset);
-        combineMaps(nodeWeights, this.nodeWeights, nodeOffset);
-        combineMaps(nodeProps, this.nodeProps, nodeOffset);
+        combineMaps(relWeights, this.relWeights);
+        combineMaps(nodeWeights, this.nodeWeights);
+        combineMaps(nodeProps, this.nodeProps);
+    }
+
+    WeightMapping relWeights() {
+        return relWeights;
+    }
+
+    WeightMapping nodeWeights() {
+        return nodeWeights;
+    }
+
+    WeightMapping nodeProps() {
+        return nodeProps;
     }
 
     void release() {
@@ -321,16 +320,13 @@ final class RelationshipImporter extends StatementTask<Void, EntityNotFoundExcep
         this.nodeProps = null;
     }
 
-    private void combineMaps(WeightMapping global, WeightMapping local, int offset) {
+    private void combineMaps(WeightMapping global, WeightMapping local) {
         if (global instanceof WeightMap && local instanceof WeightMap) {
             WeightMap localWeights = (WeightMap) local;
             final LongDoubleMap localMap = localWeights.weights();
             WeightMap globalWeights = (WeightMap) global;
             final LongDoubleMap globalMap = globalWeights.weights();
-
-            for (LongDoubleCursor cursor : localMap) {
-                globalMap.put(cursor.key + offset, cursor.value);
-            }
+            globalMap.putAll(localMap);
         }
     }
 }
@@ -0,0 +1,149 @@
+package org.neo4j.graphalgo.core.huge;
+
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.api.HugeWeightMapping;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.ByteArray;
+import org.neo4j.graphalgo.core.utils.paged.LongArray;
+import org.neo4j.graphalgo.core.utils.paged.RankedBitSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Builds a {@link HugeGraph} from adjacency lists that are already in memory,
+ * e.g. from generated graphs, instead of importing them from the database.
+ * <p>
+ * The adjacency of a direction is given in compressed sparse row format:
+ * the targets of node {@code n} are stored in {@code targets[offsets[n], offsets[n + 1])}
+ * and must be sorted ascending. Node ids are used as they are, the original id
+ * of a node is equal to its mapped id.
+ */
+public final class HugeGraphBuilder {
+
+    private HugeGraphBuilder() {
+        throw new UnsupportedOperationException("No instances");
+    }
+
+    /**
+     * @param nodeCount    the number of nodes
+     * @param outOffsets   {@code nodeCount + 1} offsets into {@code outTargets}, or null to not load outgoing relationships
+     * @param outTargets   the sorted outgoing targets of all nodes
+     * @param inOffsets    {@code nodeCount + 1} offsets into {@code inTargets}, or null to not load incoming relationships
+     * @param inTargets    the sorted incoming targets of all nodes
+     * @param weights      the relationship weights
+     * @param tracker      tracker for all allocations of the graph
+     * @param executor     the executor to encode the adjacency lists in, may be null
+     * @param concurrency  the number of tasks that encode the adjacency concurrently
+     */
+    public static HugeGraph build(
+            long nodeCount,
+            LongArray outOffsets,
+            LongArray outTargets,
+            LongArray inOffsets,
+            LongArray inTargets,
+            HugeWeightMapping weights,
+            AllocationTracker tracker,
+            ExecutorService executor,
+            int concurrency) {
+        final RankedBitSet nodeIds = RankedBitSet.newBitSet(nodeCount, tracker);
+        for (long node = 0L; node < nodeCount; node++) {
+            nodeIds.set(node);
+        }
+        nodeIds.buildRanks(executor, concurrency);
+        final HugeIdMap idMap = new HugeIdMap(nodeIds, tracker, executor, concurrency);
+
+        ByteArray outAdjacency = null;
+        LongArray outAdjacencyOffsets = null;
+        if (outOffsets != null) {
+            outAdjacency = ByteArray.newArray(0, tracker);
+            outAdjacencyOffsets = LongArray.newArray(nodeCount, tracker);
+            encode(nodeCount, outOffsets, outTargets, outAdjacency, outAdjacencyOffsets, executor, concurrency);
+        }
+        ByteArray inAdjacency = null;
+        LongArray inAdjacencyOffsets = null;
+        if (inOffsets != null) {
+            inAdjacency = ByteArray.newArray(0, tracker);
+            inAdjacencyOffsets = LongArray.newArray(nodeCount, tracker);
+            encode(nodeCount, inOffsets, inTargets, inAdjacency, inAdjacencyOffsets, executor, concurrency);
+        }
+
+        return new HugeGraphImpl(
+                tracker,
+                idMap,
+                weights,
+                inAdjacency,
+                outAdjacency,
+                inAdjacencyOffsets,
+                outAdjacencyOffsets);
+    }
+
+    private static void encode(
+            long nodeCount,
+            LongArray offsets,
+            LongArray targets,
+            ByteArray adjacency,
+            LongArray adjacencyOffsets,
+            ExecutorService executor,
+            int concurrency) {
+        // offset 0 marks nodes without relationships
+        adjacency.skipAllocationRegion(1);
+        final int partitions = ParallelUtil.canRunInParallel(executor)
+                ? Math.max(1, concurrency)
+                : 1;
+        final long batchSize = ParallelUtil.threadSize(partitions, nodeCount);
+        final List<Runnable> tasks = new ArrayList<>();
+        for (long start = 0L; start < nodeCount; start += batchSize) {
+            final long end = Math.min(nodeCount, start + batchSize);
+            final long first = start;
+            tasks.add(() -> encode(
+                    first,
+                    end,
+                    offsets,
+                    targets,
+                    adjacency.newAllocator(),
+                    adjacencyOffsets));
+        }
+        ParallelUtil.run(tasks, executor);
+    }
+
+    private static void encode(
+            long startNode,
+            long endNode,
+            LongArray offsets,
+            LongArray targets,
+            ByteArray.LocalAllocator allocator,
+            LongArray adjacencyOffsets) {
+        for (long node = startNode; node < endNode; node++) {
+            final long start = offsets.get(node);
+            final long end = offsets.get(node + 1L);
+            final int degree = Math.toIntExact(end - start);
+            if (degree == 0) {
+                continue;
+            }
+            long requiredBytes = 4L;  // length as full-int
+            long previous = 0L;
+            for (long i = start; i < end; i++) {
+                final long target = targets.get(i);
+                requiredBytes += vLongSize(target - previous);
+                previous = target;
+            }
+            adjacencyOffsets.set(node, allocator.allocate(requiredBytes));
+            final ByteArray.BulkAdder adder = allocator.adder;
+            adder.addUnsignedInt(degree);
+            previous = 0L;
+            for (long i = start; i < end; i++) {
+                final long target = targets.get(i);
+                adder.addVLong(target - previous);
+                previous = target;
+            }
+        }
+    }
+
+    private static int vLongSize(long value) {
+        final int bits = Long.SIZE - Long.numberOfLeadingZeros(value);
+        return Math.max(1, (bits + 6) / 7);
+    }
+}
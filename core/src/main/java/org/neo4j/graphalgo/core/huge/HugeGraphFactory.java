@@ -312,7 +312,7 @@ public final class HugeGraphFactory extends GraphFactory {
         }
     }
 
-    private static class DeltaEncodingVisitor implements RelationshipVisitor<EntityNotFoundException> {
+    static class DeltaEncodingVisitor implements RelationshipVisitor<EntityNotFoundException> {
         private static final int[] encodingSizeCache;
 
         static {
@@ -329,10 +329,10 @@ public final class HugeGraphFactory extends GraphFactory {
         long sourceGraphId;
         private long prevTarget;
         private boolean isSorted;
-        private long[] targets;
-        private int length;
+        long[] targets;
+        int length;
 
-        private DeltaEncodingVisitor(
+        DeltaEncodingVisitor(
                 HugeIdMap idMap,
                 Direction direction) {
             this.idMap = idMap;
@@ -394,12 +394,12 @@ public final class HugeGraphFactory extends GraphFactory {
         }
     }
 
-    private static final class RelationshipImporterWithWeights extends DeltaEncodingVisitor {
+    static final class RelationshipImporterWithWeights extends DeltaEncodingVisitor {
         private final int weightId;
         private final HugeWeightMap weights;
         private final ReadOperations readOp;
 
-        private RelationshipImporterWithWeights(
+        RelationshipImporterWithWeights(
                 final HugeIdMap idMap,
                 final Direction direction,
                 final ReadOperations readOp,
@@ -6,6 +6,7 @@ import org.neo4j.graphalgo.api.HugeGraph;
 import org.neo4j.graphalgo.api.HugeRelationshipConsumer;
 import org.neo4j.graphalgo.api.HugeWeightMapping;
 import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.api.RelationshipCursor;
 import org.neo4j.graphalgo.api.WeightedRelationshipConsumer;
 import org.neo4j.graphalgo.core.utils.RawValues;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
@@ -178,6 +179,11 @@ public class HugeGraphImpl implements HugeGraph {
             int nodeId,
             Direction direction,
             WeightedRelationshipConsumer consumer) {
+        if (direction == Direction.BOTH) {
+            forEachRelationship(nodeId, Direction.INCOMING, consumer);
+            forEachRelationship(nodeId, Direction.OUTGOING, consumer);
+            return;
+        }
         RelationshipConsumer nonWeighted = (s, t, relId) -> {
             double weight = direction == Direction.OUTGOING
                     ? weightOf((long) s, (long) t)
@@ -280,6 +286,11 @@ public class HugeGraphImpl implements HugeGraph {
                 RawValues.combineIntInt((int) s, (int) t)));
     }
 
+    @Override
+    public RelationshipCursor newRelationshipCursor() {
+        return new Cursor();
+    }
+
     @Override
     public HugeGraph concurrentCopy() {
         return new HugeGraphImpl(
@@ -347,4 +358,63 @@ public class HugeGraphImpl implements HugeGraph {
         outCache = null;
         weights = null;
     }
+
+    private final class Cursor extends RelationshipCursor {
+        private ByteArray.DeltaCursor inCursor;
+        private ByteArray.DeltaCursor outCursor;
+        private ByteArray.DeltaCursor cursor;
+        private boolean outgoing;
+        private boolean outgoingNext;
+
+        @Override
+        public RelationshipCursor reset(int nodeId, Direction direction) {
+            sourceNodeId = nodeId;
+            outgoingNext = direction == Direction.BOTH;
+            if (direction == Direction.OUTGOING) {
+                startOutgoing(nodeId);
+            } else {
+                startIncoming(nodeId);
+            }
+            return this;
+        }
+
+        @Override
+        public boolean next() {
+            while (true) {
+                final long next = cursor.getVLong();
+                if (next != -1L) {
+                    targetNodeId = (int) next;
+                    return true;
+                }
+                if (!outgoingNext) {
+                    return false;
+                }
+                outgoingNext = false;
+                startOutgoing(sourceNodeId);
+            }
+        }
+
+        @Override
+        public double weight() {
+            return outgoing
+                    ? weightOf((long) sourceNodeId, (long) targetNodeId)
+                    : weightOf((long) targetNodeId, (long) sourceNodeId);
+        }
+
+        private void startIncoming(int node) {
+            if (inCursor == null) {
+                inCursor = inAdjacency.newCursor();
+            }
+            outgoing = false;
+            cursor = cursor(node, inCursor, inOffsets, inAdjacency);
+        }
+
+        private void startOutgoing(int node) {
+            if (outCursor == null) {
+                outCursor = outAdjacency.newCursor();
+            }
+            outgoing = true;
+            cursor = cursor(node, outCursor, outOffsets, outAdjacency);
+        }
+    }
 }
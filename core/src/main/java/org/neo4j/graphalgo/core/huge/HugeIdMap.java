@@ -9,52 +9,57 @@ import org.neo4j.graphalgo.core.utils.LazyBatchCollection;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.LongArray;
 import org.neo4j.graphalgo.core.utils.paged.PageUtil;
-import org.neo4j.graphalgo.core.utils.paged.SparseLongArray;
+import org.neo4j.graphalgo.core.utils.paged.RankedBitSet;
 
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 import java.util.function.LongPredicate;
 
 /**
- * This is basically a long to int mapper. It sorts the id's in ascending order so its
- * guaranteed that there is no ID greater then nextGraphId / capacity
+ * This is basically a long to long mapper. The mapped ids are assigned
+ * in ascending order of the neo ids, so there is no ID greater then nodeCount.
+ * The neo ids are stored as {@link RankedBitSet}, which requires about
+ * 1.125 bits for every neo id, whether it is mapped or not.
  */
 public final class HugeIdMap implements HugeIdMapping, HugeNodeIterator, HugeBatchNodeIterable {
 
-    static final long NOT_FOUND = -1L;
+    static final long NOT_FOUND = RankedBitSet.NOT_FOUND;
 
     // page size to use when loading nodes in parallel
     static final int PAGE_SIZE = PageUtil.pageSizeFor(Long.BYTES);
 
-    private long nextGraphId;
+    private final long nodeCount;
     private LongArray graphIds;
-    private SparseLongArray nodeToGraphIds;
+    private RankedBitSet nodeToGraphIds;
 
     /**
-     * initialize the map with maximum node capacity
+     * initialize the map from a bitset of all neo ids to map,
+     * the ranks of the bitset must have been built already.
      */
-    HugeIdMap(long capacity, long fullCapacity, AllocationTracker tracker) {
-        graphIds = LongArray.newArray(capacity, tracker);
-        nodeToGraphIds = SparseLongArray.newArray(fullCapacity, tracker);
+    HugeIdMap(
+            RankedBitSet nodeIds,
+            AllocationTracker tracker,
+            ExecutorService executor,
+            int concurrency) {
+        nodeCount = nodeIds.cardinality();
+        nodeToGraphIds = nodeIds;
+        final LongArray graphIds = LongArray.newArray(nodeCount, tracker);
+        nodeIds.forEachSetBit(executor, concurrency, graphIds::set);
+        this.graphIds = graphIds;
     }
 
     HugeIdMap(
             long capacity,
             LongArray denseGraphMap,
-            SparseLongArray sparseOriginalMap) {
-        nextGraphId = capacity;
+            RankedBitSet sparseOriginalMap) {
+        nodeCount = capacity;
         graphIds = denseGraphMap;
         nodeToGraphIds = sparseOriginalMap;
     }
 
-    void add(long longValue) {
-        long internalId = nextGraphId++;
-        nodeToGraphIds.set(longValue, internalId);
-        graphIds.set(internalId, longValue);
-    }
-
     @Override
     public long toHugeMappedNodeId(long nodeId) {
-        return nodeToGraphIds.get(nodeId);
+        return nodeToGraphIds.indexOf(nodeId);
     }
 
     @Override
@@ -64,12 +69,12 @@ public final class HugeIdMap implements HugeIdMapping, HugeNodeIterator, HugeBat
 
     @Override
     public boolean contains(final long nodeId) {
-        return nodeToGraphIds.contains(nodeId);
+        return nodeToGraphIds.get(nodeId);
     }
 
     @Override
     public long nodeCount() {
-        return nextGraphId;
+        return nodeCount;
     }
 
     @Override
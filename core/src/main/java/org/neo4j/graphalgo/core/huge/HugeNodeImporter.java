@@ -4,15 +4,19 @@ import org.neo4j.collection.primitive.PrimitiveLongIterator;
 import org.neo4j.graphalgo.core.utils.ImportProgress;
 import org.neo4j.graphalgo.core.utils.StatementTask;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.RankedBitSet;
 import org.neo4j.kernel.api.ReadOperations;
 import org.neo4j.kernel.api.Statement;
 import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
+import java.util.concurrent.ExecutorService;
+
 public final class HugeNodeImporter extends StatementTask<HugeIdMap, EntityNotFoundException> {
     private final AllocationTracker tracker;
     private final ImportProgress progress;
-    private final long nodeCount;
+    private final ExecutorService executor;
+    private final int concurrency;
     private final long allNodesCount;
     private final int labelId;
 
@@ -20,28 +24,32 @@ public final class HugeNodeImporter extends StatementTask<HugeIdMap, EntityNotFo
             GraphDatabaseAPI api,
             AllocationTracker tracker,
             ImportProgress progress,
-            long nodeCount,
+            ExecutorService executor,
+            int concurrency,
             long allNodesCount,
             int labelId) {
         super(api);
         this.tracker = tracker;
         this.progress = progress;
-        this.nodeCount = nodeCount;
+        this.executor = executor;
+        this.concurrency = concurrency;
         this.allNodesCount = allNodesCount;
         this.labelId = labelId;
     }
 
     @Override
     public HugeIdMap apply(final Statement statement) throws EntityNotFoundException {
-        final HugeIdMap mapping = new HugeIdMap(nodeCount, allNodesCount, tracker);
+        final RankedBitSet nodeIds = RankedBitSet.newBitSet(allNodesCount, tracker);
         final ReadOperations readOp = statement.readOperations();
-        final PrimitiveLongIterator nodeIds = labelId == ReadOperations.ANY_LABEL
+        final PrimitiveLongIterator it = labelId == ReadOperations.ANY_LABEL
                 ? readOp.nodesGetAll()
                 : readOp.nodesGetForLabel(labelId);
-        while (nodeIds.hasNext()) {
-            mapping.add(nodeIds.next());
+        while (it.hasNext()) {
+            nodeIds.set(it.next());
             progress.nodeProgress();
         }
+        nodeIds.buildRanks(executor, concurrency);
+        final HugeIdMap mapping = new HugeIdMap(nodeIds, tracker, executor, concurrency);
         progress.resetForRelationships();
         return mapping;
     }
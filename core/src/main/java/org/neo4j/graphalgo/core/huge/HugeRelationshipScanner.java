@@ -0,0 +1,176 @@
+package org.neo4j.graphalgo.core.huge;
+
+import org.neo4j.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.api.GraphSetup;
+import org.neo4j.graphalgo.api.HugeRelationshipConsumer;
+import org.neo4j.graphalgo.core.GraphDimensions;
+import org.neo4j.graphalgo.core.utils.ImportProgress;
+import org.neo4j.graphalgo.core.utils.LazyMappingCollection;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.StatementTask;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.helpers.Exceptions;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.Statement;
+import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
+import org.neo4j.kernel.impl.api.RelationshipVisitor;
+import org.neo4j.kernel.impl.api.store.RelationshipIterator;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Reads the relationships of the store in parallel without building a graph.
+ * <p>
+ * The nodes are loaded into a {@link HugeIdMap} and the relationships of
+ * batches of nodes are read like in the import of the {@link HugeGraphFactory},
+ * but they are passed on to a consumer instead of being kept. Algorithms that
+ * look at every relationship only once, like connected components, don't have
+ * to hold the adjacency in memory.
+ */
+public final class HugeRelationshipScanner {
+
+    private final GraphDatabaseAPI api;
+    private final GraphSetup setup;
+    private final GraphDimensions dimensions;
+    private final ImportProgress progress;
+
+    public HugeRelationshipScanner(GraphDatabaseAPI api, GraphSetup setup) {
+        this.api = api;
+        this.setup = setup;
+        this.dimensions = new GraphDimensions(api, setup).call();
+        this.progress = new ImportProgress(
+                ProgressLogger.wrap(setup.log, GraphFactory.TASK_LOADING),
+                setup.tracker,
+                dimensions.hugeNodeCount(),
+                dimensions.maxRelCount(),
+                setup.loadIncoming,
+                setup.loadOutgoing,
+                setup.terminationFlag);
+    }
+
+    public HugeIdMap loadIdMap() {
+        try {
+            return new HugeNodeImporter(
+                    api,
+                    setup.tracker,
+                    progress,
+                    setup.executor,
+                    setup.concurrency(),
+                    dimensions.allNodesCount(),
+                    dimensions.labelId()).call();
+        } catch (EntityNotFoundException e) {
+            throw Exceptions.launderedException(e);
+        }
+    }
+
+    /**
+     * Passes every relationship between two mapped nodes to a consumer,
+     * once for every loaded direction. The relationships of a batch of
+     * nodes are read by a single thread that uses its own consumer.
+     *
+     * @param idMap     the nodes whose relationships are read
+     * @param consumers creates a consumer for every batch
+     */
+    public void scan(HugeIdMap idMap, Supplier<? extends HugeRelationshipConsumer> consumers) {
+        if (!setup.loadIncoming && !setup.loadOutgoing) {
+            return;
+        }
+        // a busy pool is retried instead of skipping batches, whose relationships would be missing
+        final AtomicInteger batchIndex = new AtomicInteger();
+        final Collection<ScanTask> tasks = LazyMappingCollection.of(
+                idMap.hugeBatchIterables(setup.batchSize),
+                nodeIds -> new ScanTask(
+                        batchIndex.getAndIncrement(),
+                        nodeIds,
+                        idMap,
+                        consumers.get()));
+        ParallelUtil.runWithConcurrency(
+                setup.concurrency(),
+                tasks,
+                1L,
+                TimeUnit.MILLISECONDS,
+                setup.terminationFlag,
+                setup.executor);
+    }
+
+    private final class ScanTask extends StatementTask<Void, EntityNotFoundException>
+            implements RelationshipVisitor<RuntimeException> {
+        private final int batchIndex;
+        private final PrimitiveLongIterable nodes;
+        private final HugeIdMap idMap;
+        private final HugeRelationshipConsumer consumer;
+        private final int[] relationId;
+
+        private long sourceNodeId;
+        private Direction direction;
+
+        private ScanTask(
+                int batchIndex,
+                PrimitiveLongIterable nodes,
+                HugeIdMap idMap,
+                HugeRelationshipConsumer consumer) {
+            super(api);
+            this.batchIndex = batchIndex;
+            this.nodes = nodes;
+            this.idMap = idMap;
+            this.consumer = consumer;
+            this.relationId = dimensions.relationId();
+        }
+
+        @Override
+        public String threadName() {
+            return "RelationshipScan-" + batchIndex;
+        }
+
+        @Override
+        public Void apply(final Statement statement) throws EntityNotFoundException {
+            final ReadOperations readOp = statement.readOperations();
+            final PrimitiveLongIterator iterator = nodes.iterator();
+            while (iterator.hasNext()) {
+                sourceNodeId = iterator.next();
+                final long neoId = idMap.toOriginalNodeId(sourceNodeId);
+                if (setup.loadOutgoing) {
+                    readRelationships(neoId, readOp, Direction.OUTGOING);
+                }
+                if (setup.loadIncoming) {
+                    readRelationships(neoId, readOp, Direction.INCOMING);
+                }
+                progress.relProgress();
+            }
+            return null;
+        }
+
+        private void readRelationships(
+                long neoId,
+                ReadOperations readOp,
+                Direction direction) throws EntityNotFoundException {
+            this.direction = direction;
+            final RelationshipIterator rs = relationId == null
+                    ? readOp.nodeGetRelationships(neoId, direction)
+                    : readOp.nodeGetRelationships(neoId, direction, relationId);
+            while (rs.hasNext()) {
+                rs.relationshipVisit(rs.next(), this);
+            }
+        }
+
+        @Override
+        public void visit(
+                final long relationshipId,
+                final int typeId,
+                final long startNodeId,
+                final long endNodeId) {
+            final long targetNodeId = idMap.toHugeMappedNodeId(
+                    direction == Direction.OUTGOING ? endNodeId : startNodeId);
+            if (targetNodeId != HugeIdMap.NOT_FOUND) {
+                consumer.accept(sourceNodeId, targetNodeId);
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package org.neo4j.graphalgo.core.huge;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adjacency lists in the format of {@link HugeGraphImpl} that are stored
+ * in a memory mapped temporary file instead of on the heap.
+ * <p>
+ * During the import, every thread gets its own {@link Writer} that fills a
+ * heap buffer and appends it to the file once it is full, similar to the
+ * thread local chunks of {@link org.neo4j.graphalgo.core.utils.paged.ByteArray.LocalAllocator}.
+ * After the import, the file is mapped into read only segments of up to 1 GiB.
+ * A chunk never crosses the boundary of a segment, so the adjacency of a
+ * node can always be read from a single segment.
+ * <p>
+ * The file is deleted once it is mapped or released, the segments are
+ * unmapped by the garbage collector after the graph has been released.
+ */
+final class MappedAdjacency {
+
+    static final int DEFAULT_SEGMENT_SHIFT = 30;
+    // the size of the chunks that are appended to the file, 512 KiB
+    private static final int CHUNK_SIZE = 1 << 19;
+
+    private final int segmentShift;
+    private final long segmentMask;
+    private final int chunkSize;
+    // offset 0 marks nodes without relationships
+    private final AtomicLong allocIdx = new AtomicLong(1L);
+
+    private FileChannel channel;
+    private ByteBuffer[] segments;
+
+    private MappedAdjacency(int segmentShift, FileChannel channel) {
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1L;
+        this.chunkSize = (int) Math.min(CHUNK_SIZE, 1L << segmentShift);
+        this.channel = channel;
+    }
+
+    static MappedAdjacency create(Path directory) {
+        return create(directory, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    static MappedAdjacency create(Path directory, int segmentShift) {
+        if (segmentShift < 4 || segmentShift > DEFAULT_SEGMENT_SHIFT) {
+            throw new IllegalArgumentException("Invalid segment shift: " + segmentShift);
+        }
+        try {
+            final Path file = Files.createTempFile(directory, "graph-algo-adjacency-", ".bin");
+            final FileChannel channel = FileChannel.open(
+                    file,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+            return new MappedAdjacency(segmentShift, channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Writer newWriter() {
+        return new Writer();
+    }
+
+    /**
+     * Maps the written adjacency into memory. All writers must have been flushed.
+     */
+    void finish() {
+        try {
+            final long size = channel.size();
+            final long segmentSize = 1L << segmentShift;
+            final int numSegments = (int) ((size + segmentSize - 1L) >>> segmentShift);
+            final ByteBuffer[] segments = new ByteBuffer[numSegments];
+            for (int i = 0; i < numSegments; i++) {
+                final long start = (long) i << segmentShift;
+                segments[i] = channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        start,
+                        Math.min(segmentSize, size - start));
+            }
+            this.segments = segments;
+            // the mappings stay valid after the file is closed and deleted
+            channel.close();
+            channel = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int getInt(long offset) {
+        return segment(offset).getInt(indexInSegment(offset));
+    }
+
+    Cursor newCursor() {
+        return new Cursor();
+    }
+
+    Cursor cursor(Cursor reuse, long offset) {
+        return reuse.init(segment(offset), indexInSegment(offset));
+    }
+
+    void release() {
+        segments = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+            channel = null;
+        }
+    }
+
+    private ByteBuffer segment(long offset) {
+        return segments[(int) (offset >>> segmentShift)];
+    }
+
+    private int indexInSegment(long offset) {
+        return (int) (offset & segmentMask);
+    }
+
+    /**
+     * reserves a region of the file that does not cross a segment boundary
+     */
+    private long reserve(long length) {
+        while (true) {
+            final long start = allocIdx.get();
+            final long segmentEnd = ((start >>> segmentShift) + 1L) << segmentShift;
+            final long from = start + length <= segmentEnd ? start : segmentEnd;
+            if (allocIdx.compareAndSet(start, from + length)) {
+                return from;
+            }
+        }
+    }
+
+    /**
+     * Appends adjacency lists to the file, must only be used by a single thread.
+     */
+    final class Writer {
+        private ByteBuffer buffer = ByteBuffer.allocate(0);
+        // the file offset of the start of the buffer
+        private long chunkStart;
+        // the end of the reserved region of the file
+        private long chunkEnd;
+
+        /**
+         * Reserves {@code size} bytes and returns their offset in the file.
+         * The bytes must be written right after with the add methods.
+         */
+        long allocate(long size) {
+            final long address = chunkStart + buffer.position();
+            if (address + size <= chunkEnd) {
+                return address;
+            }
+            if (size > segmentMask + 1L) {
+                throw new IllegalArgumentException(
+                        "Adjacency of " + size + " bytes is larger than a segment of the file");
+            }
+            flush();
+            final int length = (int) Math.max(size, chunkSize);
+            chunkStart = reserve(length);
+            chunkEnd = chunkStart + length;
+            if (buffer.capacity() < length) {
+                buffer = ByteBuffer.allocate(length);
+            }
+            return chunkStart;
+        }
+
+        void addUnsignedInt(int value) {
+            buffer.putInt(value);
+        }
+
+        void addVLong(long value) {
+            while ((value & ~0x7FL) != 0L) {
+                buffer.put((byte) ((value & 0x7FL) | 0x80L));
+                value >>>= 7L;
+            }
+            buffer.put((byte) value);
+        }
+
+        /**
+         * writes the buffered adjacency into the file
+         */
+        void flush() {
+            buffer.flip();
+            long position = chunkStart;
+            try {
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            chunkStart = position;
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Reads the delta encoded targets of a node, has the same contract as
+     * {@link org.neo4j.graphalgo.core.utils.paged.ByteArray.DeltaCursor}.
+     */
+    static final class Cursor {
+        private ByteBuffer segment;
+        private int position;
+        private int remaining;
+        private long delta;
+
+        private Cursor init(ByteBuffer segment, int position) {
+            this.segment = segment;
+            this.remaining = segment.getInt(position);
+            this.position = position + Integer.BYTES;
+            this.delta = 0L;
+            return this;
+        }
+
+        /**
+         * @return the next target or {@code -1} if all targets have been read
+         */
+        long getVLong() {
+            if (remaining == 0) {
+                return -1L;
+            }
+            remaining--;
+            final ByteBuffer segment = this.segment;
+            int position = this.position;
+            byte b = segment.get(position++);
+            long value = (long) (b & 0x7F);
+            for (int shift = 7; (b & 0x80) != 0; shift += 7) {
+                b = segment.get(position++);
+                value |= ((long) b & 0x7FL) << shift;
+            }
+            this.position = position;
+            return delta += value;
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package org.neo4j.graphalgo.core.huge;
+
+import org.neo4j.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.api.HugeRelationshipConsumer;
+import org.neo4j.graphalgo.api.HugeWeightMapping;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.api.RelationshipCursor;
+import org.neo4j.graphalgo.api.WeightedRelationshipConsumer;
+import org.neo4j.graphalgo.core.utils.RawValues;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.LongArray;
+import org.neo4j.graphdb.Direction;
+
+import java.util.Collection;
+import java.util.function.LongPredicate;
+
+/**
+ * A semi-external {@link HugeGraph}.
+ * <p>
+ * The adjacency is stored in the same format as in the {@link HugeGraphImpl},
+ * but in a {@link MappedAdjacency} file that the operating system pages in and
+ * out as needed. The id mapping, the offsets into the adjacency and the weights
+ * stay on the heap. Algorithms that read the adjacency in node order, like
+ * PageRank or union find, read the file mostly sequentially and keep running
+ * at close to in-memory speed as long as their own state fits into the heap.
+ */
+public final class MappedHugeGraph implements HugeGraph {
+
+    private final HugeIdMap idMapping;
+    private final AllocationTracker tracker;
+
+    private HugeWeightMapping weights;
+    private MappedAdjacency inAdjacency;
+    private MappedAdjacency outAdjacency;
+    private LongArray inOffsets;
+    private LongArray outOffsets;
+    private MappedAdjacency.Cursor empty;
+    private MappedAdjacency.Cursor inCache;
+    private MappedAdjacency.Cursor outCache;
+
+    MappedHugeGraph(
+            final AllocationTracker tracker,
+            final HugeIdMap idMapping,
+            final HugeWeightMapping weights,
+            final MappedAdjacency inAdjacency,
+            final MappedAdjacency outAdjacency,
+            final LongArray inOffsets,
+            final LongArray outOffsets) {
+        this.idMapping = idMapping;
+        this.tracker = tracker;
+        this.weights = weights;
+        this.inAdjacency = inAdjacency;
+        this.outAdjacency = outAdjacency;
+        this.inOffsets = inOffsets;
+        this.outOffsets = outOffsets;
+        inCache = newCursor(this.inAdjacency);
+        outCache = newCursor(this.outAdjacency);
+        empty = new MappedAdjacency.Cursor();
+    }
+
+    @Override
+    public long nodeCount() {
+        return idMapping.nodeCount();
+    }
+
+    @Override
+    public Collection<PrimitiveLongIterable> hugeBatchIterables(final int batchSize) {
+        return idMapping.hugeBatchIterables(batchSize);
+    }
+
+    @Override
+    public void forEachNode(LongPredicate consumer) {
+        idMapping.forEachNode(consumer);
+    }
+
+    @Override
+    public PrimitiveLongIterator hugeNodeIterator() {
+        return idMapping.hugeNodeIterator();
+    }
+
+    @Override
+    public double weightOf(final long sourceNodeId, final long targetNodeId) {
+        return weights.weight(sourceNodeId, targetNodeId);
+    }
+
+    @Override
+    public double weightOf(
+            final long sourceNodeId,
+            final long targetNodeId,
+            final double defaultWeight) {
+        return weights.weight(sourceNodeId, targetNodeId, defaultWeight);
+    }
+
+    @Override
+    public void forEachRelationship(
+            long vertexId,
+            Direction direction,
+            HugeRelationshipConsumer consumer) {
+        switch (direction) {
+            case INCOMING:
+                forEachIncoming(vertexId, consumer);
+                return;
+
+            case OUTGOING:
+                forEachOutgoing(vertexId, consumer);
+                return;
+
+            case BOTH:
+                forEachIncoming(vertexId, consumer);
+                forEachOutgoing(vertexId, consumer);
+                return;
+
+            default:
+                throw new IllegalArgumentException(direction + "");
+        }
+    }
+
+    @Override
+    public void forEachRelationship(
+            int nodeId,
+            Direction direction,
+            RelationshipConsumer consumer) {
+        switch (direction) {
+            case INCOMING:
+                forEachIncoming(nodeId, consumer);
+                return;
+
+            case OUTGOING:
+                forEachOutgoing(nodeId, consumer);
+                return;
+
+            case BOTH:
+                forEachIncoming(nodeId, consumer);
+                forEachOutgoing(nodeId, consumer);
+                return;
+
+            default:
+                throw new IllegalArgumentException(direction + "");
+        }
+    }
+
+    @Override
+    public void forEachRelationship(
+            int nodeId,
+            Direction direction,
+            WeightedRelationshipConsumer consumer) {
+        if (direction == Direction.BOTH) {
+            forEachRelationship(nodeId, Direction.INCOMING, consumer);
+            forEachRelationship(nodeId, Direction.OUTGOING, consumer);
+            return;
+        }
+        RelationshipConsumer nonWeighted = (s, t, relId) -> {
+            double weight = direction == Direction.OUTGOING
+                    ? weightOf((long) s, (long) t)
+                    : weightOf((long) t, (long) s);
+            return consumer.accept(
+                    s,
+                    t,
+                    RawValues.combineIntInt(direction, s, t),
+                    weight);
+        };
+        forEachRelationship(nodeId, direction, nonWeighted);
+    }
+
+    @Override
+    public int degree(
+            final long node,
+            final Direction direction) {
+        switch (direction) {
+            case INCOMING:
+                return degree(node, inOffsets, inAdjacency);
+
+            case OUTGOING:
+                return degree(node, outOffsets, outAdjacency);
+
+            case BOTH:
+                return degree(node, inOffsets, inAdjacency) + degree(
+                        node,
+                        outOffsets,
+                        outAdjacency);
+
+            default:
+                throw new IllegalArgumentException(direction + "");
+        }
+    }
+
+    @Override
+    public long toHugeMappedNodeId(long nodeId) {
+        return idMapping.toHugeMappedNodeId(nodeId);
+    }
+
+    @Override
+    public long toOriginalNodeId(long vertexId) {
+        return idMapping.toOriginalNodeId(vertexId);
+    }
+
+    @Override
+    public boolean contains(final long nodeId) {
+        return idMapping.contains(nodeId);
+    }
+
+    @Override
+    public void forEachIncoming(
+            final long node,
+            final HugeRelationshipConsumer consumer) {
+        MappedAdjacency.Cursor cursor = cursor(
+                node,
+                inCache,
+                inOffsets,
+                inAdjacency);
+        consumeNodes(node, cursor, consumer);
+    }
+
+    @Override
+    public void forEachIncoming(int nodeId, RelationshipConsumer consumer) {
+        final long node = (long) nodeId;
+        MappedAdjacency.Cursor cursor = cursor(
+                node,
+                inAdjacency.newCursor(),
+                inOffsets,
+                inAdjacency);
+        consumeNodes(node, cursor, (s, t) -> consumer.accept(
+                (int) s,
+                (int) t,
+                RawValues.combineIntInt((int) t, (int) s)));
+    }
+
+    @Override
+    public void forEachOutgoing(
+            final long node,
+            final HugeRelationshipConsumer consumer) {
+        MappedAdjacency.Cursor cursor = cursor(
+                node,
+                outCache,
+                outOffsets,
+                outAdjacency);
+        consumeNodes(node, cursor, consumer);
+    }
+
+    @Override
+    public void forEachOutgoing(int nodeId, RelationshipConsumer consumer) {
+        final long node = (long) nodeId;
+        MappedAdjacency.Cursor cursor = cursor(
+                node,
+                outAdjacency.newCursor(),
+                outOffsets,
+                outAdjacency);
+        consumeNodes(node, cursor, (s, t) -> consumer.accept(
+                (int) s,
+                (int) t,
+                RawValues.combineIntInt((int) s, (int) t)));
+    }
+
+    @Override
+    public RelationshipCursor newRelationshipCursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public HugeGraph concurrentCopy() {
+        return new MappedHugeGraph(
+                tracker,
+                idMapping,
+                weights,
+                inAdjacency,
+                outAdjacency,
+                inOffsets,
+                outOffsets
+        );
+    }
+
+    private MappedAdjacency.Cursor newCursor(final MappedAdjacency adjacency) {
+        return adjacency != null ? adjacency.newCursor() : null;
+    }
+
+    private int degree(long node, LongArray offsets, MappedAdjacency adjacency) {
+        long offset = offsets.get(node);
+        if (offset == 0L) {
+            return 0;
+        }
+        return adjacency.getInt(offset);
+    }
+
+    private MappedAdjacency.Cursor cursor(
+            long node,
+            MappedAdjacency.Cursor reuse,
+            LongArray offsets,
+            MappedAdjacency adjacency) {
+        final long offset = offsets.get(node);
+        if (offset == 0L) {
+            return empty;
+        }
+        return adjacency.cursor(reuse, offset);
+    }
+
+    private void consumeNodes(
+            long startNode,
+            MappedAdjacency.Cursor cursor,
+            HugeRelationshipConsumer consumer) {
+        long next;
+        //noinspection StatementWithEmptyBody
+        while ((next = cursor.getVLong()) != -1L &&
+                consumer.accept(startNode, next)) ;
+    }
+
+    @Override
+    public void release() {
+        if (inAdjacency != null) {
+            inAdjacency.release();
+            tracker.remove(inOffsets.release());
+            inAdjacency = null;
+            inOffsets = null;
+        }
+        if (outAdjacency != null) {
+            outAdjacency.release();
+            tracker.remove(outOffsets.release());
+            outAdjacency = null;
+            outOffsets = null;
+        }
+        tracker.remove(weights.release());
+        empty = null;
+        inCache = null;
+        outCache = null;
+        weights = null;
+    }
+
+    private final class Cursor extends RelationshipCursor {
+        private MappedAdjacency.Cursor inCursor;
+        private MappedAdjacency.Cursor outCursor;
+        private MappedAdjacency.Cursor cursor;
+        private boolean outgoing;
+        private boolean outgoingNext;
+
+        @Override
+        public RelationshipCursor reset(int nodeId, Direction direction) {
+            sourceNodeId = nodeId;
+            outgoingNext = direction == Direction.BOTH;
+            if (direction == Direction.OUTGOING) {
+                startOutgoing(nodeId);
+            } else {
+                startIncoming(nodeId);
+            }
+            return this;
+        }
+
+        @Override
+        public boolean next() {
+            while (true) {
+                final long next = cursor.getVLong();
+                if (next != -1L) {
+                    targetNodeId = (int) next;
+                    return true;
+                }
+                if (!outgoingNext) {
+                    return false;
+                }
+                outgoingNext = false;
+                startOutgoing(sourceNodeId);
+            }
+        }
+
+        @Override
+        public double weight() {
+            return outgoing
+                    ? weightOf((long) sourceNodeId, (long) targetNodeId)
+                    : weightOf((long) targetNodeId, (long) sourceNodeId);
+        }
+
+        private void startIncoming(int node) {
+            if (inCursor == null) {
+                inCursor = inAdjacency.newCursor();
+            }
+            outgoing = false;
+            cursor = cursor(node, inCursor, inOffsets, inAdjacency);
+        }
+
+        private void startOutgoing(int node) {
+            if (outCursor == null) {
+                outCursor = outAdjacency.newCursor();
+            }
+            outgoing = true;
+            cursor = cursor(node, outCursor, outOffsets, outAdjacency);
+        }
+    }
+}
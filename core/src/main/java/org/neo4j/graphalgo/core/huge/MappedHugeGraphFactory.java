@@ -0,0 +1,265 @@
+package org.neo4j.graphalgo.core.huge;
+
+import org.neo4j.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.api.GraphSetup;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.api.HugeWeightMapping;
+import org.neo4j.graphalgo.core.utils.ImportProgress;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.StatementTask;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.LongArray;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.helpers.Exceptions;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.Statement;
+import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
+import org.neo4j.kernel.impl.api.store.RelationshipIterator;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Imports a semi-external {@link MappedHugeGraph}.
+ * <p>
+ * The import is the same as the one of the {@link HugeGraphFactory}, except that
+ * the compressed adjacency lists are appended to a memory mapped file by every
+ * import thread. Only the id mapping, the offsets and the weights are loaded
+ * onto the heap, which allows for graphs whose adjacency is larger than the heap.
+ */
+public final class MappedHugeGraphFactory extends GraphFactory {
+
+    public MappedHugeGraphFactory(
+            GraphDatabaseAPI api,
+            GraphSetup setup) {
+        super(api, setup);
+    }
+
+    @Override
+    public HugeGraph build() {
+        try {
+            return importGraph();
+        } catch (EntityNotFoundException e) {
+            throw Exceptions.launderedException(e);
+        }
+    }
+
+    private HugeGraph importGraph() throws EntityNotFoundException {
+        final AllocationTracker tracker = setup.tracker;
+        final HugeWeightMapping weights = hugeWeightMapping(
+                tracker,
+                dimensions.weightId(),
+                setup.relationDefaultWeight);
+        final HugeIdMap mapping = loadHugeIdMap(tracker);
+        final long nodeCount = dimensions.hugeNodeCount();
+
+        final LongArray inOffsets = setup.loadIncoming ? LongArray.newArray(nodeCount, tracker) : null;
+        final LongArray outOffsets = setup.loadOutgoing ? LongArray.newArray(nodeCount, tracker) : null;
+        final MappedAdjacency inAdjacency = setup.loadIncoming
+                ? MappedAdjacency.create(setup.temporaryDirectory)
+                : null;
+        final MappedAdjacency outAdjacency;
+        try {
+            outAdjacency = setup.loadOutgoing
+                    ? MappedAdjacency.create(setup.temporaryDirectory)
+                    : null;
+        } catch (RuntimeException e) {
+            release(inAdjacency);
+            throw e;
+        }
+        try {
+            if (inAdjacency != null || outAdjacency != null) {
+                importRelationships(mapping, weights, inOffsets, outOffsets, inAdjacency, outAdjacency);
+            }
+        } catch (RuntimeException | Error e) {
+            // a failed or terminated import must not leave the temporary files behind
+            release(inAdjacency);
+            release(outAdjacency);
+            throw e;
+        }
+
+        final HugeGraph graph = new MappedHugeGraph(
+                tracker,
+                mapping,
+                weights,
+                inAdjacency,
+                outAdjacency,
+                inOffsets,
+                outOffsets);
+        progressLogger.logDone(tracker);
+        return graph;
+    }
+
+    private void importRelationships(
+            HugeIdMap mapping,
+            HugeWeightMapping weights,
+            LongArray inOffsets,
+            LongArray outOffsets,
+            MappedAdjacency inAdjacency,
+            MappedAdjacency outAdjacency) {
+        final int[] relationId = dimensions.relationId();
+        final int weightId = dimensions.weightId();
+        final AtomicInteger batchIndex = new AtomicInteger();
+        ParallelUtil.readParallel(
+                setup.concurrency(),
+                setup.batchSize,
+                mapping,
+                (offset, nodeIds) -> new BatchImportTask(
+                        api,
+                        batchIndex.getAndIncrement(),
+                        nodeIds,
+                        progress,
+                        mapping,
+                        inOffsets,
+                        outOffsets,
+                        inAdjacency,
+                        outAdjacency,
+                        relationId,
+                        weightId,
+                        weights),
+                threadPool);
+        if (inAdjacency != null) {
+            inAdjacency.finish();
+        }
+        if (outAdjacency != null) {
+            outAdjacency.finish();
+        }
+    }
+
+    private static void release(MappedAdjacency adjacency) {
+        if (adjacency != null) {
+            adjacency.release();
+        }
+    }
+
+    private static final class BatchImportTask extends StatementTask<Void, EntityNotFoundException> {
+        private final int batchIndex;
+        private final ImportProgress progress;
+        private final PrimitiveLongIterable nodes;
+        private final HugeIdMap idMap;
+        private final LongArray inOffsets;
+        private final LongArray outOffsets;
+        private final MappedAdjacency.Writer inWriter;
+        private final MappedAdjacency.Writer outWriter;
+        private final int[] relationId;
+        private final int weightId;
+        private final HugeWeightMapping weights;
+
+        BatchImportTask(
+                GraphDatabaseAPI api,
+                int batchIndex,
+                PrimitiveLongIterable nodes,
+                ImportProgress progress,
+                HugeIdMap idMap,
+                LongArray inOffsets,
+                LongArray outOffsets,
+                MappedAdjacency inAdjacency,
+                MappedAdjacency outAdjacency,
+                int[] relationId,
+                int weightId,
+                HugeWeightMapping weights) {
+            super(api);
+            this.batchIndex = batchIndex;
+            this.progress = progress;
+            this.nodes = nodes;
+            this.idMap = idMap;
+            this.inOffsets = inOffsets;
+            this.outOffsets = outOffsets;
+            this.inWriter = inAdjacency != null ? inAdjacency.newWriter() : null;
+            this.outWriter = outAdjacency != null ? outAdjacency.newWriter() : null;
+            this.relationId = relationId;
+            this.weightId = weightId;
+            this.weights = weights;
+        }
+
+        @Override
+        public String threadName() {
+            return "MappedRelationshipImport-" + batchIndex;
+        }
+
+        @Override
+        public Void apply(final Statement statement) throws EntityNotFoundException {
+            final ReadOperations readOp = statement.readOperations();
+            final HugeGraphFactory.DeltaEncodingVisitor inImporter = inWriter != null
+                    ? newImporter(readOp, Direction.INCOMING)
+                    : null;
+            final HugeGraphFactory.DeltaEncodingVisitor outImporter = outWriter != null
+                    ? newImporter(readOp, Direction.OUTGOING)
+                    : null;
+
+            final PrimitiveLongIterator iterator = nodes.iterator();
+            while (iterator.hasNext()) {
+                final long nodeId = iterator.next();
+                final long neoId = idMap.toOriginalNodeId(nodeId);
+                if (outImporter != null) {
+                    readRelationships(nodeId, neoId, readOp, Direction.OUTGOING, outOffsets, outWriter, outImporter);
+                }
+                if (inImporter != null) {
+                    readRelationships(nodeId, neoId, readOp, Direction.INCOMING, inOffsets, inWriter, inImporter);
+                }
+                progress.relProgress();
+            }
+            if (outWriter != null) {
+                outWriter.flush();
+            }
+            if (inWriter != null) {
+                inWriter.flush();
+            }
+            return null;
+        }
+
+        private HugeGraphFactory.DeltaEncodingVisitor newImporter(
+                ReadOperations readOp,
+                Direction direction) {
+            if (weightId >= 0) {
+                return new HugeGraphFactory.RelationshipImporterWithWeights(
+                        idMap,
+                        direction,
+                        readOp,
+                        weightId,
+                        weights);
+            }
+            return new HugeGraphFactory.DeltaEncodingVisitor(idMap, direction);
+        }
+
+        private void readRelationships(
+                long sourceGraphId,
+                long sourceNodeId,
+                ReadOperations readOp,
+                Direction direction,
+                LongArray offsets,
+                MappedAdjacency.Writer writer,
+                HugeGraphFactory.DeltaEncodingVisitor delta) throws EntityNotFoundException {
+
+            int degree = relationId == null
+                    ? readOp.nodeGetDegree(sourceNodeId, direction)
+                    : readOp.nodeGetDegree(sourceNodeId, direction, relationId[0]);
+            if (degree <= 0) {
+                return;
+            }
+
+            final RelationshipIterator rs = relationId == null
+                    ? readOp.nodeGetRelationships(sourceNodeId, direction)
+                    : readOp.nodeGetRelationships(sourceNodeId, direction, relationId);
+            delta.reset(degree, sourceGraphId);
+            while (rs.hasNext()) {
+                rs.relationshipVisit(rs.next(), delta);
+            }
+
+            degree = delta.length;
+            if (degree == 0) {
+                return;
+            }
+
+            final long requiredSize = delta.applyDelta();
+            offsets.set(sourceGraphId, writer.allocate(requiredSize));
+            writer.addUnsignedInt(degree);
+            final long[] targets = delta.targets;
+            for (int i = 0; i < degree; i++) {
+                writer.addVLong(targets[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.neo4j.graphalgo.core.lightweight;
+
+import org.neo4j.collection.primitive.PrimitiveIntIterable;
+import org.neo4j.collection.primitive.PrimitiveIntIterator;
+import org.neo4j.graphalgo.api.WeightMapping;
+import org.neo4j.graphalgo.core.IdMap;
+import org.neo4j.graphalgo.core.WeightMap;
+import org.neo4j.graphalgo.core.utils.ImportProgress;
+import org.neo4j.graphalgo.core.utils.StatementTask;
+import org.neo4j.graphalgo.core.utils.paged.IntArray;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.Statement;
+import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+/**
+ * Imports the relationships of a batch of nodes directly into the
+ * preallocated adjacency arrays, at the offsets from the degree count.
+ * Weights are collected in a map per batch, as maps cannot be written concurrently.
+ */
+final class BatchImportTask extends StatementTask<Void, EntityNotFoundException> {
+
+    private final IdMap mapping;
+    private final PrimitiveIntIterable nodes;
+    private final int nodeOffset;
+    private final ImportProgress progress;
+    private final long[] inOffsets;
+    private final long[] outOffsets;
+    private final IntArray inAdjacency;
+    private final IntArray outAdjacency;
+    private final int[] relationId;
+    private WeightMapping weights;
+
+    BatchImportTask(
+            GraphDatabaseAPI api,
+            IdMap mapping,
+            PrimitiveIntIterable nodes,
+            int nodeOffset,
+            ImportProgress progress,
+            long[] inOffsets,
+            long[] outOffsets,
+            IntArray inAdjacency,
+            IntArray outAdjacency,
+            int[] relationId,
+            WeightMapping weights) {
+        super(api);
+        this.mapping = mapping;
+        this.nodes = nodes;
+        this.nodeOffset = nodeOffset;
+        this.progress = progress;
+        this.inOffsets = inOffsets;
+        this.outOffsets = outOffsets;
+        this.inAdjacency = inAdjacency;
+        this.outAdjacency = outAdjacency;
+        this.relationId = relationId;
+        this.weights = weights;
+    }
+
+    @Override
+    public String threadName() {
+        return "[Light] RelationshipImport-" + nodeOffset;
+    }
+
+    @Override
+    public Void apply(final Statement statement) throws EntityNotFoundException {
+        final ReadOperations readOp = statement.readOperations();
+        RelationshipImporter inImporter = null;
+        RelationshipImporter outImporter = null;
+        if (inAdjacency != null) {
+            inImporter = RelationshipImporter.of(
+                    readOp,
+                    mapping,
+                    inOffsets,
+                    relationId,
+                    Direction.INCOMING,
+                    inAdjacency.newBulkAdder(),
+                    weights);
+        }
+        if (outAdjacency != null) {
+            outImporter = RelationshipImporter.of(
+                    readOp,
+                    mapping,
+                    outOffsets,
+                    relationId,
+                    Direction.OUTGOING,
+                    outAdjacency.newBulkAdder(),
+                    weights);
+        }
+
+        final RelationshipImport importer = RelationshipImport.combine(
+                inImporter,
+                outImporter);
+        final PrimitiveIntIterator iterator = nodes.iterator();
+        while (iterator.hasNext()) {
+            final int graphId = iterator.next();
+            importer.importRelationships(graphId, mapping.toOriginalNodeId(graphId));
+            progress.relProgress();
+        }
+        return null;
+    }
+
+    WeightMapping weights() {
+        return weights;
+    }
+
+    void writeInto(WeightMapping global) {
+        if (global instanceof WeightMap && weights instanceof WeightMap) {
+            ((WeightMap) global).weights().putAll(((WeightMap) weights).weights());
+        }
+        weights = null;
+    }
+}
@@ -0,0 +1,190 @@
+package org.neo4j.graphalgo.core.lightweight;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.neo4j.collection.primitive.PrimitiveIntIterable;
+import org.neo4j.collection.primitive.PrimitiveIntIterator;
+import org.neo4j.graphalgo.api.WeightMapping;
+import org.neo4j.graphalgo.core.IdMap;
+import org.neo4j.graphalgo.core.WeightMap;
+import org.neo4j.graphalgo.core.utils.ImportProgress;
+import org.neo4j.graphalgo.core.utils.RawValues;
+import org.neo4j.graphalgo.core.utils.StatementTask;
+import org.neo4j.graphalgo.core.utils.paged.ByteArray;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.Statement;
+import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
+import org.neo4j.kernel.impl.api.RelationshipVisitor;
+import org.neo4j.kernel.impl.api.store.RelationshipIterator;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.util.Arrays;
+
+/**
+ * Imports the relationships of a batch of nodes into a {@link CompressedLightGraph}.
+ * The targets of every node are sorted, delta encoded and written as vlongs into
+ * a chunk of the adjacency that is allocated for this task only.
+ */
+final class CompressedBatchImportTask extends StatementTask<Void, EntityNotFoundException>
+        implements RelationshipVisitor<EntityNotFoundException> {
+
+    private final IdMap mapping;
+    private final PrimitiveIntIterable nodes;
+    private final int nodeOffset;
+    private final ImportProgress progress;
+    private final long[] inOffsets;
+    private final long[] outOffsets;
+    private final ByteArray.LocalAllocator inAllocator;
+    private final ByteArray.LocalAllocator outAllocator;
+    private final int[] relationId;
+    private WeightMapping weights;
+
+    private ReadOperations readOp;
+    private Direction direction;
+    private int sourceGraphId;
+    private int[] targets = new int[0];
+    private int length;
+
+    CompressedBatchImportTask(
+            GraphDatabaseAPI api,
+            IdMap mapping,
+            PrimitiveIntIterable nodes,
+            int nodeOffset,
+            ImportProgress progress,
+            long[] inOffsets,
+            long[] outOffsets,
+            ByteArray inAdjacency,
+            ByteArray outAdjacency,
+            int[] relationId,
+            WeightMapping weights) {
+        super(api);
+        this.mapping = mapping;
+        this.nodes = nodes;
+        this.nodeOffset = nodeOffset;
+        this.progress = progress;
+        this.inOffsets = inOffsets;
+        this.outOffsets = outOffsets;
+        this.inAllocator = inAdjacency != null ? inAdjacency.newAllocator() : null;
+        this.outAllocator = outAdjacency != null ? outAdjacency.newAllocator() : null;
+        this.relationId = relationId;
+        this.weights = weights;
+    }
+
+    @Override
+    public String threadName() {
+        return "[Light] CompressedRelationshipImport-" + nodeOffset;
+    }
+
+    @Override
+    public Void apply(final Statement statement) throws EntityNotFoundException {
+        readOp = statement.readOperations();
+        final PrimitiveIntIterator iterator = nodes.iterator();
+        while (iterator.hasNext()) {
+            final int graphId = iterator.next();
+            final long nodeId = mapping.toOriginalNodeId(graphId);
+            if (inAllocator != null) {
+                importRelationships(graphId, nodeId, Direction.INCOMING, inOffsets, inAllocator);
+            }
+            if (outAllocator != null) {
+                importRelationships(graphId, nodeId, Direction.OUTGOING, outOffsets, outAllocator);
+            }
+            progress.relProgress();
+        }
+        readOp = null;
+        return null;
+    }
+
+    private void importRelationships(
+            int graphId,
+            long nodeId,
+            Direction direction,
+            long[] offsets,
+            ByteArray.LocalAllocator allocator) throws EntityNotFoundException {
+        final int degree = relationId == null
+                ? readOp.nodeGetDegree(nodeId, direction)
+                : readOp.nodeGetDegree(nodeId, direction, relationId[0]);
+        if (degree <= 0) {
+            return;
+        }
+        final RelationshipIterator rels = relationId == null
+                ? readOp.nodeGetRelationships(nodeId, direction)
+                : readOp.nodeGetRelationships(nodeId, direction, relationId);
+
+        if (targets.length < degree) {
+            targets = new int[ArrayUtil.oversize(degree, Integer.BYTES)];
+        }
+        this.length = 0;
+        this.direction = direction;
+        this.sourceGraphId = graphId;
+        while (rels.hasNext()) {
+            final long relId = rels.next();
+            rels.relationshipVisit(relId, this);
+        }
+
+        final int length = this.length;
+        if (length == 0) {
+            return;
+        }
+        final int[] targets = this.targets;
+        Arrays.sort(targets, 0, length);
+        long requiredBytes = Integer.BYTES;
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+            requiredBytes += vlongSize(targets[i] - previous);
+            previous = targets[i];
+        }
+
+        offsets[graphId] = allocator.allocate(requiredBytes);
+        final ByteArray.BulkAdder adder = allocator.adder;
+        adder.addUnsignedInt(length);
+        previous = 0;
+        for (int i = 0; i < length; i++) {
+            adder.addVLong(targets[i] - previous);
+            previous = targets[i];
+        }
+    }
+
+    @Override
+    public void visit(
+            final long relationshipId,
+            final int typeId,
+            final long startNodeId,
+            final long endNodeId) throws EntityNotFoundException {
+        final long targetNodeId = direction == Direction.OUTGOING ? endNodeId : startNodeId;
+        final int targetGraphId = mapping.get(targetNodeId);
+        if (targetGraphId == -1) {
+            return;
+        }
+        if (length == targets.length) {
+            targets = ArrayUtil.grow(targets, length + 1);
+        }
+        targets[length++] = targetGraphId;
+        if (weights instanceof WeightMap) {
+            final WeightMap weightMap = (WeightMap) weights;
+            try {
+                Object value = readOp.relationshipGetProperty(relationshipId, weightMap.propertyId());
+                weightMap.set(RawValues.combiner(direction).apply(sourceGraphId, targetGraphId), value);
+            } catch (EntityNotFoundException ignored) {
+            }
+        }
+    }
+
+    WeightMapping weights() {
+        return weights;
+    }
+
+    void writeInto(WeightMapping global) {
+        if (global instanceof WeightMap && weights instanceof WeightMap) {
+            ((WeightMap) global).weights().putAll(((WeightMap) weights).weights());
+        }
+        weights = null;
+    }
+
+    /**
+     * @return the number of bytes that {@link ByteArray.BulkAdder#addVLong(long)} writes for the value
+     */
+    static int vlongSize(long value) {
+        final int bits = Long.SIZE - Long.numberOfLeadingZeros(value);
+        return Math.max(1, (bits + 6) / 7);
+    }
+}
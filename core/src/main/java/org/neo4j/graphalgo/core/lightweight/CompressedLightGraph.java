@@ -0,0 +1,351 @@
+package org.neo4j.graphalgo.core.lightweight;
+
+import org.neo4j.collection.pool.MarshlandPool;
+import org.neo4j.collection.primitive.PrimitiveIntIterable;
+import org.neo4j.collection.primitive.PrimitiveIntIterator;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.api.RelationshipCursor;
+import org.neo4j.graphalgo.api.WeightMapping;
+import org.neo4j.graphalgo.api.WeightedRelationshipConsumer;
+import org.neo4j.graphalgo.core.IdMap;
+import org.neo4j.graphalgo.core.utils.IdCombiner;
+import org.neo4j.graphalgo.core.utils.RawValues;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.ByteArray;
+import org.neo4j.graphdb.Direction;
+
+import java.util.Collection;
+import java.util.function.IntPredicate;
+
+/**
+ * A {@link LightGraph} whose adjacency lists are compressed.
+ * <p>
+ * The adjacency is stored in the same format as in the
+ * {@link org.neo4j.graphalgo.core.huge.HugeGraphImpl}: at the offset
+ * of a node the degree is written as 4 byte int, followed by the sorted
+ * target ids, every one as the difference to its predecessor written as vlong.
+ * Depending on how close the ids of neighbouring nodes are, a target takes
+ * one to three bytes instead of four. Graphs with a high degree or with
+ * locality in their node ids are 2 to 3 times smaller than a {@link LightGraph}.
+ * <p>
+ * An offset of {@code 0} marks a node without relationships, the
+ * first byte of the adjacency is never allocated.
+ */
+public class CompressedLightGraph implements Graph {
+
+    private final IdMap idMapping;
+    private final AllocationTracker tracker;
+    private WeightMapping weightMapping;
+    private ByteArray inAdjacency;
+    private ByteArray outAdjacency;
+    private long[] inOffsets;
+    private long[] outOffsets;
+    private MarshlandPool<ByteArray.DeltaCursor> inCursors;
+    private MarshlandPool<ByteArray.DeltaCursor> outCursors;
+
+    CompressedLightGraph(
+            final IdMap idMapping,
+            final AllocationTracker tracker,
+            final WeightMapping weightMapping,
+            final ByteArray inAdjacency,
+            final ByteArray outAdjacency,
+            final long[] inOffsets,
+            final long[] outOffsets) {
+        this.idMapping = idMapping;
+        this.tracker = tracker;
+        this.weightMapping = weightMapping;
+        this.inAdjacency = inAdjacency;
+        this.outAdjacency = outAdjacency;
+        this.inOffsets = inOffsets;
+        this.outOffsets = outOffsets;
+        this.inCursors = inAdjacency != null ? new MarshlandPool<>(inAdjacency::newCursor) : null;
+        this.outCursors = outAdjacency != null ? new MarshlandPool<>(outAdjacency::newCursor) : null;
+    }
+
+    @Override
+    public long nodeCount() {
+        return idMapping.size();
+    }
+
+    @Override
+    public PrimitiveIntIterator nodeIterator() {
+        return idMapping.iterator();
+    }
+
+    @Override
+    public Collection<PrimitiveIntIterable> batchIterables(final int batchSize) {
+        return idMapping.batchIterables(batchSize);
+    }
+
+    @Override
+    public void forEachNode(IntPredicate consumer) {
+        idMapping.forEach(consumer);
+    }
+
+    @Override
+    public void forEachRelationship(
+            int vertexId,
+            Direction direction,
+            RelationshipConsumer consumer) {
+        switch (direction) {
+            case INCOMING:
+                forEachIncoming(vertexId, consumer);
+                return;
+
+            case OUTGOING:
+                forEachOutgoing(vertexId, consumer);
+                return;
+
+            case BOTH:
+                forEachIncoming(vertexId, consumer);
+                forEachOutgoing(vertexId, consumer);
+                return;
+
+            default:
+                throw new IllegalArgumentException(direction + "");
+        }
+    }
+
+    @Override
+    public void forEachRelationship(
+            int vertexId,
+            Direction direction,
+            WeightedRelationshipConsumer consumer) {
+        switch (direction) {
+            case INCOMING:
+                forEachIncoming(vertexId, consumer);
+                return;
+
+            case OUTGOING:
+                forEachOutgoing(vertexId, consumer);
+                return;
+
+            case BOTH:
+                forEachIncoming(vertexId, consumer);
+                forEachOutgoing(vertexId, consumer);
+                return;
+
+            default:
+                throw new IllegalArgumentException(direction + "");
+        }
+    }
+
+    @Override
+    public int degree(
+            final int node,
+            final Direction direction) {
+        switch (direction) {
+            case INCOMING:
+                return degree(node, inOffsets, inAdjacency);
+
+            case OUTGOING:
+                return degree(node, outOffsets, outAdjacency);
+
+            case BOTH:
+                return degree(node, inOffsets, inAdjacency) +
+                        degree(node, outOffsets, outAdjacency);
+
+            default:
+                throw new IllegalArgumentException(direction + "");
+        }
+    }
+
+    @Override
+    public int toMappedNodeId(long nodeId) {
+        return idMapping.get(nodeId);
+    }
+
+    @Override
+    public long toOriginalNodeId(int vertexId) {
+        return idMapping.toOriginalNodeId(vertexId);
+    }
+
+    @Override
+    public boolean contains(final long nodeId) {
+        return idMapping.contains(nodeId);
+    }
+
+    @Override
+    public void forEachIncoming(
+            final int node,
+            final RelationshipConsumer consumer) {
+        final long offset = inOffsets[node];
+        if (offset != 0L) {
+            ByteArray.DeltaCursor cursor = inAdjacency.deltaCursor(inCursors.acquire(), offset);
+            consumeNodes(node, cursor, RawValues.INCOMING, consumer);
+            inCursors.release(cursor);
+        }
+    }
+
+    @Override
+    public void forEachOutgoing(
+            final int node,
+            final RelationshipConsumer consumer) {
+        final long offset = outOffsets[node];
+        if (offset != 0L) {
+            ByteArray.DeltaCursor cursor = outAdjacency.deltaCursor(outCursors.acquire(), offset);
+            consumeNodes(node, cursor, RawValues.OUTGOING, consumer);
+            outCursors.release(cursor);
+        }
+    }
+
+    private void forEachIncoming(
+            final int node,
+            final WeightedRelationshipConsumer consumer) {
+        final long offset = inOffsets[node];
+        if (offset != 0L) {
+            ByteArray.DeltaCursor cursor = inAdjacency.deltaCursor(inCursors.acquire(), offset);
+            consumeNodes(node, cursor, RawValues.INCOMING, consumer);
+            inCursors.release(cursor);
+        }
+    }
+
+    private void forEachOutgoing(
+            final int node,
+            final WeightedRelationshipConsumer consumer) {
+        final long offset = outOffsets[node];
+        if (offset != 0L) {
+            ByteArray.DeltaCursor cursor = outAdjacency.deltaCursor(outCursors.acquire(), offset);
+            consumeNodes(node, cursor, RawValues.OUTGOING, consumer);
+            outCursors.release(cursor);
+        }
+    }
+
+    private int degree(int node, long[] offsets, ByteArray adjacency) {
+        final long offset = offsets[node];
+        if (offset == 0L) {
+            return 0;
+        }
+        return adjacency.getInt(offset);
+    }
+
+    private void consumeNodes(
+            int startNode,
+            ByteArray.DeltaCursor cursor,
+            IdCombiner relId,
+            WeightedRelationshipConsumer consumer) {
+        //noinspection UnnecessaryLocalVariable – prefer access of local var in loop
+        final WeightMapping weightMap = this.weightMapping;
+        long next;
+        while ((next = cursor.getVLong()) != -1L) {
+            int targetNode = (int) next;
+            long relationId = relId.apply(startNode, targetNode);
+            if (!consumer.accept(
+                    startNode,
+                    targetNode,
+                    relationId,
+                    weightMap.get(relationId))) {
+                return;
+            }
+        }
+    }
+
+    private void consumeNodes(
+            int startNode,
+            ByteArray.DeltaCursor cursor,
+            IdCombiner relId,
+            RelationshipConsumer consumer) {
+        long next;
+        while ((next = cursor.getVLong()) != -1L) {
+            int targetNode = (int) next;
+            if (!consumer.accept(startNode, targetNode, relId.apply(startNode, targetNode))) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public RelationshipCursor newRelationshipCursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public void release() {
+        if (inAdjacency != null) {
+            inCursors.close();
+            tracker.remove(inAdjacency.release());
+        }
+        if (outAdjacency != null) {
+            outCursors.close();
+            tracker.remove(outAdjacency.release());
+        }
+        weightMapping = null;
+        inAdjacency = null;
+        outAdjacency = null;
+        inOffsets = null;
+        outOffsets = null;
+        inCursors = null;
+        outCursors = null;
+    }
+
+    private final class Cursor extends RelationshipCursor {
+        private ByteArray.DeltaCursor inCursor;
+        private ByteArray.DeltaCursor outCursor;
+        private ByteArray.DeltaCursor cursor;
+        private IdCombiner relId;
+        private boolean outgoingNext;
+
+        @Override
+        public RelationshipCursor reset(int nodeId, Direction direction) {
+            sourceNodeId = nodeId;
+            outgoingNext = direction == Direction.BOTH;
+            if (direction == Direction.OUTGOING) {
+                startOutgoing(nodeId);
+            } else {
+                startIncoming(nodeId);
+            }
+            return this;
+        }
+
+        @Override
+        public boolean next() {
+            while (true) {
+                if (cursor != null) {
+                    final long next = cursor.getVLong();
+                    if (next != -1L) {
+                        targetNodeId = (int) next;
+                        return true;
+                    }
+                    cursor = null;
+                }
+                if (!outgoingNext) {
+                    return false;
+                }
+                outgoingNext = false;
+                startOutgoing(sourceNodeId);
+            }
+        }
+
+        @Override
+        public double weight() {
+            return weightMapping.get(relId.apply(sourceNodeId, targetNodeId));
+        }
+
+        private void startIncoming(int node) {
+            relId = RawValues.INCOMING;
+            final long offset = inOffsets[node];
+            if (offset == 0L) {
+                cursor = null;
+            } else {
+                if (inCursor == null) {
+                    inCursor = inAdjacency.newCursor();
+                }
+                cursor = inAdjacency.deltaCursor(inCursor, offset);
+            }
+        }
+
+        private void startOutgoing(int node) {
+            relId = RawValues.OUTGOING;
+            final long offset = outOffsets[node];
+            if (offset == 0L) {
+                cursor = null;
+            } else {
+                if (outCursor == null) {
+                    outCursor = outAdjacency.newCursor();
+                }
+                cursor = outAdjacency.deltaCursor(outCursor, offset);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.neo4j.graphalgo.core.lightweight;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.api.GraphSetup;
+import org.neo4j.graphalgo.api.WeightMapping;
+import org.neo4j.graphalgo.core.IdMap;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.ByteArray;
+import org.neo4j.helpers.Exceptions;
+import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Imports a {@link CompressedLightGraph} in a single parallel pass over batches of nodes.
+ * Every batch allocates its own chunks of the adjacency, so that the compressed
+ * adjacency lists can be written without knowing their size in advance.
+ */
+public final class CompressedLightGraphFactory extends GraphFactory {
+
+    public CompressedLightGraphFactory(
+            GraphDatabaseAPI api,
+            GraphSetup setup) {
+        super(api, setup);
+    }
+
+    @Override
+    public Graph build() {
+        try {
+            return importGraph();
+        } catch (EntityNotFoundException e) {
+            throw Exceptions.launderedException(e);
+        }
+    }
+
+    private Graph importGraph() throws EntityNotFoundException {
+        final IdMap idMap = loadIdMap();
+        final Supplier<WeightMapping> weightsSupplier = () -> newWeightMap(
+                dimensions.weightId(),
+                setup.relationDefaultWeight);
+
+        final int nodeCount = idMap.size();
+        final int concurrency = setup.concurrency();
+        final int batchSize = ParallelUtil.adjustBatchSize(
+                nodeCount,
+                concurrency,
+                setup.batchSize);
+
+        final long[] inOffsets = setup.loadIncoming ? new long[nodeCount] : null;
+        final long[] outOffsets = setup.loadOutgoing ? new long[nodeCount] : null;
+        final ByteArray inAdjacency = setup.loadIncoming ? newAdjacency() : null;
+        final ByteArray outAdjacency = setup.loadOutgoing ? newAdjacency() : null;
+        if (inOffsets == null && outOffsets == null) {
+            final Graph graph = new CompressedLightGraph(idMap, setup.tracker, weightsSupplier.get(), null, null, null, null);
+            progressLogger.logDone();
+            return graph;
+        }
+
+        final int[] relationId = dimensions.relationId();
+        final Collection<CompressedBatchImportTask> tasks = runBatches(
+                batchSize,
+                idMap,
+                (offset, nodeIds) -> new CompressedBatchImportTask(
+                        api,
+                        idMap,
+                        nodeIds,
+                        offset,
+                        progress,
+                        inOffsets,
+                        outOffsets,
+                        inAdjacency,
+                        outAdjacency,
+                        relationId,
+                        weightsSupplier.get()));
+
+        final WeightMapping weights;
+        if (tasks.size() == 1) {
+            weights = tasks.iterator().next().weights();
+        } else {
+            weights = weightsSupplier.get();
+            for (CompressedBatchImportTask task : tasks) {
+                task.writeInto(weights);
+            }
+        }
+
+        final Graph graph = new CompressedLightGraph(
+                idMap,
+                setup.tracker,
+                weights,
+                inAdjacency,
+                outAdjacency,
+                inOffsets,
+                outOffsets);
+        progressLogger.logDone();
+        return graph;
+    }
+
+    private ByteArray newAdjacency() {
+        final ByteArray adjacency = ByteArray.newArray(0, setup.tracker);
+        // offset 0 marks a node without relationships
+        adjacency.skipAllocationRegion(1);
+        return adjacency;
+    }
+}
@@ -0,0 +1,109 @@
+package org.neo4j.graphalgo.core.lightweight;
+
+import org.neo4j.collection.primitive.PrimitiveIntIterable;
+import org.neo4j.collection.primitive.PrimitiveIntIterator;
+import org.neo4j.graphalgo.core.IdMap;
+import org.neo4j.graphalgo.core.utils.StatementTask;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.Statement;
+import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
+import org.neo4j.kernel.impl.api.RelationshipVisitor;
+import org.neo4j.kernel.impl.api.store.RelationshipIterator;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+/**
+ * Counts the degree of every node of a batch into {@code offsets[node + 1]},
+ * the prefix sum of the counted degrees are the offsets of the adjacency lists.
+ * <p>
+ * If not all nodes are loaded, only relationships to loaded nodes are counted.
+ * This has to read every relationship, otherwise the cheaper degree of the store is used.
+ */
+final class DegreeCountTask extends StatementTask<Void, EntityNotFoundException>
+        implements RelationshipVisitor<RuntimeException> {
+
+    private final IdMap mapping;
+    private final PrimitiveIntIterable nodes;
+    private final int nodeOffset;
+    private final long[] inOffsets;
+    private final long[] outOffsets;
+    private final int[] relationId;
+    private final boolean countMappedOnly;
+
+    private Direction direction;
+    private int degree;
+
+    DegreeCountTask(
+            GraphDatabaseAPI api,
+            IdMap mapping,
+            PrimitiveIntIterable nodes,
+            int nodeOffset,
+            long[] inOffsets,
+            long[] outOffsets,
+            int[] relationId,
+            boolean countMappedOnly) {
+        super(api);
+        this.mapping = mapping;
+        this.nodes = nodes;
+        this.nodeOffset = nodeOffset;
+        this.inOffsets = inOffsets;
+        this.outOffsets = outOffsets;
+        this.relationId = relationId;
+        this.countMappedOnly = countMappedOnly;
+    }
+
+    @Override
+    public String threadName() {
+        return "[Light] DegreeCount-" + nodeOffset;
+    }
+
+    @Override
+    public Void apply(final Statement statement) throws EntityNotFoundException {
+        final ReadOperations readOp = statement.readOperations();
+        final PrimitiveIntIterator iterator = nodes.iterator();
+        while (iterator.hasNext()) {
+            final int graphId = iterator.next();
+            final long nodeId = mapping.toOriginalNodeId(graphId);
+            if (inOffsets != null) {
+                inOffsets[graphId + 1] = degree(readOp, nodeId, Direction.INCOMING);
+            }
+            if (outOffsets != null) {
+                outOffsets[graphId + 1] = degree(readOp, nodeId, Direction.OUTGOING);
+            }
+        }
+        return null;
+    }
+
+    private int degree(
+            ReadOperations readOp,
+            long nodeId,
+            Direction direction) throws EntityNotFoundException {
+        if (!countMappedOnly) {
+            return relationId == null
+                    ? readOp.nodeGetDegree(nodeId, direction)
+                    : readOp.nodeGetDegree(nodeId, direction, relationId[0]);
+        }
+        final RelationshipIterator rels = relationId == null
+                ? readOp.nodeGetRelationships(nodeId, direction)
+                : readOp.nodeGetRelationships(nodeId, direction, relationId);
+        degree = 0;
+        this.direction = direction;
+        while (rels.hasNext()) {
+            final long relId = rels.next();
+            rels.relationshipVisit(relId, this);
+        }
+        return degree;
+    }
+
+    @Override
+    public void visit(
+            final long relationshipId,
+            final int typeId,
+            final long startNodeId,
+            final long endNodeId) {
+        final long targetNodeId = direction == Direction.OUTGOING ? endNodeId : startNodeId;
+        if (mapping.contains(targetNodeId)) {
+            degree++;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.neo4j.collection.primitive.PrimitiveIntIterable;
 import org.neo4j.collection.primitive.PrimitiveIntIterator;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.api.RelationshipCursor;
 import org.neo4j.graphalgo.api.WeightMapping;
 import org.neo4j.graphalgo.api.WeightedRelationshipConsumer;
 import org.neo4j.graphalgo.core.IdMap;
@@ -224,6 +225,11 @@ public class LightGraph implements Graph {
         }
     }
 
+    @Override
+    public RelationshipCursor newRelationshipCursor() {
+        return new Cursor();
+    }
+
     @Override
     public void release() {
         if (inAdjacency != null) {
@@ -242,4 +248,78 @@ public class LightGraph implements Graph {
         inOffsets = null;
         outOffsets = null;
     }
+
+    private final class Cursor extends RelationshipCursor {
+        private IntArray.Cursor inPages;
+        private IntArray.Cursor outPages;
+        private IntArray.Cursor pages;
+        private IdCombiner relId;
+        private boolean outgoingNext;
+        private int[] array;
+        private int offset;
+        private int limit;
+
+        @Override
+        public RelationshipCursor reset(int nodeId, Direction direction) {
+            sourceNodeId = nodeId;
+            outgoingNext = direction == Direction.BOTH;
+            if (direction == Direction.OUTGOING) {
+                startOutgoing(nodeId);
+            } else {
+                startIncoming(nodeId);
+            }
+            return this;
+        }
+
+        @Override
+        public boolean next() {
+            while (offset >= limit) {
+                if (pages.next()) {
+                    array = pages.array;
+                    offset = pages.offset;
+                    limit = pages.limit;
+                } else if (outgoingNext) {
+                    outgoingNext = false;
+                    startOutgoing(sourceNodeId);
+                } else {
+                    return false;
+                }
+            }
+            targetNodeId = array[offset++];
+            return true;
+        }
+
+        @Override
+        public double weight() {
+            return weightMapping.get(relId.apply(sourceNodeId, targetNodeId));
+        }
+
+        private void startIncoming(int node) {
+            if (inPages == null) {
+                inPages = inAdjacency.newCursor();
+            }
+            start(node, inOffsets, inAdjacency, inPages, RawValues.INCOMING);
+        }
+
+        private void startOutgoing(int node) {
+            if (outPages == null) {
+                outPages = outAdjacency.newCursor();
+            }
+            start(node, outOffsets, outAdjacency, outPages, RawValues.OUTGOING);
+        }
+
+        private void start(
+                int node,
+                long[] offsets,
+                IntArray adjacency,
+                IntArray.Cursor pages,
+                IdCombiner relId) {
+            final long offset = offsets[node];
+            this.pages = adjacency.initCursor(offset, offsets[node + 1] - offset, pages);
+            this.relId = relId;
+            this.array = null;
+            this.offset = 0;
+            this.limit = 0;
+        }
+    }
 }
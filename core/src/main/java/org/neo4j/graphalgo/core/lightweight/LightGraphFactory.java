@@ -3,11 +3,25 @@ package org.neo4j.graphalgo.core.lightweight;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphFactory;
 import org.neo4j.graphalgo.api.GraphSetup;
+import org.neo4j.graphalgo.api.WeightMapping;
 import org.neo4j.graphalgo.core.IdMap;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.IntArray;
 import org.neo4j.helpers.Exceptions;
+import org.neo4j.kernel.api.ReadOperations;
 import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Imports the graph in two parallel passes over batches of nodes.
+ * The first pass counts the degree of every node, the second pass writes
+ * the relationships directly into their final place in the adjacency arrays,
+ * so that no batch has to be copied or merged afterwards.
+ */
 public final class LightGraphFactory extends GraphFactory {
 
     public LightGraphFactory(
@@ -27,14 +41,89 @@ public final class LightGraphFactory extends GraphFactory {
 
     private Graph importGraph() throws EntityNotFoundException {
         final IdMap idMap = loadIdMap();
-        final GraphImporter graphImporter = new GraphImporter(
-                api,
-                setup,
+        final Supplier<WeightMapping> weightsSupplier = () -> newWeightMap(
+                dimensions.weightId(),
+                setup.relationDefaultWeight);
+
+        final int nodeCount = idMap.size();
+        final int concurrency = setup.concurrency();
+        final int batchSize = ParallelUtil.adjustBatchSize(
+                nodeCount,
+                concurrency,
+                setup.batchSize);
+        final int[] relationId = dimensions.relationId();
+
+        // we allocate one more offset in order to avoid having to
+        // check for the last element during degree access
+        final long[] inOffsets = setup.loadIncoming ? new long[nodeCount + 1] : null;
+        final long[] outOffsets = setup.loadOutgoing ? new long[nodeCount + 1] : null;
+        if (inOffsets == null && outOffsets == null) {
+            final Graph graph = new LightGraph(idMap, weightsSupplier.get(), null, null, null, null);
+            progressLogger.logDone();
+            return graph;
+        }
+
+        final boolean countMappedOnly = dimensions.labelId() != ReadOperations.ANY_LABEL;
+        runBatches(
+                batchSize,
+                idMap,
+                (offset, nodeIds) -> new DegreeCountTask(
+                        api,
+                        idMap,
+                        nodeIds,
+                        offset,
+                        inOffsets,
+                        outOffsets,
+                        relationId,
+                        countMappedOnly));
+
+        final IntArray inAdjacency = inOffsets != null ? newAdjacency(inOffsets) : null;
+        final IntArray outAdjacency = outOffsets != null ? newAdjacency(outOffsets) : null;
+
+        final Collection<BatchImportTask> tasks = runBatches(
+                batchSize,
                 idMap,
-                newWeightMap(dimensions.weightId(), setup.relationDefaultWeight),
-                dimensions.nodeCount(),
-                dimensions.relationId()
-        );
-        return graphImporter.call();
+                (offset, nodeIds) -> new BatchImportTask(
+                        api,
+                        idMap,
+                        nodeIds,
+                        offset,
+                        progress,
+                        inOffsets,
+                        outOffsets,
+                        inAdjacency,
+                        outAdjacency,
+                        relationId,
+                        weightsSupplier.get()));
+
+        final WeightMapping weights;
+        if (tasks.size() == 1) {
+            weights = tasks.iterator().next().weights();
+        } else {
+            weights = weightsSupplier.get();
+            for (BatchImportTask task : tasks) {
+                task.writeInto(weights);
+            }
+        }
+
+        final Graph graph = new LightGraph(
+                idMap,
+                weights,
+                inAdjacency,
+                outAdjacency,
+                inOffsets,
+                outOffsets);
+        progressLogger.logDone();
+        return graph;
+    }
+
+    /**
+     * turns the counted degrees into offsets and allocates the adjacency for all of them
+     */
+    private IntArray newAdjacency(long[] offsets) {
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        return IntArray.newArray(offsets[offsets.length - 1], AllocationTracker.EMPTY);
     }
 }
@@ -23,9 +23,7 @@ class RelationshipImporter implements RelationshipVisitor<EntityNotFoundExceptio
     private final Direction direction;
 
     private int sourceGraphId;
-
-    private long adjacencyIdx;
-    private int imported;
+    private long imported;
 
     static RelationshipImporter of(
             ReadOperations readOp,
@@ -71,13 +69,16 @@ class RelationshipImporter implements RelationshipVisitor<EntityNotFoundExceptio
         this.relationId = relationId;
     }
 
+    /**
+     * Imports the relationships of a node into the slots that have been reserved
+     * by the degree count, relationships beyond the counted degree are dropped.
+     * Fewer relationships than counted would leave empty slots that read as
+     * relationships to node 0, so the import fails instead.
+     */
     public void importRelationships(int sourceGraphId, long sourceNodeId)
     throws EntityNotFoundException {
-        imported = 0;
-        offsets[sourceGraphId] = adjacencyIdx;
-        final int degree = relationId == null
-                ? readOp.nodeGetDegree(sourceNodeId, direction)
-                : readOp.nodeGetDegree(sourceNodeId, direction, relationId[0]);
+        final long adjacencyIdx = offsets[sourceGraphId];
+        final long degree = offsets[sourceGraphId + 1] - adjacencyIdx;
         if (degree > 0) {
             final RelationshipIterator rels = relationId == null
                     ? readOp.nodeGetRelationships(sourceNodeId, direction)
@@ -85,23 +86,26 @@ class RelationshipImporter implements RelationshipVisitor<EntityNotFoundExceptio
 
             bulkAdder.init(adjacencyIdx, degree);
             this.sourceGraphId = sourceGraphId;
+            imported = 0L;
             while (rels.hasNext()) {
                 long relId = rels.next();
                 rels.relationshipVisit(relId, this);
             }
+            if (imported < degree) {
+                throw new IllegalStateException(String.format(
+                        "Expected %d %s relationships of node %d but found %d, the graph has changed during the import",
+                        degree,
+                        direction.name().toLowerCase(),
+                        sourceNodeId,
+                        imported));
+            }
         }
-
-        adjacencyIdx += imported;
     }
 
     int sourceGraphId() {
         return sourceGraphId;
     }
 
-    long adjacencyIdx() {
-        return adjacencyIdx;
-    }
-
     @Override
     public void visit(
             final long relationshipId,
@@ -122,9 +126,10 @@ class RelationshipImporter implements RelationshipVisitor<EntityNotFoundExceptio
         if (targetGraphId == -1) {
             return -1;
         }
-        bulkAdder.add(targetGraphId);
+        if (!bulkAdder.add(targetGraphId)) {
+            return -1;
+        }
         imported++;
-
         return targetGraphId;
     }
 
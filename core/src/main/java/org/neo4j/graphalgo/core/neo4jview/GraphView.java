@@ -7,65 +7,73 @@ import org.neo4j.graphalgo.api.*;
 import org.neo4j.graphalgo.core.IdMap;
 import org.neo4j.graphalgo.core.utils.RawValues;
 import org.neo4j.graphdb.Direction;
-import org.neo4j.graphdb.Transaction;
 import org.neo4j.helpers.Exceptions;
-import org.neo4j.kernel.api.ReadOperations;
-import org.neo4j.kernel.api.Statement;
 import org.neo4j.kernel.api.StatementConstants;
 import org.neo4j.kernel.api.exceptions.EntityNotFoundException;
 import org.neo4j.kernel.impl.api.RelationshipVisitor;
 import org.neo4j.kernel.impl.api.store.RelationshipIterator;
-import org.neo4j.kernel.impl.core.ThreadToStatementContextBridge;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.function.*;
+import java.util.function.IntPredicate;
 
 /**
  * A Graph implemented as View on Neo4j Kernel API
+ * <p>
+ * Nothing but the id mapping is loaded upfront. Relationships are read
+ * through the kernel on every access, using one long lived statement per
+ * reading thread (see {@link ReadSessions}). Those statements are kept
+ * until {@link #release()} is called.
  *
  * @author mknobloch
  */
 public class GraphView implements Graph {
 
-    private final ThreadToStatementContextBridge contextBridge;
-    private final GraphDatabaseAPI db;
+    private final ReadSessions sessions;
 
     private final double propertyDefaultWeight;
     private int relationTypeId;
+    private final int[] relationTypes;
     private int nodeCount;
     private int propertyKey;
     private int labelId;
     private final IdMapping idMapping;
 
     public GraphView(GraphDatabaseAPI db, String label, String relation, String propertyName, double propertyDefaultWeight) {
-        this.db = db;
-        contextBridge = db.getDependencyResolver()
-                .resolveDependency(ThreadToStatementContextBridge.class);
+        sessions = new ReadSessions(db);
         this.propertyDefaultWeight = propertyDefaultWeight;
 
-        withinTransaction(read -> {
+        sessions.accept(read -> {
             labelId = read.labelGetForName(label);
             nodeCount = Math.toIntExact(read.countsForNode(labelId));
             relationTypeId = read.relationshipTypeGetForName(relation);
             propertyKey = read.propertyKeyGetForName(propertyName);
         });
+        relationTypes = relationTypeId == StatementConstants.NO_SUCH_RELATIONSHIP_TYPE
+                ? null
+                : new int[]{relationTypeId};
         idMapping = createIdMapping();
     }
 
+    /**
+     * The store ids are not dense once nodes have been deleted, so the
+     * ids of all nodes are mapped, even if no label is given.
+     */
     private IdMapping createIdMapping() {
-        if (labelId == StatementConstants.NO_SUCH_LABEL) return new DirectIdMapping(nodeCount);
         IdMap idMap = new IdMap(nodeCount);
         // TODO parallelize?
-        withinTransaction(read -> {
-            PrimitiveLongIterator it = read.nodesGetForLabel(labelId);
+        sessions.accept(read -> {
+            PrimitiveLongIterator it = labelId == StatementConstants.NO_SUCH_LABEL
+                    ? read.nodesGetAll()
+                    : read.nodesGetForLabel(labelId);
             while (it.hasNext()) {
                 idMap.add(it.next());
             }
         });
         idMap.buildMappedIds();
+        nodeCount = idMap.size();
         return idMap;
     }
 
@@ -88,19 +96,17 @@ public class GraphView implements Graph {
             boolean readWeights,
             WeightedRelationshipConsumer action) {
         final long originalNodeId = toOriginalNodeId(nodeId);
+        final boolean hasWeights = readWeights && propertyKey != StatementConstants.NO_SUCH_PROPERTY_KEY;
         try {
-            withinTransaction(read -> {
+            sessions.accept(read -> {
                 final double defaultWeight = this.propertyDefaultWeight;
                 RelationshipVisitor<EntityNotFoundException> visitor = (relationshipId, typeId, startNodeId, endNodeId) -> {
                     long otherNodeId = startNodeId == originalNodeId ? endNodeId : startNodeId;
                     if (idMapping.contains(otherNodeId)) {
                         double weight = defaultWeight;
-                        if (readWeights && read.relationshipHasProperty(relationshipId, propertyKey)) {
-                            Object value = read.relationshipGetProperty(
-                                    relationshipId,
-                                    propertyKey);
+                        if (hasWeights) {
                             weight = RawValues.extractValue(
-                                    value,
+                                    read.relationshipGetProperty(relationshipId, propertyKey),
                                     defaultWeight);
                         }
                         final int otherId = toMappedNodeId(otherNodeId);
@@ -110,12 +116,9 @@ public class GraphView implements Graph {
                     }
                 };
 
-                final RelationshipIterator rels;
-                if (relationTypeId == StatementConstants.NO_SUCH_RELATIONSHIP_TYPE) {
-                    rels = read.nodeGetRelationships(originalNodeId, direction);
-                } else {
-                    rels = read.nodeGetRelationships(originalNodeId, direction, new int[] {relationTypeId});
-                }
+                final RelationshipIterator rels = relationTypes == null
+                        ? read.nodeGetRelationships(originalNodeId, direction)
+                        : read.nodeGetRelationships(originalNodeId, direction, relationTypes);
                 while (rels.hasNext()) {
                     final long relId = rels.next();
                     rels.relationshipVisit(relId, visitor);
@@ -133,54 +136,46 @@ public class GraphView implements Graph {
 
     @Override
     public void forEachNode(IntPredicate consumer) {
-        withinTransaction(read -> {
-            PrimitiveLongIterator nodes = labelId == StatementConstants.NO_SUCH_LABEL
-                    ? read.nodesGetAll()
-                    : read.nodesGetForLabel(labelId);
-            while (nodes.hasNext()) {
-                final long nodeId = nodes.next();
-                if (!consumer.test(toMappedNodeId(nodeId))) {
-                    break;
-                }
+        for (int i = 0; i < nodeCount; i++) {
+            if (!consumer.test(i)) {
+                break;
             }
-        });
+        }
     }
 
     @Override
     public PrimitiveIntIterator nodeIterator() {
-        return withinTransactionTyped(read -> {
-            if (labelId == StatementConstants.NO_SUCH_LABEL) {
-                return new NodeIterator(this, read.nodesGetAll());
-            }
-            return new NodeIterator(this, read.nodesGetForLabel(labelId));
-        });
+        return new IdIterator(0, nodeCount);
     }
 
+    /**
+     * Batches are ranges of mapped node ids and do not touch the kernel,
+     * so they can be iterated from different threads at the same time.
+     */
     @Override
     public Collection<PrimitiveIntIterable> batchIterables(final int batchSize) {
         int nodeCount = this.nodeCount;
         int numberOfBatches = (int) Math.ceil(nodeCount / (double) batchSize);
-        if (numberOfBatches == 1) {
+        if (numberOfBatches <= 1) {
             return Collections.singleton(this::nodeIterator);
         }
         PrimitiveIntIterable[] iterators = new PrimitiveIntIterable[numberOfBatches];
-        Arrays.setAll(iterators, i -> () -> withinTransactionTyped(read -> {
-            PrimitiveLongIterator neoIds;
-            if (labelId == StatementConstants.NO_SUCH_LABEL) {
-                neoIds = read.nodesGetAll();
-            } else {
-                neoIds = read.nodesGetForLabel(labelId);
-            }
-            return new SizedNodeIterator(this, neoIds, i * batchSize, batchSize);
-        }));
+        Arrays.setAll(iterators, i -> {
+            final int start = i * batchSize;
+            final int end = Math.min(nodeCount, start + batchSize);
+            return () -> new IdIterator(start, end);
+        });
         return Arrays.asList(iterators);
     }
 
     @Override
     public int degree(int nodeId, Direction direction) {
-        return withinTransactionInt(read -> {
+        final long originalNodeId = toOriginalNodeId(nodeId);
+        return sessions.applyAsInt(read -> {
             try {
-                return read.nodeGetDegree(toOriginalNodeId(nodeId), direction, relationTypeId);
+                return relationTypes == null
+                        ? read.nodeGetDegree(originalNodeId, direction)
+                        : read.nodeGetDegree(originalNodeId, direction, relationTypeId);
             } catch (EntityNotFoundException e) {
                 throw new RuntimeException(e);
             }
@@ -202,89 +197,33 @@ public class GraphView implements Graph {
         return idMapping.contains(nodeId);
     }
 
-    private int withinTransactionInt(ToIntFunction<ReadOperations> block) {
-        try (final Transaction tx = db.beginTx();
-             Statement statement = contextBridge.get()) {
-            final int result = block.applyAsInt(statement.readOperations());
-            tx.success();
-            return result;
-        }
-    }
-
-    private <T> T withinTransactionTyped(Function<ReadOperations, T> block) {
-        try (final Transaction tx = db.beginTx();
-             Statement statement = contextBridge.get()) {
-            final T result = block.apply(statement.readOperations());
-            tx.success();
-            return result;
-        }
-    }
-
-    private <E extends Exception> void withinTransaction(CheckedConsumer<ReadOperations, E> block)
-    throws E {
-        try (final Transaction tx = db.beginTx();
-             Statement statement = contextBridge.get()) {
-            block.accept(statement.readOperations());
-            tx.success();
-        }
-    }
-
-    private interface CheckedConsumer<T, E extends Exception> {
-        void accept(T t) throws E;
-    }
-
-
-    private static class NodeIterator implements PrimitiveIntIterator {
-
-        private final Graph graph;
-
-        private final PrimitiveLongIterator iterator;
-
-        private NodeIterator(Graph graph, PrimitiveLongIterator iterator) {
-            this.graph = graph;
-            this.iterator = iterator;
-        }
-
-        @Override
-        public boolean hasNext() {
-            return iterator.hasNext();
-        }
-
-        @Override
-        public int next() {
-            return graph.toMappedNodeId(iterator.next());
-        }
+    /**
+     * closes the statements of all reading threads. The view can still
+     * be used afterwards, but has to open new statements again.
+     */
+    @Override
+    public void release() {
+        sessions.close();
     }
 
-    private static class SizedNodeIterator implements PrimitiveIntIterator {
+    private static class IdIterator implements PrimitiveIntIterator {
 
-        private final Graph graph;
+        private int current;
+        private final int end;
 
-        private final PrimitiveLongIterator iterator;
-        private int remaining;
-
-        private SizedNodeIterator(
-                Graph graph,
-                PrimitiveLongIterator iterator,
-                int start,
-                int length) {
-            while (iterator.hasNext() && start-- > 0) {
-                iterator.next();
-            }
-            this.graph = graph;
-            this.iterator = iterator;
-            this.remaining = length;
+        private IdIterator(int start, int end) {
+            this.current = start;
+            this.end = end;
         }
 
         @Override
         public boolean hasNext() {
-            return remaining > 0 && iterator.hasNext();
+            return current < end;
         }
 
         @Override
         public int next() {
-            remaining--;
-            return graph.toMappedNodeId(iterator.next());
+            return current++;
         }
     }
 }
@@ -0,0 +1,135 @@
+package org.neo4j.graphalgo.core.neo4jview;
+
+import org.neo4j.helpers.Exceptions;
+import org.neo4j.kernel.api.KernelAPI;
+import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.api.ReadOperations;
+import org.neo4j.kernel.api.Statement;
+import org.neo4j.kernel.api.exceptions.TransactionFailureException;
+import org.neo4j.kernel.api.security.SecurityContext;
+import org.neo4j.kernel.impl.core.ThreadToStatementContextBridge;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Long lived read access for every thread that reads through a {@link GraphView}.
+ * <p>
+ * If the reading thread is bound to a transaction, the statement of that
+ * transaction is used. Otherwise a kernel transaction is opened on the first
+ * read of that thread and kept open until {@link #close()} is called, so that
+ * not every single read has to begin and commit its own transaction.
+ * Those transactions are not bound to their thread and can be closed from any thread.
+ * <p>
+ * If the sessions are created within a transaction, like the one of a procedure
+ * call, they are closed as well once that transaction is closed, so that pooled
+ * threads don't keep their transactions open after the run has ended.
+ */
+final class ReadSessions implements AutoCloseable {
+
+    interface Read<E extends Exception> {
+        void accept(ReadOperations read) throws E;
+    }
+
+    interface ReadInt {
+        int apply(ReadOperations read);
+    }
+
+    private final ThreadToStatementContextBridge contextBridge;
+    private final KernelAPI kernel;
+    private final SecurityContext securityContext;
+    private final Queue<Session> openSessions = new ConcurrentLinkedQueue<>();
+    private volatile ThreadLocal<Session> sessions = new ThreadLocal<>();
+
+    ReadSessions(GraphDatabaseAPI db) {
+        contextBridge = db.getDependencyResolver()
+                .resolveDependency(ThreadToStatementContextBridge.class);
+        kernel = db.getDependencyResolver()
+                .resolveDependency(KernelAPI.class);
+        if (contextBridge.hasTransaction()) {
+            final KernelTransaction transaction = contextBridge.getKernelTransactionBoundToThisThread(true);
+            securityContext = transaction.securityContext();
+            transaction.registerCloseListener(txId -> close());
+        } else {
+            securityContext = SecurityContext.AUTH_DISABLED;
+        }
+    }
+
+    <E extends Exception> void accept(Read<E> block) throws E {
+        if (contextBridge.hasTransaction()) {
+            try (Statement statement = contextBridge.get()) {
+                block.accept(statement.readOperations());
+            }
+            return;
+        }
+        block.accept(session().read);
+    }
+
+    int applyAsInt(ReadInt block) {
+        if (contextBridge.hasTransaction()) {
+            try (Statement statement = contextBridge.get()) {
+                return block.apply(statement.readOperations());
+            }
+        }
+        return block.apply(session().read);
+    }
+
+    /**
+     * close all sessions that have been opened so far. Must not be called
+     * while other threads are still reading, later reads open new sessions.
+     */
+    @Override
+    public void close() {
+        sessions = new ThreadLocal<>();
+        Throwable error = null;
+        Session session;
+        while ((session = openSessions.poll()) != null) {
+            try {
+                session.close();
+            } catch (Throwable e) {
+                error = Exceptions.chain(error, e);
+            }
+        }
+        if (error != null) {
+            throw Exceptions.launderedException(error);
+        }
+    }
+
+    private Session session() {
+        final ThreadLocal<Session> sessions = this.sessions;
+        Session session = sessions.get();
+        if (session == null || !session.transaction.isOpen()) {
+            session = new Session(newTransaction());
+            sessions.set(session);
+            openSessions.add(session);
+        }
+        return session;
+    }
+
+    private KernelTransaction newTransaction() {
+        try {
+            return kernel.newTransaction(KernelTransaction.Type.implicit, securityContext);
+        } catch (TransactionFailureException e) {
+            throw Exceptions.launderedException(e);
+        }
+    }
+
+    private static final class Session {
+        private final KernelTransaction transaction;
+        private final Statement statement;
+        private final ReadOperations read;
+
+        private Session(KernelTransaction transaction) {
+            this.transaction = transaction;
+            this.statement = transaction.acquireStatement();
+            this.read = statement.readOperations();
+        }
+
+        private void close() throws TransactionFailureException {
+            statement.close();
+            transaction.success();
+            transaction.close();
+        }
+    }
+}
@@ -1,66 +1,104 @@
 package org.neo4j.graphalgo.core.utils;
 
-import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
+ * Array of doubles that supports atomic updates on a single index.
+ * <p>
+ * The doubles are stored as their raw long bits in an {@link AtomicLongArray},
+ * updates are CAS loops on those bits. There is no loss of precision compared
+ * to a regular {@code double[]} and values are not limited to the int range.
+ * See {@link org.neo4j.graphalgo.core.utils.paged.PagedAtomicDoubleArray}
+ * for arrays with more than 2B elements.
+ *
  * @author mknblch
  */
 public class AtomicDoubleArray {
 
-    private final AtomicIntegerArray data;
+    private final AtomicLongArray data;
 
-    private final double scaleFactor;
+    public AtomicDoubleArray(int capacity) {
+        // raw bits of 0L are +0.0
+        data = new AtomicLongArray(capacity);
+    }
 
+    /**
+     * @deprecated values are stored exactly, the scale factor is ignored
+     */
+    @Deprecated
     public AtomicDoubleArray(int capacity, double scaleFactor) {
-        data = new AtomicIntegerArray(capacity);
-        this.scaleFactor = scaleFactor;
+        this(capacity);
     }
 
+    /**
+     * Atomically sets the value if the current value is bitwise equal to the expected value.
+     */
     public boolean compareAndSwap(int index, double expected, double value) {
-        return data.compareAndSet(index, (int) (expected * scaleFactor), (int) (value * scaleFactor));
+        return data.compareAndSet(
+                index,
+                Double.doubleToRawLongBits(expected),
+                Double.doubleToRawLongBits(value));
     }
 
+    /**
+     * Atomically adds the value and returns the previous value.
+     */
     public double fetchAndAdd(int index, double value) {
-        return data.getAndAdd(index, (int) (value * scaleFactor));
+        long expected, update;
+        double current;
+        do {
+            expected = data.get(index);
+            current = Double.longBitsToDouble(expected);
+            update = Double.doubleToRawLongBits(current + value);
+        } while (!data.compareAndSet(index, expected, update));
+        return current;
     }
 
     public double fetchCAS(int index, double expected, double value) {
-        final int ret = data.get(index);
+        final double ret = get(index);
         compareAndSwap(index, expected, value);
         return ret;
     }
 
     public double get(int index) {
-        return (double) data.get(index) / scaleFactor;
+        return Double.longBitsToDouble(data.get(index));
     }
 
     public void set(int index, double value) {
-        data.set(index, (int) (value * scaleFactor));
+        data.set(index, Double.doubleToRawLongBits(value));
     }
 
     public void add(int index, double value) {
-        data.addAndGet(index, (int) (scaleFactor * value));
+        fetchAndAdd(index, value);
     }
 
+    /**
+     * Atomically adds the value.
+     *
+     * @throws ArithmeticException if the sum exceeds the range of double
+     */
     public void addExact(int index, double value) {
-        final int newValue = (int) (value * scaleFactor);
-        int result, expected;
+        long expected;
+        double result;
         do {
             expected = data.get(index);
-            result = Math.addExact(expected, newValue);
-        } while (!data.compareAndSet(index, expected, result));
+            result = Double.longBitsToDouble(expected) + value;
+            if (Double.isInfinite(result) && !Double.isInfinite(value)) {
+                throw new ArithmeticException("double overflow");
+            }
+        } while (!data.compareAndSet(index, expected, Double.doubleToRawLongBits(result)));
     }
 
+    /**
+     * Atomically adds the value, sums that exceed the range of double are capped at {@link Double#MAX_VALUE}.
+     */
     public void addCapped(int index, double value) {
-        final int newValue = (int) (value * scaleFactor);
-        int result, expected;
+        long expected;
+        double result;
         do {
             expected = data.get(index);
-            result = expected + newValue;
-            if (result < expected) {
-                result = Integer.MAX_VALUE;
-            }
-        } while (!data.compareAndSet(index, expected, result));
+            result = Math.min(Double.longBitsToDouble(expected) + value, Double.MAX_VALUE);
+        } while (!data.compareAndSet(index, expected, Double.doubleToRawLongBits(result)));
     }
 
     public int length() {
@@ -69,7 +107,7 @@ public class AtomicDoubleArray {
 
     public void clear() { // TODO parallel ?!
         for (int i = data.length() - 1; i >= 0; i--) {
-            data.set(i, 0);
+            data.set(i, 0L);
         }
     }
 }
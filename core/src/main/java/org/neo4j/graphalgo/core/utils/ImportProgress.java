@@ -5,10 +5,17 @@ import org.neo4j.graphalgo.core.utils.paged.BitUtil;
 
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Counts the imported nodes to log the progress of the import and to
+ * check the {@link TerminationFlag} once per {@link TerminationFlag#RUN_CHECK_INTERVAL} nodes.
+ */
 public final class ImportProgress {
 
+    private static final long RUN_CHECK_MASK = TerminationFlag.RUN_CHECK_INTERVAL - 1;
+
     private final ProgressLogger progressLogger;
     private final AllocationTracker tracker;
+    private final TerminationFlag terminationFlag;
     private final long nodeCount;
     private final long approxOperations;
     private final long progressMask;
@@ -22,9 +29,11 @@ public final class ImportProgress {
             long nodeCount,
             long maxRelCount,
             boolean loadIncoming,
-            boolean loadOutgoing) {
+            boolean loadOutgoing,
+            TerminationFlag terminationFlag) {
         this.progressLogger = progressLogger;
         this.tracker = tracker;
+        this.terminationFlag = terminationFlag;
         this.nodeCount = nodeCount;
         long relOperations = (loadIncoming ? maxRelCount : 0) + (loadOutgoing ? maxRelCount : 0);
         long relFactor = BitUtil.nearbyPowerOfTwo(relOperations / nodeCount);
@@ -36,6 +45,7 @@ public final class ImportProgress {
 
     public void nodeProgress() {
         long nodes = nodeProgress.incrementAndGet();
+        checkRunning(nodes);
         if ((nodes & progressMask) == 0) {
             progressLogger.logProgress(
                     nodes,
@@ -46,6 +56,7 @@ public final class ImportProgress {
 
     public void relProgress() {
         long nodes = nodeProgress.incrementAndGet();
+        checkRunning(nodes);
         if ((nodes & progressMask) == 0) {
             progressLogger.logProgress(
                     (nodes << relationProgressShift) + nodeCount,
@@ -57,4 +68,11 @@ public final class ImportProgress {
     public void resetForRelationships() {
         nodeProgress.set(0);
     }
+
+    private void checkRunning(long nodes) {
+        // check on the first node as well, so that small graphs are checked at least once
+        if ((nodes & RUN_CHECK_MASK) == 1) {
+            terminationFlag.assertRunning();
+        }
+    }
 }
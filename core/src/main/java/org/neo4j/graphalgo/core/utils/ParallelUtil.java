@@ -3,10 +3,13 @@ package org.neo4j.graphalgo.core.utils;
 import org.neo4j.collection.primitive.PrimitiveIntIterable;
 import org.neo4j.collection.primitive.PrimitiveLongIterable;
 import org.neo4j.graphalgo.api.BatchNodeIterable;
+import org.neo4j.graphalgo.api.Degrees;
 import org.neo4j.graphalgo.api.HugeBatchNodeIterable;
+import org.neo4j.graphdb.Direction;
 import org.neo4j.helpers.Exceptions;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -21,11 +24,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.IntConsumer;
@@ -34,6 +40,9 @@ public final class ParallelUtil {
 
     public static final int DEFAULT_BATCH_SIZE = 10_000;
 
+    // number of degree partitions per thread when threads take over the partitions of others
+    private static final int PARTITIONS_PER_THREAD = 4;
+
     public static int threadSize(int batchSize, int elementCount) {
         if (batchSize <= 0) {
             throw new IllegalArgumentException("Invalid batch size: " + batchSize);
@@ -86,6 +95,68 @@ public final class ParallelUtil {
         return Math.max(minBatchSize, targetBatchSize);
     }
 
+    /**
+     * Splits the nodes {@code [0, nodeCount)} into ranges of consecutive nodes,
+     * so that every range has about the same number of relationships in the given direction.
+     * Every node is counted as one relationship in addition to its degree, so that
+     * nodes without relationships are split as well.
+     * A node with more relationships than fit into one range ends its range,
+     * the remaining relationships are split evenly between the other ranges.
+     * <p>
+     * There are at most {@code partitionCount} ranges and every range has
+     * at least {@code minBatchSize} relationships.
+     *
+     * @return the start node of every range, followed by {@code nodeCount} as the end of the last range
+     */
+    public static int[] degreePartitions(
+            int nodeCount,
+            Degrees degrees,
+            Direction direction,
+            int partitionCount,
+            int minBatchSize) {
+        long relationshipCount = nodeCount;
+        for (int node = 0; node < nodeCount; node++) {
+            relationshipCount += degrees.degree(node, direction);
+        }
+        final int partitions = (int) Math.min(
+                Math.max(1, partitionCount),
+                threadSize(Math.max(1, minBatchSize), relationshipCount));
+        final int[] starts = new int[partitions + 1];
+        int partition = 1;
+        long remaining = relationshipCount;
+        long partitionSize = threadSize(partitions, remaining);
+        long sum = 0L;
+        for (int node = 0; node < nodeCount - 1 && partition < partitions; node++) {
+            sum += degrees.degree(node, direction) + 1L;
+            if (sum >= partitionSize) {
+                starts[partition++] = node + 1;
+                // a super node takes more than its share, the others split the rest
+                remaining -= sum;
+                partitionSize = threadSize(partitions - partition + 1, remaining);
+                sum = 0L;
+            }
+        }
+        starts[partition] = nodeCount;
+        return partition == partitions ? starts : Arrays.copyOf(starts, partition + 1);
+    }
+
+    /**
+     * Like {@link #degreePartitions(int, Degrees, Direction, int, int)} with a few
+     * ranges per thread, so that threads that are done early can take over the ranges of others.
+     */
+    public static int[] degreePartitions(
+            int nodeCount,
+            Degrees degrees,
+            Direction direction,
+            int concurrency) {
+        return degreePartitions(
+                nodeCount,
+                degrees,
+                direction,
+                Math.max(1, concurrency) * PARTITIONS_PER_THREAD,
+                1);
+    }
+
     public static boolean canRunInParallel(ExecutorService executor) {
         return executor != null && !(executor.isShutdown() || executor.isTerminated());
     }
@@ -99,9 +170,24 @@ public final class ParallelUtil {
             int availableConcurrency = pool.getCorePoolSize() - pool.getActiveCount();
             return Math.min(availableConcurrency, desiredConcurrency);
         }
+        if (executor instanceof ForkJoinPool) {
+            ForkJoinPool pool = (ForkJoinPool) executor;
+            int availableConcurrency = pool.getParallelism() - pool.getActiveThreadCount();
+            return Math.max(0, Math.min(availableConcurrency, desiredConcurrency));
+        }
         return desiredConcurrency;
     }
 
+    /**
+     * @return the executor if it is a {@link ForkJoinPool}, otherwise the common pool
+     */
+    public static ForkJoinPool forkJoinPool(ExecutorService executor) {
+        if (executor instanceof ForkJoinPool && canRunInParallel(executor)) {
+            return (ForkJoinPool) executor;
+        }
+        return ForkJoinPool.commonPool();
+    }
+
     /**
      * Executes read operations in parallel, based on the given batch size
      * and executor.
@@ -178,6 +264,13 @@ public final class ParallelUtil {
      * <p>
      * This is similar to {@link ExecutorService#invokeAll(Collection)},
      * except that all Exceptions thrown by any task are chained together.
+     * The calling thread does not idle while waiting, but runs the tasks
+     * that have not been started by the executor yet.
+     * <p>
+     * When called from a procedure, those tasks run on the thread that
+     * executes the procedure, not on a pool thread. They see the
+     * transaction bound to that thread, and on a busy pool the procedure
+     * thread may end up running most of the tasks itself.
      */
     public static void run(
             Collection<? extends Runnable> tasks,
@@ -211,7 +304,7 @@ public final class ParallelUtil {
         }
 
         for (Runnable task : tasks) {
-            futures.add(executor.submit(task));
+            futures.add(execute(task, executor));
         }
 
         awaitTermination(futures);
@@ -245,7 +338,7 @@ public final class ParallelUtil {
         }
 
         for (Runnable task : tasks) {
-            futures.add(executor.submit(task));
+            futures.add(execute(task, executor));
         }
 
         awaitTermination(futures);
@@ -651,7 +744,12 @@ public final class ParallelUtil {
                 if (!terminationFlag.running()) {
                     return;
                 }
-                if (!completionService.trySubmit(ts) && !completionService.hasTasks()) {
+                boolean submitted = false;
+                // fill up free slots, there might be more than one if other runs have finished
+                while (completionService.trySubmit(ts)) {
+                    submitted = true;
+                }
+                if (!submitted && !completionService.hasTasks()) {
                     if (++tries >= maxWaitRetries) {
                         break;
                     }
@@ -686,13 +784,21 @@ public final class ParallelUtil {
         }
     }
 
+    /**
+     * Waits for all futures to finish and chains all their Exceptions.
+     * Futures that have been created by {@link #run(Collection, ExecutorService)}
+     * and are not yet started are run on the calling thread.
+     */
     public static void awaitTermination(Collection<Future<?>> futures) {
         boolean done = false;
         Throwable error = null;
         try {
+            for (Future<?> future : futures) {
+                helpRun(future);
+            }
             for (Future<?> future : futures) {
                 try {
-                    future.get();
+                    get(future);
                 } catch (ExecutionException ee) {
                     error = Exceptions.chain(error, ee.getCause());
                 } catch (CancellationException ignore) {
@@ -719,7 +825,9 @@ public final class ParallelUtil {
         try {
             while (!futures.isEmpty()) {
                 try {
-                    futures.poll().get();
+                    final Future<?> future = futures.poll();
+                    helpRun(future);
+                    get(future);
                 } catch (ExecutionException ee) {
                     error = Exceptions.chain(error, ee.getCause());
                 } catch (CancellationException ignore) {
@@ -760,17 +868,105 @@ public final class ParallelUtil {
     }
 
 
+    /**
+     * Like {@link #iterateParallel(ExecutorService, int, int, IntConsumer)},
+     * but the nodes are split into ranges with the same number of relationships,
+     * see {@link #degreePartitions(int, Degrees, Direction, int)}.
+     * Every range is run, even if the executor is busy, a range is then
+     * run by the calling thread.
+     */
+    public static void iterateParallel(
+            ExecutorService executorService,
+            int nodeCount,
+            Degrees degrees,
+            Direction direction,
+            int concurrency,
+            IntConsumer consumer) {
+        final int[] starts = degreePartitions(nodeCount, degrees, direction, concurrency);
+        final List<Runnable> tasks = new ArrayList<>(starts.length - 1);
+        for (int i = 0; i < starts.length - 1; i++) {
+            final int start = starts[i];
+            final int end = starts[i + 1];
+            tasks.add(() -> {
+                for (int j = start; j < end; j++) {
+                    consumer.accept(j);
+                }
+            });
+        }
+        run(tasks, executorService);
+    }
+
+    private static Future<?> execute(Runnable task, ExecutorService executor) {
+        final FutureTask<Void> future = new FutureTask<>(task, null);
+        executor.execute(future);
+        return future;
+    }
+
+    /**
+     * Runs a task that we have submitted ourselves on the calling thread,
+     * unless the executor has already started it.
+     * {@link FutureTask#run()} guarantees that only one of the callers
+     * is actually running the task.
+     */
+    private static void helpRun(Future<?> future) {
+        if (future instanceof FutureTask && !future.isDone()) {
+            ((FutureTask<?>) future).run();
+        }
+    }
+
+    private static <T> T get(Future<T> future)
+    throws InterruptedException, ExecutionException {
+        if (!future.isDone() && ForkJoinTask.inForkJoinPool()) {
+            // let the pool compensate for the blocked worker
+            ForkJoinPool.managedBlock(new FutureBlocker(future));
+        }
+        return future.get();
+    }
+
+    private static final class FutureBlocker implements ForkJoinPool.ManagedBlocker {
+        private final Future<?> future;
+
+        private FutureBlocker(Future<?> future) {
+            this.future = future;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            try {
+                future.get();
+            } catch (ExecutionException | CancellationException ignore) {
+                // reported by the caller
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return future.isDone();
+        }
+    }
+
     /**
      * Copied from {@link java.util.concurrent.ExecutorCompletionService}
      * and adapted to reduce indirection.
-     * Does not support {@link java.util.concurrent.ForkJoinPool} as backing executor.
+     * <p>
+     * No more than {@code targetConcurrency} tasks are running at the same time.
+     * If the backing executor is a {@link ForkJoinPool}, the workers are
+     * additionally shared fairly between all runs on that pool, that is,
+     * every run gets at least one worker and no more than its share of the parallelism.
      */
     private static final class CompletionService {
+        private static final AtomicInteger FORK_JOIN_RUNS = new AtomicInteger();
+
         private final Executor executor;
         private final ThreadPoolExecutor pool;
+        private final ForkJoinPool forkJoinPool;
+        private final int targetConcurrency;
         private final int availableConcurrency;
         private final Set<Future<Void>> running;
         private final BlockingQueue<Future<Void>> completionQueue;
+        // submitted tasks that have not been taken from the completion queue
+        private final AtomicInteger pending = new AtomicInteger();
 
         private class QueueingFuture extends FutureTask<Void> {
             QueueingFuture(final Runnable runnable) {
@@ -784,6 +980,8 @@ public final class ParallelUtil {
                 if (!isCancelled()) {
                     //noinspection StatementWithEmptyBody - spin-wait on free slot
                     while (!completionQueue.offer(this));
+                } else {
+                    pending.decrementAndGet();
                 }
             }
         }
@@ -795,16 +993,25 @@ public final class ParallelUtil {
             }
             if (executor instanceof ThreadPoolExecutor) {
                 pool = (ThreadPoolExecutor) executor;
+                forkJoinPool = null;
                 availableConcurrency = pool.getCorePoolSize();
                 int capacity = Math.max(targetConcurrency, availableConcurrency) + 1;
                 completionQueue = new ArrayBlockingQueue<>(capacity);
+            } else if (executor instanceof ForkJoinPool) {
+                pool = null;
+                forkJoinPool = (ForkJoinPool) executor;
+                availableConcurrency = forkJoinPool.getParallelism();
+                completionQueue = new ArrayBlockingQueue<>(targetConcurrency + 1);
+                FORK_JOIN_RUNS.incrementAndGet();
             } else {
                 pool = null;
+                forkJoinPool = null;
                 availableConcurrency = Integer.MAX_VALUE;
                 completionQueue = new LinkedBlockingQueue<>();
             }
 
             this.executor = executor;
+            this.targetConcurrency = targetConcurrency;
             this.running = Collections.newSetFromMap(new ConcurrentHashMap<>());
         }
 
@@ -822,6 +1029,7 @@ public final class ParallelUtil {
         boolean submit(Runnable task) {
             Objects.requireNonNull(task);
             if (canSubmit()) {
+                pending.incrementAndGet();
                 QueueingFuture future = new QueueingFuture(task);
                 executor.execute(future);
                 return true;
@@ -830,22 +1038,68 @@ public final class ParallelUtil {
         }
 
         boolean hasTasks() {
-            return !(running.isEmpty() && completionQueue.isEmpty());
+            return pending.get() > 0;
         }
 
         void awaitNext() throws InterruptedException, ExecutionException {
-            completionQueue.take().get();
+            if (ForkJoinTask.inForkJoinPool()) {
+                // let the pool compensate for the blocked worker
+                NextCompleted next = new NextCompleted();
+                ForkJoinPool.managedBlock(next);
+                pending.decrementAndGet();
+                next.completed.get();
+            } else {
+                final Future<Void> completed = completionQueue.take();
+                pending.decrementAndGet();
+                completed.get();
+            }
         }
 
         void cancelAll() {
+            if (forkJoinPool != null) {
+                FORK_JOIN_RUNS.decrementAndGet();
+            }
             stopFuturesAndStopScheduling(running);
             stopFutures(completionQueue);
         }
 
+        /**
+         * Completed tasks count until they have been taken from the completion queue,
+         * so that there are never more tasks than the queue can hold.
+         */
         private boolean canSubmit() {
+            final int runningTasks = pending.get();
+            if (runningTasks >= targetConcurrency) {
+                return false;
+            }
+            if (forkJoinPool != null) {
+                return runningTasks < fairShare();
+            }
             return pool == null || pool.getActiveCount() < availableConcurrency;
         }
 
+        private int fairShare() {
+            final int runs = Math.max(1, FORK_JOIN_RUNS.get());
+            return Math.max(1, (availableConcurrency + runs - 1) / runs);
+        }
+
+        private final class NextCompleted implements ForkJoinPool.ManagedBlocker {
+            private Future<Void> completed;
+
+            @Override
+            public boolean block() throws InterruptedException {
+                if (completed == null) {
+                    completed = completionQueue.take();
+                }
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return completed != null || (completed = completionQueue.poll()) != null;
+            }
+        }
+
         private void stopFutures(Collection<Future<Void>> futures) {
             for (Future<Void> future : futures) {
                 future.cancel(true);
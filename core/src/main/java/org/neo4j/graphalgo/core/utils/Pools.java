@@ -1,52 +1,56 @@
 package org.neo4j.graphalgo.core.utils;
 
-import org.neo4j.helpers.NamedThreadFactory;
-
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.RejectedExecutionHandler;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Pools {
     public static final int DEFAULT_CONCURRENCY = Runtime.getRuntime().availableProcessors();
-    public static final int DEFAULT_QUEUE_SIZE = DEFAULT_CONCURRENCY * 50;
     public final static ExecutorService DEFAULT = createDefaultPool();
 
     private Pools() {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Creates a work-stealing pool with one worker per core.
+     * <p>
+     * Submitting never blocks or rejects, the pool queues every task.
+     * {@link ParallelUtil#runWithConcurrency(int, java.util.Collection, ExecutorService)}
+     * limits how many tasks of a single run are in the pool at the same time and
+     * splits the workers fairly between all runs that share the pool.
+     * Threads that wait for other tasks of the pool to finish are compensated by the
+     * pool if they use {@link ParallelUtil}, so that tasks can submit subtasks and
+     * wait for them without starving the pool.
+     */
     public static ExecutorService createDefaultPool() {
-        return new ThreadPoolExecutor(
+        return new ForkJoinPool(
                 DEFAULT_CONCURRENCY,
-                DEFAULT_CONCURRENCY * 2,
-                30L,
-                TimeUnit.SECONDS,
-                new ArrayBlockingQueue<>(DEFAULT_QUEUE_SIZE),
-                NamedThreadFactory.daemon("algo"),
-                new CallerBlocksPolicy());
-    }
-
-    static class CallerBlocksPolicy implements RejectedExecutionHandler {
-        @Override
-        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
-            if (!executor.isShutdown()) {
-                // block caller for 100ns
-                LockSupport.parkNanos(100);
-                try {
-                    // submit again
-                    executor.submit(r).get();
-                } catch (InterruptedException | ExecutionException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-        }
+                new AlgoThreadFactory("algo"),
+                null,
+                false);
     }
 
     public static int getNoThreadsInDefaultPool() {
         return DEFAULT_CONCURRENCY;
     }
+
+    private static final class AlgoThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        private final String prefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        private AlgoThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            final ForkJoinWorkerThread thread = ForkJoinPool
+                    .defaultForkJoinWorkerThreadFactory
+                    .newThread(pool);
+            thread.setName(prefix + "-" + threadCount.incrementAndGet());
+            return thread;
+        }
+    }
 }
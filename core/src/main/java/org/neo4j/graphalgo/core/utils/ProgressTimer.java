@@ -10,16 +10,18 @@ import java.util.function.LongConsumer;
 public class ProgressTimer implements AutoCloseable {
 
     private final LongConsumer onStop;
+    private final TimeUnit unit;
     private final long startTime;
     private long duration = 0;
 
-    private ProgressTimer(LongConsumer onStop) {
+    private ProgressTimer(LongConsumer onStop, TimeUnit unit) {
         this.onStop = onStop == null ? l -> {} : onStop;
+        this.unit = unit;
         startTime = System.nanoTime();
     }
 
     public ProgressTimer stop() {
-        duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        duration = unit.convert(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
         onStop.accept(duration);
         return this;
     }
@@ -29,11 +31,18 @@ public class ProgressTimer implements AutoCloseable {
     }
 
     public static ProgressTimer start(LongConsumer onStop) {
-        return new ProgressTimer(onStop);
+        return new ProgressTimer(onStop, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * starts a timer that reports its duration in the given unit
+     */
+    public static ProgressTimer start(LongConsumer onStop, TimeUnit unit) {
+        return new ProgressTimer(onStop, unit);
     }
 
     public static ProgressTimer start() {
-        return new ProgressTimer(null);
+        return new ProgressTimer(null, TimeUnit.MILLISECONDS);
     }
 
     @Override
@@ -1,17 +1,40 @@
 package org.neo4j.graphalgo.core.utils;
 
+import org.neo4j.graphdb.TransactionTerminatedException;
 import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.api.exceptions.Status;
 
 /**
+ * Signals the termination of a running algorithm.
+ * <p>
+ * Every loop that scans relationships or nodes checks {@link #running()}
+ * at least once per {@link #RUN_CHECK_INTERVAL} of them. Together with the
+ * check interval of the flag this bounds the time an algorithm keeps
+ * running after its transaction got terminated.
+ *
  * @author mknblch
  */
 public interface TerminationFlag {
 
     TerminationFlag RUNNING_TRUE = () -> true;
 
+    /**
+     * number of nodes or relationships after which hot loops check {@link #running()}
+     */
+    int RUN_CHECK_INTERVAL = 1 << 14;
+
     static TerminationFlag wrap(KernelTransaction transaction) {
         return new TerminationFlagImpl(transaction);
     }
 
     boolean running();
+
+    /**
+     * @throws TransactionTerminatedException if not {@link #running()}
+     */
+    default void assertRunning() {
+        if (!running()) {
+            throw new TransactionTerminatedException(Status.Transaction.Terminated);
+        }
+    }
 }
@@ -1,15 +1,23 @@
 package org.neo4j.graphalgo.core.utils;
 
+import org.neo4j.graphdb.TransactionTerminatedException;
 import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.api.exceptions.Status;
 
 /**
+ * Polls the transaction at most once per check interval and caches the
+ * result in a volatile field, so that {@link #running()} is cheap enough
+ * for hot loops. Once terminated, it stays terminated.
+ *
  * @author mknblch
  */
 public class TerminationFlagImpl implements TerminationFlag {
 
+    public static final long DEFAULT_CHECK_INTERVAL = 1_000;
+
     private final KernelTransaction transaction;
 
-    private long interval = 10_000;
+    private long interval = DEFAULT_CHECK_INTERVAL;
 
     private volatile long lastCheck = 0;
 
@@ -26,6 +34,9 @@ public class TerminationFlagImpl implements TerminationFlag {
 
     @Override
     public boolean running() {
+        if (!running) {
+            return false;
+        }
         final long currentTime = System.currentTimeMillis();
         if (currentTime > lastCheck + interval) {
             if (transaction.getReasonIfTerminated().isPresent() || !transaction.isOpen()) {
@@ -35,4 +46,12 @@ public class TerminationFlagImpl implements TerminationFlag {
         }
         return running;
     }
+
+    @Override
+    public void assertRunning() {
+        if (!running()) {
+            throw new TransactionTerminatedException(
+                    transaction.getReasonIfTerminated().orElse(Status.Transaction.Terminated));
+        }
+    }
 }
@@ -0,0 +1,190 @@
+package org.neo4j.graphalgo.core.utils.admission;
+
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntToLongFunction;
+
+import static org.neo4j.graphalgo.core.utils.paged.AllocationTracker.humanReadable;
+
+/**
+ * Reserves heap and threads for algorithm runs before they start,
+ * so that concurrent runs cannot overcommit the heap together.
+ * <p>
+ * A run states its concurrency and a function that estimates its memory
+ * usage for a given concurrency. It is admitted with the highest
+ * concurrency that fits into the free threads and the free heap. Runs that do
+ * not fit wait in a queue and are admitted in the order they arrived, a
+ * run that would not even fit into an empty budget is rejected right away.
+ * <p>
+ * {@link #GLOBAL} is shared by all procedures of this JVM, it
+ * budgets {@value #DEFAULT_HEAP_PERCENTAGE}% of the max heap and one
+ * thread per worker of {@link Pools#DEFAULT}.
+ */
+public final class AdmissionControl {
+
+    public static final int DEFAULT_HEAP_PERCENTAGE = 80;
+
+    public static final AdmissionControl GLOBAL = new AdmissionControl(
+            Runtime.getRuntime().maxMemory() / 100 * DEFAULT_HEAP_PERCENTAGE,
+            Pools.DEFAULT_CONCURRENCY);
+
+    // waiting runs check their termination flag in this interval
+    private static final long CHECK_INTERVAL_MILLIS = 100L;
+
+    private final long maxBytes;
+    private final int maxThreads;
+    private final AtomicLong ids = new AtomicLong();
+
+    // guarded by this
+    private final Deque<Reservation> queued = new ArrayDeque<>();
+    private final Set<Reservation> running = new LinkedHashSet<>();
+    private long reservedBytes;
+    private int reservedThreads;
+
+    public AdmissionControl(long maxBytes, int maxThreads) {
+        if (maxBytes <= 0L || maxThreads <= 0) {
+            throw new IllegalArgumentException("the budget must be positive");
+        }
+        this.maxBytes = maxBytes;
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Waits until the run fits into the budget and reserves its heap and threads.
+     *
+     * @param algorithm            name of the run
+     * @param concurrency          the requested concurrency
+     * @param memoryUsage          the estimated heap usage in bytes for a given concurrency
+     * @param terminationFlag      waiting stops with an exception once the flag is not running anymore
+     * @param timeoutMillis        max time to wait in the queue, a negative value waits without limit
+     * @return the reservation that has to be closed once the run is done
+     * @throws IllegalStateException if the run does not fit into the budget at all or the timeout elapsed
+     */
+    public Reservation admit(
+            String algorithm,
+            int concurrency,
+            IntToLongFunction memoryUsage,
+            TerminationFlag terminationFlag,
+            long timeoutMillis) {
+        final Reservation reservation = new Reservation(
+                ids.incrementAndGet(),
+                algorithm,
+                Math.max(1, concurrency),
+                memoryUsage,
+                this);
+        final long minBytes = reservation.memoryUsage(1);
+        if (minBytes > maxBytes) {
+            throw new IllegalStateException(String.format(
+                    "%s requires at least %s heap but only %s are available for algorithms",
+                    algorithm,
+                    humanReadable(minBytes),
+                    humanReadable(maxBytes)));
+        }
+        final long deadline = timeoutMillis < 0L
+                ? Long.MAX_VALUE
+                : System.currentTimeMillis() + timeoutMillis;
+
+        synchronized (this) {
+            queued.addLast(reservation);
+            try {
+                while (queued.peekFirst() != reservation || !tryAdmit(reservation)) {
+                    final long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0L) {
+                        throw new IllegalStateException(String.format(
+                                "%s was not admitted within %d ms, %s of %s heap and %d of %d threads are reserved",
+                                algorithm,
+                                timeoutMillis,
+                                humanReadable(reservedBytes),
+                                humanReadable(maxBytes),
+                                reservedThreads,
+                                maxThreads));
+                    }
+                    terminationFlag.assertRunning();
+                    wait(Math.min(remaining, CHECK_INTERVAL_MILLIS));
+                }
+                queued.removeFirst();
+                running.add(reservation);
+                return reservation;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(algorithm + " got interrupted while waiting for its admission", e);
+            } finally {
+                if (reservation.state() == Reservation.State.QUEUED) {
+                    queued.remove(reservation);
+                    reservation.released();
+                }
+                // the next run in the queue might fit now
+                notifyAll();
+            }
+        }
+    }
+
+    // guarded by this
+    private boolean tryAdmit(Reservation reservation) {
+        final int freeThreads = maxThreads - reservedThreads;
+        final long freeBytes = maxBytes - reservedBytes;
+        for (int concurrency = Math.min(reservation.requestedConcurrency(), freeThreads);
+             concurrency > 0;
+             --concurrency) {
+            final long bytes = reservation.memoryUsage(concurrency);
+            if (bytes <= freeBytes) {
+                reservedBytes += bytes;
+                reservedThreads += concurrency;
+                reservation.admit(concurrency, bytes);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized void release(Reservation reservation) {
+        if (running.remove(reservation)) {
+            reservedBytes -= reservation.bytes();
+            reservedThreads -= reservation.concurrency();
+            reservation.released();
+            notifyAll();
+        }
+    }
+
+    /**
+     * the running runs followed by the queued ones in the order they will be admitted
+     */
+    public synchronized List<Reservation> reservations() {
+        final List<Reservation> reservations = new ArrayList<>(running.size() + queued.size());
+        reservations.addAll(running);
+        reservations.addAll(queued);
+        return reservations;
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public int maxThreads() {
+        return maxThreads;
+    }
+
+    public synchronized long reservedBytes() {
+        return reservedBytes;
+    }
+
+    public synchronized int reservedThreads() {
+        return reservedThreads;
+    }
+
+    public synchronized int runningCount() {
+        return running.size();
+    }
+
+    public synchronized int queuedCount() {
+        return queued.size();
+    }
+}
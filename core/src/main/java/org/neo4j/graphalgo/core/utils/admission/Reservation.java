@@ -0,0 +1,118 @@
+package org.neo4j.graphalgo.core.utils.admission;
+
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * Heap and threads that {@link AdmissionControl} reserved for a single run.
+ * <p>
+ * The run has to use at most {@link #concurrency()} threads and
+ * has to close the reservation once it is done.
+ */
+public final class Reservation implements AutoCloseable {
+
+    public enum State {
+        QUEUED, RUNNING, RELEASED
+    }
+
+    private final long id;
+    private final String algorithm;
+    private final int requestedConcurrency;
+    private final IntToLongFunction memoryUsage;
+    private final AdmissionControl admissionControl;
+    private final long queuedAt;
+
+    private volatile State state = State.QUEUED;
+    private volatile long admittedAt = -1L;
+    private volatile int concurrency;
+    private volatile long bytes;
+
+    Reservation(
+            long id,
+            String algorithm,
+            int requestedConcurrency,
+            IntToLongFunction memoryUsage,
+            AdmissionControl admissionControl) {
+        this.id = id;
+        this.algorithm = algorithm;
+        this.requestedConcurrency = requestedConcurrency;
+        this.memoryUsage = memoryUsage;
+        this.admissionControl = admissionControl;
+        this.queuedAt = System.currentTimeMillis();
+    }
+
+    long memoryUsage(int concurrency) {
+        return memoryUsage.applyAsLong(concurrency);
+    }
+
+    void admit(int concurrency, long bytes) {
+        this.concurrency = concurrency;
+        this.bytes = bytes;
+        this.admittedAt = System.currentTimeMillis();
+        this.state = State.RUNNING;
+    }
+
+    void released() {
+        state = State.RELEASED;
+    }
+
+    /**
+     * returns the reserved heap and threads, repeated calls are ignored
+     */
+    @Override
+    public void close() {
+        admissionControl.release(this);
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public String algorithm() {
+        return algorithm;
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public int requestedConcurrency() {
+        return requestedConcurrency;
+    }
+
+    /**
+     * the granted concurrency, at most the requested one
+     */
+    public int concurrency() {
+        return concurrency;
+    }
+
+    /**
+     * the reserved heap in bytes
+     */
+    public long bytes() {
+        return bytes;
+    }
+
+    public long queuedAt() {
+        return queuedAt;
+    }
+
+    /**
+     * the time the run waited for its admission so far
+     */
+    public long waitMillis() {
+        final long admittedAt = this.admittedAt;
+        return (admittedAt != -1L ? admittedAt : System.currentTimeMillis()) - queuedAt;
+    }
+
+    @Override
+    public String toString() {
+        return algorithm + "#" + id +
+                " " + state +
+                " concurrency: " + concurrency + "/" + requestedConcurrency +
+                " memory: " + AllocationTracker.humanReadable(bytes) +
+                " waited: " + waitMillis() + "ms";
+    }
+}
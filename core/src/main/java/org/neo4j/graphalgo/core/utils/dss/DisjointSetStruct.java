@@ -5,6 +5,7 @@ import com.carrotsearch.hppc.IntIntScatterMap;
 import com.carrotsearch.hppc.IntScatterSet;
 import com.carrotsearch.hppc.IntSet;
 import org.neo4j.graphalgo.api.IdMapping;
+import org.neo4j.graphalgo.core.utils.paged.MemoryUsage;
 
 import java.util.Arrays;
 import java.util.Iterator;
@@ -39,6 +40,13 @@ public final class DisjointSetStruct {
         this.capacity = capacity;
     }
 
+    /**
+     * the heap a struct with the given capacity takes
+     */
+    public static long memoryEstimation(int capacity) {
+        return MemoryUsage.sizeOfIntArray(capacity) << 1;
+    }
+
     public DisjointSetStruct merge(DisjointSetStruct other) {
 
         if (other.capacity != this.capacity) {
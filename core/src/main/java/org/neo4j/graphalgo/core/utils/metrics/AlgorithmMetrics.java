@@ -0,0 +1,310 @@
+package org.neo4j.graphalgo.core.utils.metrics;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime metrics of a single run of an algorithm.
+ * <p>
+ * A run is started with {@link MetricsRegistry#start(String)} and is
+ * visible through the registry until it is closed and for a while after.
+ * The duration of the load, compute and write phase, the time of every
+ * iteration, the number of scanned relationships, the busy time per
+ * thread, the peak memory of the {@link AllocationTracker} and the
+ * time the JVM spent in garbage collection are recorded.
+ * <p>
+ * All methods may be called concurrently.
+ * {@link #EMPTY} discards everything and is used when no metrics are requested.
+ */
+public class AlgorithmMetrics implements AutoCloseable {
+
+    public static final AlgorithmMetrics EMPTY = new AlgorithmMetrics(-1L, "") {
+        @Override
+        public AlgorithmMetrics withAllocationTracker(AllocationTracker tracker) {
+            return this;
+        }
+
+        @Override
+        public void withLoadMillis(long millis) {
+        }
+
+        @Override
+        public void withComputeMillis(long millis) {
+        }
+
+        @Override
+        public void withWriteMillis(long millis) {
+        }
+
+        @Override
+        public ProgressTimer timeIteration() {
+            return ProgressTimer.start();
+        }
+
+        @Override
+        public void addRelationships(long relationships) {
+        }
+
+        @Override
+        public Runnable timed(Runnable task) {
+            return task;
+        }
+
+        @Override
+        public Collection<? extends Runnable> timed(Collection<? extends Runnable> tasks) {
+            return tasks;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private final long id;
+    private final String algorithm;
+    private final long startTime;
+    private final long startNanos;
+    private final long startGcMillis;
+
+    private volatile AllocationTracker tracker = AllocationTracker.EMPTY;
+    private volatile long loadMillis = -1L;
+    private volatile long computeMillis = -1L;
+    private volatile long writeMillis = -1L;
+    private volatile long runMillis = -1L;
+    private volatile long gcMillis = -1L;
+    private volatile long peakBytes = -1L;
+
+    private final LongArrayList iterationNanos = new LongArrayList();
+    private final LongAdder relationships = new LongAdder();
+    private final Map<String, LongAdder> busyNanos = new ConcurrentHashMap<>();
+
+    AlgorithmMetrics(long id, String algorithm) {
+        this.id = id;
+        this.algorithm = algorithm;
+        this.startTime = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        this.startGcMillis = totalGcMillis();
+    }
+
+    /**
+     * the peak memory of the tracker is reported as memory of the run
+     */
+    public AlgorithmMetrics withAllocationTracker(AllocationTracker tracker) {
+        this.tracker = tracker;
+        return this;
+    }
+
+    public void withLoadMillis(long millis) {
+        loadMillis = millis;
+    }
+
+    public void withComputeMillis(long millis) {
+        computeMillis = millis;
+    }
+
+    public void withWriteMillis(long millis) {
+        writeMillis = millis;
+    }
+
+    /**
+     * starts a timer that adds an iteration when it is stopped
+     */
+    public ProgressTimer timeIteration() {
+        return ProgressTimer.start(this::addIteration, TimeUnit.NANOSECONDS);
+    }
+
+    private void addIteration(long nanos) {
+        synchronized (iterationNanos) {
+            iterationNanos.add(nanos);
+        }
+    }
+
+    public void addRelationships(long relationships) {
+        this.relationships.add(relationships);
+    }
+
+    /**
+     * wraps the task so that its runtime is added to the busy time of the thread that runs it
+     */
+    public Runnable timed(Runnable task) {
+        return () -> {
+            final long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                busyNanos
+                        .computeIfAbsent(Thread.currentThread().getName(), k -> new LongAdder())
+                        .add(System.nanoTime() - start);
+            }
+        };
+    }
+
+    public Collection<? extends Runnable> timed(Collection<? extends Runnable> tasks) {
+        final List<Runnable> timed = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            timed.add(timed(task));
+        }
+        return timed;
+    }
+
+    /**
+     * ends the run, repeated calls are ignored
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (runMillis != -1L) {
+                return;
+            }
+            peakBytes = tracker.peak();
+            gcMillis = totalGcMillis() - startGcMillis;
+            runMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+        MetricsRegistry.finished(this);
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public String algorithm() {
+        return algorithm;
+    }
+
+    public long startTime() {
+        return startTime;
+    }
+
+    public boolean running() {
+        return runMillis == -1L;
+    }
+
+    /**
+     * the time since the start of the run, or its total time once it is closed
+     */
+    public long runMillis() {
+        final long runMillis = this.runMillis;
+        return runMillis != -1L
+                ? runMillis
+                : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    public long loadMillis() {
+        return loadMillis;
+    }
+
+    public long computeMillis() {
+        return computeMillis;
+    }
+
+    public long writeMillis() {
+        return writeMillis;
+    }
+
+    public List<Double> iterationMillis() {
+        final long[] nanos;
+        synchronized (iterationNanos) {
+            nanos = iterationNanos.toArray();
+        }
+        final List<Double> millis = new ArrayList<>(nanos.length);
+        for (long n : nanos) {
+            millis.add(n / 1_000_000.0);
+        }
+        return millis;
+    }
+
+    public long relationships() {
+        return relationships.sum();
+    }
+
+    /**
+     * scanned relationships per second of compute time
+     */
+    public double relationshipsPerSecond() {
+        final long computeMillis = this.computeMillis;
+        final long millis = computeMillis != -1L ? computeMillis : runMillis();
+        return millis > 0L ? relationships() * 1000.0 / millis : 0.0;
+    }
+
+    /**
+     * milliseconds every thread spent running tasks of this run
+     */
+    public Map<String, Long> threadBusyMillis() {
+        final Map<String, Long> busy = new LinkedHashMap<>();
+        busyNanos.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> busy.put(e.getKey(), TimeUnit.NANOSECONDS.toMillis(e.getValue().sum())));
+        return busy;
+    }
+
+    /**
+     * milliseconds every thread that took part in the run was not busy with it during the compute phase
+     */
+    public Map<String, Long> threadIdleMillis() {
+        final Map<String, Long> busy = threadBusyMillis();
+        if (busy.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final long computeMillis = this.computeMillis;
+        final long millis = computeMillis != -1L ? computeMillis : runMillis();
+        final Map<String, Long> idle = new LinkedHashMap<>();
+        busy.forEach((thread, busyMillis) -> idle.put(thread, Math.max(0L, millis - busyMillis)));
+        return idle;
+    }
+
+    /**
+     * the peak of tracked memory in bytes
+     */
+    public long peakBytes() {
+        final long peakBytes = this.peakBytes;
+        return peakBytes != -1L ? peakBytes : tracker.peak();
+    }
+
+    /**
+     * milliseconds the JVM spent in garbage collection during the run,
+     * this includes collections caused by anything else running on the JVM
+     */
+    public long gcMillis() {
+        final long gcMillis = this.gcMillis;
+        return gcMillis != -1L ? gcMillis : totalGcMillis() - startGcMillis;
+    }
+
+    @Override
+    public String toString() {
+        return algorithm + "#" + id +
+                (running() ? " running" : " done") +
+                " run: " + runMillis() + "ms" +
+                " load: " + loadMillis + "ms" +
+                " compute: " + computeMillis + "ms" +
+                " write: " + writeMillis + "ms" +
+                " iterations: " + iterationMillis().size() +
+                " relationships/s: " + (long) relationshipsPerSecond() +
+                " peak memory: " + AllocationTracker.humanReadable(peakBytes()) +
+                " gc: " + gcMillis() + "ms";
+    }
+
+    private static long totalGcMillis() {
+        long millis = 0L;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            final long time = gc.getCollectionTime();
+            if (time > 0L) {
+                millis += time;
+            }
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,23 @@
+package org.neo4j.graphalgo.core.utils.metrics;
+
+/**
+ * JMX view of the {@link MetricsRegistry},
+ * registered as {@value MetricsRegistry#OBJECT_NAME}.
+ */
+public interface MetricsMXBean {
+
+    /**
+     * number of runs that are not finished
+     */
+    int getRunningCount();
+
+    /**
+     * number of runs finished since the start of the JVM
+     */
+    long getFinishedCount();
+
+    /**
+     * one line per running and recently finished run, oldest first
+     */
+    String[] getRuns();
+}
@@ -0,0 +1,98 @@
+package org.neo4j.graphalgo.core.utils.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the {@link AlgorithmMetrics} of all running and the
+ * {@value #HISTORY_SIZE} most recently finished runs of this JVM.
+ * <p>
+ * The registry is exposed via JMX as {@value #OBJECT_NAME}
+ * and via the {@code algo.metrics()} procedure.
+ */
+public final class MetricsRegistry {
+
+    public static final int HISTORY_SIZE = 100;
+    public static final String OBJECT_NAME = "org.neo4j.graphalgo:type=Metrics";
+
+    private static final AtomicLong IDS = new AtomicLong();
+    private static final AtomicLong FINISHED = new AtomicLong();
+    private static final Set<AlgorithmMetrics> RUNNING = ConcurrentHashMap.newKeySet();
+    private static final Deque<AlgorithmMetrics> HISTORY = new ArrayDeque<>(HISTORY_SIZE);
+
+    static {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                    new Metrics(),
+                    new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException ignored) {
+            // the metrics are still available via the procedure
+        }
+    }
+
+    private MetricsRegistry() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * starts recording the metrics of a new run, the run has to be closed when it is done
+     */
+    public static AlgorithmMetrics start(String algorithm) {
+        final AlgorithmMetrics metrics = new AlgorithmMetrics(IDS.incrementAndGet(), algorithm);
+        RUNNING.add(metrics);
+        return metrics;
+    }
+
+    /**
+     * all running and recently finished runs, ordered by their start
+     */
+    public static List<AlgorithmMetrics> runs() {
+        final List<AlgorithmMetrics> runs;
+        synchronized (HISTORY) {
+            runs = new ArrayList<>(HISTORY);
+        }
+        runs.addAll(RUNNING);
+        runs.sort(Comparator.comparingLong(AlgorithmMetrics::id));
+        return runs;
+    }
+
+    static void finished(AlgorithmMetrics metrics) {
+        RUNNING.remove(metrics);
+        synchronized (HISTORY) {
+            if (HISTORY.size() == HISTORY_SIZE) {
+                HISTORY.removeFirst();
+            }
+            HISTORY.addLast(metrics);
+        }
+        FINISHED.incrementAndGet();
+    }
+
+    private static final class Metrics implements MetricsMXBean {
+
+        @Override
+        public int getRunningCount() {
+            return RUNNING.size();
+        }
+
+        @Override
+        public long getFinishedCount() {
+            return FINISHED.get();
+        }
+
+        @Override
+        public String[] getRuns() {
+            return runs().stream()
+                    .map(AlgorithmMetrics::toString)
+                    .toArray(String[]::new);
+        }
+    }
+}
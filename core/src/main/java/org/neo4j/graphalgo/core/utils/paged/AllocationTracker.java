@@ -18,6 +18,11 @@ public class AllocationTracker implements Supplier<String> {
             return 0L;
         }
 
+        @Override
+        public long peak() {
+            return 0L;
+        }
+
         @Override
         public String get() {
             return "";
@@ -37,9 +42,11 @@ public class AllocationTracker implements Supplier<String> {
     private static final String[] UNITS = new String[]{" Bytes", " KiB", " MiB", " GiB", " TiB", " PiB", " EiB", " ZiB", " YiB"};
 
     private final AtomicLong count = new AtomicLong();
+    private final AtomicLong peak = new AtomicLong();
 
     public void add(long delta) {
-        count.addAndGet(delta);
+        final long tracked = count.addAndGet(delta);
+        peak.accumulateAndGet(tracked, Math::max);
     }
 
     public void remove(long delta) {
@@ -50,6 +57,13 @@ public class AllocationTracker implements Supplier<String> {
         return count.get();
     }
 
+    /**
+     * the highest amount of memory that was tracked at any time
+     */
+    public long peak() {
+        return peak.get();
+    }
+
     public String getUsageString() {
         return humanReadable(tracked());
     }
@@ -1,5 +1,6 @@
 package org.neo4j.graphalgo.core.utils.paged;
 
+import java.util.Arrays;
 import java.util.function.LongSupplier;
 
 public final class LongArray extends PagedDataStructure<long[]> {
@@ -47,6 +48,12 @@ public final class LongArray extends PagedDataStructure<long[]> {
         return ret;
     }
 
+    public void fill(long value) {
+        for (long[] page : pages) {
+            Arrays.fill(page, value);
+        }
+    }
+
     public void fill(
             final long fromIndex,
             final long toIndex,
@@ -0,0 +1,75 @@
+package org.neo4j.graphalgo.core.utils.paged;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.neo4j.graphalgo.core.utils.paged.MemoryUsage.shallowSizeOfInstance;
+import static org.neo4j.graphalgo.core.utils.paged.MemoryUsage.sizeOfLongArray;
+
+/**
+ * Abstraction of an array of double values that can contain more than 2B elements
+ * and that supports atomic updates on a single index.
+ * <p>
+ * The doubles are stored as their raw long bits in {@link AtomicLongArray} pages,
+ * updates are CAS loops on those bits, so there is no loss of precision
+ * compared to a regular {@code double[]}.
+ */
+public final class PagedAtomicDoubleArray extends PagedDataStructure<AtomicLongArray> {
+
+    private static final PageAllocator.Factory<AtomicLongArray> ALLOCATOR_FACTORY;
+
+    static {
+        int pageSize = PageUtil.pageSizeFor(Double.BYTES);
+        long pageUsage = shallowSizeOfInstance(AtomicLongArray.class) + sizeOfLongArray(pageSize);
+
+        // raw bits of 0L are +0.0, a fresh page is already zero-filled
+        ALLOCATOR_FACTORY = PageAllocator.of(
+                pageSize,
+                pageUsage,
+                () -> new AtomicLongArray(pageSize),
+                new AtomicLongArray[0]);
+    }
+
+    public static long estimateMemoryUsage(long size) {
+        return ALLOCATOR_FACTORY.estimateMemoryUsage(size, PagedAtomicDoubleArray.class);
+    }
+
+    public static PagedAtomicDoubleArray newArray(long size, AllocationTracker tracker) {
+        return new PagedAtomicDoubleArray(size, ALLOCATOR_FACTORY.newAllocator(tracker));
+    }
+
+    private PagedAtomicDoubleArray(long size, PageAllocator<AtomicLongArray> allocator) {
+        super(size, allocator);
+    }
+
+    public double get(long index) {
+        assert index < capacity();
+        final int pageIndex = pageIndex(index);
+        final int indexInPage = indexInPage(index);
+        return Double.longBitsToDouble(pages[pageIndex].get(indexInPage));
+    }
+
+    public void set(long index, double value) {
+        assert index < capacity();
+        final int pageIndex = pageIndex(index);
+        final int indexInPage = indexInPage(index);
+        pages[pageIndex].set(indexInPage, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Atomically adds the value at the given index and returns the new value.
+     */
+    public double add(long index, double delta) {
+        assert index < capacity();
+        final int pageIndex = pageIndex(index);
+        final int indexInPage = indexInPage(index);
+        final AtomicLongArray page = pages[pageIndex];
+        long expected, update;
+        double newValue;
+        do {
+            expected = page.get(indexInPage);
+            newValue = Double.longBitsToDouble(expected) + delta;
+            update = Double.doubleToRawLongBits(newValue);
+        } while (!page.compareAndSet(indexInPage, expected, update));
+        return newValue;
+    }
+}
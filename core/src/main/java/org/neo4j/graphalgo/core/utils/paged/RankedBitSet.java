@@ -0,0 +1,198 @@
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A paged bitset that can answer rank queries in constant time.
+ * <p>
+ * The rank of an index is the number of set bits before that index,
+ * which makes this usable as compact mapping from a dense but
+ * sparsely populated id space (e.g. neo4j node ids) onto a contiguous
+ * id space {@code [0, cardinality)} that preserves the order of the original ids.
+ * <p>
+ * For every block of {@value #WORDS_PER_BLOCK} words the number of
+ * set bits before that block is stored, so that a rank query has to look
+ * at no more than {@value #WORDS_PER_BLOCK} words. This adds 1/8 bit per
+ * index to the single bit that is required to store the index itself.
+ * <p>
+ * All bits have to be set before {@link #buildRanks(ExecutorService, int)}
+ * is called, rank queries are only valid afterwards. Setting bits is not thread-safe,
+ * unless every thread sets bits of a distinct range of words.
+ */
+public final class RankedBitSet {
+
+    public static final long NOT_FOUND = -1L;
+
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = (1 << WORD_SHIFT) - 1;
+    private static final int WORDS_PER_BLOCK = 8;
+    private static final int BLOCK_SHIFT = WORD_SHIFT + 3;
+
+    private final long size;
+    private final long numWords;
+    private final long numBlocks;
+    private LongArray words;
+    private LongArray ranks;
+    private long cardinality;
+
+    public static long estimateMemoryUsage(long size) {
+        return MemoryUsage.shallowSizeOfInstance(RankedBitSet.class) +
+                LongArray.estimateMemoryUsage(numWords(size)) +
+                LongArray.estimateMemoryUsage(numBlocks(numWords(size)));
+    }
+
+    public static RankedBitSet newBitSet(long size, AllocationTracker tracker) {
+        tracker.add(MemoryUsage.shallowSizeOfInstance(RankedBitSet.class));
+        return new RankedBitSet(size, tracker);
+    }
+
+    private RankedBitSet(long size, AllocationTracker tracker) {
+        this.size = size;
+        this.numWords = numWords(size);
+        this.numBlocks = numBlocks(numWords);
+        this.words = LongArray.newArray(numWords, tracker);
+        this.ranks = LongArray.newArray(numBlocks, tracker);
+    }
+
+    /**
+     * @return the number of indices this bitset can hold
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return the number of set bits, only valid after the ranks are built
+     */
+    public long cardinality() {
+        return cardinality;
+    }
+
+    public void set(long index) {
+        assert index < size;
+        final long word = index >>> WORD_SHIFT;
+        words.set(word, words.get(word) | (1L << index));
+    }
+
+    public boolean get(long index) {
+        if (index < 0 || index >= size) {
+            return false;
+        }
+        return (words.get(index >>> WORD_SHIFT) & (1L << index)) != 0L;
+    }
+
+    /**
+     * @return the number of set bits before the given index
+     */
+    public long rank(long index) {
+        assert index >= 0 && index < size;
+        final long word = index >>> WORD_SHIFT;
+        long rank = ranks.get(index >>> BLOCK_SHIFT);
+        for (long w = word & ~(WORDS_PER_BLOCK - 1); w < word; w++) {
+            rank += Long.bitCount(words.get(w));
+        }
+        final int bit = (int) (index & WORD_MASK);
+        if (bit != 0) {
+            rank += Long.bitCount(words.get(word) << (Long.SIZE - bit));
+        }
+        return rank;
+    }
+
+    /**
+     * @return the rank of the given index if its bit is set, otherwise {@link #NOT_FOUND}
+     */
+    public long indexOf(long index) {
+        return get(index) ? rank(index) : NOT_FOUND;
+    }
+
+    /**
+     * Computes the rank for every block, must be called once
+     * after all bits have been set and before any rank query.
+     */
+    public void buildRanks(ExecutorService executor, int concurrency) {
+        final LongArray words = this.words;
+        final LongArray ranks = this.ranks;
+        forEachBlock(executor, concurrency, block -> {
+            final long end = Math.min(numWords, (block + 1) << 3);
+            long count = 0L;
+            for (long w = block << 3; w < end; w++) {
+                count += Long.bitCount(words.get(w));
+            }
+            ranks.set(block, count);
+        });
+        long total = 0L;
+        for (long block = 0L; block < numBlocks; block++) {
+            total += ranks.set(block, total);
+        }
+        cardinality = total;
+    }
+
+    /**
+     * Calls the consumer with the rank and the index of every set bit.
+     * Ranks must have been built before. The consumer may be called
+     * concurrently, but never twice for the same index.
+     */
+    public void forEachSetBit(
+            ExecutorService executor,
+            int concurrency,
+            SetBitConsumer consumer) {
+        final LongArray words = this.words;
+        final LongArray ranks = this.ranks;
+        forEachBlock(executor, concurrency, block -> {
+            final long end = Math.min(numWords, (block + 1) << 3);
+            long rank = ranks.get(block);
+            for (long w = block << 3; w < end; w++) {
+                long word = words.get(w);
+                final long base = w << WORD_SHIFT;
+                while (word != 0L) {
+                    final int bit = Long.numberOfTrailingZeros(word);
+                    consumer.accept(rank++, base + bit);
+                    word &= word - 1L;
+                }
+            }
+        });
+    }
+
+    public void release() {
+        words.release();
+        ranks.release();
+        words = null;
+        ranks = null;
+    }
+
+    private void forEachBlock(
+            ExecutorService executor,
+            int concurrency,
+            BlockConsumer consumer) {
+        final long numBlocks = this.numBlocks;
+        if (concurrency <= 1 || !ParallelUtil.canRunInParallel(executor)) {
+            for (long block = 0L; block < numBlocks; block++) {
+                consumer.accept(block);
+            }
+            return;
+        }
+        ParallelUtil.iterateParallel(
+                executor,
+                Math.toIntExact(numBlocks),
+                concurrency,
+                consumer::accept);
+    }
+
+    private static long numWords(long size) {
+        return (size + WORD_MASK) >>> WORD_SHIFT;
+    }
+
+    private static long numBlocks(long numWords) {
+        return (numWords + WORDS_PER_BLOCK - 1) >>> 3;
+    }
+
+    public interface SetBitConsumer {
+        void accept(long rank, long index);
+    }
+
+    private interface BlockConsumer {
+        void accept(long block);
+    }
+}
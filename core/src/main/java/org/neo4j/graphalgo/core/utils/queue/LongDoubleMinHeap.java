@@ -0,0 +1,129 @@
+package org.neo4j.graphalgo.core.utils.queue;
+
+import org.apache.lucene.util.ArrayUtil;
+
+import java.util.Arrays;
+
+/**
+ * A binary min heap of long elements with double costs.
+ * <p>
+ * Unlike {@link LongMinPriorityQueue} the cost is stored with every entry,
+ * so the same element can be added multiple times with different costs.
+ * This allows Dijkstra-like traversals to add an element again once its cost
+ * decreases and to skip the outdated entries when they are popped.
+ */
+public final class LongDoubleMinHeap {
+
+    private static final int DEFAULT_CAPACITY = 14;
+
+    private int size = 0;
+    // 1-based, index 0 is unused
+    private long[] elements;
+    private double[] costs;
+
+    public LongDoubleMinHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongDoubleMinHeap(int initialCapacity) {
+        final int heapSize = Math.max(2, initialCapacity + 1);
+        elements = new long[heapSize];
+        costs = new double[heapSize];
+    }
+
+    /**
+     * Adds an element with the given cost in log(size) time.
+     */
+    public void add(long element, double cost) {
+        size++;
+        ensureCapacityForInsert();
+        elements[size] = element;
+        costs[size] = cost;
+        upHeap(size);
+    }
+
+    /**
+     * @return the element with the least cost in constant time.
+     */
+    public long top() {
+        return elements[1];
+    }
+
+    /**
+     * @return the least cost in constant time.
+     */
+    public double topCost() {
+        return costs[1];
+    }
+
+    /**
+     * Removes and returns the element with the least cost in log(size) time.
+     *
+     * @return the removed element or {@code -1} if the heap is empty.
+     */
+    public long pop() {
+        if (size > 0) {
+            final long result = elements[1];
+            elements[1] = elements[size];
+            costs[1] = costs[size];
+            size--;
+            downHeap(1);
+            return result;
+        }
+        return -1L;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void upHeap(int i) {
+        final long element = elements[i];
+        final double cost = costs[i];
+        int j = i >>> 1;
+        while (j > 0 && cost < costs[j]) {
+            elements[i] = elements[j];
+            costs[i] = costs[j];
+            i = j;
+            j = j >>> 1;
+        }
+        elements[i] = element;
+        costs[i] = cost;
+    }
+
+    private void downHeap(int i) {
+        final long element = elements[i];
+        final double cost = costs[i];
+        int j = i << 1;
+        if (j + 1 <= size && costs[j + 1] < costs[j]) {
+            j++;
+        }
+        while (j <= size && costs[j] < cost) {
+            elements[i] = elements[j];
+            costs[i] = costs[j];
+            i = j;
+            j = i << 1;
+            if (j + 1 <= size && costs[j + 1] < costs[j]) {
+                j++;
+            }
+        }
+        elements[i] = element;
+        costs[i] = cost;
+    }
+
+    private void ensureCapacityForInsert() {
+        if (size >= elements.length) {
+            final int newSize = ArrayUtil.oversize(size + 1, Long.BYTES);
+            elements = Arrays.copyOf(elements, newSize);
+            costs = Arrays.copyOf(costs, newSize);
+        }
+    }
+}
@@ -10,4 +10,16 @@ public final class DisjointSetStructTranslator implements PropertyTranslator.OfI
     public int toInt(final DisjointSetStruct data, final long nodeId) {
         return data.findNoOpt((int) nodeId);
     }
+
+    /**
+     * writes the set id only for nodes whose set id differs from the previous one
+     *
+     * @param previousSetIds the previous set id by mapped node id, negative for nodes without one
+     */
+    public static PropertyTranslator<DisjointSetStruct> changedOnly(final int[] previousSetIds) {
+        return (PropertyTranslator.OfOptionalInt<DisjointSetStruct>) (data, nodeId) -> {
+            final int setId = data.findNoOpt((int) nodeId);
+            return setId == previousSetIds[(int) nodeId] ? -1 : setId;
+        };
+    }
 }
@@ -50,6 +50,10 @@ public final class Exporter extends StatementApi {
         return new Builder(db, mapping);
     }
 
+    public static Builder of(HugeIdMapping mapping, GraphDatabaseAPI db) {
+        return new Builder(db, mapping);
+    }
+
     public static final class Builder {
 
         private final GraphDatabaseAPI db;
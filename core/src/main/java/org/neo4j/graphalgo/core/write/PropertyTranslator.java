@@ -74,4 +74,39 @@ public interface PropertyTranslator<T> {
             return null;
         }
     }
+
+    interface OfLong<T> extends PropertyTranslator<T> {
+        long toLong(final T data, final long nodeId);
+
+        @Override
+        default DefinedProperty toProperty(
+                int propertyId,
+                T data,
+                long nodeId) {
+            final long value = toLong(data, nodeId);
+            return DefinedProperty.longProperty(
+                    propertyId,
+                    value
+            );
+        }
+    }
+
+    interface OfOptionalLong<T> extends PropertyTranslator<T> {
+        long toLong(final T data, final long nodeId);
+
+        @Override
+        default DefinedProperty toProperty(
+                int propertyId,
+                T data,
+                long nodeId) {
+            final long value = toLong(data, nodeId);
+            if (value >= 0L) {
+                return DefinedProperty.longProperty(
+                        propertyId,
+                        value
+                );
+            }
+            return null;
+        }
+    }
 }
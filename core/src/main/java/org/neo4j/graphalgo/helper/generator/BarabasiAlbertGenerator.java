@@ -0,0 +1,92 @@
+package org.neo4j.graphalgo.helper.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Scale-free graph generated by preferential attachment (Barabási–Albert model).
+ * <p>
+ * Every node {@code v} adds {@code degree} relationships to nodes that are
+ * not younger than itself, where a node is chosen with a probability proportional
+ * to its current degree. Sequentially this is done by picking a random
+ * entry of the list of all relationship endpoints created so far.
+ * <p>
+ * To generate this in parallel, the endpoint list is never materialized.
+ * Position {@code 2e} of relationship {@code e} holds its source,
+ * {@code e / degree}, which is known upfront. The target at position {@code 2e + 1}
+ * is a copy of the entry at a random earlier position. That random position is
+ * derived from a hash of the position itself, so it can be resolved by following
+ * positions backwards until an even (source) position is hit, without knowing
+ * any other target. The expected number of steps is constant.
+ *
+ * @see <a href="https://arxiv.org/abs/1602.07106">Sanders, Schulz: Scalable Generation of Scale-free Graphs</a>
+ */
+public final class BarabasiAlbertGenerator extends GraphGenerator<BarabasiAlbertGenerator> {
+
+    private static final long BATCH_SIZE = 1L << 16;
+
+    private final long nodeCount;
+    private final int degree;
+    private final long nodesPerBatch;
+
+    BarabasiAlbertGenerator(long nodeCount, int degree) {
+        if (nodeCount <= 0L) {
+            throw new IllegalArgumentException("nodeCount must be positive");
+        }
+        if (degree <= 0) {
+            throw new IllegalArgumentException("degree must be positive");
+        }
+        this.nodeCount = nodeCount;
+        this.degree = degree;
+        this.nodesPerBatch = Math.max(1L, BATCH_SIZE / degree);
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    int batchCount() {
+        return batchCount(nodeCount, nodesPerBatch);
+    }
+
+    @Override
+    long maxBatchSize(int batch) {
+        return Math.min(nodesPerBatch, nodeCount - batch * nodesPerBatch) * degree;
+    }
+
+    @Override
+    void generateBatch(int batch, SplittableRandom random, Relationships sink) {
+        final long seed = seed();
+        final long startNode = batch * nodesPerBatch;
+        final long endNode = Math.min(nodeCount, startNode + nodesPerBatch);
+        for (long node = startNode; node < endNode; node++) {
+            final long firstRelationship = node * degree;
+            for (int i = 0; i < degree; i++) {
+                final long target = resolve(seed, 2L * (firstRelationship + i) + 1L);
+                sink.add(node, target, random);
+            }
+        }
+    }
+
+    /**
+     * follows target positions backwards until a source position is reached
+     */
+    private long resolve(long seed, long position) {
+        while ((position & 1L) == 1L) {
+            position = (mix(seed + position * 0x9E3779B97F4A7C15L) >>> 1) % position;
+        }
+        return (position >>> 1) / degree;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    BarabasiAlbertGenerator me() {
+        return this;
+    }
+}
@@ -0,0 +1,54 @@
+package org.neo4j.graphalgo.helper.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Uniform random graph in the G(n, m) model. Source and target of every
+ * relationship are chosen independently and uniformly from all nodes.
+ */
+public final class ErdosRenyiGenerator extends GraphGenerator<ErdosRenyiGenerator> {
+
+    private static final long BATCH_SIZE = 1L << 16;
+
+    private final long nodeCount;
+    private final long relationshipCount;
+
+    ErdosRenyiGenerator(long nodeCount, long relationshipCount) {
+        if (nodeCount <= 0L) {
+            throw new IllegalArgumentException("nodeCount must be positive");
+        }
+        if (relationshipCount < 0L) {
+            throw new IllegalArgumentException("relationshipCount must not be negative");
+        }
+        this.nodeCount = nodeCount;
+        this.relationshipCount = relationshipCount;
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    int batchCount() {
+        return batchCount(relationshipCount, BATCH_SIZE);
+    }
+
+    @Override
+    long maxBatchSize(int batch) {
+        return Math.min(BATCH_SIZE, relationshipCount - batch * BATCH_SIZE);
+    }
+
+    @Override
+    void generateBatch(int batch, SplittableRandom random, Relationships sink) {
+        final long nodeCount = this.nodeCount;
+        for (long i = maxBatchSize(batch); i > 0L; i--) {
+            sink.add(random.nextLong(nodeCount), random.nextLong(nodeCount), random);
+        }
+    }
+
+    @Override
+    ErdosRenyiGenerator me() {
+        return this;
+    }
+}
@@ -0,0 +1,398 @@
+package org.neo4j.graphalgo.helper.generator;
+
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.api.HugeWeightMapping;
+import org.neo4j.graphalgo.api.WeightMapping;
+import org.neo4j.graphalgo.core.HugeNullWeightMap;
+import org.neo4j.graphalgo.core.HugeWeightMap;
+import org.neo4j.graphalgo.core.NullWeightMap;
+import org.neo4j.graphalgo.core.WeightMap;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraph;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraphBuilder;
+import org.neo4j.graphalgo.core.huge.HugeGraphBuilder;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.RawValues;
+import org.neo4j.graphalgo.core.utils.StatementApi;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.DoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.LongArray;
+import org.neo4j.graphalgo.core.utils.paged.PagedAtomicLongArray;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.helpers.Exceptions;
+import org.neo4j.kernel.api.DataWriteOperations;
+import org.neo4j.kernel.api.TokenWriteOperations;
+import org.neo4j.kernel.api.exceptions.KernelException;
+import org.neo4j.kernel.api.properties.DefinedProperty;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.unsafe.batchinsert.BatchInserter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The relationships of a {@link GraphGenerator} as plain lists of sources,
+ * targets, and weights. Node ids are in {@code [0, nodeCount)}.
+ */
+public final class GeneratedGraph {
+
+    private static final int WRITE_BATCH_SIZE = 10_000;
+    private static final double DEFAULT_WEIGHT = 1.0;
+
+    private final long nodeCount;
+    private final long relationshipCount;
+    private final long[] batchOffsets;
+    private final long[] batchLengths;
+    private final AllocationTracker tracker;
+    private LongArray sources;
+    private LongArray targets;
+    private DoubleArray weights;
+
+    GeneratedGraph(
+            long nodeCount,
+            long[] batchOffsets,
+            long[] batchLengths,
+            LongArray sources,
+            LongArray targets,
+            DoubleArray weights,
+            AllocationTracker tracker) {
+        this.nodeCount = nodeCount;
+        this.batchOffsets = batchOffsets;
+        this.batchLengths = batchLengths;
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+        this.tracker = tracker;
+        this.relationshipCount = Arrays.stream(batchLengths).sum();
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    public long relationshipCount() {
+        return relationshipCount;
+    }
+
+    public boolean hasWeights() {
+        return weights != null;
+    }
+
+    /**
+     * Calls the visitor for every relationship in generation order.
+     */
+    public void forEachRelationship(RelationshipVisitor visitor) {
+        for (int batch = 0; batch < batchLengths.length; batch++) {
+            final long start = batchOffsets[batch];
+            final long end = start + batchLengths[batch];
+            for (long i = start; i < end; i++) {
+                visitor.accept(sources.get(i), targets.get(i), weight(i));
+            }
+        }
+    }
+
+    /**
+     * Builds a huge graph that contains the relationships of the given direction.
+     * Every relationship is an outgoing relationship of its source and an incoming
+     * relationship of its target, {@link Direction#BOTH} loads both.
+     */
+    public HugeGraph toHugeGraph(
+            Direction direction,
+            ExecutorService executor,
+            int concurrency) {
+        final LongArray[] out = direction != Direction.INCOMING
+                ? adjacency(Direction.OUTGOING, executor, concurrency)
+                : new LongArray[2];
+        final LongArray[] in = direction != Direction.OUTGOING
+                ? adjacency(Direction.INCOMING, executor, concurrency)
+                : new LongArray[2];
+        final HugeWeightMapping weightMapping;
+        if (weights != null) {
+            final HugeWeightMap weightMap = new HugeWeightMap(relationshipCount, DEFAULT_WEIGHT, tracker);
+            forEachRelationship((source, target, weight) -> weightMap.put(source, target, weight));
+            weightMapping = weightMap;
+        } else {
+            weightMapping = new HugeNullWeightMap(DEFAULT_WEIGHT);
+        }
+        final HugeGraph graph = HugeGraphBuilder.build(
+                nodeCount,
+                out[0],
+                out[1],
+                in[0],
+                in[1],
+                weightMapping,
+                tracker,
+                executor,
+                concurrency);
+        release(out);
+        release(in);
+        return graph;
+    }
+
+    /**
+     * Builds a heavy graph that contains the relationships of the given direction.
+     *
+     * @see #toHugeGraph(Direction, ExecutorService, int)
+     */
+    public HeavyGraph toHeavyGraph(
+            Direction direction,
+            ExecutorService executor,
+            int concurrency) {
+        final int nodeCount = Math.toIntExact(this.nodeCount);
+        final LongArray[] out = direction != Direction.INCOMING
+                ? adjacency(Direction.OUTGOING, executor, concurrency)
+                : new LongArray[2];
+        final LongArray[] in = direction != Direction.OUTGOING
+                ? adjacency(Direction.INCOMING, executor, concurrency)
+                : new LongArray[2];
+        final WeightMapping weightMapping;
+        if (weights != null) {
+            final WeightMap weightMap = new WeightMap(Math.toIntExact(relationshipCount), DEFAULT_WEIGHT, -1);
+            forEachRelationship((source, target, weight) -> weightMap.set(
+                    RawValues.combineIntInt((int) source, (int) target),
+                    weight));
+            weightMapping = weightMap;
+        } else {
+            weightMapping = new NullWeightMap(DEFAULT_WEIGHT);
+        }
+        final HeavyGraph graph = HeavyGraphBuilder.build(
+                nodeCount,
+                out[0],
+                out[1],
+                in[0],
+                in[1],
+                weightMapping,
+                executor,
+                concurrency);
+        release(out);
+        release(in);
+        return graph;
+    }
+
+    /**
+     * Writes all nodes and relationships into the database, in transactions
+     * of {@value #WRITE_BATCH_SIZE} operations each.
+     * Writing is sequential, concurrent transactions that create relationships
+     * between the same nodes would only contend for the node locks.
+     *
+     * @param label            the label of all nodes, may be null
+     * @param relationshipType the type of all relationships
+     * @param weightProperty   the relationship property for the weights, may be null
+     * @return the neo4j ids of all nodes, indexed by generated node id
+     */
+    public LongArray writeTo(
+            GraphDatabaseAPI db,
+            String label,
+            String relationshipType,
+            String weightProperty) {
+        final Writer writer = new Writer(db);
+        final int[] tokens;
+        try {
+            tokens = writer.applyInTransaction(statement -> {
+                final TokenWriteOperations ops = statement.tokenWriteOperations();
+                return new int[]{
+                        label != null ? ops.labelGetOrCreateForName(label) : -1,
+                        ops.relationshipTypeGetOrCreateForName(relationshipType),
+                        weightProperty != null && weights != null
+                                ? ops.propertyKeyGetOrCreateForName(weightProperty)
+                                : -1
+                };
+            });
+        } catch (KernelException e) {
+            throw Exceptions.launderedException(e);
+        }
+        final int labelId = tokens[0];
+        final int typeId = tokens[1];
+        final int propertyId = tokens[2];
+
+        final LongArray nodeIds = LongArray.newArray(nodeCount, tracker);
+        for (long start = 0L; start < nodeCount; start += WRITE_BATCH_SIZE) {
+            final long end = Math.min(nodeCount, start + WRITE_BATCH_SIZE);
+            final long first = start;
+            writer.write(ops -> {
+                for (long node = first; node < end; node++) {
+                    final long nodeId = ops.nodeCreate();
+                    if (labelId >= 0) {
+                        ops.nodeAddLabel(nodeId, labelId);
+                    }
+                    nodeIds.set(node, nodeId);
+                }
+            });
+        }
+
+        for (int batch = 0; batch < batchLengths.length; batch++) {
+            final long batchEnd = batchOffsets[batch] + batchLengths[batch];
+            for (long start = batchOffsets[batch]; start < batchEnd; start += WRITE_BATCH_SIZE) {
+                final long end = Math.min(batchEnd, start + WRITE_BATCH_SIZE);
+                final long first = start;
+                writer.write(ops -> {
+                    for (long i = first; i < end; i++) {
+                        final long relationshipId = ops.relationshipCreate(
+                                typeId,
+                                nodeIds.get(sources.get(i)),
+                                nodeIds.get(targets.get(i)));
+                        if (propertyId >= 0) {
+                            ops.relationshipSetProperty(
+                                    relationshipId,
+                                    DefinedProperty.doubleProperty(propertyId, weight(i)));
+                        }
+                    }
+                });
+            }
+        }
+        return nodeIds;
+    }
+
+    /**
+     * Writes all nodes and relationships through a batch inserter,
+     * which bypasses transactions and is the fastest way to create an offline store.
+     *
+     * @param label            the label of all nodes, may be null
+     * @param relationshipType the type of all relationships
+     * @param weightProperty   the relationship property for the weights, may be null
+     * @return the neo4j ids of all nodes, indexed by generated node id
+     */
+    public LongArray writeTo(
+            BatchInserter inserter,
+            String label,
+            String relationshipType,
+            String weightProperty) {
+        final Label[] labels = label != null
+                ? new Label[]{Label.label(label)}
+                : new Label[0];
+        final RelationshipType type = RelationshipType.withName(relationshipType);
+        final boolean writeWeights = weightProperty != null && weights != null;
+
+        final LongArray nodeIds = LongArray.newArray(nodeCount, tracker);
+        final Map<String, Object> noProperties = Collections.emptyMap();
+        for (long node = 0L; node < nodeCount; node++) {
+            nodeIds.set(node, inserter.createNode(noProperties, labels));
+        }
+        forEachRelationship((source, target, weight) -> inserter.createRelationship(
+                nodeIds.get(source),
+                nodeIds.get(target),
+                type,
+                writeWeights
+                        ? Collections.singletonMap(weightProperty, weight)
+                        : noProperties));
+        return nodeIds;
+    }
+
+    public void release() {
+        sources.release();
+        targets.release();
+        if (weights != null) {
+            weights.release();
+        }
+        sources = null;
+        targets = null;
+        weights = null;
+    }
+
+    private double weight(long index) {
+        return weights != null ? weights.get(index) : DEFAULT_WEIGHT;
+    }
+
+    /**
+     * Groups the relationships by their source (outgoing) or target (incoming)
+     * in compressed sparse row format with a parallel counting sort.
+     *
+     * @return the {@code nodeCount + 1} offsets and the sorted adjacent nodes
+     */
+    private LongArray[] adjacency(
+            Direction direction,
+            ExecutorService executor,
+            int concurrency) {
+        final LongArray keys = direction == Direction.OUTGOING ? sources : targets;
+        final LongArray values = direction == Direction.OUTGOING ? targets : sources;
+        final int batches = batchLengths.length;
+
+        final PagedAtomicLongArray cursors = PagedAtomicLongArray.newArray(nodeCount, tracker);
+        GraphGenerator.forEach(executor, concurrency, batches, batch -> {
+            final long start = batchOffsets[batch];
+            final long end = start + batchLengths[batch];
+            for (long i = start; i < end; i++) {
+                cursors.add(keys.get(i), 1L);
+            }
+        });
+
+        final LongArray offsets = LongArray.newArray(nodeCount + 1L, tracker);
+        long offset = 0L;
+        for (long node = 0L; node < nodeCount; node++) {
+            final long degree = cursors.get(node);
+            offsets.set(node, offset);
+            cursors.set(node, offset);
+            offset += degree;
+        }
+        offsets.set(nodeCount, offset);
+
+        final LongArray adjacency = LongArray.newArray(offset, tracker);
+        GraphGenerator.forEach(executor, concurrency, batches, batch -> {
+            final long start = batchOffsets[batch];
+            final long end = start + batchLengths[batch];
+            for (long i = start; i < end; i++) {
+                adjacency.set(cursors.add(keys.get(i), 1L) - 1L, values.get(i));
+            }
+        });
+        cursors.release();
+
+        final long nodesPerBatch = ParallelUtil.threadSize(Math.max(1, concurrency), nodeCount);
+        final int nodeBatches = GraphGenerator.batchCount(nodeCount, nodesPerBatch);
+        GraphGenerator.forEach(executor, concurrency, nodeBatches, batch -> {
+            final long startNode = batch * nodesPerBatch;
+            final long endNode = Math.min(nodeCount, startNode + nodesPerBatch);
+            long[] buffer = new long[0];
+            for (long node = startNode; node < endNode; node++) {
+                final long start = offsets.get(node);
+                final int degree = Math.toIntExact(offsets.get(node + 1L) - start);
+                if (degree <= 1) {
+                    continue;
+                }
+                if (buffer.length < degree) {
+                    buffer = new long[degree];
+                }
+                for (int i = 0; i < degree; i++) {
+                    buffer[i] = adjacency.get(start + i);
+                }
+                Arrays.sort(buffer, 0, degree);
+                for (int i = 0; i < degree; i++) {
+                    adjacency.set(start + i, buffer[i]);
+                }
+            }
+        });
+        return new LongArray[]{offsets, adjacency};
+    }
+
+    private static void release(LongArray[] arrays) {
+        for (LongArray array : arrays) {
+            if (array != null) {
+                array.release();
+            }
+        }
+    }
+
+    public interface RelationshipVisitor {
+        void accept(long source, long target, double weight);
+    }
+
+    private interface Write {
+        void accept(DataWriteOperations ops) throws KernelException;
+    }
+
+    private static final class Writer extends StatementApi {
+        private Writer(GraphDatabaseAPI api) {
+            super(api);
+        }
+
+        private void write(Write write) {
+            try {
+                acceptInTransaction(statement -> write.accept(statement.dataWriteOperations()));
+            } catch (KernelException e) {
+                throw Exceptions.launderedException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.neo4j.graphalgo.helper.generator;
+
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.DoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.LongArray;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Base class for synthetic random graphs that do not need a database.
+ * <p>
+ * A generator splits its relationships into a fixed number of batches.
+ * Every batch is generated by a random number generator that is seeded
+ * from the generator seed and the batch index only, so that the same seed always
+ * produces the same graph, no matter how many threads generate it.
+ * <p>
+ * The generated relationships are kept in a {@link GeneratedGraph} which
+ * can be turned into a {@link org.neo4j.graphalgo.api.HugeGraph} or a
+ * {@link org.neo4j.graphalgo.core.heavyweight.HeavyGraph} or written into a database.
+ * Generated graphs are multigraphs, they may contain parallel relationships
+ * and self loops.
+ *
+ * <pre>
+ * GeneratedGraph generated = GraphGenerator.rmat(20, 16)
+ *         .withSeed(42L)
+ *         .withWeights(1.0, 10.0)
+ *         .generate(Pools.DEFAULT, Pools.DEFAULT_CONCURRENCY, AllocationTracker.EMPTY);
+ * HugeGraph graph = generated.toHugeGraph(Direction.BOTH, Pools.DEFAULT, Pools.DEFAULT_CONCURRENCY);
+ * </pre>
+ */
+public abstract class GraphGenerator<ME extends GraphGenerator<ME>> {
+
+    private long seed = ThreadLocalRandom.current().nextLong();
+    private boolean weighted = false;
+    private double minWeight = 1.0;
+    private double maxWeight = 1.0;
+
+    /**
+     * Random graph with {@code nodeCount} nodes and {@code relationshipCount}
+     * relationships whose source and target are chosen uniformly at random.
+     */
+    public static ErdosRenyiGenerator erdosRenyi(long nodeCount, long relationshipCount) {
+        return new ErdosRenyiGenerator(nodeCount, relationshipCount);
+    }
+
+    /**
+     * Recursive matrix (Kronecker) graph with {@code 2^scale} nodes and
+     * {@code edgeFactor * 2^scale} relationships, using the Graph500 probabilities.
+     */
+    public static RMatGenerator rmat(int scale, int edgeFactor) {
+        return new RMatGenerator(scale, edgeFactor);
+    }
+
+    /**
+     * Scale-free graph with {@code nodeCount} nodes where every node
+     * attaches {@code degree} relationships to existing nodes by preferential attachment.
+     */
+    public static BarabasiAlbertGenerator barabasiAlbert(long nodeCount, int degree) {
+        return new BarabasiAlbertGenerator(nodeCount, degree);
+    }
+
+    /**
+     * Road like grid of {@code width * height} nodes where neighbouring
+     * nodes are connected in both directions.
+     */
+    public static GridGenerator grid(int width, int height) {
+        return new GridGenerator(width, height);
+    }
+
+    /**
+     * set the seed, the same seed and configuration always generate the same graph
+     *
+     * @return itself for method chaining
+     */
+    public ME withSeed(long seed) {
+        this.seed = seed;
+        return me();
+    }
+
+    /**
+     * generate relationship weights uniformly distributed in {@code [minWeight, maxWeight)}
+     *
+     * @return itself for method chaining
+     */
+    public ME withWeights(double minWeight, double maxWeight) {
+        if (minWeight > maxWeight) {
+            throw new IllegalArgumentException("minWeight must not be greater than maxWeight");
+        }
+        this.weighted = true;
+        this.minWeight = minWeight;
+        this.maxWeight = maxWeight;
+        return me();
+    }
+
+    /**
+     * @return the number of nodes of the generated graph
+     */
+    public abstract long nodeCount();
+
+    /**
+     * Generates all relationships, every batch is generated by a single task.
+     *
+     * @param executor    the executor to run the batches in, may be null
+     * @param concurrency how many batches are generated at the same time
+     * @param tracker     tracker for the allocated relationship arrays
+     */
+    public GeneratedGraph generate(
+            ExecutorService executor,
+            int concurrency,
+            AllocationTracker tracker) {
+        final int batches = batchCount();
+        final long[] offsets = new long[batches + 1];
+        for (int i = 0; i < batches; i++) {
+            offsets[i + 1] = offsets[i] + maxBatchSize(i);
+        }
+        final long capacity = offsets[batches];
+        final LongArray sources = LongArray.newArray(capacity, tracker);
+        final LongArray targets = LongArray.newArray(capacity, tracker);
+        final DoubleArray weights = weighted ? DoubleArray.newArray(capacity, tracker) : null;
+        final long[] lengths = new long[batches];
+        final long seed = this.seed;
+        forEach(executor, concurrency, batches, batch -> {
+            final Relationships sink = new Relationships(
+                    sources,
+                    targets,
+                    weights,
+                    minWeight,
+                    maxWeight,
+                    offsets[batch],
+                    offsets[batch + 1]);
+            generateBatch(batch, new SplittableRandom(seed + batch * 0x9E3779B97F4A7C15L), sink);
+            lengths[batch] = sink.length();
+        });
+        return new GeneratedGraph(nodeCount(), offsets, lengths, sources, targets, weights, tracker);
+    }
+
+    final long seed() {
+        return seed;
+    }
+
+    /**
+     * @return into how many independent batches the relationships are split
+     */
+    abstract int batchCount();
+
+    /**
+     * @return the maximum number of relationships the given batch adds
+     */
+    abstract long maxBatchSize(int batch);
+
+    /**
+     * Adds all relationships of the given batch. Must only depend on
+     * the batch and the given random, as batches are generated concurrently.
+     */
+    abstract void generateBatch(int batch, SplittableRandom random, Relationships sink);
+
+    abstract ME me();
+
+    static int batchCount(long elements, long batchSize) {
+        return Math.toIntExact(ParallelUtil.threadSize(batchSize, elements));
+    }
+
+    static void forEach(
+            ExecutorService executor,
+            int concurrency,
+            int count,
+            BatchConsumer consumer) {
+        if (concurrency <= 1 || count <= 1 || !ParallelUtil.canRunInParallel(executor)) {
+            for (int i = 0; i < count; i++) {
+                consumer.accept(i);
+            }
+            return;
+        }
+        ParallelUtil.iterateParallel(executor, count, concurrency, consumer::accept);
+    }
+
+    interface BatchConsumer {
+        void accept(int batch);
+    }
+
+    /**
+     * Writes the relationships of one batch into its reserved region.
+     */
+    static final class Relationships {
+        private final LongArray sources;
+        private final LongArray targets;
+        private final DoubleArray weights;
+        private final double minWeight;
+        private final double maxWeight;
+        private final long start;
+        private final long end;
+        private long next;
+
+        private Relationships(
+                LongArray sources,
+                LongArray targets,
+                DoubleArray weights,
+                double minWeight,
+                double maxWeight,
+                long start,
+                long end) {
+            this.sources = sources;
+            this.targets = targets;
+            this.weights = weights;
+            this.minWeight = minWeight;
+            this.maxWeight = maxWeight;
+            this.start = start;
+            this.end = end;
+            this.next = start;
+        }
+
+        /**
+         * adds a relationship with a random weight in the configured range
+         */
+        void add(long source, long target, SplittableRandom random) {
+            add(source, target, randomWeight(random));
+        }
+
+        /**
+         * adds a relationship with the given weight
+         */
+        void add(long source, long target, double weight) {
+            assert next < end : "batch exceeds its maximum size";
+            final long index = next++;
+            sources.set(index, source);
+            targets.set(index, target);
+            if (weights != null) {
+                weights.set(index, weight);
+            }
+        }
+
+        double randomWeight(SplittableRandom random) {
+            if (weights == null || minWeight == maxWeight) {
+                return minWeight;
+            }
+            return random.nextDouble(minWeight, maxWeight);
+        }
+
+        long length() {
+            return next - start;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.neo4j.graphalgo.helper.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Road network like graph on a {@code width * height} grid.
+ * <p>
+ * Horizontally and vertically neighbouring nodes are connected by a pair of
+ * relationships, one in each direction, that share the same weight. Node
+ * {@code (x, y)} has the id {@code y * width + x}. A fraction of the roads can be
+ * removed, which leaves a sparse, mostly planar graph with a large diameter –
+ * the kind of graph that shortest path algorithms are usually run on.
+ */
+public final class GridGenerator extends GraphGenerator<GridGenerator> {
+
+    private static final long BATCH_SIZE = 1L << 16;
+
+    private final int width;
+    private final int height;
+    private final int rowsPerBatch;
+    private double connectivity = 1.0;
+
+    GridGenerator(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height must be positive");
+        }
+        this.width = width;
+        this.height = height;
+        this.rowsPerBatch = (int) Math.max(1L, BATCH_SIZE / (4L * width));
+    }
+
+    /**
+     * set the probability that a road between two neighbouring nodes exists
+     *
+     * @return itself for method chaining
+     */
+    public GridGenerator withConnectivity(double connectivity) {
+        if (connectivity < 0.0 || connectivity > 1.0) {
+            throw new IllegalArgumentException("connectivity must be in [0, 1]");
+        }
+        this.connectivity = connectivity;
+        return this;
+    }
+
+    @Override
+    public long nodeCount() {
+        return (long) width * height;
+    }
+
+    @Override
+    int batchCount() {
+        return batchCount(height, rowsPerBatch);
+    }
+
+    @Override
+    long maxBatchSize(int batch) {
+        final long rows = Math.min(rowsPerBatch, height - (long) batch * rowsPerBatch);
+        // right and down neighbour, in both directions
+        return rows * width * 4L;
+    }
+
+    @Override
+    void generateBatch(int batch, SplittableRandom random, Relationships sink) {
+        final int startRow = batch * rowsPerBatch;
+        final int endRow = Math.min(height, startRow + rowsPerBatch);
+        for (int y = startRow; y < endRow; y++) {
+            final long row = (long) y * width;
+            for (int x = 0; x < width; x++) {
+                final long node = row + x;
+                if (x + 1 < width) {
+                    connect(node, node + 1, random, sink);
+                }
+                if (y + 1 < height) {
+                    connect(node, node + width, random, sink);
+                }
+            }
+        }
+    }
+
+    private void connect(long node, long other, SplittableRandom random, Relationships sink) {
+        if (connectivity < 1.0 && random.nextDouble() >= connectivity) {
+            return;
+        }
+        final double weight = sink.randomWeight(random);
+        sink.add(node, other, weight);
+        sink.add(other, node, weight);
+    }
+
+    @Override
+    GridGenerator me() {
+        return this;
+    }
+}
@@ -0,0 +1,123 @@
+package org.neo4j.graphalgo.helper.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Recursive matrix graph (R-MAT), a Kronecker graph with a 2x2 initiator.
+ * <p>
+ * Every relationship is placed by recursively descending into one of
+ * the four quadrants of the adjacency matrix with probabilities
+ * {@code a, b, c} and {@code 1 - a - b - c} until a single cell is reached.
+ * The default probabilities are the ones of the Graph500 benchmark and lead to
+ * a skewed, power-law like degree distribution. The node ids are
+ * permuted afterwards so that the high degree nodes are not all clustered at
+ * the lowest ids.
+ */
+public final class RMatGenerator extends GraphGenerator<RMatGenerator> {
+
+    private static final long BATCH_SIZE = 1L << 16;
+
+    private final int scale;
+    private final long nodeCount;
+    private final long relationshipCount;
+    private double a = 0.57;
+    private double b = 0.19;
+    private double c = 0.19;
+    private boolean permute = true;
+
+    RMatGenerator(int scale, int edgeFactor) {
+        if (scale <= 0 || scale > 62) {
+            throw new IllegalArgumentException("scale must be in [1, 62]");
+        }
+        if (edgeFactor < 0) {
+            throw new IllegalArgumentException("edgeFactor must not be negative");
+        }
+        this.scale = scale;
+        this.nodeCount = 1L << scale;
+        this.relationshipCount = nodeCount * edgeFactor;
+    }
+
+    /**
+     * set the probabilities of the upper left, upper right, and lower left quadrant
+     *
+     * @return itself for method chaining
+     */
+    public RMatGenerator withProbabilities(double a, double b, double c) {
+        if (a < 0.0 || b < 0.0 || c < 0.0 || a + b + c > 1.0) {
+            throw new IllegalArgumentException("probabilities must be positive and sum up to at most 1");
+        }
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        return this;
+    }
+
+    /**
+     * keep the raw quadrant ids instead of scattering them over the id space
+     *
+     * @return itself for method chaining
+     */
+    public RMatGenerator withoutPermutation() {
+        this.permute = false;
+        return this;
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    int batchCount() {
+        return batchCount(relationshipCount, BATCH_SIZE);
+    }
+
+    @Override
+    long maxBatchSize(int batch) {
+        return Math.min(BATCH_SIZE, relationshipCount - batch * BATCH_SIZE);
+    }
+
+    @Override
+    void generateBatch(int batch, SplittableRandom random, Relationships sink) {
+        final double a = this.a;
+        final double ab = a + b;
+        final double abc = ab + c;
+        for (long i = maxBatchSize(batch); i > 0L; i--) {
+            long source = 0L;
+            long target = 0L;
+            for (int level = 0; level < scale; level++) {
+                final double r = random.nextDouble();
+                if (r >= ab) {
+                    // lower half, quadrant c or d
+                    source |= 1L << level;
+                    if (r >= abc) {
+                        target |= 1L << level;
+                    }
+                } else if (r >= a) {
+                    // quadrant b
+                    target |= 1L << level;
+                }
+            }
+            sink.add(permute(source), permute(target), random);
+        }
+    }
+
+    /**
+     * A bijection on {@code [0, 2^scale)}: multiplication with an odd
+     * constant and xor-shifting are both invertible modulo a power of two.
+     */
+    private long permute(long id) {
+        if (!permute) {
+            return id;
+        }
+        final long mask = nodeCount - 1L;
+        id = (id * 0x9E3779B97F4A7C15L) & mask;
+        id ^= id >>> (scale / 2 + 1);
+        return (id * 0xBF58476D1CE4E5B9L) & mask;
+    }
+
+    @Override
+    RMatGenerator me() {
+        return this;
+    }
+}
@@ -0,0 +1,126 @@
+package org.neo4j.graphalgo.algo;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.neo4j.graphalgo.AfforestProc;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.api.exceptions.KernelException;
+import org.neo4j.kernel.impl.proc.Procedures;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ *  (a)->(b)->(c)<-(d)    (e)->(f)    (g)
+ *
+ *  three components: {a, b, c, d}, {e, f} and {g}
+ */
+@RunWith(Parameterized.class)
+public class AfforestProcIntegrationTest {
+
+    private static GraphDatabaseAPI db;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+                new Object[]{"Huge"},
+                new Object[]{"Mapped"}
+        );
+    }
+
+    @Parameterized.Parameter
+    public String graphImpl;
+
+    @BeforeClass
+    public static void setup() throws KernelException {
+        final String cypher =
+                "CREATE (a:Node {name:'a'})\n" +
+                        "CREATE (b:Node {name:'b'})\n" +
+                        "CREATE (c:Node {name:'c'})\n" +
+                        "CREATE (d:Node {name:'d'})\n" +
+                        "CREATE (e:Node {name:'e'})\n" +
+                        "CREATE (f:Node {name:'f'})\n" +
+                        "CREATE (g:Node {name:'g'})\n" +
+                        "CREATE" +
+                        " (a)-[:TYPE]->(b),\n" +
+                        " (b)-[:TYPE]->(c),\n" +
+                        " (d)-[:TYPE]->(c),\n" +
+                        " (e)-[:TYPE]->(f)";
+
+        db = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+        try (Transaction tx = db.beginTx()) {
+            db.execute(cypher).close();
+            tx.success();
+        }
+
+        db.getDependencyResolver()
+                .resolveDependency(Procedures.class)
+                .registerProcedure(AfforestProc.class);
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (db != null) db.shutdown();
+    }
+
+    @Test
+    public void testAfforestStream() {
+        final Map<String, Long> sets = new HashMap<>();
+        db.execute("CALL algo.unionFind.afforest.stream('Node', 'TYPE', {graph: $graph}) YIELD nodeId, setId " +
+                        "MATCH (n) WHERE id(n) = nodeId RETURN n.name AS name, setId",
+                Collections.singletonMap("graph", graphImpl))
+                .accept(row -> {
+                    sets.put(row.getString("name"), row.getNumber("setId").longValue());
+                    return true;
+                });
+
+        assertComponents(sets);
+    }
+
+    @Test
+    public void testAfforestWrite() {
+        db.execute("CALL algo.unionFind.afforest('Node', 'TYPE', {graph: $graph, partitionProperty: 'component'}) " +
+                        "YIELD nodes, setCount, loadMillis, computeMillis, writeMillis",
+                Collections.singletonMap("graph", graphImpl))
+                .accept(row -> {
+                    assertEquals(7L, row.getNumber("nodes").longValue());
+                    assertEquals(3L, row.getNumber("setCount").longValue());
+                    assertNotEquals(-1L, row.getNumber("writeMillis").longValue());
+                    return true;
+                });
+
+        final Map<String, Long> sets = new HashMap<>();
+        db.execute("MATCH (n:Node) RETURN n.name AS name, n.component AS component")
+                .accept(row -> {
+                    sets.put(row.getString("name"), row.getNumber("component").longValue());
+                    return true;
+                });
+
+        assertComponents(sets);
+    }
+
+    private static void assertComponents(Map<String, Long> sets) {
+        assertEquals(7, sets.size());
+        assertEquals(sets.get("a"), sets.get("b"));
+        assertEquals(sets.get("a"), sets.get("c"));
+        assertEquals(sets.get("a"), sets.get("d"));
+        assertEquals(sets.get("e"), sets.get("f"));
+        assertNotEquals(sets.get("a"), sets.get("e"));
+        assertNotEquals(sets.get("a"), sets.get("g"));
+        assertNotEquals(sets.get("e"), sets.get("g"));
+    }
+}
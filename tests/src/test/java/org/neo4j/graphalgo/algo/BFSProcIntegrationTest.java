@@ -0,0 +1,186 @@
+package org.neo4j.graphalgo.algo;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.neo4j.graphalgo.BFSProc;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.api.exceptions.KernelException;
+import org.neo4j.kernel.impl.proc.Procedures;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ *  (a)-->(b)-->(c)-->(d)
+ *    \          ^
+ *     `->(e)---´     (f)
+ *
+ *  f is not reachable from a.
+ */
+@RunWith(Parameterized.class)
+public class BFSProcIntegrationTest {
+
+    private static GraphDatabaseAPI db;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+                new Object[]{"Huge"},
+                new Object[]{"Mapped"}
+        );
+    }
+
+    @Parameterized.Parameter
+    public String graphImpl;
+
+    @BeforeClass
+    public static void setup() throws KernelException {
+        final String cypher =
+                "CREATE (a:Node {name:'a'})\n" +
+                        "CREATE (b:Node {name:'b'})\n" +
+                        "CREATE (c:Node {name:'c'})\n" +
+                        "CREATE (d:Node {name:'d'})\n" +
+                        "CREATE (e:Node {name:'e'})\n" +
+                        "CREATE (f:Node {name:'f'})\n" +
+                        "CREATE" +
+                        " (a)-[:TYPE]->(b),\n" +
+                        " (b)-[:TYPE]->(c),\n" +
+                        " (c)-[:TYPE]->(d),\n" +
+                        " (a)-[:TYPE]->(e),\n" +
+                        " (e)-[:TYPE]->(c)";
+
+        db = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+        try (Transaction tx = db.beginTx()) {
+            db.execute(cypher).close();
+            tx.success();
+        }
+
+        db.getDependencyResolver()
+                .resolveDependency(Procedures.class)
+                .registerProcedure(BFSProc.class);
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (db != null) db.shutdown();
+    }
+
+    @Test
+    public void testStream() {
+        assertStream("{graph: $graph}");
+    }
+
+    @Test
+    public void testStreamTopDown() {
+        assertStream("{graph: $graph, directionOptimization: false}");
+    }
+
+    @Test
+    public void testStreamIncoming() {
+        final Map<String, Long> depths = new HashMap<>();
+        stream("d", "{graph: $graph, direction: 'INCOMING'}", depths, new HashMap<>());
+        assertEquals(5, depths.size());
+        assertEquals(0L, (long) depths.get("d"));
+        assertEquals(1L, (long) depths.get("c"));
+        assertEquals(2L, (long) depths.get("b"));
+        assertEquals(2L, (long) depths.get("e"));
+        assertEquals(3L, (long) depths.get("a"));
+    }
+
+    @Test
+    public void testStreamMaxDepth() {
+        final Map<String, Long> depths = new HashMap<>();
+        stream("a", "{graph: $graph, maxDepth: 1}", depths, new HashMap<>());
+        assertEquals(3, depths.size());
+        assertEquals(0L, (long) depths.get("a"));
+        assertEquals(1L, (long) depths.get("b"));
+        assertEquals(1L, (long) depths.get("e"));
+    }
+
+    @Test
+    public void testWrite() {
+        final Map<String, Object> params = new HashMap<>();
+        params.put("graph", graphImpl);
+        params.put("start", "a");
+        db.execute("MATCH (s:Node {name: $start}) " +
+                        "CALL algo.bfs(s, 'Node', 'TYPE', {graph: $graph, writeProperty: 'level'}) " +
+                        "YIELD nodes, depth, bottomUpLevels, loadMillis, computeMillis, writeMillis " +
+                        "RETURN nodes, depth, writeMillis",
+                params)
+                .accept(row -> {
+                    assertEquals(5L, row.getNumber("nodes").longValue());
+                    assertEquals(3L, row.getNumber("depth").longValue());
+                    assertNotEquals(-1L, row.getNumber("writeMillis").longValue());
+                    return true;
+                });
+
+        final Map<String, Object> levels = new HashMap<>();
+        db.execute("MATCH (n:Node) RETURN n.name AS name, n.level AS level")
+                .accept(row -> {
+                    levels.put(row.getString("name"), row.get("level"));
+                    return true;
+                });
+        assertEquals(0L, ((Number) levels.get("a")).longValue());
+        assertEquals(1L, ((Number) levels.get("b")).longValue());
+        assertEquals(2L, ((Number) levels.get("c")).longValue());
+        assertEquals(3L, ((Number) levels.get("d")).longValue());
+        assertEquals(1L, ((Number) levels.get("e")).longValue());
+        assertNull(levels.get("f"));
+    }
+
+    private void assertStream(String config) {
+        final Map<String, Long> depths = new HashMap<>();
+        final Map<String, String> parents = new HashMap<>();
+        stream("a", config, depths, parents);
+
+        assertEquals(5, depths.size());
+        assertFalse(depths.containsKey("f"));
+        assertEquals(0L, (long) depths.get("a"));
+        assertEquals(1L, (long) depths.get("b"));
+        assertEquals(1L, (long) depths.get("e"));
+        assertEquals(2L, (long) depths.get("c"));
+        assertEquals(3L, (long) depths.get("d"));
+
+        assertEquals("a", parents.get("a"));
+        assertEquals("a", parents.get("b"));
+        assertEquals("a", parents.get("e"));
+        assertEquals("c", parents.get("d"));
+        // c is reached from b and e in the same level
+        assertEquals(1L, (long) depths.get(parents.get("c")));
+    }
+
+    private void stream(
+            String start,
+            String config,
+            Map<String, Long> depths,
+            Map<String, String> parents) {
+        final Map<String, Object> params = new HashMap<>();
+        params.put("graph", graphImpl);
+        params.put("start", start);
+        db.execute("MATCH (s:Node {name: $start}) " +
+                        "CALL algo.bfs.stream(s, 'Node', 'TYPE', " + config + ") YIELD nodeId, depth, parentId " +
+                        "MATCH (n), (p) WHERE id(n) = nodeId AND id(p) = parentId " +
+                        "RETURN n.name AS name, depth, p.name AS parent",
+                params)
+                .accept(row -> {
+                    depths.put(row.getString("name"), row.getNumber("depth").longValue());
+                    parents.put(row.getString("name"), row.getString("parent"));
+                    return true;
+                });
+    }
+}
@@ -179,6 +179,21 @@ public class BetweennessCentralityIntegrationTest {
         verify(consumer, times(1)).consume(eq(centerNodeId), eq(25.0));
     }
 
+    @Test
+    public void testHugeBetweennessStream() throws Exception {
+
+        db.execute("CALL algo.betweenness.stream('Node', 'TYPE', {concurrency:4, graph:'huge'}) YIELD nodeId, centrality")
+                .accept((Result.ResultVisitor<Exception>) row -> {
+                    consumer.consume(
+                            row.getNumber("nodeId").intValue(),
+                            row.getNumber("centrality").doubleValue());
+                    return true;
+                });
+
+        verify(consumer, times(10)).consume(anyLong(), eq(6.0));
+        verify(consumer, times(1)).consume(eq(centerNodeId), eq(25.0));
+    }
+
     @Test
     public void testSucessorBetweennessStream() throws Exception {
 
@@ -226,6 +241,22 @@ public class BetweennessCentralityIntegrationTest {
                 });
     }
 
+    @Test
+    public void testHugeBetweennessWriteWithDirection() throws Exception {
+
+        db.execute("CALL algo.betweenness('','', {direction:'<>', concurrency:4, graph:'huge', write:true, stats:true, writeProperty:'centrality'}) YIELD " +
+                "nodes, minCentrality, maxCentrality, sumCentrality, loadMillis, computeMillis, writeMillis")
+                .accept((Result.ResultVisitor<Exception>) row -> {
+                    assertEquals(35.0, (double) row.getNumber("sumCentrality"), 0.01);
+                    assertEquals(30.0, (double) row.getNumber("maxCentrality"), 0.01);
+                    assertEquals(0.5, (double) row.getNumber("minCentrality"), 0.01);
+                    assertNotEquals(-1L, row.getNumber("writeMillis"));
+                    assertNotEquals(-1L, row.getNumber("computeMillis"));
+                    assertNotEquals(-1L, row.getNumber("nodes"));
+                    return true;
+                });
+    }
+
     @Test
     public void testBetweennessWrite() throws Exception {
 
@@ -125,6 +125,43 @@ public class ClosenessCentralityIntegrationTest {
         verifyMock();
     }
 
+    @Test
+    public void testHugeClosenessStream() throws Exception {
+
+        db.execute("CALL algo.closeness.stream('Node', 'TYPE', {graph:'huge'}) YIELD nodeId, centrality")
+                .accept((Result.ResultVisitor<Exception>) row -> {
+                    consumer.accept(
+                            row.getNumber("nodeId").longValue(),
+                            row.getNumber("centrality").doubleValue());
+                    return true;
+                });
+
+        verifyMock();
+    }
+
+    @Test
+    public void testHugeClosenessWrite() throws Exception {
+
+        db.execute("CALL algo.closeness('','', {graph:'huge', write:true, writeProperty:'hugeCentrality'}) YIELD " +
+                "nodes, loadMillis, computeMillis, writeMillis")
+                .accept((Result.ResultVisitor<Exception>) row -> {
+                    assertNotEquals(-1L, row.getNumber("writeMillis"));
+                    assertNotEquals(-1L, row.getNumber("computeMillis"));
+                    assertNotEquals(-1L, row.getNumber("nodes"));
+                    return true;
+                });
+
+        db.execute("MATCH (n) WHERE exists(n.hugeCentrality) RETURN id(n) as id, n.hugeCentrality as centrality")
+                .accept(row -> {
+                    consumer.accept(
+                            row.getNumber("id").longValue(),
+                            row.getNumber("centrality").doubleValue());
+                    return true;
+                });
+
+        verifyMock();
+    }
+
     private void verifyMock() {
         verify(consumer, times(1)).accept(eq(centerNodeId), eq(2.0));
         verify(consumer, times(5)).accept(anyLong(), eq(1.0));
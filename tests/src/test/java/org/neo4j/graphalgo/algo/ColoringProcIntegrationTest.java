@@ -0,0 +1,126 @@
+package org.neo4j.graphalgo.algo;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.neo4j.graphalgo.ColoringProc;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.api.exceptions.KernelException;
+import org.neo4j.kernel.impl.proc.Procedures;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ *  (a)--(b)--(c)
+ *    \  |
+ *     (d)      (e)
+ *
+ *  a, b and d form a triangle, e is isolated.
+ */
+@RunWith(Parameterized.class)
+public class ColoringProcIntegrationTest {
+
+    private static GraphDatabaseAPI db;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+                new Object[]{"Heavy"},
+                new Object[]{"Light"},
+                new Object[]{"Huge"}
+        );
+    }
+
+    @Parameterized.Parameter
+    public String graphImpl;
+
+    @BeforeClass
+    public static void setup() throws KernelException {
+        final String cypher =
+                "CREATE (a:Node {name:'a'})\n" +
+                        "CREATE (b:Node {name:'b'})\n" +
+                        "CREATE (c:Node {name:'c'})\n" +
+                        "CREATE (d:Node {name:'d'})\n" +
+                        "CREATE (e:Node {name:'e'})\n" +
+                        "CREATE" +
+                        " (a)-[:TYPE]->(b),\n" +
+                        " (b)-[:TYPE]->(c),\n" +
+                        " (d)-[:TYPE]->(a),\n" +
+                        " (b)-[:TYPE]->(d)";
+
+        db = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+        try (Transaction tx = db.beginTx()) {
+            db.execute(cypher).close();
+            tx.success();
+        }
+
+        db.getDependencyResolver()
+                .resolveDependency(Procedures.class)
+                .registerProcedure(ColoringProc.class);
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (db != null) db.shutdown();
+    }
+
+    @Test
+    public void testColoringStream() {
+        final Map<String, Long> colors = new HashMap<>();
+        db.execute("CALL algo.coloring.stream('Node', 'TYPE', {graph: $graph}) YIELD nodeId, color " +
+                        "MATCH (n) WHERE id(n) = nodeId RETURN n.name AS name, color",
+                Collections.singletonMap("graph", graphImpl))
+                .accept(row -> {
+                    colors.put(row.getString("name"), row.getNumber("color").longValue());
+                    return true;
+                });
+
+        assertColoring(colors);
+    }
+
+    @Test
+    public void testColoringWrite() {
+        db.execute("CALL algo.coloring('Node', 'TYPE', {graph: $graph, writeProperty: 'color'}) " +
+                        "YIELD nodes, colorCount, rounds, loadMillis, computeMillis, writeMillis",
+                Collections.singletonMap("graph", graphImpl))
+                .accept(row -> {
+                    assertEquals(5L, row.getNumber("nodes").longValue());
+                    assertEquals(3L, row.getNumber("colorCount").longValue());
+                    assertNotEquals(-1L, row.getNumber("writeMillis").longValue());
+                    return true;
+                });
+
+        final Map<String, Long> colors = new HashMap<>();
+        db.execute("MATCH (n:Node) RETURN n.name AS name, n.color AS color")
+                .accept(row -> {
+                    colors.put(row.getString("name"), row.getNumber("color").longValue());
+                    return true;
+                });
+
+        assertColoring(colors);
+    }
+
+    private static void assertColoring(Map<String, Long> colors) {
+        assertEquals(5, colors.size());
+        assertNotEquals(colors.get("a"), colors.get("b"));
+        assertNotEquals(colors.get("a"), colors.get("d"));
+        assertNotEquals(colors.get("b"), colors.get("d"));
+        assertNotEquals(colors.get("b"), colors.get("c"));
+        // e has no neighbors, so it takes the first color
+        assertEquals(0L, (long) colors.get("e"));
+    }
+}
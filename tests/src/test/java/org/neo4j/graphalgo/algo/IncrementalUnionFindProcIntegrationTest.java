@@ -0,0 +1,230 @@
+package org.neo4j.graphalgo.algo;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphalgo.UnionFindProc;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.QueryExecutionException;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.api.exceptions.KernelException;
+import org.neo4j.kernel.impl.proc.Procedures;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Runs algo.unionFind seeded with a previously written partition on the
+ * relationships that have been created since.
+ */
+public class IncrementalUnionFindProcIntegrationTest {
+
+    private GraphDatabaseAPI db;
+
+    @Before
+    public void setup() throws KernelException {
+        String createGraph =
+                "CREATE (nA:Node {name:'a'})\n" +
+                "CREATE (nB:Node {name:'b'})\n" +
+                "CREATE (nC:Node {name:'c'})\n" +
+                "CREATE (nD:Node {name:'d'})\n" +
+                "CREATE (nE:Node {name:'e'})\n" +
+                "CREATE (nF:Node {name:'f'})\n" +
+                "CREATE (nG:Node {name:'g'})\n" +
+                "CREATE (nH:Node {name:'h'})\n" +
+                "CREATE (nI:Node {name:'i'})\n" +
+                "CREATE (nJ:Node {name:'j'})\n" + // {J}
+                "CREATE\n" +
+
+                // {A, B, C, D}
+                "  (nA)-[:TYPE]->(nB),\n" +
+                "  (nB)-[:TYPE]->(nC),\n" +
+                "  (nC)-[:TYPE]->(nD),\n" +
+
+                // {E, F, G}
+                "  (nE)-[:TYPE]->(nF),\n" +
+                "  (nF)-[:TYPE]->(nG),\n" +
+
+                // {H, I}
+                "  (nH)-[:TYPE]->(nI)";
+
+        db = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+
+        try (Transaction tx = db.beginTx()) {
+            db.execute(createGraph).close();
+            tx.success();
+        }
+
+        db.getDependencyResolver()
+                .resolveDependency(Procedures.class)
+                .registerProcedure(UnionFindProc.class);
+
+        db.execute("CALL algo.unionFind('Node', 'TYPE', {write:true, partitionProperty:'partition'})").close();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (db != null) db.shutdown();
+    }
+
+    @Test
+    public void testInitialPartition() throws Exception {
+        final Map<String, Integer> partitions = partitions();
+        assertEquals(partitions.get("a"), partitions.get("d"));
+        assertEquals(partitions.get("e"), partitions.get("g"));
+        assertEquals(partitions.get("h"), partitions.get("i"));
+        assertNotEquals(partitions.get("a"), partitions.get("e"));
+        assertNotEquals(partitions.get("h"), partitions.get("j"));
+    }
+
+    @Test
+    public void testMergeWithNewRelationships() throws Exception {
+        final Map<String, Integer> before = partitions();
+        final long watermark = watermark();
+        connect("d", "e");
+        connect("i", "j");
+
+        db.execute("CALL algo.unionFind('Node', 'TYPE', {write:true, partitionProperty:'partition', " +
+                "seedProperty:'partition', relationshipWatermark:" + watermark + "}) YIELD nodes, setCount")
+                .accept((Result.ResultVisitor<Exception>) row -> {
+                    assertEquals(10L, row.getNumber("nodes").longValue());
+                    assertEquals(2L, row.getNumber("setCount").longValue());
+                    return true;
+                });
+
+        final Map<String, Integer> after = partitions();
+        for (String name : new String[]{"a", "b", "c", "d", "e", "f", "g"}) {
+            assertEquals(name, after.get("a"), after.get(name));
+        }
+        assertEquals(after.get("h"), after.get("i"));
+        assertEquals(after.get("h"), after.get("j"));
+        assertNotEquals(after.get("a"), after.get("h"));
+        // the merged sets keep the id of one of their seeds
+        assertEquals(before.get("h"), after.get("h"));
+        assertEquals(before.get("h"), after.get("j"));
+        assertEquals(before.get("a"), after.get("a"));
+    }
+
+    @Test
+    public void testUnchangedGraphKeepsPartitions() throws Exception {
+        final Map<String, Integer> before = partitions();
+        db.execute("CALL algo.unionFind('Node', 'TYPE', {write:true, partitionProperty:'partition', " +
+                "seedProperty:'partition', relationshipWatermark:" + watermark() + "}) YIELD setCount")
+                .accept((Result.ResultVisitor<Exception>) row -> {
+                    assertEquals(4L, row.getNumber("setCount").longValue());
+                    return true;
+                });
+        assertEquals(before, partitions());
+    }
+
+    @Test
+    public void testSeedWithoutWatermark() throws Exception {
+        final Map<String, Integer> before = partitions();
+        connect("g", "h");
+        db.execute("CALL algo.unionFind('Node', 'TYPE', {write:true, partitionProperty:'partition', " +
+                "seedProperty:'partition'}) YIELD setCount")
+                .accept((Result.ResultVisitor<Exception>) row -> {
+                    assertEquals(3L, row.getNumber("setCount").longValue());
+                    return true;
+                });
+        final Map<String, Integer> after = partitions();
+        assertEquals(before.get("a"), after.get("a"));
+        assertEquals(after.get("e"), after.get("i"));
+        assertEquals(before.get("j"), after.get("j"));
+    }
+
+    @Test
+    public void testStream() throws Exception {
+        final long watermark = watermark();
+        connect("a", "j");
+        final Map<Long, Long> setIds = new HashMap<>();
+        db.execute("CALL algo.unionFind.stream('Node', 'TYPE', " +
+                "{seedProperty:'partition', relationshipWatermark:" + watermark + "}) YIELD nodeId, setId")
+                .accept((Result.ResultVisitor<Exception>) row -> {
+                    setIds.put(row.getNumber("nodeId").longValue(), row.getNumber("setId").longValue());
+                    return true;
+                });
+        assertEquals(10, setIds.size());
+        assertEquals(setIds.get(nodeId("a")), setIds.get(nodeId("j")));
+        assertEquals(setIds.get(nodeId("a")), setIds.get(nodeId("d")));
+        assertNotEquals(setIds.get(nodeId("a")), setIds.get(nodeId("e")));
+    }
+
+    @Test
+    public void testNamesWithBackticks() throws Exception {
+        final long watermark = watermark();
+        try (Transaction tx = db.beginTx()) {
+            db.execute("CREATE (:`No``de`)-[:`TY``PE`]->(:`No``de`)").close();
+            tx.success();
+        }
+        final Map<String, Object> params = new HashMap<>();
+        params.put("label", "No`de");
+        params.put("type", "TY`PE");
+        db.execute("CALL algo.unionFind.stream($label, $type, " +
+                "{relationshipWatermark:" + watermark + "}) YIELD setId RETURN count(DISTINCT setId) AS sets", params)
+                .accept((Result.ResultVisitor<Exception>) row -> {
+                    assertEquals(1L, row.getNumber("sets").longValue());
+                    return true;
+                });
+    }
+
+    @Test
+    public void testInvalidWatermark() throws Exception {
+        for (String watermark : new String[]{"-1", "1.0/0.0", "'1'"}) {
+            try {
+                db.execute("CALL algo.unionFind.stream('Node', 'TYPE', " +
+                        "{relationshipWatermark:" + watermark + "})").close();
+                fail("the watermark " + watermark + " must be rejected");
+            } catch (QueryExecutionException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("relationshipWatermark"));
+            }
+        }
+    }
+
+    private long watermark() {
+        try (Result result = db.execute("MATCH ()-[r]->() RETURN max(id(r)) AS watermark")) {
+            return ((Number) result.next().get("watermark")).longValue();
+        }
+    }
+
+    private void connect(String source, String target) {
+        try (Transaction tx = db.beginTx()) {
+            db.execute("MATCH (a:Node {name:'" + source + "'}), (b:Node {name:'" + target + "'}) " +
+                    "CREATE (a)-[:TYPE]->(b)").close();
+            tx.success();
+        }
+    }
+
+    private long nodeId(String name) {
+        try (Transaction tx = db.beginTx()) {
+            final Node node = db.findNode(Label.label("Node"), "name", name);
+            tx.success();
+            return node.getId();
+        }
+    }
+
+    private Map<String, Integer> partitions() {
+        final Map<String, Integer> partitions = new HashMap<>();
+        try (Transaction tx = db.beginTx()) {
+            db.execute("MATCH (n:Node) RETURN n.name AS name, n.partition AS partition")
+                    .accept(row -> {
+                        partitions.put(row.getString("name"), row.getNumber("partition").intValue());
+                        return true;
+                    });
+            tx.success();
+        }
+        return partitions;
+    }
+}
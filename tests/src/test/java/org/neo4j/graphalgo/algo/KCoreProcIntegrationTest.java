@@ -0,0 +1,138 @@
+package org.neo4j.graphalgo.algo;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.neo4j.graphalgo.KCoreProc;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.api.exceptions.KernelException;
+import org.neo4j.kernel.impl.proc.Procedures;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ *  (a)-(b)
+ *   | X |
+ *  (c)-(d)
+ *   |   |
+ *   `(e)´--(f)      (g)
+ *
+ *  a, b, c and d form a clique, e is connected to c and d,
+ *  f hangs off e and g is isolated.
+ */
+@RunWith(Parameterized.class)
+public class KCoreProcIntegrationTest {
+
+    private static GraphDatabaseAPI db;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+                new Object[]{"Heavy"},
+                new Object[]{"Light"},
+                new Object[]{"Huge"},
+                new Object[]{"Mapped"}
+        );
+    }
+
+    @Parameterized.Parameter
+    public String graphImpl;
+
+    @BeforeClass
+    public static void setup() throws KernelException {
+        final String cypher =
+                "CREATE (a:Node {name:'a'})\n" +
+                        "CREATE (b:Node {name:'b'})\n" +
+                        "CREATE (c:Node {name:'c'})\n" +
+                        "CREATE (d:Node {name:'d'})\n" +
+                        "CREATE (e:Node {name:'e'})\n" +
+                        "CREATE (f:Node {name:'f'})\n" +
+                        "CREATE (g:Node {name:'g'})\n" +
+                        "CREATE" +
+                        " (a)-[:TYPE]->(b),\n" +
+                        " (a)-[:TYPE]->(c),\n" +
+                        " (a)-[:TYPE]->(d),\n" +
+                        " (b)-[:TYPE]->(c),\n" +
+                        " (b)-[:TYPE]->(d),\n" +
+                        " (c)-[:TYPE]->(d),\n" +
+                        " (c)-[:TYPE]->(e),\n" +
+                        " (e)-[:TYPE]->(d),\n" +
+                        " (f)-[:TYPE]->(e)";
+
+        db = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+        try (Transaction tx = db.beginTx()) {
+            db.execute(cypher).close();
+            tx.success();
+        }
+
+        db.getDependencyResolver()
+                .resolveDependency(Procedures.class)
+                .registerProcedure(KCoreProc.class);
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (db != null) db.shutdown();
+    }
+
+    @Test
+    public void testKCoreStream() {
+        final Map<String, Long> cores = new HashMap<>();
+        db.execute("CALL algo.kcore.stream('Node', 'TYPE', {graph: $graph}) YIELD nodeId, core " +
+                        "MATCH (n) WHERE id(n) = nodeId RETURN n.name AS name, core",
+                Collections.singletonMap("graph", graphImpl))
+                .accept(row -> {
+                    cores.put(row.getString("name"), row.getNumber("core").longValue());
+                    return true;
+                });
+
+        assertCores(cores);
+    }
+
+    @Test
+    public void testKCoreWrite() {
+        db.execute("CALL algo.kcore('Node', 'TYPE', {graph: $graph, writeProperty: 'core'}) " +
+                        "YIELD nodes, degeneracy, rounds, loadMillis, computeMillis, writeMillis",
+                Collections.singletonMap("graph", graphImpl))
+                .accept(row -> {
+                    assertEquals(7L, row.getNumber("nodes").longValue());
+                    assertEquals(3L, row.getNumber("degeneracy").longValue());
+                    assertNotEquals(-1L, row.getNumber("writeMillis").longValue());
+                    return true;
+                });
+
+        final Map<String, Long> cores = new HashMap<>();
+        db.execute("MATCH (n:Node) RETURN n.name AS name, n.core AS core")
+                .accept(row -> {
+                    cores.put(row.getString("name"), row.getNumber("core").longValue());
+                    return true;
+                });
+
+        assertCores(cores);
+    }
+
+    private static void assertCores(Map<String, Long> cores) {
+        assertEquals(7, cores.size());
+        assertEquals(3L, (long) cores.get("a"));
+        assertEquals(3L, (long) cores.get("b"));
+        assertEquals(3L, (long) cores.get("c"));
+        assertEquals(3L, (long) cores.get("d"));
+        assertEquals(2L, (long) cores.get("e"));
+        assertEquals(1L, (long) cores.get("f"));
+        assertEquals(0L, (long) cores.get("g"));
+    }
+}
@@ -17,6 +17,7 @@ import org.neo4j.test.TestGraphDatabaseFactory;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -129,6 +130,42 @@ public class LabelPropagationProcIntegrationTest {
                 assertEquals(2, row.getNumber("partition").intValue()));
     }
 
+    @Test
+    public void shouldOnlyEvaluateActiveNodes() throws Exception {
+        String query = parallel
+                ? "CALL algo.labelPropagation(null, 'X', 'OUTGOING', {iterations:5,activeSet:true,batchSize:1,concurrency:1})"
+                : "CALL algo.labelPropagation(null, 'X', 'OUTGOING', {iterations:5,activeSet:true})";
+        String check = "MATCH (n) WHERE n.id IN [0,1] RETURN n.partition AS partition";
+
+        runQuery(query, row -> {
+            assertEquals(2, row.getNumber("nodes").intValue());
+            // no node reads the labels of the changed nodes, the second iteration is skipped
+            assertEquals(Collections.singletonList(12L), row.get("activeNodes"));
+        });
+        runQuery(check, row ->
+                assertEquals(2, row.getNumber("partition").intValue()));
+    }
+
+    @Test
+    public void shouldActivateNodesAlongTheReverseDirection() throws Exception {
+        runQuery("CREATE (c0:C {partition: 0})-[:Y]->(c1:C {partition: 1})-[:Y]->(c2:C {partition: 2})-[:Y]->(c3:C {partition: 3})");
+        String query = "CALL algo.labelPropagation('C', 'Y', 'OUTGOING', {iterations:10,activeSet:true})";
+        String check = "MATCH (n:C) RETURN n.partition AS partition";
+
+        runQuery(query, row ->
+                assertEquals(Arrays.asList(4L, 2L, 1L), row.get("activeNodes")));
+        runQuery(check, row ->
+                assertEquals(3, row.getNumber("partition").intValue()));
+    }
+
+    @Test
+    public void shouldEvaluateAllNodesWithoutActiveSet() throws Exception {
+        String query = "CALL algo.labelPropagation(null, 'X', 'OUTGOING', {iterations:3})";
+
+        runQuery(query, row ->
+                assertEquals(Arrays.asList(12L, 12L, 12L), row.get("activeNodes")));
+    }
+
     @Test
     public void shouldFallbackToNodeIdsForNonExistingPartitionKey() throws Exception {
         String query = parallel
@@ -0,0 +1,141 @@
+package org.neo4j.graphalgo.algo;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.graphalgo.LabelPropagationProc;
+import org.neo4j.graphalgo.MetricsProc;
+import org.neo4j.graphalgo.PageRankProc;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.api.exceptions.KernelException;
+import org.neo4j.kernel.impl.proc.Procedures;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsProcIntegrationTest {
+
+    private static GraphDatabaseAPI db;
+
+    @BeforeClass
+    public static void setup() throws KernelException {
+        final String cypher =
+                "CREATE (a:Node {name:'a', partition:1})\n" +
+                        "CREATE (b:Node {name:'b', partition:2})\n" +
+                        "CREATE (c:Node {name:'c', partition:3})\n" +
+                        "CREATE (d:Node {name:'d', partition:4})\n" +
+                        "CREATE" +
+                        " (a)-[:TYPE]->(b),\n" +
+                        " (b)-[:TYPE]->(c),\n" +
+                        " (c)-[:TYPE]->(a),\n" +
+                        " (d)-[:TYPE]->(a)";
+
+        db = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+        try (Transaction tx = db.beginTx()) {
+            db.execute(cypher).close();
+            tx.success();
+        }
+
+        final Procedures procedures = db.getDependencyResolver().resolveDependency(Procedures.class);
+        procedures.registerProcedure(PageRankProc.class);
+        procedures.registerProcedure(LabelPropagationProc.class);
+        procedures.registerProcedure(MetricsProc.class);
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (db != null) db.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReportMetricsOfPageRank() {
+        db.execute("CALL algo.pageRank('Node', 'TYPE', {iterations: 5, write: false})").close();
+
+        final Map<String, Object> row = lastRun("PageRank");
+        assertEquals(false, row.get("running"));
+        assertEquals(5L, row.get("iterations"));
+        assertEquals(5, ((List<Double>) row.get("iterationMillis")).size());
+        // (d) has no incoming relationship and is only scanned in the first iteration
+        assertEquals(4L + 4 * 3L, row.get("relationships"));
+        assertTrue((long) row.get("loadMillis") >= 0L);
+        assertTrue((long) row.get("computeMillis") >= 0L);
+        assertEquals(-1L, row.get("writeMillis"));
+        assertTrue((long) row.get("runMillis") >= (long) row.get("computeMillis"));
+        assertTrue((long) row.get("gcMillis") >= 0L);
+        assertFalse(((Map<String, Object>) row.get("threadBusyMillis")).isEmpty());
+        assertEquals(
+                ((Map<String, Object>) row.get("threadBusyMillis")).keySet(),
+                ((Map<String, Object>) row.get("threadIdleMillis")).keySet());
+    }
+
+    @Test
+    public void shouldReportMetricsOfHugePageRank() {
+        db.execute("CALL algo.pageRank('Node', 'TYPE', {iterations: 5, write: false, graph: 'huge'})").close();
+
+        final Map<String, Object> row = lastRun("PageRank");
+        assertEquals(5, ((List<?>) row.get("iterationMillis")).size());
+        assertEquals(4L + 4 * 3L, row.get("relationships"));
+        assertFalse(((Map<?, ?>) row.get("threadBusyMillis")).isEmpty());
+    }
+
+    @Test
+    public void shouldTimeTheFirstIterationOfLabelPropagation() {
+        db.execute("CALL algo.labelPropagation('Node', 'TYPE', 'OUTGOING', {iterations: 1, write: false})").close();
+
+        final Map<String, Object> row = lastRun("LabelPropagation");
+        assertEquals(1L, row.get("iterations"));
+        assertEquals(4L, row.get("relationships"));
+        assertFalse(((Map<?, ?>) row.get("threadBusyMillis")).isEmpty());
+    }
+
+    @Test
+    public void shouldReportMetricsOfLabelPropagation() {
+        db.execute("CALL algo.labelPropagation('Node', 'TYPE', 'OUTGOING', {iterations: 3, write: false})").close();
+
+        final Map<String, Object> row = lastRun("LabelPropagation");
+        assertEquals(false, row.get("running"));
+        assertEquals(3L, row.get("iterations"));
+        assertEquals(12L, row.get("relationships"));
+    }
+
+    @Test
+    public void shouldExposeMetricsViaJmx() throws Exception {
+        db.execute("CALL algo.pageRank('Node', 'TYPE', {iterations: 1, write: false})").close();
+
+        final ObjectName name = new ObjectName(MetricsRegistry.OBJECT_NAME);
+        final Object finished = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "FinishedCount");
+        assertTrue((long) finished >= 1L);
+        final String[] runs = (String[]) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Runs");
+        assertTrue(runs[runs.length - 1].startsWith("PageRank#"));
+    }
+
+    private static Map<String, Object> lastRun(String algorithm) {
+        Map<String, Object> last = null;
+        try (Result result = db.execute("CALL algo.metrics() YIELD id, algorithm, running, runMillis, " +
+                "loadMillis, computeMillis, writeMillis, iterations, iterationMillis, relationships, " +
+                "threadBusyMillis, threadIdleMillis, peakMemoryBytes, gcMillis " +
+                "WHERE algorithm = $algorithm RETURN *", Collections.singletonMap("algorithm", algorithm))) {
+            while (result.hasNext()) {
+                last = result.next();
+            }
+        }
+        assertNotNull(last);
+        return last;
+    }
+}
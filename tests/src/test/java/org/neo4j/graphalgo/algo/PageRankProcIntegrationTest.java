@@ -114,7 +114,8 @@ public class PageRankProcIntegrationTest {
                 new Object[]{"Heavy"},
                 new Object[]{"Light"},
                 new Object[]{"Kernel"},
-                new Object[]{"Huge"}
+                new Object[]{"Huge"},
+                new Object[]{"Mapped"}
         );
     }
 
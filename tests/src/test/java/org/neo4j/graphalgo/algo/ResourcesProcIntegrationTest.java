@@ -0,0 +1,112 @@
+package org.neo4j.graphalgo.algo;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.graphalgo.PageRankProc;
+import org.neo4j.graphalgo.ResourcesProc;
+import org.neo4j.graphalgo.UnionFindProc;
+import org.neo4j.graphalgo.core.utils.admission.AdmissionControl;
+import org.neo4j.graphalgo.core.utils.admission.Reservation;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.api.exceptions.KernelException;
+import org.neo4j.kernel.impl.proc.Procedures;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ResourcesProcIntegrationTest {
+
+    private static GraphDatabaseAPI db;
+
+    @BeforeClass
+    public static void setup() throws KernelException {
+        final String cypher =
+                "CREATE (a:Node {name:'a'})\n" +
+                        "CREATE (b:Node {name:'b'})\n" +
+                        "CREATE (c:Node {name:'c'})\n" +
+                        "CREATE" +
+                        " (a)-[:TYPE]->(b),\n" +
+                        " (b)-[:TYPE]->(c)";
+
+        db = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+        try (Transaction tx = db.beginTx()) {
+            db.execute(cypher).close();
+            tx.success();
+        }
+
+        final Procedures procedures = db.getDependencyResolver().resolveDependency(Procedures.class);
+        procedures.registerProcedure(PageRankProc.class);
+        procedures.registerProcedure(UnionFindProc.class);
+        procedures.registerProcedure(ResourcesProc.class);
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (db != null) db.shutdown();
+    }
+
+    @Test
+    public void shouldReleaseReservationsAfterTheRun() {
+        db.execute("CALL algo.pageRank('Node', 'TYPE', {write: false, queueTimeout: 10000})").close();
+        db.execute("CALL algo.unionFind.stream('Node', 'TYPE', {queueTimeout: 10000})").close();
+
+        try (Result result = db.execute("CALL algo.resources()")) {
+            final Map<String, Object> row = result.next();
+            assertEquals(AdmissionControl.GLOBAL.maxBytes(), row.get("maxMemoryBytes"));
+            assertEquals((long) AdmissionControl.GLOBAL.maxThreads(), row.get("maxThreads"));
+            assertEquals(0L, row.get("reservedMemoryBytes"));
+            assertEquals(0L, row.get("reservedThreads"));
+            assertEquals(0L, row.get("running"));
+            assertEquals(0L, row.get("queued"));
+            assertFalse(result.hasNext());
+        }
+        try (Result result = db.execute("CALL algo.resources.queue()")) {
+            assertFalse(result.hasNext());
+        }
+    }
+
+    @Test
+    public void shouldKeepTheReservationOfAStreamUntilItIsClosed() {
+        for (String query : new String[]{
+                "CALL algo.unionFind.stream('Node', 'TYPE', {queueTimeout: 10000})",
+                "CALL algo.pageRank.stream('Node', 'TYPE', {queueTimeout: 10000})"}) {
+            try (Result result = db.execute(query)) {
+                assertTrue(result.hasNext());
+                result.next();
+                assertEquals(query, 1, AdmissionControl.GLOBAL.runningCount());
+            }
+            assertEquals(query, 0, AdmissionControl.GLOBAL.runningCount());
+        }
+    }
+
+    @Test
+    public void shouldListRunningReservations() {
+        final long bytes = 1024L;
+        try (Reservation reservation = AdmissionControl.GLOBAL.admit(
+                "test",
+                1,
+                concurrency -> bytes,
+                () -> true,
+                -1L)) {
+            try (Result result = db.execute("CALL algo.resources.queue()")) {
+                final Map<String, Object> row = result.next();
+                assertEquals(reservation.id(), row.get("id"));
+                assertEquals("test", row.get("algorithm"));
+                assertEquals("RUNNING", row.get("state"));
+                assertEquals(1L, row.get("concurrency"));
+                assertEquals(bytes, row.get("memoryBytes"));
+                assertTrue((long) row.get("waitMillis") >= 0L);
+            }
+        }
+    }
+}
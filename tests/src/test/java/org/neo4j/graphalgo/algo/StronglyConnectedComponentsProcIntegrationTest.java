@@ -72,7 +72,9 @@ public class StronglyConnectedComponentsProcIntegrationTest {
         return Arrays.asList(
                 new Object[]{"Heavy"},
                 new Object[]{"Light"},
-                new Object[]{"Kernel"}
+                new Object[]{"Kernel"},
+                new Object[]{"Huge"},
+                new Object[]{"Mapped"}
         );
     }
 
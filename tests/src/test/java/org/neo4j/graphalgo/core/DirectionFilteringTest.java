@@ -8,6 +8,8 @@ import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphFactory;
 import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
 import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.CompressedLightGraphFactory;
 import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
 import org.neo4j.graphdb.Direction;
 
@@ -27,7 +29,9 @@ public final class DirectionFilteringTest extends RandomGraphTestCase {
         return Arrays.asList(
                 new Object[]{HeavyGraphFactory.class, "HeavyGraphFactory"},
                 new Object[]{LightGraphFactory.class, "LightGraphFactory"},
-                new Object[]{HugeGraphFactory.class, "HugeGraphFactory"}
+                new Object[]{CompressedLightGraphFactory.class, "CompressedLightGraphFactory"},
+                new Object[]{HugeGraphFactory.class, "HugeGraphFactory"},
+                new Object[]{MappedHugeGraphFactory.class, "MappedHugeGraphFactory"}
         );
     }
 
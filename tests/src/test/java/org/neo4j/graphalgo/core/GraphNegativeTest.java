@@ -11,6 +11,8 @@ import org.neo4j.graphalgo.api.GraphFactory;
 import org.neo4j.graphalgo.api.RelationshipCursor;
 import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
 import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.CompressedLightGraphFactory;
 import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
 import org.neo4j.graphalgo.core.neo4jview.GraphViewFactory;
 import org.neo4j.graphalgo.core.utils.RawValues;
@@ -43,8 +45,10 @@ public final class GraphNegativeTest extends RandomGraphTestCase {
         return Arrays.asList(
                 new Object[]{HeavyGraphFactory.class, "HeavyGraphFactory"},
                 new Object[]{LightGraphFactory.class, "LightGraphFactory"},
+                new Object[]{CompressedLightGraphFactory.class, "CompressedLightGraphFactory"},
                 new Object[]{GraphViewFactory.class, "GraphViewFactory"},
-                new Object[]{HugeGraphFactory.class, "HugeGraphFactory"}
+                new Object[]{HugeGraphFactory.class, "HugeGraphFactory"},
+                new Object[]{MappedHugeGraphFactory.class, "MappedHugeGraphFactory"}
         );
     }
 
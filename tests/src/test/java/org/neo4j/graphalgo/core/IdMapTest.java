@@ -5,7 +5,10 @@ import com.carrotsearch.randomizedtesting.RandomizedTest;
 import org.junit.Test;
 import org.neo4j.collection.primitive.PrimitiveIntIterable;
 import org.neo4j.collection.primitive.PrimitiveIntIterator;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.RankedBitSet;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.function.IntToLongFunction;
 
@@ -72,6 +75,70 @@ public final class IdMapTest extends RandomizedTest {
         }
     }
 
+    @Test
+    public void shouldMapSortedIdsFromBitSet() throws Exception {
+        RankedBitSet bits = RankedBitSet.newBitSet(1338, AllocationTracker.EMPTY);
+        long[] ids = addRandomIds(new IdMap(20));
+        for (long id : ids) {
+            bits.set(id);
+        }
+        bits.buildRanks(null, 1);
+        IdMap idMap = new IdMap(bits, null, 1);
+        Arrays.sort(ids);
+
+        assertEquals(ids.length, idMap.nodeCount());
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(i, idMap.get(ids[i]));
+            assertEquals(i, idMap.toMappedNodeId(ids[i]));
+            assertEquals(ids[i], idMap.toOriginalNodeId(i));
+            assertTrue(idMap.contains(ids[i]));
+            assertEquals(i, idMap.nodeToGraphIds().get(ids[i]));
+        }
+        assertEquals(ids.length, idMap.nodeToGraphIds().size());
+        assertEquals(-1, idMap.get(41L));
+        assertFalse(idMap.contains(41L));
+        assertIterables(idMap, ids, idMap.batchIterables(3));
+    }
+
+    @Test
+    public void shouldReorderHashedIds() throws Exception {
+        IdMap idMap = new IdMap(20);
+        long[] ids = addRandomIds(idMap);
+        idMap.buildMappedIds();
+        assertReordered(idMap, ids);
+    }
+
+    @Test
+    public void shouldReorderSortedIds() throws Exception {
+        RankedBitSet bits = RankedBitSet.newBitSet(1338, AllocationTracker.EMPTY);
+        long[] ids = addRandomIds(new IdMap(20));
+        for (long id : ids) {
+            bits.set(id);
+        }
+        bits.buildRanks(null, 1);
+        IdMap idMap = new IdMap(bits, null, 1);
+        Arrays.sort(ids);
+        assertReordered(idMap, ids);
+        assertEquals(-1, idMap.get(41L));
+    }
+
+    private void assertReordered(final IdMap idMap, final long[] ids) {
+        // reversed order
+        int[] order = new int[ids.length];
+        Arrays.setAll(order, i -> ids.length - 1 - i);
+        idMap.reorder(order);
+
+        assertEquals(ids.length, idMap.nodeCount());
+        for (int i = 0; i < ids.length; i++) {
+            int graphId = ids.length - 1 - i;
+            assertEquals(graphId, idMap.get(ids[i]));
+            assertEquals(graphId, idMap.toMappedNodeId(ids[i]));
+            assertEquals(ids[i], idMap.toOriginalNodeId(graphId));
+            assertTrue(idMap.contains(ids[i]));
+            assertEquals(graphId, idMap.nodeToGraphIds().get(ids[i]));
+        }
+    }
+
     private void assertIterables(
             final IdMap idMap,
             final long[] ids,
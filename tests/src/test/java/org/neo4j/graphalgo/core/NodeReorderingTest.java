@@ -0,0 +1,150 @@
+package org.neo4j.graphalgo.core;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.CompressedLightGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Graph:
+ * <pre>
+ * (a)-->(b)-->(c)-->(d)-->(e)
+ *  (c)-->(hub)<--(e)
+ *  (f)-->(hub)<--(g)
+ *  (a)-->(hub)
+ * </pre>
+ */
+@RunWith(Parameterized.class)
+public final class NodeReorderingTest {
+
+    private static final RelationshipType TYPE = RelationshipType.withName("TYPE");
+
+    private static GraphDatabaseAPI db;
+    private static long hub;
+    private static long a;
+    private static long b;
+
+    @Parameters(name = "{1} - {2}")
+    public static Collection<Object[]> data() {
+        List<Object[]> data = new ArrayList<>();
+        for (NodeOrder order : new NodeOrder[]{NodeOrder.DEGREE, NodeOrder.BFS}) {
+            data.add(new Object[]{HeavyGraphFactory.class, "Heavy", order});
+            data.add(new Object[]{LightGraphFactory.class, "Light", order});
+            data.add(new Object[]{CompressedLightGraphFactory.class, "Compressed", order});
+        }
+        return data;
+    }
+
+    @BeforeClass
+    public static void setup() {
+        db = (GraphDatabaseAPI) new TestGraphDatabaseFactory()
+                .newImpermanentDatabaseBuilder()
+                .newGraphDatabase();
+        try (Transaction tx = db.beginTx()) {
+            Node[] chain = new Node[5];
+            for (int i = 0; i < chain.length; i++) {
+                chain[i] = db.createNode();
+            }
+            Node hubNode = db.createNode();
+            for (int i = 0; i < chain.length - 1; i++) {
+                chain[i].createRelationshipTo(chain[i + 1], TYPE).setProperty("w", i + 1.0);
+            }
+            chain[2].createRelationshipTo(hubNode, TYPE).setProperty("w", 10.0);
+            chain[4].createRelationshipTo(hubNode, TYPE).setProperty("w", 11.0);
+            db.createNode().createRelationshipTo(hubNode, TYPE).setProperty("w", 12.0);
+            db.createNode().createRelationshipTo(hubNode, TYPE).setProperty("w", 13.0);
+            chain[0].createRelationshipTo(hubNode, TYPE).setProperty("w", 14.0);
+            hub = hubNode.getId();
+            a = chain[0].getId();
+            b = chain[1].getId();
+            tx.success();
+        }
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        db.shutdown();
+    }
+
+    private final Class<? extends GraphFactory> graphImpl;
+    private final NodeOrder order;
+
+    public NodeReorderingTest(
+            Class<? extends GraphFactory> graphImpl,
+            String nameIgnoredOnlyForTestName,
+            NodeOrder order) {
+        this.graphImpl = graphImpl;
+        this.order = order;
+    }
+
+    @Test
+    public void shouldKeepAllRelationships() {
+        assertEquals(
+                relationships(load(NodeOrder.NONE)),
+                relationships(load(order)));
+    }
+
+    @Test
+    public void shouldAssignIdsInOrder() {
+        final Graph graph = load(order);
+        if (order == NodeOrder.DEGREE) {
+            assertEquals(0, graph.toMappedNodeId(hub));
+        } else {
+            // (a) is visited first, its neighbours follow
+            assertEquals(0, graph.toMappedNodeId(a));
+            final Set<Integer> neighbours = new HashSet<>();
+            neighbours.add(graph.toMappedNodeId(b));
+            neighbours.add(graph.toMappedNodeId(hub));
+            assertTrue(neighbours.contains(1) && neighbours.contains(2));
+        }
+        for (int node = 0; node < graph.nodeCount(); node++) {
+            assertEquals(node, graph.toMappedNodeId(graph.toOriginalNodeId(node)));
+        }
+    }
+
+    private Graph load(NodeOrder order) {
+        return new GraphLoader(db)
+                .withRelationshipWeightsFromProperty("w", 0.0)
+                .withDirection(Direction.BOTH)
+                .withNodeOrder(order)
+                .load(graphImpl);
+    }
+
+    private static Set<String> relationships(Graph graph) {
+        final Set<String> relationships = new HashSet<>();
+        graph.forEachNode(node -> {
+            graph.forEachRelationship(node, Direction.OUTGOING, (s, t, r, w) -> {
+                relationships.add(graph.toOriginalNodeId(s) + "->" + graph.toOriginalNodeId(t) + ":" + w);
+                return true;
+            });
+            graph.forEachRelationship(node, Direction.INCOMING, (s, t, r, w) -> {
+                relationships.add(graph.toOriginalNodeId(t) + "<-" + graph.toOriginalNodeId(s) + ":" + w);
+                return true;
+            });
+            return true;
+        });
+        return relationships;
+    }
+}
@@ -10,6 +10,9 @@ import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphFactory;
 import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
 import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.CompressedLightGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
 import org.neo4j.graphalgo.core.utils.RawValues;
 import org.neo4j.graphalgo.core.utils.paged.PageUtil;
 import org.neo4j.graphalgo.serialize.PrivateLookup;
@@ -60,8 +63,14 @@ public class ParallelGraphLoadingTest extends RandomGraphTestCase {
         return Arrays.asList(
                 new Object[]{30, HeavyGraphFactory.class, "Heavy, parallel"},
                 new Object[]{100000, HeavyGraphFactory.class, "Heavy, sequential"},
+                new Object[]{30, LightGraphFactory.class, "Light, parallel"},
+                new Object[]{100000, LightGraphFactory.class, "Light, sequential"},
+                new Object[]{30, CompressedLightGraphFactory.class, "Compressed, parallel"},
+                new Object[]{100000, CompressedLightGraphFactory.class, "Compressed, sequential"},
                 new Object[]{30, HugeGraphFactory.class, "Huge, parallel"},
-                new Object[]{100000, HugeGraphFactory.class, "Huge, sequential"}
+                new Object[]{100000, HugeGraphFactory.class, "Huge, sequential"},
+                new Object[]{30, MappedHugeGraphFactory.class, "Mapped, parallel"},
+                new Object[]{100000, MappedHugeGraphFactory.class, "Mapped, sequential"}
         );
     }
 
@@ -99,6 +108,28 @@ public class ParallelGraphLoadingTest extends RandomGraphTestCase {
         }
     }
 
+    @Test
+    public void shouldLoadAllNodesOfLargeStore() throws Exception {
+        int nodeCount = 3 * 17472 + 42;
+        GraphDatabaseAPI largerGraph = buildGraph(nodeCount);
+        try (Transaction tx = largerGraph.beginTx()) {
+            largerGraph.execute("MATCH (n) WHERE id(n) % 7 = 0 DETACH DELETE n").close();
+            tx.success();
+        }
+        try {
+            Graph largeGraph = load(largerGraph, l -> l.withConcurrency(3));
+            assertEquals(nodeCount - (nodeCount + 6) / 7, largeGraph.nodeCount());
+            largeGraph.forEachNode(nodeId -> {
+                long neoId = largeGraph.toOriginalNodeId(nodeId);
+                assertNotEquals(0L, neoId % 7);
+                assertEquals(nodeId, largeGraph.toMappedNodeId(neoId));
+                return true;
+            });
+        } finally {
+            largerGraph.shutdown();
+        }
+    }
+
     @Test
     public void shouldLoadNodesInOrder() throws Exception {
         if (batchSize < NODE_COUNT) {
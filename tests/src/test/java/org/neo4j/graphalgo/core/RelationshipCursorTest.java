@@ -0,0 +1,77 @@
+package org.neo4j.graphalgo.core;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.api.RelationshipCursor;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.CompressedLightGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
+import org.neo4j.graphalgo.core.neo4jview.GraphViewFactory;
+import org.neo4j.graphdb.Direction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(Parameterized.class)
+public final class RelationshipCursorTest extends RandomGraphTestCase {
+
+    private Class<? extends GraphFactory> graphImpl;
+
+    @Parameters(name = "{1}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+                new Object[]{HeavyGraphFactory.class, "HeavyGraphFactory"},
+                new Object[]{LightGraphFactory.class, "LightGraphFactory"},
+                new Object[]{CompressedLightGraphFactory.class, "CompressedLightGraphFactory"},
+                new Object[]{GraphViewFactory.class, "GraphViewFactory"},
+                new Object[]{HugeGraphFactory.class, "HugeGraphFactory"},
+                new Object[]{MappedHugeGraphFactory.class, "MappedHugeGraphFactory"}
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    public RelationshipCursorTest(
+            Class<?> graphImpl,
+            String nameIgnoredOnlyForTestName) {
+        this.graphImpl = (Class<? extends GraphFactory>) graphImpl;
+    }
+
+    @Test
+    public void shouldReturnTheSameRelationshipsAsTheConsumer() {
+        final Graph graph = new GraphLoader(RandomGraphTestCase.db)
+                .withDirection(Direction.BOTH)
+                .withRelationshipWeightsFromProperty("weight", 42.0)
+                .load(graphImpl);
+
+        final RelationshipCursor cursor = graph.newRelationshipCursor();
+        for (Direction direction : Direction.values()) {
+            graph.forEachNode(node -> {
+                final List<String> expected = new ArrayList<>();
+                graph.forEachRelationship(node, direction, (s, t, r, w) -> {
+                    expected.add(s + "->" + t + ":" + w);
+                    return true;
+                });
+
+                final List<String> actual = new ArrayList<>();
+                cursor.reset(node, direction);
+                while (cursor.next()) {
+                    actual.add(cursor.source() + "->" + cursor.target() + ":" + cursor.weight());
+                }
+                assertEquals(direction + " of " + node, expected, actual);
+                assertFalse(cursor.next());
+                return true;
+            });
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package org.neo4j.graphalgo.core.generator;
+
+import org.junit.Test;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraph;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.helper.generator.GeneratedGraph;
+import org.neo4j.graphalgo.helper.generator.GraphGenerator;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GraphGeneratorTest {
+
+    @Test
+    public void testErdosRenyi() throws Exception {
+        final GraphGenerator<?> generator = GraphGenerator.erdosRenyi(1000, 200_000).withSeed(42L);
+        final GeneratedGraph graph = assertDeterministic(generator);
+        assertEquals(1000, graph.nodeCount());
+        assertEquals(200_000, graph.relationshipCount());
+        graph.forEachRelationship((source, target, weight) -> {
+            assertTrue(source >= 0 && source < 1000);
+            assertTrue(target >= 0 && target < 1000);
+        });
+    }
+
+    @Test
+    public void testRMat() throws Exception {
+        final GraphGenerator<?> generator = GraphGenerator.rmat(10, 16).withSeed(42L);
+        final GeneratedGraph graph = assertDeterministic(generator);
+        assertEquals(1024, graph.nodeCount());
+        assertEquals(1024 * 16, graph.relationshipCount());
+        final int[] degrees = outDegrees(graph);
+        // skewed degree distribution, the average degree is 16
+        assertTrue(max(degrees) > 100);
+    }
+
+    @Test
+    public void testBarabasiAlbert() throws Exception {
+        final GraphGenerator<?> generator = GraphGenerator.barabasiAlbert(100_000, 3).withSeed(42L);
+        final GeneratedGraph graph = assertDeterministic(generator);
+        assertEquals(100_000, graph.nodeCount());
+        assertEquals(300_000, graph.relationshipCount());
+        graph.forEachRelationship((source, target, weight) -> assertTrue(target <= source));
+        final int[] degrees = inDegrees(graph);
+        // preferential attachment leads to hubs, the average degree is 3
+        assertTrue(max(degrees) > 100);
+    }
+
+    @Test
+    public void testGrid() throws Exception {
+        final GraphGenerator<?> generator = GraphGenerator.grid(100, 50)
+                .withSeed(42L)
+                .withWeights(1.0, 5.0);
+        final GeneratedGraph graph = assertDeterministic(generator);
+        assertEquals(5000, graph.nodeCount());
+        assertEquals(2 * (99 * 50 + 100 * 49), graph.relationshipCount());
+        final int[] degrees = outDegrees(graph);
+        assertEquals(2, degrees[0]);
+        assertEquals(3, degrees[1]);
+        assertEquals(4, degrees[101]);
+        graph.forEachRelationship((source, target, weight) -> {
+            assertTrue(weight >= 1.0 && weight < 5.0);
+            final long distance = Math.abs(source - target);
+            assertTrue(distance == 1 || distance == 100);
+        });
+    }
+
+    @Test
+    public void testGridWithConnectivity() throws Exception {
+        final GeneratedGraph graph = GraphGenerator.grid(100, 100)
+                .withSeed(42L)
+                .withConnectivity(0.5)
+                .generate(Pools.DEFAULT, 4, AllocationTracker.EMPTY);
+        final long maxRelationships = 2 * (99 * 100 + 100 * 99);
+        assertTrue(graph.relationshipCount() < maxRelationships * 0.6);
+        assertTrue(graph.relationshipCount() > maxRelationships * 0.4);
+    }
+
+    @Test
+    public void testHugeAndHeavyGraphs() throws Exception {
+        final GeneratedGraph generated = GraphGenerator.erdosRenyi(500, 5000)
+                .withSeed(1337L)
+                .withWeights(0.0, 10.0)
+                .generate(Pools.DEFAULT, 4, AllocationTracker.EMPTY);
+        final int[] outDegrees = outDegrees(generated);
+        final int[] inDegrees = inDegrees(generated);
+
+        final HugeGraph huge = generated.toHugeGraph(Direction.BOTH, Pools.DEFAULT, 4);
+        final HeavyGraph heavy = generated.toHeavyGraph(Direction.BOTH, Pools.DEFAULT, 4);
+        for (Graph graph : new Graph[]{huge, heavy}) {
+            assertEquals(500, graph.nodeCount());
+            for (int node = 0; node < 500; node++) {
+                assertEquals(node, graph.toOriginalNodeId(node));
+                assertEquals(outDegrees[node], graph.degree(node, Direction.OUTGOING));
+                assertEquals(inDegrees[node], graph.degree(node, Direction.INCOMING));
+            }
+        }
+        assertEquals(neighbours(heavy, Direction.OUTGOING), neighbours(huge, Direction.OUTGOING));
+        assertEquals(neighbours(heavy, Direction.INCOMING), neighbours(huge, Direction.INCOMING));
+        generated.forEachRelationship((source, target, weight) -> {
+            assertEquals(heavy.weightOf((int) source, (int) target), huge.weightOf(source, target), 1e-9);
+        });
+    }
+
+    @Test
+    public void testWriteToDatabase() throws Exception {
+        final GraphDatabaseAPI db = (GraphDatabaseAPI) new TestGraphDatabaseFactory()
+                .newImpermanentDatabaseBuilder()
+                .newGraphDatabase();
+        try {
+            final GeneratedGraph generated = GraphGenerator.barabasiAlbert(2000, 4)
+                    .withSeed(42L)
+                    .withWeights(1.0, 2.0)
+                    .generate(Pools.DEFAULT, 4, AllocationTracker.EMPTY);
+            generated.writeTo(db, "Node", "TYPE", "weight");
+
+            final HugeGraph loaded = (HugeGraph) new GraphLoader(db)
+                    .withLabel("Node")
+                    .withRelationshipType("TYPE")
+                    .withRelationshipWeightsFromProperty("weight", 0.0)
+                    .load(HugeGraphFactory.class);
+            final HugeGraph expected = generated.toHugeGraph(Direction.OUTGOING, Pools.DEFAULT, 4);
+            assertEquals(2000, loaded.nodeCount());
+            for (long node = 0; node < 2000; node++) {
+                assertEquals(
+                        expected.degree(node, Direction.OUTGOING),
+                        loaded.degree(loaded.toHugeMappedNodeId(node), Direction.OUTGOING));
+            }
+            // parallel relationships share a single weight
+            final Map<Long, Integer> multiplicity = new HashMap<>();
+            generated.forEachRelationship((source, target, weight) ->
+                    multiplicity.merge(source * 2000 + target, 1, Integer::sum));
+            generated.forEachRelationship((source, target, weight) -> {
+                if (multiplicity.get(source * 2000 + target) == 1) {
+                    assertEquals(
+                            weight,
+                            loaded.weightOf(loaded.toHugeMappedNodeId(source), loaded.toHugeMappedNodeId(target)),
+                            1e-9);
+                }
+            });
+        } finally {
+            db.shutdown();
+        }
+    }
+
+    private static GeneratedGraph assertDeterministic(GraphGenerator<?> generator) {
+        final GeneratedGraph sequential = generator.generate(null, 1, AllocationTracker.EMPTY);
+        final GeneratedGraph parallel = generator.generate(Pools.DEFAULT, 4, AllocationTracker.EMPTY);
+        assertEquals(sequential.relationshipCount(), parallel.relationshipCount());
+        assertArrayEquals(relationships(sequential), relationships(parallel));
+        return parallel;
+    }
+
+    private static long[] relationships(GeneratedGraph graph) {
+        final long[] relationships = new long[Math.toIntExact(graph.relationshipCount() * 3)];
+        final int[] index = {0};
+        graph.forEachRelationship((source, target, weight) -> {
+            relationships[index[0]++] = source;
+            relationships[index[0]++] = target;
+            relationships[index[0]++] = Double.doubleToLongBits(weight);
+        });
+        return relationships;
+    }
+
+    private static int[] outDegrees(GeneratedGraph graph) {
+        final int[] degrees = new int[Math.toIntExact(graph.nodeCount())];
+        graph.forEachRelationship((source, target, weight) -> degrees[(int) source]++);
+        return degrees;
+    }
+
+    private static int[] inDegrees(GeneratedGraph graph) {
+        final int[] degrees = new int[Math.toIntExact(graph.nodeCount())];
+        graph.forEachRelationship((source, target, weight) -> degrees[(int) target]++);
+        return degrees;
+    }
+
+    private static int max(int[] values) {
+        int max = 0;
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    private static List<List<Integer>> neighbours(Graph graph, Direction direction) {
+        final List<List<Integer>> neighbours = new ArrayList<>();
+        graph.forEachNode(node -> {
+            final List<Integer> targets = new ArrayList<>();
+            graph.forEachRelationship(node, direction, (s, t, r) -> targets.add(t));
+            targets.sort(Integer::compare);
+            neighbours.add(targets);
+            return true;
+        });
+        return neighbours;
+    }
+}
@@ -15,6 +15,12 @@ import org.neo4j.graphdb.*;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 import org.neo4j.test.TestGraphDatabaseFactory;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyLong;
@@ -145,4 +151,39 @@ public class HeavyGraphFactoryTest {
                 .accept(eq(graph.toMappedNodeId(id1)), eq(graph.toMappedNodeId(id2)), anyLong(), eq(1.0));
     }
 
+    @Test
+    public void testLoadsEveryBatchOnABusyPool() throws Exception {
+        final ExecutorService pool = Executors.newFixedThreadPool(2);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            // only one of the two threads is free for the import
+            pool.execute(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            final Graph graph = new GraphLoader((GraphDatabaseAPI) db, pool)
+                    .withAnyLabel()
+                    .withAnyRelationshipType()
+                    .withDirection(Direction.OUTGOING)
+                    .withConcurrency(4)
+                    .withBatchSize(1)
+                    .load(HeavyGraphFactory.class);
+            final AtomicInteger relationships = new AtomicInteger();
+            graph.forEachNode(node -> {
+                graph.forEachRelationship(node, Direction.OUTGOING, (source, target, relationId) -> {
+                    relationships.incrementAndGet();
+                    return true;
+                });
+                return true;
+            });
+            assertEquals(3, relationships.get());
+        } finally {
+            blocked.countDown();
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package org.neo4j.graphalgo.core.huge;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.neo4j.graphalgo.SimpleGraphSetup;
+import org.neo4j.graphalgo.SimpleGraphTestCase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+public class MappedHugeGraphTest extends SimpleGraphTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setupGraph() {
+        final SimpleGraphSetup setup = new SimpleGraphSetup();
+        graph = setup.build(MappedHugeGraphFactory.class);
+        v0 = setup.getV0();
+        v1 = setup.getV1();
+        v2 = setup.getV2();
+    }
+
+    @Test
+    public void shouldNotWriteAdjacencyAcrossSegments() {
+        // segments of 64 bytes and chunks of the same size
+        final MappedAdjacency adjacency = MappedAdjacency.create(folder.getRoot().toPath(), 6);
+        final List<MappedAdjacency.Writer> writers = new ArrayList<>();
+        final long[] offsets = new long[100];
+        for (int i = 0; i < 4; i++) {
+            writers.add(adjacency.newWriter());
+        }
+        for (int node = 0; node < offsets.length; node++) {
+            final MappedAdjacency.Writer writer = writers.get(node % writers.size());
+            // degree and targets 0, node, 2 * node with at most 2 bytes per target
+            offsets[node] = writer.allocate(4L + 1L + 2L + 2L);
+            writer.addUnsignedInt(3);
+            writer.addVLong(0L);
+            writer.addVLong(node);
+            writer.addVLong(node);
+            assertEquals(offsets[node] >>> 6, (offsets[node] + 8L) >>> 6);
+        }
+        writers.forEach(MappedAdjacency.Writer::flush);
+        adjacency.finish();
+
+        final MappedAdjacency.Cursor cursor = adjacency.newCursor();
+        for (int node = 0; node < offsets.length; node++) {
+            assertEquals(3, adjacency.getInt(offsets[node]));
+            adjacency.cursor(cursor, offsets[node]);
+            assertEquals(0L, cursor.getVLong());
+            assertEquals(node, cursor.getVLong());
+            assertEquals(2L * node, cursor.getVLong());
+            assertEquals(-1L, cursor.getVLong());
+        }
+        adjacency.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailForAdjacencyLargerThanASegment() {
+        final MappedAdjacency adjacency = MappedAdjacency.create(folder.getRoot().toPath(), 6);
+        try {
+            adjacency.newWriter().allocate(65L);
+        } finally {
+            adjacency.release();
+        }
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void shouldCreateTheFileInTheGivenDirectory() {
+        MappedAdjacency.create(folder.getRoot().toPath().resolve("missing"), 6);
+    }
+
+    @Test
+    public void shouldCloseTheFileOfAnUnfinishedAdjacency() throws IOException {
+        final Path fileDescriptors = Paths.get("/proc/self/fd");
+        assumeTrue(Files.isDirectory(fileDescriptors));
+        final Path directory = folder.getRoot().toPath();
+
+        final MappedAdjacency adjacency = MappedAdjacency.create(directory, 6);
+        final MappedAdjacency.Writer writer = adjacency.newWriter();
+        writer.allocate(5L);
+        writer.addUnsignedInt(1);
+        writer.addVLong(42L);
+        writer.flush();
+        assertEquals(1L, openFiles(fileDescriptors, directory));
+
+        adjacency.release();
+        assertEquals(0L, openFiles(fileDescriptors, directory));
+    }
+
+    private static long openFiles(Path fileDescriptors, Path directory) throws IOException {
+        // the file is unlinked right away, but its descriptor links to the old path
+        try (Stream<Path> links = Files.list(fileDescriptors)) {
+            return links.filter(link -> {
+                try {
+                    return Files.readSymbolicLink(link).startsWith(directory);
+                } catch (IOException e) {
+                    return false;
+                }
+            }).count();
+        }
+    }
+}
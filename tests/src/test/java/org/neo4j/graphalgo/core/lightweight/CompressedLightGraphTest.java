@@ -0,0 +1,59 @@
+package org.neo4j.graphalgo.core.lightweight;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.graphalgo.SimpleGraphSetup;
+import org.neo4j.graphalgo.SimpleGraphTestCase;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.ByteArray;
+import org.neo4j.graphalgo.core.utils.paged.PageUtil;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompressedLightGraphTest extends SimpleGraphTestCase {
+
+    private static SimpleGraphSetup setup;
+
+    @BeforeClass
+    public static void setupGraph() {
+        setup = new SimpleGraphSetup();
+        graph = setup.build(CompressedLightGraphFactory.class);
+        v0 = setup.getV0();
+        v1 = setup.getV1();
+        v2 = setup.getV2();
+    }
+
+    @Test
+    public void shouldReserveTheEncodedSizeOfVLongs() {
+        long[] values = {0L, 1L, 127L, 128L, 16383L, 16384L, Integer.MAX_VALUE, Long.MAX_VALUE};
+        ByteArray array = ByteArray.newArray(0, AllocationTracker.EMPTY);
+        ByteArray.LocalAllocator allocator = array.newAllocator();
+        for (long value : values) {
+            long start = allocator.allocate(CompressedBatchImportTask.vlongSize(value));
+            allocator.adder.addVLong(value);
+            int written = 1;
+            while ((array.get(start + written - 1) & 0x80) != 0) {
+                written++;
+            }
+            assertEquals("size of " + value, written, CompressedBatchImportTask.vlongSize(value));
+        }
+        array.release();
+    }
+
+    @Test
+    public void shouldTrackTheAdjacency() {
+        final AllocationTracker tracker = AllocationTracker.create();
+        final Graph graph = new GraphLoader((GraphDatabaseAPI) setup.getDb())
+                .withAllocationTracker(tracker)
+                .load(CompressedLightGraphFactory.class);
+        final long loaded = tracker.tracked();
+        // at least a page of each direction
+        assertTrue(loaded >= 2L * PageUtil.pageSizeFor(Byte.BYTES));
+        graph.release();
+        assertTrue(tracker.tracked() <= loaded - 2L * PageUtil.pageSizeFor(Byte.BYTES));
+    }
+}
@@ -2,9 +2,27 @@ package org.neo4j.graphalgo.core.neo4jview;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.collection.primitive.PrimitiveIntIterable;
+import org.neo4j.collection.primitive.PrimitiveIntIterator;
 import org.neo4j.graphalgo.SimpleGraphSetup;
 import org.neo4j.graphalgo.SimpleGraphTestCase;
+import org.neo4j.graphalgo.core.utils.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author mknobloch
@@ -27,4 +45,68 @@ public class GraphViewTest extends SimpleGraphTestCase {
         if (setup != null) setup.getDb().shutdown();
         if (db != null) db.shutdown();
     }
+
+    @Test
+    public void testParallelBatchIterables() throws Exception {
+        final Collection<PrimitiveIntIterable> batches = graph.batchIterables(1);
+        assertEquals(3, batches.size());
+        final AtomicIntegerArray seen = new AtomicIntegerArray(3);
+        final AtomicIntegerArray degrees = new AtomicIntegerArray(3);
+        final List<Runnable> tasks = new ArrayList<>();
+        for (PrimitiveIntIterable batch : batches) {
+            tasks.add(() -> {
+                final PrimitiveIntIterator it = batch.iterator();
+                while (it.hasNext()) {
+                    final int node = it.next();
+                    seen.incrementAndGet(node);
+                    graph.forEachRelationship(node, Direction.OUTGOING, (s, t, r) -> {
+                        degrees.incrementAndGet(s);
+                        return true;
+                    });
+                }
+            });
+        }
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+        graph.release();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, seen.get(i));
+            assertEquals(graph.degree(i, Direction.OUTGOING), degrees.get(i));
+        }
+        graph.release();
+    }
+
+    @Test
+    public void testDeletedNodesAreNotMapped() throws Exception {
+        final GraphDatabaseAPI api = (GraphDatabaseAPI) new TestGraphDatabaseFactory().newImpermanentDatabase();
+        try {
+            final long[] ids = new long[3];
+            try (Transaction tx = api.beginTx()) {
+                api.createNode().delete();
+                final Node a = api.createNode();
+                final Node b = api.createNode();
+                final Node c = api.createNode();
+                a.createRelationshipTo(b, RelationshipType.withName("TYPE"));
+                b.createRelationshipTo(c, RelationshipType.withName("TYPE"));
+                ids[0] = a.getId();
+                ids[1] = b.getId();
+                ids[2] = c.getId();
+                tx.success();
+            }
+            final GraphView view = new GraphView(api, "", "", "", 0.0);
+            assertEquals(3, view.nodeCount());
+            final List<Long> seen = new ArrayList<>();
+            view.forEachNode(node -> {
+                seen.add(view.toOriginalNodeId(node));
+                return true;
+            });
+            assertEquals(3, seen.size());
+            for (long id : ids) {
+                assertTrue(seen.contains(id));
+            }
+            assertEquals(1, view.degree(view.toMappedNodeId(ids[0]), Direction.OUTGOING));
+            view.release();
+        } finally {
+            api.shutdown();
+        }
+    }
 }
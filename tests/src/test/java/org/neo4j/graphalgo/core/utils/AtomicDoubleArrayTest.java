@@ -0,0 +1,73 @@
+package org.neo4j.graphalgo.core.utils;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class AtomicDoubleArrayTest {
+
+    @Test
+    public void shouldKeepFullPrecision() {
+        final AtomicDoubleArray array = new AtomicDoubleArray(1);
+        array.add(0, 1.0 / 3.0);
+        array.add(0, 1e-9);
+        assertEquals(1.0 / 3.0 + 1e-9, array.get(0), 0.0);
+    }
+
+    @Test
+    public void shouldAddBeyondTheIntRange() {
+        final AtomicDoubleArray array = new AtomicDoubleArray(1);
+        array.set(0, Integer.MAX_VALUE);
+        array.add(0, Integer.MAX_VALUE);
+        assertEquals(2.0 * Integer.MAX_VALUE, array.get(0), 0.0);
+    }
+
+    @Test
+    public void shouldReturnThePreviousValue() {
+        final AtomicDoubleArray array = new AtomicDoubleArray(1);
+        array.set(0, 0.5);
+        assertEquals(0.5, array.fetchAndAdd(0, 0.25), 0.0);
+        assertEquals(0.75, array.get(0), 0.0);
+        assertTrue(array.compareAndSwap(0, 0.75, 1.5));
+        assertEquals(1.5, array.get(0), 0.0);
+    }
+
+    @Test
+    public void shouldCapAtMaxValue() {
+        final AtomicDoubleArray array = new AtomicDoubleArray(1);
+        array.set(0, Double.MAX_VALUE);
+        array.addCapped(0, Double.MAX_VALUE);
+        assertEquals(Double.MAX_VALUE, array.get(0), 0.0);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void shouldThrowOnOverflow() {
+        final AtomicDoubleArray array = new AtomicDoubleArray(1);
+        array.set(0, Double.MAX_VALUE);
+        array.addExact(0, Double.MAX_VALUE);
+    }
+
+    @Test
+    public void shouldNotLoseConcurrentAdds() throws Exception {
+        final int threads = 4;
+        final int adds = 100_000;
+        final AtomicDoubleArray array = new AtomicDoubleArray(2);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < adds; i++) {
+                    array.add(i & 1, 0.5);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(threads * adds * 0.25, array.get(0), 0.0);
+        assertEquals(threads * adds * 0.25, array.get(1), 0.0);
+    }
+}
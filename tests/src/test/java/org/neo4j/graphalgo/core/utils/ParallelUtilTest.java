@@ -6,18 +6,24 @@ import org.neo4j.collection.primitive.PrimitiveIntIterable;
 import org.neo4j.collection.primitive.PrimitiveIntStack;
 import org.neo4j.function.ThrowingConsumer;
 import org.neo4j.graphalgo.api.BatchNodeIterable;
+import org.neo4j.graphdb.Direction;
 import org.neo4j.helpers.Exceptions;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.function.Consumer;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -260,6 +266,181 @@ public final class ParallelUtilTest extends RandomizedTest {
         verify(pool, times(11)).getActiveCount();
     }
 
+    @Test
+    public void shouldRunAtMostConcurrencyTasksOnForkJoinPool() {
+        withForkJoinPool(4, pool -> {
+            final Tasks ts = new Tasks(6, 10);
+            ParallelUtil.runWithConcurrency(2, ts, pool);
+            assertTrue(ts.maxRunning() <= 2);
+            assertEquals(6, ts.started());
+            assertEquals(6, ts.requested());
+        });
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldRunAtMostConcurrencyShortTasksOnForkJoinPool() {
+        withForkJoinPool(4, pool -> {
+            final Tasks ts = new Tasks(1000, 0);
+            ParallelUtil.runWithConcurrency(2, ts, pool);
+            assertTrue(ts.maxRunning() <= 2);
+            assertEquals(1000, ts.started());
+            assertEquals(1000, ts.requested());
+        });
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldRunNestedTasksOnSingleThreadedForkJoinPool() {
+        withForkJoinPool(1, pool -> {
+            final Tasks inner = new Tasks(4, 1);
+            final List<Runnable> outer = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                outer.add(() -> ParallelUtil.runWithConcurrency(2, inner, pool));
+            }
+            ParallelUtil.runWithConcurrency(2, outer, pool);
+            assertTrue(inner.started() > 0);
+        });
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldRunTasksThatWaitForEachOtherOnSingleThreadedForkJoinPool() {
+        withForkJoinPool(1, pool -> {
+            final CountDownLatch latch = new CountDownLatch(1);
+            ParallelUtil.run(Arrays.asList(
+                    () -> {
+                        try {
+                            latch.await();
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                    },
+                    latch::countDown
+            ), pool);
+            assertEquals(0, latch.getCount());
+        });
+    }
+
+    @Test
+    public void degreePartitionsShouldSplitEqualDegreesByNodeCount() {
+        final int[] starts = ParallelUtil.degreePartitions(
+                100,
+                (node, direction) -> 3,
+                Direction.OUTGOING,
+                4,
+                1);
+        assertArrayEquals(new int[]{0, 25, 50, 75, 100}, starts);
+    }
+
+    @Test
+    public void degreePartitionsShouldGiveSuperNodesTheirOwnPartition() {
+        final int[] starts = ParallelUtil.degreePartitions(
+                1000,
+                (node, direction) -> node == 0 ? 3000 : 3,
+                Direction.OUTGOING,
+                4,
+                1);
+        // the super node fills the first partition, the other 999 nodes are split evenly
+        assertArrayEquals(new int[]{0, 1, 334, 667, 1000}, starts);
+    }
+
+    @Test
+    public void degreePartitionsShouldRespectMinBatchSize() {
+        final int[] starts = ParallelUtil.degreePartitions(
+                100,
+                (node, direction) -> 9,
+                Direction.OUTGOING,
+                8,
+                500);
+        assertArrayEquals(new int[]{0, 50, 100}, starts);
+    }
+
+    @Test
+    public void degreePartitionsShouldCoverAllNodes() {
+        final int nodeCount = between(1, 10_000);
+        final int[] degrees = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            degrees[i] = randomBoolean() ? randomInt(1000) : 0;
+        }
+        final int concurrency = between(1, 16);
+        final int[] starts = ParallelUtil.degreePartitions(
+                nodeCount,
+                (node, direction) -> degrees[node],
+                Direction.BOTH,
+                concurrency);
+        assertEquals(0, starts[0]);
+        assertEquals(nodeCount, starts[starts.length - 1]);
+        assertTrue(starts.length - 1 <= concurrency * 4);
+        for (int i = 1; i < starts.length; i++) {
+            assertTrue(starts[i] > starts[i - 1]);
+        }
+    }
+
+    @Test
+    public void shouldIterateAllNodesByDegree() {
+        withForkJoinPool(4, pool -> {
+            final int nodeCount = 10_000;
+            final AtomicIntegerArray visits = new AtomicIntegerArray(nodeCount);
+            ParallelUtil.iterateParallel(
+                    pool,
+                    nodeCount,
+                    (node, direction) -> node % 100 == 0 ? 1000 : 1,
+                    Direction.OUTGOING,
+                    4,
+                    visits::incrementAndGet);
+            for (int i = 0; i < nodeCount; i++) {
+                assertEquals(1, visits.get(i));
+            }
+        });
+    }
+
+    @Test
+    public void shouldIterateAllNodesByDegreeOnABusyPool() throws Exception {
+        final ExecutorService pool = Executors.newFixedThreadPool(1);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            pool.execute(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            final int nodeCount = 10_000;
+            final AtomicIntegerArray visits = new AtomicIntegerArray(nodeCount);
+            ParallelUtil.iterateParallel(
+                    pool,
+                    nodeCount,
+                    (node, direction) -> 1,
+                    Direction.OUTGOING,
+                    4,
+                    visits::incrementAndGet);
+            for (int i = 0; i < nodeCount; i++) {
+                assertEquals(1, visits.get(i));
+            }
+        } finally {
+            blocked.countDown();
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void withForkJoinPool(
+            int parallelism,
+            ThrowingConsumer<ExecutorService, ? extends Throwable> block) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            block.accept(pool);
+        } catch (Throwable throwable) {
+            throw Exceptions.launderedException(throwable);
+        } finally {
+            pool.shutdownNow();
+            try {
+                pool.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     private static void withPool(
             int nThreads,
             ThrowingConsumer<ExecutorService, ? extends Throwable> block) {
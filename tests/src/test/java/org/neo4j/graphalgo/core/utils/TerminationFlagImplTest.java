@@ -0,0 +1,78 @@
+package org.neo4j.graphalgo.core.utils;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.TransactionTerminatedException;
+import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.api.exceptions.Status;
+import org.neo4j.kernel.impl.core.ThreadToStatementContextBridge;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class TerminationFlagImplTest {
+
+    private static GraphDatabaseAPI db;
+
+    @BeforeClass
+    public static void setup() {
+        db = (GraphDatabaseAPI) new TestGraphDatabaseFactory().newImpermanentDatabase();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (db != null) db.shutdown();
+    }
+
+    @Test
+    public void shouldCacheTheStateWithinTheCheckInterval() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            final KernelTransaction transaction = transaction();
+            final TerminationFlagImpl flag = new TerminationFlagImpl(transaction)
+                    .withCheckInterval(TimeUnit.HOURS.toMillis(1));
+            // the first call polls the transaction
+            assertTrue(flag.running());
+
+            transaction.markForTermination(Status.Transaction.Terminated);
+            assertTrue(flag.running());
+            flag.assertRunning();
+        }
+    }
+
+    @Test
+    public void shouldStayTerminatedOncePolled() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            final KernelTransaction transaction = transaction();
+            final TerminationFlagImpl flag = new TerminationFlagImpl(transaction);
+            assertTrue(flag.running());
+
+            transaction.markForTermination(Status.Transaction.Terminated);
+            final long deadline = System.currentTimeMillis() + 10 * TerminationFlagImpl.DEFAULT_CHECK_INTERVAL;
+            while (flag.running()) {
+                if (System.currentTimeMillis() > deadline) {
+                    fail("the termination has not been polled within the check interval");
+                }
+                Thread.sleep(10);
+            }
+            assertFalse(flag.running());
+            try {
+                flag.assertRunning();
+                fail("a terminated flag must throw");
+            } catch (TransactionTerminatedException expected) {
+            }
+        }
+    }
+
+    private static KernelTransaction transaction() {
+        return db.getDependencyResolver()
+                .resolveDependency(ThreadToStatementContextBridge.class)
+                .getKernelTransactionBoundToThisThread(true);
+    }
+}
@@ -0,0 +1,132 @@
+package org.neo4j.graphalgo.core.utils.admission;
+
+import org.junit.Test;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphdb.TransactionTerminatedException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class AdmissionControlTest {
+
+    private final AdmissionControl admissionControl = new AdmissionControl(1000L, 4);
+
+    @Test
+    public void shouldAdmitWithRequestedConcurrency() {
+        try (Reservation reservation = admit(4, 100L, 10L)) {
+            assertEquals(Reservation.State.RUNNING, reservation.state());
+            assertEquals(4, reservation.concurrency());
+            assertEquals(140L, reservation.bytes());
+            assertEquals(140L, admissionControl.reservedBytes());
+            assertEquals(4, admissionControl.reservedThreads());
+        }
+        assertEquals(0L, admissionControl.reservedBytes());
+        assertEquals(0, admissionControl.reservedThreads());
+        assertTrue(admissionControl.reservations().isEmpty());
+    }
+
+    @Test
+    public void shouldReduceConcurrencyToFreeThreads() {
+        try (Reservation first = admit(3, 0L, 1L);
+             Reservation second = admit(4, 0L, 1L)) {
+            assertEquals(3, first.concurrency());
+            assertEquals(1, second.concurrency());
+        }
+    }
+
+    @Test
+    public void shouldReduceConcurrencyToFreeMemory() {
+        try (Reservation reservation = admit(4, 400L, 250L)) {
+            assertEquals(2, reservation.concurrency());
+            assertEquals(900L, reservation.bytes());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRejectRunsThatNeverFit() {
+        admit(1, 2000L, 0L);
+    }
+
+    @Test
+    public void shouldTimeOutInQueue() {
+        try (Reservation reservation = admit(1, 800L, 0L)) {
+            try {
+                admissionControl.admit("test", 1, c -> 800L, TerminationFlag.RUNNING_TRUE, 50L);
+                fail("the second run should not be admitted");
+            } catch (IllegalStateException expected) {
+                assertEquals(1, admissionControl.reservations().size());
+            }
+        }
+    }
+
+    @Test
+    public void shouldStopWaitingOnTermination() throws Exception {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        try (Reservation reservation = admit(1, 800L, 0L)) {
+            final CompletableFuture<Reservation> waiting = CompletableFuture.supplyAsync(() ->
+                    admissionControl.admit("test", 1, c -> 800L, running::get, -1L));
+            awaitQueued(1);
+            running.set(false);
+            try {
+                waiting.get(1, TimeUnit.SECONDS);
+                fail("the waiting run should have been terminated");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof TransactionTerminatedException);
+            }
+            assertEquals(0, admissionControl.queuedCount());
+        }
+    }
+
+    @Test
+    public void shouldAdmitQueuedRunsInOrderOfArrival() throws Exception {
+        final Reservation blocking = admit(4, 0L, 0L);
+        final CompletableFuture<Reservation> first = CompletableFuture.supplyAsync(() -> admit(4, 0L, 0L));
+        awaitQueued(1);
+        final CompletableFuture<Reservation> second = CompletableFuture.supplyAsync(() -> admit(1, 0L, 0L));
+        awaitQueued(2);
+
+        assertEquals(Reservation.State.QUEUED, admissionControl.reservations().get(1).state());
+        assertFalse(first.isDone());
+
+        blocking.close();
+        final Reservation firstReservation = first.get(1, TimeUnit.SECONDS);
+        assertEquals(4, firstReservation.concurrency());
+        // the second run waits behind the first until its threads are returned
+        try {
+            second.get(100, TimeUnit.MILLISECONDS);
+            fail("the second run should wait for the first");
+        } catch (TimeoutException expected) {
+        }
+
+        firstReservation.close();
+        second.get(1, TimeUnit.SECONDS).close();
+        assertEquals(0, admissionControl.reservedThreads());
+    }
+
+    private Reservation admit(int concurrency, long sharedBytes, long bytesPerThread) {
+        return admissionControl.admit(
+                "test",
+                concurrency,
+                c -> sharedBytes + c * bytesPerThread,
+                TerminationFlag.RUNNING_TRUE,
+                -1L);
+    }
+
+    private void awaitQueued(int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 1000L;
+        while (admissionControl.queuedCount() < count) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("expected " + count + " queued runs");
+            }
+            Thread.sleep(5L);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.junit.Test;
+import org.neo4j.graphalgo.core.utils.Pools;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class RankedBitSetTest {
+
+    @Test
+    public void shouldRankSetBits() throws Exception {
+        RankedBitSet bits = RankedBitSet.newBitSet(1000, AllocationTracker.EMPTY);
+        bits.set(0);
+        bits.set(63);
+        bits.set(64);
+        bits.set(511);
+        bits.set(512);
+        bits.set(999);
+        bits.buildRanks(null, 1);
+
+        assertEquals(6, bits.cardinality());
+        assertEquals(0, bits.indexOf(0));
+        assertEquals(1, bits.indexOf(63));
+        assertEquals(2, bits.indexOf(64));
+        assertEquals(3, bits.indexOf(511));
+        assertEquals(4, bits.indexOf(512));
+        assertEquals(5, bits.indexOf(999));
+        assertEquals(RankedBitSet.NOT_FOUND, bits.indexOf(1));
+        assertEquals(RankedBitSet.NOT_FOUND, bits.indexOf(1000));
+        assertFalse(bits.get(-1));
+        assertFalse(bits.get(1000));
+    }
+
+    @Test
+    public void shouldMatchBitSetInParallel() throws Exception {
+        Random random = new Random(42L);
+        int size = 100_000;
+        BitSet expected = new BitSet(size);
+        RankedBitSet bits = RankedBitSet.newBitSet(size, AllocationTracker.EMPTY);
+        for (int i = 0; i < size; i++) {
+            if (random.nextBoolean()) {
+                expected.set(i);
+                bits.set(i);
+            }
+        }
+        bits.buildRanks(Pools.DEFAULT, 4);
+
+        assertEquals(expected.cardinality(), bits.cardinality());
+        long rank = 0;
+        for (int i = 0; i < size; i++) {
+            assertEquals(expected.get(i), bits.get(i));
+            if (expected.get(i)) {
+                assertEquals(rank++, bits.indexOf(i));
+            }
+        }
+
+        long[] selected = new long[(int) bits.cardinality()];
+        bits.forEachSetBit(Pools.DEFAULT, 4, (r, index) -> selected[(int) r] = index);
+        int index = -1;
+        for (long select : selected) {
+            index = expected.nextSetBit(index + 1);
+            assertEquals(index, select);
+        }
+        assertTrue(expected.nextSetBit(index + 1) < 0);
+    }
+}
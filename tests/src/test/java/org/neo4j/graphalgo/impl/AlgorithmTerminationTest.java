@@ -0,0 +1,225 @@
+package org.neo4j.graphalgo.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraph;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.CompressedLightGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.TerminationFlagImpl;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.TransactionTerminatedException;
+import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.kernel.api.exceptions.Status;
+import org.neo4j.kernel.impl.core.ThreadToStatementContextBridge;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that algorithms which would run (almost) forever
+ * stop shortly after their termination flag is cleared.
+ */
+@RunWith(Parameterized.class)
+public final class AlgorithmTerminationTest {
+
+    private static final int NODE_COUNT = 1000;
+    private static final long MAX_LATENCY_MILLIS = 1000;
+
+    @Parameterized.Parameters(name = "{1}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+                new Object[]{HeavyGraphFactory.class, "HeavyGraphFactory"},
+                new Object[]{LightGraphFactory.class, "LightGraphFactory"},
+                new Object[]{CompressedLightGraphFactory.class, "CompressedLightGraphFactory"},
+                new Object[]{HugeGraphFactory.class, "HugeGraphFactory"}
+        );
+    }
+
+    private static GraphDatabaseAPI db;
+    private static ExecutorService executor;
+
+    private final Class<? extends GraphFactory> graphImpl;
+    private final AtomicBoolean running = new AtomicBoolean(true);
+    // counted down once the algorithm polls the flag, so it is known to be computing
+    private volatile CountDownLatch polled = new CountDownLatch(1);
+    private final TerminationFlag terminationFlag = () -> {
+        polled.countDown();
+        return running.get();
+    };
+
+    @BeforeClass
+    public static void setupGraph() {
+        db = (GraphDatabaseAPI) new TestGraphDatabaseFactory()
+                .newImpermanentDatabaseBuilder()
+                .newGraphDatabase();
+        // a ring with a chord on every node
+        final RelationshipType type = RelationshipType.withName("TYPE");
+        try (Transaction tx = db.beginTx()) {
+            final Node[] nodes = new Node[NODE_COUNT];
+            for (int i = 0; i < NODE_COUNT; i++) {
+                nodes[i] = db.createNode();
+            }
+            for (int i = 0; i < NODE_COUNT; i++) {
+                nodes[i].createRelationshipTo(nodes[(i + 1) % NODE_COUNT], type);
+                nodes[i].createRelationshipTo(nodes[(i * 7 + 3) % NODE_COUNT], type);
+            }
+            tx.success();
+        }
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterClass
+    public static void shutdownGraph() {
+        executor.shutdownNow();
+        if (db != null) db.shutdown();
+    }
+
+    public AlgorithmTerminationTest(
+            Class<? extends GraphFactory> graphImpl,
+            String nameIgnoredOnlyForTestName) {
+        this.graphImpl = graphImpl;
+    }
+
+    @Test
+    public void testPageRankStopsAfterTermination() throws Exception {
+        final Graph graph = load(Direction.OUTGOING);
+        final PageRankAlgorithm pageRank = PageRankAlgorithm.of(
+                graph,
+                0.85,
+                Pools.DEFAULT,
+                2,
+                100);
+        pageRank.algorithm().withTerminationFlag(terminationFlag);
+
+        assertStopsAfterTermination(() -> pageRank.compute(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testLabelPropagationStopsAfterTermination() throws Exception {
+        if (graphImpl != HeavyGraphFactory.class) {
+            return;
+        }
+        final HeavyGraph graph = (HeavyGraph) load(Direction.BOTH);
+        final LabelPropagation labelPropagation = new LabelPropagation(graph, 100, 2, Pools.DEFAULT)
+                .withTerminationFlag(terminationFlag);
+
+        assertStopsAfterTermination(() -> labelPropagation.compute(Direction.BOTH, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testPageRankStopsAfterTransactionTermination() throws Exception {
+        final Graph graph = load(Direction.OUTGOING);
+        try (Transaction tx = db.beginTx()) {
+            final KernelTransaction transaction = db.getDependencyResolver()
+                    .resolveDependency(ThreadToStatementContextBridge.class)
+                    .getKernelTransactionBoundToThisThread(true);
+            final TerminationFlag transactionFlag = TerminationFlag.wrap(transaction);
+            final PageRankAlgorithm pageRank = PageRankAlgorithm.of(
+                    graph,
+                    0.85,
+                    Pools.DEFAULT,
+                    2,
+                    100);
+            pageRank.algorithm().withTerminationFlag(() -> {
+                polled.countDown();
+                return transactionFlag.running();
+            });
+
+            final Future<?> future = executor.submit(() -> pageRank.compute(Integer.MAX_VALUE));
+            polled.await();
+            transaction.markForTermination(Status.Transaction.Terminated);
+            // the flag polls the transaction at most once per check interval
+            assertTerminated(future, TerminationFlagImpl.DEFAULT_CHECK_INTERVAL + MAX_LATENCY_MILLIS);
+        }
+    }
+
+    @Test(expected = TransactionTerminatedException.class)
+    public void testAllShortestPathsResultStreamThrowsAfterTermination() {
+        final Graph graph = load(Direction.OUTGOING);
+        running.set(false);
+        new AllShortestPaths(graph, Pools.DEFAULT, 2)
+                .withTerminationFlag(terminationFlag)
+                .resultStream()
+                .count();
+    }
+
+    @Test
+    public void testLoadingThrowsAfterTermination() {
+        running.set(false);
+        try {
+            load(Direction.OUTGOING);
+            fail("loading should stop once the flag is not running anymore");
+        } catch (RuntimeException e) {
+            assertTrue(
+                    "unexpected exception " + e,
+                    causedByTermination(e));
+        }
+    }
+
+    private Graph load(Direction direction) {
+        final Graph graph = new GraphLoader(db)
+                .withAnyRelationshipType()
+                .withAnyLabel()
+                .withDirection(direction)
+                .withTerminationFlag(terminationFlag)
+                .load(graphImpl);
+        // the loader has polled the flag already
+        polled = new CountDownLatch(1);
+        return graph;
+    }
+
+    private void assertStopsAfterTermination(Runnable algorithm) throws Exception {
+        final Future<?> future = executor.submit(algorithm);
+        polled.await();
+        assertFalse("algorithm finished before it was terminated", future.isDone());
+
+        running.set(false);
+        assertTerminated(future, MAX_LATENCY_MILLIS);
+    }
+
+    private static void assertTerminated(Future<?> future, long timeoutMillis) throws Exception {
+        try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            fail("a terminated algorithm must not return its partial result");
+        } catch (ExecutionException e) {
+            assertTrue(
+                    "unexpected exception " + e.getCause(),
+                    causedByTermination(e.getCause()));
+        }
+    }
+
+    private static boolean causedByTermination(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TransactionTerminatedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -102,19 +102,37 @@ public class BetweennessCentralityTest {
     @Test
     public void testPBC() throws Exception {
 
-        new ParallelBetweennessCentrality(graph, 100_000, Pools.DEFAULT, 4)
+        new ParallelBetweennessCentrality(graph, Pools.DEFAULT, 4)
                 .compute()
                 .resultStream()
                 .forEach(r -> System.out.println(name(r.nodeId) + " -> " + r.centrality));
     }
 
+    @Test
+    public void testPBCWithLocalAccumulation() throws Exception {
+
+        final TestConsumer mock = mock(TestConsumer.class);
+
+        new ParallelBetweennessCentrality(graph, Pools.DEFAULT, 4)
+                .withLocalAccumulation(true)
+                .compute()
+                .resultStream()
+                .forEach(r -> mock.consume(name(r.nodeId), r.centrality));
+
+        verify(mock, times(1)).consume(eq("a"), eq(0.0));
+        verify(mock, times(1)).consume(eq("b"), eq(3.0));
+        verify(mock, times(1)).consume(eq("c"), eq(4.0));
+        verify(mock, times(1)).consume(eq("d"), eq(3.0));
+        verify(mock, times(1)).consume(eq("e"), eq(0.0));
+    }
+
     @Test
     public void testSuccessorBrandes() throws Exception {
 
         final TestConsumer mock = mock(TestConsumer.class);
 
         final BetweennessCentralitySuccessorBrandes bc =
-                new BetweennessCentralitySuccessorBrandes(graph, 100_000, Pools.DEFAULT)
+                new BetweennessCentralitySuccessorBrandes(graph, Pools.DEFAULT)
                         .compute();
 
         final AtomicDoubleArray centrality = bc.getCentrality();
@@ -3,9 +3,12 @@ package org.neo4j.graphalgo.impl;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.HugeGraph;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
 import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphdb.Transaction;
 import org.neo4j.kernel.api.exceptions.KernelException;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
@@ -35,14 +38,20 @@ import static org.junit.Assert.*;
  *  ==|=============================
  * k/S| 0.4  0.57  0.67  0.57   0.4     // normalized centrality
  *
+ * Harmonic centrality sums up the inverse distances instead:
+ *
+ *  H/k| 0.52 0.71  0.75  0.71  0.52
+ *
  * @author mknblch
  */
 public class ClosenessCentralityTest {
 
     private static GraphDatabaseAPI db;
     private static Graph graph;
+    private static HugeGraph hugeGraph;
 
     private static final double[] EXPECTED = new double[]{0.4, 0.57, 0.66, 0.57, 0.4};
+    private static final double[] EXPECTED_HARMONIC = new double[]{0.52, 0.71, 0.75, 0.71, 0.52};
 
     @BeforeClass
     public static void setupGraph() throws KernelException {
@@ -80,6 +89,11 @@ public class ClosenessCentralityTest {
                 .withoutNodeProperties()
                 .load(HeavyGraphFactory.class);
 
+        hugeGraph = (HugeGraph) new GraphLoader(db)
+                .withAnyRelationshipType()
+                .withAnyLabel()
+                .withoutNodeProperties()
+                .load(HugeGraphFactory.class);
     }
 
     @Test
@@ -104,4 +118,44 @@ public class ClosenessCentralityTest {
 
         assertArrayEquals(EXPECTED, centrality, 0.1);
     }
+
+    @Test
+    public void testHarmonic() throws Exception {
+
+        final double[] centrality = new MSClosenessCentrality(graph, Pools.DEFAULT_CONCURRENCY, Pools.DEFAULT, true)
+                .compute()
+                .getCentrality();
+
+        assertArrayEquals(EXPECTED_HARMONIC, centrality, 0.01);
+    }
+
+    @Test
+    public void testHugeStream() throws Exception {
+
+        final double[] centrality = new double[(int) hugeGraph.nodeCount()];
+
+        new HugeMSClosenessCentrality(hugeGraph, AllocationTracker.EMPTY, Pools.DEFAULT_CONCURRENCY, Pools.DEFAULT, false)
+                .compute()
+                .resultStream()
+                .forEach(r -> centrality[(int) hugeGraph.toHugeMappedNodeId(r.nodeId)] = r.centrality);
+
+        assertArrayEquals(EXPECTED, centrality, 0.1);
+    }
+
+    @Test
+    public void testHugeHarmonic() throws Exception {
+
+        final HugeMSClosenessCentrality algo = new HugeMSClosenessCentrality(
+                hugeGraph,
+                AllocationTracker.EMPTY,
+                Pools.DEFAULT_CONCURRENCY,
+                Pools.DEFAULT,
+                true).compute();
+        final double[] centrality = new double[(int) hugeGraph.nodeCount()];
+        for (int i = 0; i < centrality.length; i++) {
+            centrality[i] = algo.centrality(i);
+        }
+
+        assertArrayEquals(EXPECTED_HARMONIC, centrality, 0.01);
+    }
 }
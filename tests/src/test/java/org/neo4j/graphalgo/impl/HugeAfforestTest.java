@@ -0,0 +1,177 @@
+package org.neo4j.graphalgo.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A random giant component, small chains that are only reached by
+ * relationships coming from the giant component, pairs and isolated nodes.
+ */
+@RunWith(Parameterized.class)
+public final class HugeAfforestTest {
+
+    private static final int GIANT_SIZE = 10_000;
+    private static final int CHAINS = 50;
+    private static final int CHAIN_LENGTH = 3;
+    private static final int PAIRS = 100;
+    private static final int ISOLATED = 20;
+
+    @Parameterized.Parameters(name = "{1}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+                new Object[]{HugeGraphFactory.class, "HugeGraphFactory"},
+                new Object[]{MappedHugeGraphFactory.class, "MappedHugeGraphFactory"}
+        );
+    }
+
+    private static GraphDatabaseAPI db;
+
+    private final HugeGraph graph;
+
+    @BeforeClass
+    public static void setupGraph() {
+        db = (GraphDatabaseAPI) new TestGraphDatabaseFactory()
+                .newImpermanentDatabaseBuilder()
+                .newGraphDatabase();
+        final RelationshipType type = RelationshipType.withName("TYPE");
+        final Random random = new Random(42L);
+        try (Transaction tx = db.beginTx()) {
+            final Node[] giant = new Node[GIANT_SIZE];
+            for (int i = 0; i < GIANT_SIZE; i++) {
+                giant[i] = db.createNode();
+            }
+            for (int i = 0; i < GIANT_SIZE; i++) {
+                for (int j = 0; j < 3; j++) {
+                    giant[i].createRelationshipTo(giant[random.nextInt(GIANT_SIZE)], type);
+                }
+            }
+            // a spanning path, so that the giant component is connected
+            for (int i = 1; i < GIANT_SIZE; i++) {
+                giant[random.nextInt(i)].createRelationshipTo(giant[i], type);
+            }
+            for (int i = 0; i < CHAINS; i++) {
+                Node previous = giant[random.nextInt(GIANT_SIZE)];
+                for (int j = 0; j < CHAIN_LENGTH; j++) {
+                    final Node node = db.createNode();
+                    previous.createRelationshipTo(node, type);
+                    previous = node;
+                }
+            }
+            for (int i = 0; i < PAIRS; i++) {
+                db.createNode().createRelationshipTo(db.createNode(), type);
+            }
+            for (int i = 0; i < ISOLATED; i++) {
+                db.createNode();
+            }
+            tx.success();
+        }
+    }
+
+    @AfterClass
+    public static void shutdownGraph() {
+        if (db != null) db.shutdown();
+    }
+
+    public HugeAfforestTest(
+            Class<? extends GraphFactory> graphImpl,
+            String nameIgnoredOnlyForTestName) {
+        graph = (HugeGraph) new GraphLoader(db)
+                .withAnyRelationshipType()
+                .withAnyLabel()
+                .withDirection(Direction.BOTH)
+                .load(graphImpl);
+    }
+
+    @Test
+    public void testComponentsMatchSequentialUnionFind() {
+        final long[] expected = expectedComponents();
+        for (int neighborRounds : new int[]{0, 1, 2, 5}) {
+            for (int concurrency : new int[]{1, 4}) {
+                final HugeAfforest afforest = new HugeAfforest(
+                        graph,
+                        AllocationTracker.EMPTY,
+                        Pools.DEFAULT,
+                        concurrency)
+                        .withNeighborRounds(neighborRounds)
+                        .compute();
+                for (int node = 0; node < expected.length; node++) {
+                    assertEquals(expected[node], afforest.setId(node));
+                }
+                assertEquals(1L + PAIRS + ISOLATED, afforest.setCount());
+            }
+        }
+    }
+
+    @Test
+    public void testGiantComponentIsSkipped() {
+        final HugeAfforest afforest = new HugeAfforest(graph, AllocationTracker.EMPTY, Pools.DEFAULT, 4)
+                .compute();
+        // the neighbor rounds link most of the giant component already
+        assertTrue(afforest.skippedNodes() > GIANT_SIZE / 2);
+        assertTrue(afforest.skippedNodes() <= GIANT_SIZE + CHAINS * CHAIN_LENGTH);
+    }
+
+    @Test
+    public void testResultStream() {
+        final HugeAfforest afforest = new HugeAfforest(graph, AllocationTracker.EMPTY, Pools.DEFAULT, 4)
+                .compute();
+        assertEquals(graph.nodeCount(), afforest.resultStream().count());
+        assertEquals(
+                1L + PAIRS + ISOLATED,
+                afforest.resultStream().mapToLong(r -> r.setId).distinct().count());
+    }
+
+    /**
+     * the smallest node id of every component
+     */
+    private long[] expectedComponents() {
+        final int nodeCount = (int) graph.nodeCount();
+        final int[] parents = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            parents[node] = node;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, Direction.OUTGOING, (source, target) -> {
+                final int a = find(parents, (int) source);
+                final int b = find(parents, (int) target);
+                parents[Math.max(a, b)] = Math.min(a, b);
+                return true;
+            });
+        }
+        final long[] components = new long[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            components[node] = find(parents, node);
+        }
+        return components;
+    }
+
+    private static int find(int[] parents, int node) {
+        while (parents[node] != node) {
+            node = parents[node];
+        }
+        return node;
+    }
+}
@@ -0,0 +1,214 @@
+package org.neo4j.graphalgo.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.TransactionTerminatedException;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ *         (B)
+ *   1   /     \   1
+ *     /         \      1
+ *  (A)           (D)-------(E)
+ *     \         /
+ *   1   \     /   5
+ *         (C)
+ *
+ *  unweighted: A 0.0, B 1.0, C 1.0, D 3.0, E 0.0
+ *  weighted:   A 0.0, B 2.0, C 0.0, D 3.0, E 0.0
+ */
+public class HugeBetweennessCentralityTest {
+
+    private static final RelationshipType TYPE = RelationshipType.withName("TYPE");
+    private static final RelationshipType RING = RelationshipType.withName("RING");
+    private static final int RING_SIZE = 100;
+
+    private static GraphDatabaseAPI db;
+    private static HugeGraph graph;
+    private static HugeGraph weightedGraph;
+
+    @BeforeClass
+    public static void setupGraph() {
+        db = (GraphDatabaseAPI) new TestGraphDatabaseFactory()
+                .newImpermanentDatabaseBuilder()
+                .newGraphDatabase();
+
+        final String cypher =
+                "CREATE (a:Node {name:'a'})\n" +
+                        "CREATE (b:Node {name:'b'})\n" +
+                        "CREATE (c:Node {name:'c'})\n" +
+                        "CREATE (d:Node {name:'d'})\n" +
+                        "CREATE (e:Node {name:'e'})\n" +
+                        "CREATE" +
+                        " (a)-[:TYPE {w:1.0}]->(b),\n" +
+                        " (a)-[:TYPE {w:1.0}]->(c),\n" +
+                        " (b)-[:TYPE {w:1.0}]->(d),\n" +
+                        " (c)-[:TYPE {w:5.0}]->(d),\n" +
+                        " (d)-[:TYPE {w:1.0}]->(e)";
+
+        try (Transaction tx = db.beginTx()) {
+            db.execute(cypher);
+            // a ring with a chord on every node
+            final Node[] nodes = new Node[RING_SIZE];
+            for (int i = 0; i < RING_SIZE; i++) {
+                nodes[i] = db.createNode();
+            }
+            for (int i = 0; i < RING_SIZE; i++) {
+                nodes[i].createRelationshipTo(nodes[(i + 1) % RING_SIZE], RING);
+                nodes[i].createRelationshipTo(nodes[(i * 7 + 3) % RING_SIZE], RING);
+            }
+            tx.success();
+        }
+
+        graph = (HugeGraph) new GraphLoader(db)
+                .withLabel("Node")
+                .withRelationshipType("TYPE")
+                .withoutNodeProperties()
+                .load(HugeGraphFactory.class);
+
+        weightedGraph = (HugeGraph) new GraphLoader(db)
+                .withLabel("Node")
+                .withRelationshipType("TYPE")
+                .withRelationshipWeightsFromProperty("w", 1.0)
+                .load(HugeGraphFactory.class);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (db != null) db.shutdown();
+    }
+
+    @Test
+    public void testUnweighted() {
+        final Map<String, Double> centrality = compute(
+                new HugeParallelBetweennessCentrality(graph, AllocationTracker.EMPTY, Pools.DEFAULT, 4));
+
+        assertEquals(0.0, centrality.get("a"), 0.01);
+        assertEquals(1.0, centrality.get("b"), 0.01);
+        assertEquals(1.0, centrality.get("c"), 0.01);
+        assertEquals(3.0, centrality.get("d"), 0.01);
+        assertEquals(0.0, centrality.get("e"), 0.01);
+    }
+
+    @Test
+    public void testWeighted() {
+        final Map<String, Double> centrality = compute(
+                new HugeParallelBetweennessCentrality(weightedGraph, AllocationTracker.EMPTY, Pools.DEFAULT, 4)
+                        .withWeights(true));
+
+        assertEquals(0.0, centrality.get("a"), 0.01);
+        assertEquals(2.0, centrality.get("b"), 0.01);
+        assertEquals(0.0, centrality.get("c"), 0.01);
+        assertEquals(3.0, centrality.get("d"), 0.01);
+        assertEquals(0.0, centrality.get("e"), 0.01);
+    }
+
+    @Test
+    public void testSources() {
+        final long a = graph.toHugeMappedNodeId(nodeId("a"));
+        final Map<String, Double> centrality = compute(
+                new HugeParallelBetweennessCentrality(graph, AllocationTracker.EMPTY, Pools.DEFAULT, 4)
+                        .withSources(a));
+
+        assertEquals(0.0, centrality.get("a"), 0.01);
+        assertEquals(1.0, centrality.get("b"), 0.01);
+        assertEquals(1.0, centrality.get("c"), 0.01);
+        assertEquals(1.0, centrality.get("d"), 0.01);
+        assertEquals(0.0, centrality.get("e"), 0.01);
+    }
+
+    @Test
+    public void testSameResultAsParallelBetweennessCentrality() {
+        for (Direction direction : new Direction[]{Direction.OUTGOING, Direction.BOTH}) {
+            final Graph heavy = new GraphLoader(db)
+                    .withRelationshipType("RING")
+                    .withDirection(direction)
+                    .withoutNodeProperties()
+                    .load(HeavyGraphFactory.class);
+            final HugeGraph huge = (HugeGraph) new GraphLoader(db)
+                    .withRelationshipType("RING")
+                    .withDirection(direction)
+                    .withoutNodeProperties()
+                    .load(HugeGraphFactory.class);
+
+            final Map<Long, Double> expected = new HashMap<>();
+            new ParallelBetweennessCentrality(heavy, Pools.DEFAULT, 4)
+                    .withDirection(direction)
+                    .compute()
+                    .resultStream()
+                    .forEach(r -> expected.put(r.nodeId, r.centrality));
+
+            final Map<Long, Double> actual = new HashMap<>();
+            new HugeParallelBetweennessCentrality(huge, AllocationTracker.EMPTY, Pools.DEFAULT, 4)
+                    .withDirection(direction)
+                    .compute()
+                    .resultStream()
+                    .forEach(r -> actual.put(r.nodeId, r.centrality));
+
+            assertEquals(expected.size(), actual.size());
+            expected.forEach((nodeId, centrality) ->
+                    assertEquals(direction + " " + nodeId, centrality, actual.get(nodeId), 1e-6));
+        }
+    }
+
+    @Test
+    public void testTerminatedRunThrowsAndReleasesItsArrays() {
+        final AllocationTracker tracker = AllocationTracker.create();
+        final HugeParallelBetweennessCentrality algo =
+                new HugeParallelBetweennessCentrality(graph, tracker, Pools.DEFAULT, 4)
+                        .withTerminationFlag(() -> false);
+        try {
+            algo.compute();
+            fail("a terminated run must not return a centrality");
+        } catch (TransactionTerminatedException expected) {
+            assertEquals(0L, tracker.tracked());
+        }
+    }
+
+    private Map<String, Double> compute(HugeParallelBetweennessCentrality algo) {
+        final Map<String, Double> centrality = new HashMap<>();
+        algo.compute()
+                .resultStream()
+                .forEach(r -> centrality.put(name(r.nodeId), r.centrality));
+        return centrality;
+    }
+
+    private static long nodeId(String name) {
+        final long[] id = {-1L};
+        db.execute("MATCH (n:Node {name:'" + name + "'}) RETURN id(n) as id")
+                .accept(row -> {
+                    id[0] = row.getNumber("id").longValue();
+                    return false;
+                });
+        return id[0];
+    }
+
+    private static String name(long id) {
+        final String[] name = {""};
+        db.execute("MATCH (n:Node) WHERE id(n) = " + id + " RETURN n.name as name")
+                .accept(row -> {
+                    name[0] = row.getString("name");
+                    return false;
+                });
+        return name[0];
+    }
+}
@@ -0,0 +1,203 @@
+package org.neo4j.graphalgo.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.impl.multistepscc.HugeMultistepSCC;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**        _______
+ *        /       \
+ *      (0)--(1) (3)--(4)
+ *        \  /     \ /
+ *        (2)  (6) (5)
+ *             / \
+ *           (7)-(8)    (9)
+ */
+public class HugeMultistepSCCTest {
+
+    private static GraphDatabaseAPI api;
+
+    private static HugeGraph graph;
+
+    @BeforeClass
+    public static void setup() {
+        final String cypher =
+                "CREATE (a:Node {name:'a'})\n" +
+                        "CREATE (b:Node {name:'b'})\n" +
+                        "CREATE (c:Node {name:'c'})\n" +
+                        "CREATE (d:Node {name:'d'})\n" +
+                        "CREATE (e:Node {name:'e'})\n" +
+                        "CREATE (f:Node {name:'f'})\n" +
+                        "CREATE (g:Node {name:'g'})\n" +
+                        "CREATE (h:Node {name:'h'})\n" +
+                        "CREATE (i:Node {name:'i'})\n" +
+                        "CREATE (x:Node {name:'x'})\n" +
+                        "CREATE" +
+                        " (a)-[:TYPE]->(b),\n" +
+                        " (b)-[:TYPE]->(c),\n" +
+                        " (c)-[:TYPE]->(a),\n" +
+
+                        " (d)-[:TYPE]->(e),\n" +
+                        " (e)-[:TYPE]->(f),\n" +
+                        " (f)-[:TYPE]->(d),\n" +
+
+                        " (a)-[:TYPE]->(d),\n" +
+
+                        " (g)-[:TYPE]->(h),\n" +
+                        " (h)-[:TYPE]->(i),\n" +
+                        " (i)-[:TYPE]->(g)";
+
+        api = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+        try (Transaction tx = api.beginTx()) {
+            api.execute(cypher);
+            tx.success();
+        }
+
+        graph = (HugeGraph) new GraphLoader(api)
+                .withLabel("Node")
+                .withRelationshipType("TYPE")
+                .load(HugeGraphFactory.class);
+    }
+
+    @AfterClass
+    public static void shutdownGraph() throws Exception {
+        api.shutdown();
+    }
+
+    private static long getMappedNodeId(String name) {
+        final Node[] node = new Node[1];
+        api.execute("MATCH (n:Node) WHERE n.name = '" + name + "' RETURN n").accept(row -> {
+            node[0] = row.getNode("n");
+            return false;
+        });
+        return graph.toHugeMappedNodeId(node[0].getId());
+    }
+
+    @Test
+    public void testSequential() throws Exception {
+        final HugeMultistepSCC multistep = new HugeMultistepSCC(graph, AllocationTracker.EMPTY, Pools.DEFAULT, 1)
+                .compute();
+
+        assertCC(multistep);
+
+        assertEquals(3, multistep.getMaxSetSize());
+        assertEquals(1, multistep.getMinSetSize());
+        assertEquals(4, multistep.getSetCount());
+    }
+
+    @Test
+    public void testParallel() throws Exception {
+        final HugeMultistepSCC multistep = new HugeMultistepSCC(graph, AllocationTracker.EMPTY, Pools.DEFAULT, 4)
+                .compute();
+
+        assertCC(multistep);
+
+        assertEquals(3, multistep.getMaxSetSize());
+        assertEquals(1, multistep.getMinSetSize());
+        assertEquals(4, multistep.getSetCount());
+    }
+
+    @Test
+    public void testSameComponentsAsTarjan() throws Exception {
+        final GraphDatabaseAPI db = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+        try {
+            final RelationshipType type = RelationshipType.withName("TYPE");
+            final Random random = new Random(42L);
+            final int nodeCount = 5_000;
+            try (Transaction tx = db.beginTx()) {
+                final Node[] nodes = new Node[nodeCount];
+                for (int i = 0; i < nodeCount; i++) {
+                    nodes[i] = db.createNode();
+                }
+                for (int i = 0; i < nodeCount * 2; i++) {
+                    nodes[random.nextInt(nodeCount)].createRelationshipTo(nodes[random.nextInt(nodeCount)], type);
+                }
+                tx.success();
+            }
+
+            final Graph heavy = new GraphLoader(db).load(HeavyGraphFactory.class);
+            final HugeGraph huge = (HugeGraph) new GraphLoader(db).load(HugeGraphFactory.class);
+
+            final int[] expected = new SCCIterativeTarjan(heavy)
+                    .compute()
+                    .getConnectedComponents();
+            final HugeMultistepSCC multistep = new HugeMultistepSCC(huge, AllocationTracker.EMPTY, Pools.DEFAULT, 4)
+                    .compute();
+
+            // both partitions must put the same pairs of nodes into the same set
+            final long[] expectedById = new long[nodeCount];
+            final long[] actualById = new long[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                final long nodeId = heavy.toOriginalNodeId(i);
+                expectedById[(int) nodeId] = heavy.toOriginalNodeId(expected[i]);
+                actualById[(int) nodeId] = huge.toOriginalNodeId(
+                        multistep.getComponent(huge.toHugeMappedNodeId(nodeId)));
+            }
+            for (int i = 0; i < nodeCount; i++) {
+                assertEquals(actualById[(int) expectedById[i]], actualById[i]);
+                assertEquals(expectedById[(int) actualById[i]], expectedById[i]);
+            }
+            assertEquals(new SCCIterativeTarjan(heavy).compute().getSetCount(), multistep.getSetCount());
+        } finally {
+            db.shutdown();
+        }
+    }
+
+    private void assertCC(HugeMultistepSCC multistep) {
+        assertBelongSameSet(multistep,
+                getMappedNodeId("a"),
+                getMappedNodeId("b"),
+                getMappedNodeId("c"));
+        assertBelongSameSet(multistep,
+                getMappedNodeId("d"),
+                getMappedNodeId("e"),
+                getMappedNodeId("f"));
+        assertBelongSameSet(multistep,
+                getMappedNodeId("g"),
+                getMappedNodeId("h"),
+                getMappedNodeId("i"));
+        assertBelongSameSet(multistep,
+                getMappedNodeId("x"));
+    }
+
+    private static void assertBelongSameSet(HugeMultistepSCC multistep, long... expected) {
+        // check if all belong to same set
+        final long needle = multistep.getComponent(expected[0]);
+        for (long i : expected) {
+            assertEquals(needle, multistep.getComponent(i));
+        }
+        // check no other element belongs to this set
+        outer:
+        for (long i = 0; i < graph.nodeCount(); i++) {
+            for (long e : expected) {
+                if (e == i) {
+                    continue outer;
+                }
+            }
+            assertNotEquals(needle, multistep.getComponent(i));
+        }
+    }
+}
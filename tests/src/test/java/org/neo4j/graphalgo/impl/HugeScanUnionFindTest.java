@@ -0,0 +1,172 @@
+package org.neo4j.graphalgo.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.HugeIdMap;
+import org.neo4j.graphalgo.core.huge.HugeRelationshipScanner;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Random components of different sizes, pairs and isolated nodes, compared
+ * with a sequential union find on the loaded graph.
+ */
+public final class HugeScanUnionFindTest {
+
+    private static final int COMPONENTS = 20;
+    private static final int COMPONENT_SIZE = 500;
+    private static final int PAIRS = 100;
+    private static final int ISOLATED = 20;
+
+    private static GraphDatabaseAPI db;
+
+    @BeforeClass
+    public static void setupGraph() {
+        db = (GraphDatabaseAPI) new TestGraphDatabaseFactory()
+                .newImpermanentDatabaseBuilder()
+                .newGraphDatabase();
+        final RelationshipType type = RelationshipType.withName("TYPE");
+        final Random random = new Random(42L);
+        try (Transaction tx = db.beginTx()) {
+            for (int c = 0; c < COMPONENTS; c++) {
+                final Node[] nodes = new Node[COMPONENT_SIZE];
+                for (int i = 0; i < COMPONENT_SIZE; i++) {
+                    nodes[i] = db.createNode();
+                }
+                // a random spanning tree with random directions and some more relationships
+                for (int i = 1; i < COMPONENT_SIZE; i++) {
+                    final Node other = nodes[random.nextInt(i)];
+                    if (random.nextBoolean()) {
+                        other.createRelationshipTo(nodes[i], type);
+                    } else {
+                        nodes[i].createRelationshipTo(other, type);
+                    }
+                    nodes[i].createRelationshipTo(nodes[random.nextInt(COMPONENT_SIZE)], type);
+                }
+            }
+            for (int i = 0; i < PAIRS; i++) {
+                db.createNode().createRelationshipTo(db.createNode(), type);
+            }
+            for (int i = 0; i < ISOLATED; i++) {
+                db.createNode();
+            }
+            tx.success();
+        }
+    }
+
+    @AfterClass
+    public static void shutdownGraph() {
+        if (db != null) db.shutdown();
+    }
+
+    @Test
+    public void testComponentsMatchSequentialUnionFind() {
+        final long[] expected = expectedComponents();
+        for (int concurrency : new int[]{1, 4}) {
+            assertComponents(expected, Pools.DEFAULT, concurrency);
+        }
+    }
+
+    @Test
+    public void testEveryBatchIsScannedOnABusyPool() throws Exception {
+        final long[] expected = expectedComponents();
+        final ExecutorService pool = Executors.newFixedThreadPool(2);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            // only one of the two threads is free for the scan
+            pool.execute(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertComponents(expected, pool, 4);
+        } finally {
+            blocked.countDown();
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    private void assertComponents(long[] expected, ExecutorService pool, int concurrency) {
+        final HugeRelationshipScanner scanner = new GraphLoader(db, pool)
+                .withAnyLabel()
+                .withAnyRelationshipType()
+                .withDirection(Direction.OUTGOING)
+                .withConcurrency(concurrency)
+                .withBatchSize(1_000)
+                .scanner();
+        final HugeIdMap idMap = scanner.loadIdMap();
+        assertEquals(expected.length, idMap.nodeCount());
+
+        final HugeScanUnionFind unionFind = new HugeScanUnionFind(
+                idMap,
+                scanner,
+                AllocationTracker.EMPTY,
+                Pools.DEFAULT,
+                concurrency)
+                .compute();
+        for (int node = 0; node < expected.length; node++) {
+            assertEquals(expected[node], unionFind.setId(node));
+        }
+        assertEquals((long) COMPONENTS + PAIRS + ISOLATED, unionFind.setCount());
+        assertEquals(idMap.nodeCount(), unionFind.resultStream().count());
+        unionFind.release();
+    }
+
+    /**
+     * the smallest node id of every component
+     */
+    private long[] expectedComponents() {
+        final HugeGraph graph = (HugeGraph) new GraphLoader(db)
+                .withAnyRelationshipType()
+                .withAnyLabel()
+                .withDirection(Direction.OUTGOING)
+                .load(HugeGraphFactory.class);
+        final int nodeCount = (int) graph.nodeCount();
+        final int[] parents = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            parents[node] = node;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, Direction.OUTGOING, (source, target) -> {
+                final int a = find(parents, (int) source);
+                final int b = find(parents, (int) target);
+                parents[Math.max(a, b)] = Math.min(a, b);
+                return true;
+            });
+        }
+        final long[] components = new long[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            components[node] = find(parents, node);
+        }
+        graph.release();
+        return components;
+    }
+
+    private static int find(int[] parents, int node) {
+        while (parents[node] != node) {
+            node = parents[node];
+        }
+        return node;
+    }
+}
@@ -10,6 +10,7 @@ import org.neo4j.graphalgo.api.GraphFactory;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
 import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.CompressedLightGraphFactory;
 import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
 import org.neo4j.graphalgo.core.neo4jview.GraphViewFactory;
 import org.neo4j.graphdb.Direction;
@@ -37,6 +38,7 @@ public final class ShortestPathDijkstraTest {
         return Arrays.asList(
                 new Object[]{HeavyGraphFactory.class, "HeavyGraphFactory"},
                 new Object[]{LightGraphFactory.class, "LightGraphFactory"},
+                new Object[]{CompressedLightGraphFactory.class, "CompressedLightGraphFactory"},
                 new Object[]{GraphViewFactory.class, "GraphViewFactory"},
                 new Object[]{HugeGraphFactory.class, "HugeGraphFactory"}
         );
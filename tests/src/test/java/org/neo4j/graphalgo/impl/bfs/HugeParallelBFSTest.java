@@ -0,0 +1,239 @@
+package org.neo4j.graphalgo.impl.bfs;
+
+import com.carrotsearch.hppc.LongArrayDeque;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.huge.MappedHugeGraphFactory;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.TransactionTerminatedException;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * A ring with a chord on every node and a separate path of 3 nodes.
+ */
+@RunWith(Parameterized.class)
+public final class HugeParallelBFSTest {
+
+    private static final int RING_SIZE = 5000;
+    private static final int PATH_SIZE = 3;
+
+    @Parameterized.Parameters(name = "{1}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+                new Object[]{HugeGraphFactory.class, "HugeGraphFactory"},
+                new Object[]{MappedHugeGraphFactory.class, "MappedHugeGraphFactory"}
+        );
+    }
+
+    private static GraphDatabaseAPI db;
+    private static long startNode;
+
+    @Parameterized.Parameter
+    public Class<? extends GraphFactory> graphImpl;
+
+    @Parameterized.Parameter(1)
+    public String name;
+
+    private HugeGraph graph;
+
+    @BeforeClass
+    public static void setupGraph() {
+        db = (GraphDatabaseAPI) new TestGraphDatabaseFactory()
+                .newImpermanentDatabaseBuilder()
+                .newGraphDatabase();
+        final RelationshipType type = RelationshipType.withName("TYPE");
+        try (Transaction tx = db.beginTx()) {
+            final Node[] ring = new Node[RING_SIZE];
+            for (int i = 0; i < RING_SIZE; i++) {
+                ring[i] = db.createNode();
+            }
+            for (int i = 0; i < RING_SIZE; i++) {
+                ring[i].createRelationshipTo(ring[(i + 1) % RING_SIZE], type);
+                ring[i].createRelationshipTo(ring[(i * 7 + 3) % RING_SIZE], type);
+            }
+            Node previous = db.createNode();
+            for (int i = 1; i < PATH_SIZE; i++) {
+                final Node node = db.createNode();
+                previous.createRelationshipTo(node, type);
+                previous = node;
+            }
+            startNode = ring[0].getId();
+            tx.success();
+        }
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (db != null) db.shutdown();
+    }
+
+    @Before
+    public void setup() {
+        graph = (HugeGraph) new GraphLoader(db)
+                .withDirection(Direction.BOTH)
+                .load(graphImpl);
+    }
+
+    @Test
+    public void testTopDown() throws Exception {
+        assertTraversal(bfs(4, false), Direction.OUTGOING);
+    }
+
+    @Test
+    public void testDirectionOptimization() throws Exception {
+        final HugeParallelBFS bfs = bfs(4, true);
+        assertTraversal(bfs, Direction.OUTGOING);
+        assertTrue(bfs.bottomUpLevels() > 0);
+        assertTrue(bfs.bottomUpLevels() < bfs.depth());
+    }
+
+    @Test
+    public void testSingleThreaded() throws Exception {
+        assertTraversal(bfs(1, true), Direction.OUTGOING);
+    }
+
+    @Test
+    public void testIncoming() throws Exception {
+        final HugeParallelBFS bfs = new HugeParallelBFS(graph, AllocationTracker.EMPTY, Pools.DEFAULT, 4)
+                .withDirection(Direction.INCOMING)
+                .withDirectionOptimization(true)
+                .compute(start());
+        assertTraversal(bfs, Direction.INCOMING);
+    }
+
+    @Test
+    public void testMaxDepth() throws Exception {
+        final HugeParallelBFS bfs = new HugeParallelBFS(graph, AllocationTracker.EMPTY, Pools.DEFAULT, 4)
+                .withDirectionOptimization(true)
+                .withMaxDepth(2)
+                .compute(start());
+        final int[] expected = expectedDepths(Direction.OUTGOING);
+        long visited = 0L;
+        for (int node = 0; node < expected.length; node++) {
+            final int depth = expected[node] <= 2 ? expected[node] : HugeParallelBFS.UNVISITED;
+            assertEquals(depth, bfs.depth(node));
+            if (depth != HugeParallelBFS.UNVISITED) {
+                visited++;
+            }
+        }
+        assertEquals(visited, bfs.visitedNodes());
+        assertEquals(2, bfs.depth());
+    }
+
+    @Test
+    public void testResultStream() throws Exception {
+        final HugeParallelBFS bfs = bfs(4, true);
+        assertEquals(RING_SIZE, bfs.resultStream().count());
+        bfs.resultStream()
+                .filter(r -> r.nodeId == startNode)
+                .forEach(r -> {
+                    assertEquals(0L, r.depth);
+                    assertEquals(startNode, r.parentId);
+                });
+    }
+
+    @Test
+    public void testFrontiersAreTrackedAndReleased() throws Exception {
+        final AllocationTracker tracker = AllocationTracker.create();
+        final HugeParallelBFS bfs = new HugeParallelBFS(graph, tracker, Pools.DEFAULT, 4);
+        final long traversalState = tracker.tracked();
+        bfs.compute(start());
+        assertTraversal(bfs, Direction.OUTGOING);
+        // both frontiers have been tracked while traversing
+        assertTrue(tracker.peak() >= traversalState + 2L * graph.nodeCount() * Long.BYTES);
+        assertEquals(traversalState, tracker.tracked());
+    }
+
+    @Test
+    public void testTerminatedRunThrowsAndReleasesTheFrontiers() throws Exception {
+        final AllocationTracker tracker = AllocationTracker.create();
+        final AtomicInteger checks = new AtomicInteger();
+        // the first level starts, its tasks then see the termination
+        final HugeParallelBFS bfs = new HugeParallelBFS(graph, tracker, Pools.DEFAULT, 4)
+                .withTerminationFlag(() -> checks.getAndIncrement() == 0);
+        final long traversalState = tracker.tracked();
+        try {
+            bfs.compute(start());
+            fail("a terminated run must not return a partial traversal");
+        } catch (TransactionTerminatedException expected) {
+            assertEquals(traversalState, tracker.tracked());
+        }
+    }
+
+    private HugeParallelBFS bfs(int concurrency, boolean directionOptimization) {
+        return new HugeParallelBFS(graph, AllocationTracker.EMPTY, Pools.DEFAULT, concurrency)
+                .withDirectionOptimization(directionOptimization)
+                .compute(start());
+    }
+
+    private long start() {
+        return graph.toHugeMappedNodeId(startNode);
+    }
+
+    private void assertTraversal(HugeParallelBFS bfs, Direction direction) {
+        final int[] expected = expectedDepths(direction);
+        int maxDepth = 0;
+        for (int node = 0; node < expected.length; node++) {
+            assertEquals(expected[node], bfs.depth(node));
+            maxDepth = Math.max(maxDepth, expected[node]);
+            if (expected[node] > 0) {
+                final long child = node;
+                final long parent = bfs.parent(node);
+                assertEquals(expected[node] - 1, bfs.depth(parent));
+                final boolean[] found = {false};
+                graph.forEachRelationship(parent, direction, (s, t) -> {
+                    found[0] |= t == child;
+                    return true;
+                });
+                assertTrue(found[0]);
+            }
+        }
+        assertEquals(RING_SIZE, bfs.visitedNodes());
+        assertEquals(maxDepth, bfs.depth());
+        assertEquals(start(), bfs.parent(start()));
+    }
+
+    /**
+     * sequential breadth first search on the graph
+     */
+    private int[] expectedDepths(Direction direction) {
+        final int[] depths = new int[Math.toIntExact(graph.nodeCount())];
+        Arrays.fill(depths, HugeParallelBFS.UNVISITED);
+        final LongArrayDeque queue = new LongArrayDeque();
+        depths[(int) start()] = 0;
+        queue.addLast(start());
+        while (!queue.isEmpty()) {
+            final long node = queue.removeFirst();
+            graph.forEachRelationship(node, direction, (s, t) -> {
+                if (depths[(int) t] == HugeParallelBFS.UNVISITED) {
+                    depths[(int) t] = depths[(int) s] + 1;
+                    queue.addLast(t);
+                }
+                return true;
+            });
+        }
+        return depths;
+    }
+}
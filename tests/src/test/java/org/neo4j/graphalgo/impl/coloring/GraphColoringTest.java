@@ -0,0 +1,175 @@
+package org.neo4j.graphalgo.impl.coloring;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A ring with a chord on every node and a clique of 5 nodes.
+ */
+@RunWith(Parameterized.class)
+public final class GraphColoringTest {
+
+    private static final int RING_SIZE = 2000;
+    private static final int CLIQUE_SIZE = 5;
+
+    @Parameterized.Parameters(name = "{1}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+                new Object[]{HeavyGraphFactory.class, "HeavyGraphFactory"},
+                new Object[]{LightGraphFactory.class, "LightGraphFactory"},
+                new Object[]{HugeGraphFactory.class, "HugeGraphFactory"}
+        );
+    }
+
+    private static GraphDatabaseAPI db;
+
+    private final Graph graph;
+
+    @BeforeClass
+    public static void setupGraph() {
+        db = (GraphDatabaseAPI) new TestGraphDatabaseFactory()
+                .newImpermanentDatabaseBuilder()
+                .newGraphDatabase();
+        final RelationshipType type = RelationshipType.withName("TYPE");
+        try (Transaction tx = db.beginTx()) {
+            final Node[] ring = new Node[RING_SIZE];
+            for (int i = 0; i < RING_SIZE; i++) {
+                ring[i] = db.createNode();
+            }
+            for (int i = 0; i < RING_SIZE; i++) {
+                ring[i].createRelationshipTo(ring[(i + 1) % RING_SIZE], type);
+                ring[i].createRelationshipTo(ring[(i * 7 + 3) % RING_SIZE], type);
+            }
+            final Node[] clique = new Node[CLIQUE_SIZE];
+            for (int i = 0; i < CLIQUE_SIZE; i++) {
+                clique[i] = db.createNode();
+                for (int j = 0; j < i; j++) {
+                    clique[j].createRelationshipTo(clique[i], type);
+                }
+            }
+            tx.success();
+        }
+    }
+
+    @AfterClass
+    public static void shutdownGraph() {
+        if (db != null) db.shutdown();
+    }
+
+    public GraphColoringTest(
+            Class<? extends GraphFactory> graphImpl,
+            String nameIgnoredOnlyForTestName) {
+        graph = new GraphLoader(db)
+                .withAnyRelationshipType()
+                .withAnyLabel()
+                .withDirection(Direction.BOTH)
+                .load(graphImpl);
+    }
+
+    @Test
+    public void testAdjacentNodesHaveDifferentColors() {
+        final int[] colors = colors(4);
+        graph.forEachNode(node -> {
+            graph.forEachRelationship(node, Direction.BOTH, (source, target, relationId) -> {
+                if (source != target) {
+                    assertNotEquals(colors[source], colors[target]);
+                }
+                return true;
+            });
+            return true;
+        });
+        final int maxColor = Arrays.stream(colors).max().orElse(-1);
+        // the clique needs one color per node
+        assertTrue(maxColor + 1 >= CLIQUE_SIZE);
+        graph.forEachNode(node -> {
+            assertTrue(colors[node] >= 0);
+            assertTrue(colors[node] <= graph.degree(node, Direction.BOTH));
+            return true;
+        });
+    }
+
+    @Test
+    public void testColoringDoesNotDependOnConcurrency() {
+        assertTrue(Arrays.equals(colors(1), colors(4)));
+        assertTrue(Arrays.equals(colors(1), colors(8)));
+    }
+
+    @Test
+    public void testScheduleRunsEveryNodeOnceAndColorByColor() {
+        if (graph instanceof HugeGraph) {
+            return;
+        }
+        final GraphColoring coloring = new GraphColoring(graph, Pools.DEFAULT, 4).compute();
+        final ColorSchedule schedule = coloring.schedule();
+        assertEquals(coloring.colorCount(), schedule.colorCount());
+
+        final AtomicIntegerArray visits = new AtomicIntegerArray((int) graph.nodeCount());
+        final AtomicIntegerArray colors = coloring.getColors();
+        final int[] currentColor = {-1};
+        for (int color = 0; color < schedule.colorCount(); color++) {
+            currentColor[0] = color;
+            schedule.forEachNode(color, node -> assertEquals(currentColor[0], colors.get(node)));
+        }
+        schedule.run(Pools.DEFAULT, 4, node -> {
+            visits.incrementAndGet(node);
+            // all neighbors of a lower color have been visited before
+            graph.forEachRelationship(node, Direction.BOTH, (source, target, relationId) -> {
+                if (colors.get(target) < colors.get(source)) {
+                    assertEquals(1, visits.get(target));
+                }
+                return true;
+            });
+        });
+        for (int node = 0; node < visits.length(); node++) {
+            assertEquals(1, visits.get(node));
+        }
+    }
+
+    private int[] colors(int concurrency) {
+        final int[] colors = new int[(int) graph.nodeCount()];
+        if (graph instanceof HugeGraph) {
+            final HugeGraphColoring coloring = new HugeGraphColoring(
+                    (HugeGraph) graph,
+                    AllocationTracker.EMPTY,
+                    Pools.DEFAULT,
+                    concurrency).compute();
+            for (int i = 0; i < colors.length; i++) {
+                colors[i] = coloring.color(i);
+            }
+            assertEquals(Arrays.stream(colors).max().orElse(-1) + 1, coloring.colorCount());
+            return colors;
+        }
+        final GraphColoring coloring = new GraphColoring(graph, Pools.DEFAULT, concurrency).compute();
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = coloring.getColors().get(i);
+        }
+        assertEquals(Arrays.stream(colors).max().orElse(-1) + 1, coloring.colorCount());
+        return colors;
+    }
+}
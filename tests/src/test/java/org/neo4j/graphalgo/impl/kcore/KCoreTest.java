@@ -0,0 +1,169 @@
+package org.neo4j.graphalgo.impl.kcore;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphFactory;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.heavyweight.HeavyGraphFactory;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.lightweight.LightGraphFactory;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A random graph with a clique of 8 nodes and an isolated node.
+ */
+@RunWith(Parameterized.class)
+public final class KCoreTest {
+
+    private static final int RANDOM_SIZE = 2000;
+    private static final int CLIQUE_SIZE = 8;
+
+    @Parameterized.Parameters(name = "{1}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+                new Object[]{HeavyGraphFactory.class, "HeavyGraphFactory"},
+                new Object[]{LightGraphFactory.class, "LightGraphFactory"},
+                new Object[]{HugeGraphFactory.class, "HugeGraphFactory"}
+        );
+    }
+
+    private static GraphDatabaseAPI db;
+
+    private final Graph graph;
+
+    @BeforeClass
+    public static void setupGraph() {
+        db = (GraphDatabaseAPI) new TestGraphDatabaseFactory()
+                .newImpermanentDatabaseBuilder()
+                .newGraphDatabase();
+        final RelationshipType type = RelationshipType.withName("TYPE");
+        final Random random = new Random(42L);
+        try (Transaction tx = db.beginTx()) {
+            final Node[] nodes = new Node[RANDOM_SIZE];
+            for (int i = 0; i < RANDOM_SIZE; i++) {
+                nodes[i] = db.createNode();
+            }
+            // skewed degrees, so that the nodes spread over many cores
+            for (int i = 0; i < RANDOM_SIZE; i++) {
+                final int degree = random.nextInt(1 + i % 13);
+                for (int j = 0; j < degree; j++) {
+                    final int target = random.nextInt(RANDOM_SIZE);
+                    if (target != i) {
+                        nodes[i].createRelationshipTo(nodes[target], type);
+                    }
+                }
+            }
+            final Node[] clique = new Node[CLIQUE_SIZE];
+            for (int i = 0; i < CLIQUE_SIZE; i++) {
+                clique[i] = db.createNode();
+                for (int j = 0; j < i; j++) {
+                    clique[j].createRelationshipTo(clique[i], type);
+                }
+            }
+            db.createNode();
+            tx.success();
+        }
+    }
+
+    @AfterClass
+    public static void shutdownGraph() {
+        if (db != null) db.shutdown();
+    }
+
+    public KCoreTest(
+            Class<? extends GraphFactory> graphImpl,
+            String nameIgnoredOnlyForTestName) {
+        graph = new GraphLoader(db)
+                .withAnyRelationshipType()
+                .withAnyLabel()
+                .withDirection(Direction.BOTH)
+                .load(graphImpl);
+    }
+
+    @Test
+    public void testCoresMatchSequentialPeeling() {
+        final int[] expected = expectedCores();
+        assertArrayEquals(expected, cores(4));
+        assertEquals(0, expected[expected.length - 1]);
+        assertEquals(CLIQUE_SIZE - 1, expected[expected.length - 2]);
+    }
+
+    @Test
+    public void testCoresDoNotDependOnConcurrency() {
+        assertArrayEquals(cores(1), cores(4));
+        assertArrayEquals(cores(1), cores(8));
+    }
+
+    private int[] cores(int concurrency) {
+        final int[] cores = new int[(int) graph.nodeCount()];
+        if (graph instanceof HugeGraph) {
+            final HugeKCore kcore = new HugeKCore(
+                    (HugeGraph) graph,
+                    AllocationTracker.EMPTY,
+                    Pools.DEFAULT,
+                    concurrency).compute();
+            for (int i = 0; i < cores.length; i++) {
+                cores[i] = kcore.core(i);
+            }
+            assertEquals(Arrays.stream(cores).max().orElse(0), kcore.degeneracy());
+            return cores;
+        }
+        final KCore kcore = new KCore(graph, Pools.DEFAULT, concurrency).compute();
+        for (int i = 0; i < cores.length; i++) {
+            cores[i] = kcore.core(i);
+        }
+        assertEquals(Arrays.stream(cores).max().orElse(0), kcore.degeneracy());
+        return cores;
+    }
+
+    /**
+     * repeatedly removes a node of the smallest remaining degree
+     */
+    private int[] expectedCores() {
+        final int nodeCount = (int) graph.nodeCount();
+        final int[] degrees = new int[nodeCount];
+        final boolean[] removed = new boolean[nodeCount];
+        final int[] cores = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            degrees[node] = graph.degree(node, Direction.BOTH);
+        }
+        int core = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            int min = -1;
+            for (int node = 0; node < nodeCount; node++) {
+                if (!removed[node] && (min == -1 || degrees[node] < degrees[min])) {
+                    min = node;
+                }
+            }
+            core = Math.max(core, degrees[min]);
+            cores[min] = core;
+            removed[min] = true;
+            graph.forEachRelationship(min, Direction.BOTH, (source, target, relationId) -> {
+                if (!removed[target]) {
+                    degrees[target]--;
+                }
+                return true;
+            });
+        }
+        return cores;
+    }
+}
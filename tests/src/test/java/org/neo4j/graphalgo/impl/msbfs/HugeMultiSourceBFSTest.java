@@ -0,0 +1,163 @@
+package org.neo4j.graphalgo.impl.msbfs;
+
+import org.junit.Test;
+import org.neo4j.graphalgo.api.HugeGraph;
+import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.huge.HugeGraphFactory;
+import org.neo4j.graphalgo.core.utils.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.helper.graphbuilder.DefaultBuilder;
+import org.neo4j.graphalgo.helper.graphbuilder.GraphBuilder;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.neo4j.graphdb.Direction.OUTGOING;
+
+public final class HugeMultiSourceBFSTest {
+
+    private static final String PAPER_CYPHER = "" +
+            "CREATE (a:Foo {id:\"1\"})\n" +
+            "CREATE (b:Foo {id:\"2\"})\n" +
+            "CREATE (c:Foo {id:\"3\"})\n" +
+            "CREATE (d:Foo {id:\"4\"})\n" +
+            "CREATE (e:Foo {id:\"5\"})\n" +
+            "CREATE (f:Foo {id:\"6\"})\n" +
+            "CREATE\n" +
+            "  (a)-[:BAR]->(c),\n" +
+            "  (a)-[:BAR]->(d),\n" +
+            "  (b)-[:BAR]->(c),\n" +
+            "  (b)-[:BAR]->(d),\n" +
+            "  (c)-[:BAR]->(a),\n" +
+            "  (c)-[:BAR]->(b),\n" +
+            "  (c)-[:BAR]->(e),\n" +
+            "  (d)-[:BAR]->(a),\n" +
+            "  (d)-[:BAR]->(b),\n" +
+            "  (d)-[:BAR]->(f),\n" +
+            "  (e)-[:BAR]->(c),\n" +
+            "  (f)-[:BAR]->(d)\n";
+
+    interface Visits {
+        void accept(long nodeId, int depth, List<Long> sources);
+    }
+
+    @Test
+    public void testPaperExample() {
+        withGraph(PAPER_CYPHER, graph -> {
+            Visits mock = mock(Visits.class);
+            HugeMultiSourceBFS msbfs = new HugeMultiSourceBFS(
+                    graph,
+                    graph,
+                    OUTGOING,
+                    (i, d, s) -> mock.accept(i + 1, d, toList(s)),
+                    AllocationTracker.EMPTY,
+                    0L, 1L
+            );
+
+            msbfs.run(Pools.DEFAULT_CONCURRENCY, Pools.DEFAULT);
+
+            verify(mock).accept(3, 1, Arrays.asList(1L, 2L));
+            verify(mock).accept(4, 1, Arrays.asList(1L, 2L));
+            verify(mock).accept(5, 2, Arrays.asList(1L, 2L));
+            verify(mock).accept(6, 2, Arrays.asList(1L, 2L));
+            verify(mock).accept(1, 2, Arrays.asList(2L));
+            verify(mock).accept(2, 2, Arrays.asList(1L));
+            verifyNoMoreInteractions(mock);
+        });
+    }
+
+    @Test
+    public void testParallel() {
+        // each node should only be traversed once for every source node
+        int maxNodes = 512;
+        int[][] seen = new int[maxNodes][];
+        Arrays.setAll(seen, i -> new int[maxNodes]);
+        withGrid(
+                gb -> gb.newCompleteGraphBuilder().createCompleteGraph(maxNodes),
+                graph -> {
+                    HugeMultiSourceBFS msbfs = new HugeMultiSourceBFS(
+                            graph,
+                            graph,
+                            OUTGOING,
+                            (i, d, s) -> {
+                                assertEquals(1, d);
+                                synchronized (seen) {
+                                    while (s.hasNext()) {
+                                        seen[(int) s.next()][(int) i] += 1;
+                                    }
+                                }
+                            },
+                            AllocationTracker.EMPTY);
+                    msbfs.run(Pools.DEFAULT_CONCURRENCY, Pools.DEFAULT);
+                });
+
+        for (int i = 0; i < maxNodes; i++) {
+            final int[] ints = seen[i];
+            int[] expected = new int[maxNodes];
+            Arrays.fill(expected, 1);
+            expected[i] = 0; // MS-BFS does not call fn for start nodes
+            assertArrayEquals(expected, ints);
+        }
+    }
+
+    private static void withGraph(
+            String cypher,
+            Consumer<? super HugeGraph> block) {
+        GraphDatabaseAPI db = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+
+        try {
+            try (Transaction tx = db.beginTx()) {
+                db.execute(cypher).close();
+                tx.success();
+            }
+            block.accept((HugeGraph) new GraphLoader(db).load(HugeGraphFactory.class));
+        } finally {
+            db.shutdown();
+        }
+    }
+
+    private static void withGrid(
+            Consumer<? super GraphBuilder<?>> build,
+            Consumer<? super HugeGraph> block) {
+        GraphDatabaseAPI db = (GraphDatabaseAPI)
+                new TestGraphDatabaseFactory()
+                        .newImpermanentDatabaseBuilder()
+                        .newGraphDatabase();
+        try {
+            try (Transaction tx = db.beginTx()) {
+                DefaultBuilder graphBuilder = GraphBuilder.create(db)
+                        .setLabel("Foo")
+                        .setRelationship("BAR");
+
+                build.accept(graphBuilder);
+                HugeGraph graph = (HugeGraph) new GraphLoader(db).load(HugeGraphFactory.class);
+                block.accept(graph);
+                tx.success();
+            }
+        } finally {
+            db.shutdown();
+        }
+    }
+
+    private static List<Long> toList(HugeBfsSources sources) {
+        List<Long> longs = new ArrayList<>();
+        while (sources.hasNext()) {
+            longs.add(sources.next() + 1L);
+        }
+        longs.sort(Long::compareTo);
+        return longs;
+    }
+}